@@ -0,0 +1,39 @@
+package com.justin.reactor;
+
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.CommandLineOptionException;
+import org.openjdk.jmh.runner.options.CommandLineOptions;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * Description: runner of jmh benchmarks.
+ * <p>
+ * every benchmark reports ops/s (Throughput) and p50/p99 latency (SampleTime),
+ * the gc profiler adds the allocation rate (gc.alloc.rate.norm is bytes per operation).
+ * </p>
+ * <p>
+ * usage: java -jar benchmarks/target/benchmarks.jar [regexp] [jmh options]
+ * </p>
+ *
+ * @author Justin_Zhang
+ * @date 10/18/2026 09:12
+ */
+public class BenchmarkRunner {
+  /**
+   * run the benchmarks selected by the usual jmh command line, with the gc profiler added.
+   *
+   * @param args jmh command line arguments
+   * @throws RunnerException            if jmh fails to run
+   * @throws CommandLineOptionException if the arguments can't be parsed
+   */
+  public static void main(String[] args) throws RunnerException, CommandLineOptionException {
+    Options options = new OptionsBuilder()
+        .parent(new CommandLineOptions(args))
+        .addProfiler(GCProfiler.class)
+        .build();
+    new Runner(options).run();
+  }
+}
@@ -0,0 +1,97 @@
+package com.justin.reactor.backpressure;
+
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+import reactor.core.publisher.Flux;
+
+/**
+ * Description: benchmark of {@link AdaptiveLimitRate} against static limitRate() values.
+ * one operation consumes {@code elements} from a remote source answering every request after
+ * {@code roundTripMicros}, with a variable-speed consumer: its work per element switches
+ * between none and {@code slowTokens} every {@value #PHASE} elements.
+ *
+ * @author Justin_Zhang
+ * @date 10/18/2026 23:30
+ */
+@BenchmarkMode({Mode.Throughput, Mode.SampleTime})
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class AdaptiveLimitRateBenchmark {
+  private static final int PHASE = 1000;
+
+  @Param({"10000"})
+  private int elements;
+
+  @Param({"200"})
+  private long roundTripMicros;
+
+  @Param({"1000"})
+  private long slowTokens;
+
+  private ScheduledExecutorService remote;
+
+  @Setup(Level.Trial)
+  public void setUp() {
+    remote = Executors.newSingleThreadScheduledExecutor();
+  }
+
+  @TearDown(Level.Trial)
+  public void tearDown() {
+    remote.shutdownNow();
+  }
+
+  @Benchmark
+  public void limitRateSmall(Blackhole bh) {
+    consume(flux -> flux.limitRate(8), bh);
+  }
+
+  @Benchmark
+  public void limitRateLarge(Blackhole bh) {
+    consume(flux -> flux.limitRate(256), bh);
+  }
+
+  @Benchmark
+  public void adaptive(Blackhole bh) {
+    consume(AdaptiveLimitRate.of(8, 256), bh);
+  }
+
+  private void consume(Function<Flux<Integer>, Flux<Integer>> rateLimiting, Blackhole bh) {
+    remote()
+        .transform(rateLimiting)
+        .doOnNext(i -> Blackhole.consumeCPU(i / PHASE % 2 == 0 ? 0 : slowTokens))
+        .doOnNext(bh::consume)
+        .blockLast();
+  }
+
+  private Flux<Integer> remote() {
+    AtomicInteger next = new AtomicInteger();
+    return Flux.create(sink -> sink.onRequest(n -> remote.schedule(() -> {
+      for (long i = 0; i < n && next.get() < elements; i++) {
+        sink.next(next.getAndIncrement());
+      }
+      if (next.get() == elements) {
+        sink.complete();
+      }
+    }, roundTripMicros, TimeUnit.MICROSECONDS)));
+  }
+}
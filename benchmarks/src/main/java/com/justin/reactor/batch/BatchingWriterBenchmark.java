@@ -0,0 +1,147 @@
+package com.justin.reactor.batch;
+
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+import org.HdrHistogram.Histogram;
+import org.HdrHistogram.Recorder;
+import org.openjdk.jmh.annotations.AuxCounters;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
+
+/**
+ * Description: benchmark of the flush policies of {@link BatchingWriter}.
+ * <p>
+ * 1.the sink costs 1ms per write plus 1us per item: a database round trip. the policies are
+ * count, batches of 1000 items; bytes, batches of 8KiB of 64 bytes items, i.e. 128 items; and
+ * latency, batches of 1000 items or 2ms after their first item.
+ * </p>
+ * <p>
+ * 2.firehose writes {@code items} items as fast as the sink takes them: the time of an operation
+ * gives the writes per second, the big batches of count and latency amortize the round trips.
+ * </p>
+ * <p>
+ * 3.paced writes 100 items per ms for {@code ticks} ms, the rate of a busy service: the iterations
+ * report the percentiles of the latency of an item, from its emission to the end of its write.
+ * count waits 10ms for a batch to fill, latency flushes after 2ms whatever the rate. the result
+ * sums the iterations, see the values of each iteration.
+ * </p>
+ *
+ * @author Justin_Zhang
+ * @date 10/19/2026 07:45
+ */
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+@Fork(1)
+@State(Scope.Benchmark)
+public class BatchingWriterBenchmark {
+  private static final int ITEM_BYTES = 64;
+
+  private static final int BURST = 100;
+
+  @Param({"count", "bytes", "latency"})
+  private String policy;
+
+  @Param({"100000"})
+  private int items;
+
+  @Param({"200"})
+  private int ticks;
+
+  private final Recorder latencies = new Recorder(3);
+
+  private BatchingWriter<Long> firehose;
+
+  private BatchingWriter<Long> paced;
+
+  @Setup(Level.Trial)
+  public void setUp() {
+    firehose = builder(batch -> write(batch, false)).build();
+    paced = builder(batch -> write(batch, true)).build();
+  }
+
+  private BatchingWriter.Builder<Long> builder(Function<Batch<Long>, Mono<Void>> writer) {
+    BatchingWriter.Builder<Long> builder = BatchingWriter.builder(writer)
+        .maxCount(1000)
+        .maxInFlight(2);
+    switch (policy) {
+      case "bytes":
+        return builder.maxBytes(8 * 1024, item -> ITEM_BYTES);
+      case "latency":
+        return builder.maxLatency(Duration.ofMillis(2));
+      default:
+        return builder;
+    }
+  }
+
+  /**
+   * the sink: the items are the nano times of their emission.
+   */
+  private Mono<Void> write(Batch<Long> batch, boolean record) {
+    long cost = TimeUnit.MICROSECONDS.toNanos(1000 + batch.size());
+    return Mono.delay(Duration.ofNanos(cost), Schedulers.parallel())
+        .doOnNext(tick -> {
+          if (record) {
+            long now = System.nanoTime();
+            for (Long emitted : batch.items()) {
+              latencies.recordValue(TimeUnit.NANOSECONDS.toMicros(now - emitted));
+            }
+          }
+        })
+        .then();
+  }
+
+  @Benchmark
+  public void firehose() {
+    firehose.write(Flux.range(0, items).map(i -> System.nanoTime())).block();
+  }
+
+  @Benchmark
+  public void paced(Percentiles percentiles) {
+    latencies.reset();
+    Flux<Long> source = Flux.interval(Duration.ofMillis(1))
+        .onBackpressureBuffer()
+        .take(ticks)
+        .concatMap(tick -> Flux.range(0, BURST).map(i -> System.nanoTime()));
+    paced.write(source).block();
+    Histogram histogram = latencies.getIntervalHistogram();
+    percentiles.p50Micros += histogram.getValueAtPercentile(50);
+    percentiles.p99Micros += histogram.getValueAtPercentile(99);
+    percentiles.maxMicros += histogram.getMaxValue();
+  }
+
+  /**
+   * latency percentiles of one iteration, i.e. of one operation in single shot mode.
+   */
+  @State(Scope.Thread)
+  @AuxCounters(AuxCounters.Type.EVENTS)
+  public static class Percentiles {
+    public long p50Micros;
+
+    public long p99Micros;
+
+    public long maxMicros;
+
+    @Setup(Level.Iteration)
+    public void reset() {
+      p50Micros = 0;
+      p99Micros = 0;
+      maxMicros = 0;
+    }
+  }
+}
@@ -0,0 +1,159 @@
+package com.justin.reactor.cache;
+
+import com.github.benmanes.caffeine.cache.AsyncLoadingCache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import org.openjdk.jmh.annotations.AuxCounters;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
+
+/**
+ * Description: benchmark of {@link ReactiveCache}.
+ * <p>
+ * 1.the latency of a hit, against the Caffeine cache below it and the cache of
+ * {@link SingleFlight}.
+ * </p>
+ * <p>
+ * 2.a refresh storm: {@code keys} entries loaded together go stale together, then are all read.
+ * with refreshAfterWrite the reads get the current values and the reloads run behind them; with
+ * expireAfterWrite only, every read waits for its load of 1ms. one operation reads all the keys,
+ * the iterations report the loads.
+ * </p>
+ *
+ * @author Justin_Zhang
+ * @date 10/19/2026 07:00
+ */
+@Fork(1)
+@State(Scope.Benchmark)
+public class ReactiveCacheBenchmark {
+  @Param({"10000"})
+  private int keys;
+
+  private final AtomicLong loads = new AtomicLong();
+
+  private ReactiveCache<Integer, Integer> cache;
+
+  private AsyncLoadingCache<Integer, Integer> caffeine;
+
+  private SingleFlight<Integer, Integer> singleFlight;
+
+  // the clock of the storm caches, moved past the refresh or the expiry before each storm.
+  private final AtomicLong nanos = new AtomicLong();
+
+  private ReactiveCache<Integer, Integer> refreshing;
+
+  private ReactiveCache<Integer, Integer> expiring;
+
+  private Mono<Integer> load(Integer key) {
+    return Mono.delay(Duration.ofMillis(1), Schedulers.parallel())
+        .doOnSubscribe(subscription -> loads.incrementAndGet())
+        .thenReturn(key);
+  }
+
+  @Setup(Level.Trial)
+  public void setUp() {
+    cache = ReactiveCache.<Integer, Integer>builder(this::load).maximumSize(keys).build();
+    caffeine = Caffeine.newBuilder().maximumSize(keys)
+        .buildAsync((key, executor) -> CompletableFuture.completedFuture(key));
+    singleFlight = SingleFlight.<Integer, Integer>of(this::load)
+        .cache(Duration.ofHours(1), keys);
+    refreshing = ReactiveCache.<Integer, Integer>builder(this::load)
+        .maximumSize(keys)
+        .refreshAfterWrite(Duration.ofSeconds(1))
+        .expireAfterWrite(Duration.ofMinutes(1))
+        .ticker(nanos::get)
+        .build();
+    expiring = ReactiveCache.<Integer, Integer>builder(this::load)
+        .maximumSize(keys)
+        .expireAfterWrite(Duration.ofSeconds(1))
+        .ticker(nanos::get)
+        .build();
+    Flux.range(0, keys)
+        .flatMap(key -> Flux.merge(cache.get(key), singleFlight.get(key), refreshing.get(key),
+            expiring.get(key), Mono.fromFuture(caffeine.get(key))), 256)
+        .blockLast();
+  }
+
+  @Benchmark
+  @BenchmarkMode({Mode.Throughput, Mode.SampleTime})
+  @OutputTimeUnit(TimeUnit.MILLISECONDS)
+  @Warmup(iterations = 3, time = 2)
+  @Measurement(iterations = 5, time = 2)
+  public Integer hit() {
+    return cache.get(ThreadLocalRandom.current().nextInt(keys)).block();
+  }
+
+  @Benchmark
+  @BenchmarkMode({Mode.Throughput, Mode.SampleTime})
+  @OutputTimeUnit(TimeUnit.MILLISECONDS)
+  @Warmup(iterations = 3, time = 2)
+  @Measurement(iterations = 5, time = 2)
+  public Integer caffeineHit() {
+    return caffeine.get(ThreadLocalRandom.current().nextInt(keys)).join();
+  }
+
+  @Benchmark
+  @BenchmarkMode({Mode.Throughput, Mode.SampleTime})
+  @OutputTimeUnit(TimeUnit.MILLISECONDS)
+  @Warmup(iterations = 3, time = 2)
+  @Measurement(iterations = 5, time = 2)
+  public Integer singleFlightHit() {
+    return singleFlight.get(ThreadLocalRandom.current().nextInt(keys)).block();
+  }
+
+  @Benchmark
+  @BenchmarkMode(Mode.SingleShotTime)
+  @OutputTimeUnit(TimeUnit.MILLISECONDS)
+  @Warmup(iterations = 3)
+  @Measurement(iterations = 5)
+  public void refreshStorm(Loads counters) {
+    storm(refreshing, counters);
+  }
+
+  @Benchmark
+  @BenchmarkMode(Mode.SingleShotTime)
+  @OutputTimeUnit(TimeUnit.MILLISECONDS)
+  @Warmup(iterations = 3)
+  @Measurement(iterations = 5)
+  public void expiryStorm(Loads counters) {
+    storm(expiring, counters);
+  }
+
+  private void storm(ReactiveCache<Integer, Integer> stale, Loads counters) {
+    nanos.addAndGet(Duration.ofSeconds(2).toNanos());
+    loads.set(0);
+    Flux.range(0, keys).flatMap(stale::get, 256).blockLast();
+    counters.loads += loads.get();
+  }
+
+  /**
+   * loads of one iteration, i.e. of one operation in single shot mode.
+   */
+  @State(Scope.Thread)
+  @AuxCounters(AuxCounters.Type.EVENTS)
+  public static class Loads {
+    public long loads;
+
+    @Setup(Level.Iteration)
+    public void reset() {
+      loads = 0;
+    }
+  }
+}
@@ -0,0 +1,117 @@
+package com.justin.reactor.cache;
+
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+import org.openjdk.jmh.annotations.AuxCounters;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
+
+/**
+ * Description: load benchmark of {@link SingleFlight}: {@code lookups} lookups of keys following
+ * a Zipfian distribution over {@code keys} keys, {@code concurrency} of them in flight, against an
+ * upstream answering in 1ms. direct calls to the upstream, single flight, single flight with a
+ * cache of 1s.
+ * <p>
+ * the iterations report the calls the upstream got.
+ * </p>
+ *
+ * @author Justin_Zhang
+ * @date 10/19/2026 06:45
+ */
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+@Fork(1)
+@State(Scope.Benchmark)
+public class SingleFlightBenchmark {
+  @Param({"10000"})
+  private int lookups;
+
+  @Param({"1000"})
+  private int keys;
+
+  @Param({"1.0"})
+  private double exponent;
+
+  @Param({"256"})
+  private int concurrency;
+
+  private Integer[] sequence;
+
+  private final AtomicLong upstreamCalls = new AtomicLong();
+
+  private final Function<Integer, Mono<Integer>> upstream = key -> Mono.defer(() -> {
+    upstreamCalls.incrementAndGet();
+    return Mono.delay(Duration.ofMillis(1), Schedulers.parallel()).thenReturn(key);
+  });
+
+  @Setup(Level.Trial)
+  public void setUp() {
+    // the cumulative distribution of P(rank k) ~ 1 / k^exponent.
+    double[] cumulative = new double[keys];
+    double sum = 0;
+    for (int k = 0; k < keys; k++) {
+      sum += 1 / Math.pow(k + 1, exponent);
+      cumulative[k] = sum;
+    }
+    SplittableRandom random = new SplittableRandom(42);
+    sequence = new Integer[lookups];
+    for (int i = 0; i < lookups; i++) {
+      int index = Arrays.binarySearch(cumulative, random.nextDouble() * sum);
+      sequence[i] = index >= 0 ? index : -index - 1;
+    }
+  }
+
+  @Benchmark
+  public void direct(Calls counters) {
+    lookUp(upstream, counters);
+  }
+
+  @Benchmark
+  public void singleFlight(Calls counters) {
+    lookUp(SingleFlight.of(upstream)::get, counters);
+  }
+
+  @Benchmark
+  public void singleFlightCached(Calls counters) {
+    lookUp(SingleFlight.of(upstream).cache(Duration.ofSeconds(1), keys)::get, counters);
+  }
+
+  private void lookUp(Function<Integer, Mono<Integer>> lookup, Calls counters) {
+    upstreamCalls.set(0);
+    Flux.fromArray(sequence).flatMap(lookup, concurrency).blockLast();
+    counters.upstreamCalls += upstreamCalls.get();
+  }
+
+  /**
+   * calls to the upstream of one iteration, i.e. of one operation in single shot mode.
+   */
+  @State(Scope.Thread)
+  @AuxCounters(AuxCounters.Type.EVENTS)
+  public static class Calls {
+    public long upstreamCalls;
+
+    @Setup(Level.Iteration)
+    public void reset() {
+      upstreamCalls = 0;
+    }
+  }
+}
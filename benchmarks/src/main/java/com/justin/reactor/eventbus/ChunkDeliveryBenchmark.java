@@ -0,0 +1,86 @@
+package com.justin.reactor.eventbus;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * Description: benchmark of per-element against batched chunk delivery at chunk sizes 1, 64, 4096.
+ * one operation publishes {@value #ELEMENTS} elements through a fresh {@link EventBus}.
+ *
+ * @author Justin_Zhang
+ * @date 10/18/2026 14:15
+ */
+@BenchmarkMode({Mode.Throughput, Mode.SampleTime})
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class ChunkDeliveryBenchmark {
+  private static final int ELEMENTS = 1 << 18;
+
+  @Param({"1", "64", "4096"})
+  private int chunkSize;
+
+  private List<String> chunk;
+
+  /**
+   * prepare one shared chunk.
+   */
+  @Setup(Level.Trial)
+  public void setUp() {
+    chunk = new ArrayList<>(chunkSize);
+    for (int i = 0; i < chunkSize; i++) {
+      chunk.add("value " + i);
+    }
+  }
+
+  @Benchmark
+  public void perElement(Blackhole bh) {
+    EventBus<String> bus = new EventBus<>();
+    bus.asFlux().subscribe(bh::consume);
+    publishAll(bus);
+  }
+
+  @Benchmark
+  public void batched(Blackhole bh) {
+    EventBus<String> bus = new EventBus<>();
+    bus.asChunkFlux().subscribe(bh::consume);
+    publishAll(bus);
+  }
+
+  @Benchmark
+  public void batchedFlatten(Blackhole bh) {
+    EventBus<String> bus = new EventBus<>();
+    ChunkFlux.flatten(bus.asChunkFlux()).subscribe(bh::consume);
+    publishAll(bus);
+  }
+
+  @Benchmark
+  public void batchedFlatMapIterable(Blackhole bh) {
+    EventBus<String> bus = new EventBus<>();
+    bus.asChunkFlux().flatMapIterable(c -> c).subscribe(bh::consume);
+    publishAll(bus);
+  }
+
+  private void publishAll(EventBus<String> bus) {
+    for (int i = 0; i < ELEMENTS; i += chunkSize) {
+      bus.publish(chunk);
+    }
+    bus.complete();
+  }
+}
@@ -0,0 +1,110 @@
+package com.justin.reactor.eventbus;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.FluxSink;
+
+/**
+ * Description: benchmark of {@link EventBus} with 1, 4 and 16 producer threads.
+ * one operation publishes {@value #CHUNKS} chunks of {@value #CHUNK_SIZE} elements in total and
+ * waits until the subscriber has seen the completion.
+ * createSinkDirect is the baseline of producers calling the serialized Flux.create sink themselves.
+ *
+ * @author Justin_Zhang
+ * @date 10/18/2026 11:48
+ */
+@BenchmarkMode({Mode.Throughput, Mode.SampleTime})
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class EventBusBenchmark {
+  private static final int CHUNKS = 16_384;
+
+  private static final int CHUNK_SIZE = 16;
+
+  @Param({"1", "4", "16"})
+  private int producers;
+
+  private List<String> chunk;
+
+  private ExecutorService executor;
+
+  /**
+   * prepare the shared chunk and the producer threads.
+   */
+  @Setup(Level.Trial)
+  public void setUp() {
+    chunk = new ArrayList<>();
+    for (int i = 0; i < CHUNK_SIZE; i++) {
+      chunk.add("value " + i);
+    }
+    executor = Executors.newFixedThreadPool(producers);
+  }
+
+  @TearDown(Level.Trial)
+  public void tearDown() {
+    executor.shutdownNow();
+  }
+
+  @Benchmark
+  public void eventBus(Blackhole bh) throws InterruptedException {
+    EventBus<String> bus = new EventBus<>();
+    CountDownLatch completed = new CountDownLatch(1);
+    bus.asFlux().subscribe(bh::consume, e -> completed.countDown(), completed::countDown);
+    runProducers(() -> bus.publish(chunk));
+    bus.complete();
+    completed.await();
+  }
+
+  @Benchmark
+  public void createSinkDirect(Blackhole bh) throws InterruptedException {
+    AtomicReference<FluxSink<String>> sinkRef = new AtomicReference<>();
+    CountDownLatch completed = new CountDownLatch(1);
+    Flux.<String>create(sinkRef::set)
+        .subscribe(bh::consume, e -> completed.countDown(), completed::countDown);
+    FluxSink<String> sink = sinkRef.get();
+    runProducers(() -> {
+      for (String s : chunk) {
+        sink.next(s);
+      }
+    });
+    sink.complete();
+    completed.await();
+  }
+
+  private void runProducers(Runnable publishOneChunk) throws InterruptedException {
+    CountDownLatch done = new CountDownLatch(producers);
+    int perProducer = CHUNKS / producers;
+    for (int p = 0; p < producers; p++) {
+      executor.execute(() -> {
+        for (int i = 0; i < perProducer; i++) {
+          publishOneChunk.run();
+        }
+        done.countDown();
+      });
+    }
+    done.await();
+  }
+}
@@ -0,0 +1,110 @@
+package com.justin.reactor.eventlog;
+
+import com.justin.reactor.sink.RecordSerializer;
+import java.io.BufferedInputStream;
+import java.io.DataInputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.concurrent.TimeUnit;
+import java.util.zip.CRC32C;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+import reactor.core.publisher.Flux;
+
+/**
+ * Description: benchmark of the replay of an event log by {@link EventLogReader}, against a
+ * DataInputStream over a BufferedInputStream copying every record into a byte[]. both verify
+ * the checksums, the file is in the page cache after the first iteration.
+ *
+ * @author Justin_Zhang
+ * @date 10/19/2026 04:05
+ */
+@BenchmarkMode({Mode.Throughput, Mode.SampleTime})
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class EventLogReaderBenchmark {
+  @Param({"1000000"})
+  private int records;
+
+  @Param({"100"})
+  private int recordSize;
+
+  private Path file;
+
+  @Setup(Level.Trial)
+  public void setUp() throws IOException {
+    file = Files.createTempFile("events", ".log");
+    byte[] payload = new byte[recordSize];
+    Arrays.fill(payload, (byte) 'e');
+    RecordSerializer<byte[]> serializer = new RecordSerializer<>() {
+      @Override
+      public void write(byte[] value, ByteBuffer out) {
+        out.put(value);
+      }
+
+      @Override
+      public byte[] read(ByteBuffer in) {
+        throw new UnsupportedOperationException();
+      }
+    };
+    try (EventLogWriter<byte[]> writer = EventLogWriter.open(file, serializer)) {
+      writer.write(Flux.range(0, records).map(i -> payload)).block();
+    }
+  }
+
+  @TearDown(Level.Trial)
+  public void tearDown() throws IOException {
+    Files.delete(file);
+  }
+
+  @Benchmark
+  public long inputStream(Blackhole bh) throws IOException {
+    long count = 0;
+    CRC32C crc = new CRC32C();
+    try (DataInputStream in = new DataInputStream(
+        new BufferedInputStream(Files.newInputStream(file), 1 << 16))) {
+      for (;;) {
+        int length;
+        try {
+          length = in.readInt();
+        } catch (EOFException e) {
+          return count;
+        }
+        int checksum = in.readInt();
+        byte[] record = new byte[length];
+        in.readFully(record);
+        crc.reset();
+        crc.update(record);
+        if ((int) crc.getValue() != checksum) {
+          throw new IOException("torn record");
+        }
+        bh.consume(record);
+        count++;
+      }
+    }
+  }
+
+  @Benchmark
+  public long mapped(Blackhole bh) {
+    return EventLogReader.records(file).doOnNext(bh::consume).count().block();
+  }
+}
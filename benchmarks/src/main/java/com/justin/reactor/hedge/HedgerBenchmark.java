@@ -0,0 +1,54 @@
+package com.justin.reactor.hedge;
+
+import java.time.Duration;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
+
+/**
+ * Description: benchmark of the tail latency of a call to a local stub, hedged or not.
+ * the stub answers in 1 to 2ms, but 2% of its calls take 30ms: the long tail of a downstream
+ * pausing for a GC or a disk. see the p0.99 of the sample time.
+ * <p>
+ * the hedger fires its duplicate after the running p95 of the latencies.
+ * </p>
+ *
+ * @author Justin_Zhang
+ * @date 10/19/2026 06:25
+ */
+@BenchmarkMode(Mode.SampleTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class HedgerBenchmark {
+  private final Mono<Long> stub = Mono.defer(() -> {
+    ThreadLocalRandom random = ThreadLocalRandom.current();
+    long micros = random.nextInt(100) < 2 ? 30_000 : 1_000 + random.nextInt(1_000);
+    return Mono.delay(Duration.ofNanos(TimeUnit.MICROSECONDS.toNanos(micros)),
+        Schedulers.parallel());
+  });
+
+  private final Hedger hedger = Hedger.afterQuantile(0.95, Duration.ofMillis(5));
+
+  @Benchmark
+  public Long plain() {
+    return stub.block();
+  }
+
+  @Benchmark
+  public Long hedged() {
+    return stub.transform(hedger.transformer()).block();
+  }
+}
@@ -0,0 +1,76 @@
+package com.justin.reactor.metrics;
+
+import io.micrometer.prometheus.PrometheusConfig;
+import io.micrometer.prometheus.PrometheusMeterRegistry;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+import reactor.core.observability.micrometer.Micrometer;
+import reactor.core.publisher.Flux;
+
+/**
+ * Description: overhead of {@link PipelineMetrics} on Flux.range pipelines.
+ * work is the cpu spent per element in the map stage (Blackhole.consumeCPU tokens),
+ * 0 being the worst case where the instrumentation is the only work besides the operators.
+ * micrometerMetrics is tap(Micrometer.metrics()) for comparison.
+ *
+ * @author Justin_Zhang
+ * @date 10/18/2026 19:41
+ */
+@BenchmarkMode({Mode.Throughput, Mode.SampleTime})
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class PipelineMetricsBenchmark {
+  @Param({"1000", "100000"})
+  private int elements;
+
+  @Param({"0", "100"})
+  private int work;
+
+  private PrometheusMeterRegistry registry;
+
+  private Function<Flux<Integer>, Flux<Integer>> instrumented;
+
+  @Setup(Level.Trial)
+  public void setUp() {
+    registry = new PrometheusMeterRegistry(PrometheusConfig.DEFAULT);
+    instrumented = new PipelineMetrics(registry).flux("benchmark.range", "stage", "map");
+  }
+
+  @Benchmark
+  public void plain(Blackhole bh) {
+    range().subscribe(bh::consume);
+  }
+
+  @Benchmark
+  public void instrumented(Blackhole bh) {
+    range().transform(instrumented).subscribe(bh::consume);
+  }
+
+  @Benchmark
+  public void micrometerMetrics(Blackhole bh) {
+    range().name("benchmark.micrometer").tap(Micrometer.metrics(registry)).subscribe(bh::consume);
+  }
+
+  private Flux<Integer> range() {
+    return Flux.range(0, elements).map(i -> {
+      Blackhole.consumeCPU(work);
+      return i + 1;
+    });
+  }
+}
@@ -0,0 +1,87 @@
+package com.justin.reactor.parallel;
+
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+import reactor.core.publisher.Flux;
+import reactor.core.scheduler.Scheduler;
+import reactor.core.scheduler.Schedulers;
+
+/**
+ * Description: benchmark of {@link KeyedParallel} over distinct keys, on one rail per core.
+ * against parallel().runOn(), which doesn't keep the order per key, and groupBy() by the key
+ * with an unbounded flatMap() (a bounded one hangs), which opens a group per key.
+ *
+ * @author Justin_Zhang
+ * @date 10/19/2026 03:15
+ */
+@BenchmarkMode({Mode.Throughput, Mode.SampleTime})
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class KeyedParallelBenchmark {
+  @Param({"100000"})
+  private int keys;
+
+  // cpu work per event, in Blackhole tokens.
+  @Param({"0", "100"})
+  private int work;
+
+  private Scheduler scheduler;
+
+  @Setup(Level.Trial)
+  public void setUp() {
+    scheduler = Schedulers.newParallel("benchmark", Schedulers.DEFAULT_POOL_SIZE);
+  }
+
+  @TearDown(Level.Trial)
+  public void tearDown() {
+    scheduler.dispose();
+  }
+
+  @Benchmark
+  public Integer parallelRunOn() {
+    return Flux.range(0, keys)
+        .parallel(Schedulers.DEFAULT_POOL_SIZE)
+        .runOn(scheduler)
+        .map(this::process)
+        .sequential()
+        .blockLast();
+  }
+
+  @Benchmark
+  public Integer groupByKey() {
+    return Flux.range(0, keys)
+        .groupBy(i -> i)
+        .flatMap(group -> group.publishOn(scheduler).map(this::process), Integer.MAX_VALUE)
+        .blockLast();
+  }
+
+  @Benchmark
+  public Integer keyed() {
+    return Flux.range(0, keys)
+        .transform(KeyedParallel.<Integer, Integer>by(i -> i)
+            .runOn(scheduler)
+            .map(this::process))
+        .blockLast();
+  }
+
+  private Integer process(Integer event) {
+    Blackhole.consumeCPU(work);
+    return event;
+  }
+}
@@ -0,0 +1,86 @@
+package com.justin.reactor.primitive;
+
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+import reactor.core.publisher.Flux;
+
+/**
+ * Description: benchmark of {@link IntFlux} and {@link LongFlux} against the boxed Flux
+ * pipelines of a metric aggregation: scale, filter, then sum or batch. the allocation per
+ * operation is the gc.alloc.rate.norm of the gc profiler.
+ *
+ * @author Justin_Zhang
+ * @date 10/19/2026 00:25
+ */
+@BenchmarkMode({Mode.Throughput, Mode.SampleTime})
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class PrimitiveFluxBenchmark {
+  private static final int BATCH = 100;
+
+  @Param({"1000", "100000"})
+  private int elements;
+
+  @Benchmark
+  public Integer boxedReduce() {
+    return Flux.range(0, elements)
+        .map(i -> i * 3)
+        .filter(i -> i % 2 == 0)
+        .reduce(0, Integer::sum)
+        .block();
+  }
+
+  @Benchmark
+  public Integer primitiveReduce() {
+    return IntFlux.range(0, elements)
+        .map(i -> i * 3)
+        .filter(i -> i % 2 == 0)
+        .reduce(0, Integer::sum)
+        .block();
+  }
+
+  @Benchmark
+  public void boxedBuffer(Blackhole bh) {
+    Flux.range(0, elements)
+        .map(i -> (long) i * 1000)
+        .buffer(BATCH)
+        .subscribe(bh::consume);
+  }
+
+  @Benchmark
+  public void primitiveBuffer(Blackhole bh) {
+    IntFlux.range(0, elements)
+        .mapToLong(i -> (long) i * 1000)
+        .buffer(BATCH)
+        .subscribe(bh::consume);
+  }
+
+  @Benchmark
+  public Long boxedLongSum() {
+    return Flux.range(0, elements)
+        .map(i -> (long) i * 1000)
+        .reduce(0L, Long::sum)
+        .block();
+  }
+
+  @Benchmark
+  public Long primitiveLongSum() {
+    return LongFlux.range(0, elements)
+        .map(l -> l * 1000)
+        .sum()
+        .block();
+  }
+}
@@ -0,0 +1,111 @@
+package com.justin.reactor.retry;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import org.openjdk.jmh.annotations.AuxCounters;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import reactor.core.publisher.Mono;
+import reactor.test.scheduler.VirtualTimeScheduler;
+
+/**
+ * Description: load benchmark of {@link RetryPolicy} during an outage of the downstream: {@code
+ * calls} calls spread over {@code outageSeconds} seconds of virtual time, all of them failing.
+ * plain backoff against backoff with a retry budget, and with a budget and a circuit breaker.
+ * <p>
+ * the iterations report the calls the downstream got, the time is the cost of the retries.
+ * </p>
+ *
+ * @author Justin_Zhang
+ * @date 10/19/2026 06:00
+ */
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+@Fork(1)
+@State(Scope.Benchmark)
+public class RetryStormBenchmark {
+  @Param({"1000"})
+  private int calls;
+
+  @Param({"10"})
+  private int outageSeconds;
+
+  private VirtualTimeScheduler scheduler;
+
+  private final AtomicLong downstreamCalls = new AtomicLong();
+
+  private final Mono<String> failingDownstream = Mono.defer(() -> {
+    downstreamCalls.incrementAndGet();
+    return Mono.error(new IOException("downstream is down"));
+  });
+
+  @Setup(Level.Trial)
+  public void setUp() {
+    scheduler = VirtualTimeScheduler.getOrSet();
+  }
+
+  @TearDown(Level.Trial)
+  public void tearDown() {
+    VirtualTimeScheduler.reset();
+  }
+
+  private RetryPolicy retries() {
+    return RetryPolicy.backoff(3, Duration.ofMillis(10), Duration.ofMillis(100));
+  }
+
+  @Benchmark
+  public void backoff(Calls counters) {
+    outage(retries(), counters);
+  }
+
+  @Benchmark
+  public void budget(Calls counters) {
+    outage(retries().budget(RetryBudget.of(0.1, 5)), counters);
+  }
+
+  @Benchmark
+  public void budgetAndCircuitBreaker(Calls counters) {
+    outage(retries().budget(RetryBudget.of(0.1, 5))
+        .circuitBreaker(CircuitBreaker.of("downstream", 5, Duration.ofSeconds(1))), counters);
+  }
+
+  private void outage(RetryPolicy policy, Calls counters) {
+    downstreamCalls.set(0);
+    long spacingNanos = TimeUnit.SECONDS.toNanos(outageSeconds) / calls;
+    for (int i = 0; i < calls; i++) {
+      scheduler.schedule(() -> failingDownstream.transform(policy.transformer())
+          .subscribe(value -> { }, error -> { }), i * spacingNanos, TimeUnit.NANOSECONDS);
+    }
+    scheduler.advanceTimeBy(Duration.ofSeconds(outageSeconds * 2L));
+    counters.downstreamCalls += downstreamCalls.get();
+  }
+
+  /**
+   * calls to the downstream of one iteration, i.e. of one operation in single shot mode.
+   */
+  @State(Scope.Thread)
+  @AuxCounters(AuxCounters.Type.EVENTS)
+  public static class Calls {
+    public long downstreamCalls;
+
+    @Setup(Level.Iteration)
+    public void reset() {
+      downstreamCalls = 0;
+    }
+  }
+}
@@ -0,0 +1,74 @@
+package com.justin.reactor.sample;
+
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+import org.reactivestreams.Subscription;
+import reactor.core.publisher.BaseSubscriber;
+import reactor.core.publisher.Flux;
+
+/**
+ * Description: benchmark of the demand shaping in {@link BackpressureAndReshapeRequestsSample}.
+ *
+ * @author Justin_Zhang
+ * @date 10/18/2026 10:08
+ */
+@BenchmarkMode({Mode.Throughput, Mode.SampleTime})
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class BackpressureAndReshapeRequestsSampleBenchmark {
+  @Param({"1000", "100000"})
+  private int elements;
+
+  @Benchmark
+  public void unbounded(Blackhole bh) {
+    Flux.range(1, elements).subscribe(bh::consume);
+  }
+
+  @Benchmark
+  public void limitRate(Blackhole bh) {
+    Flux.range(1, elements).limitRate(5).subscribe(bh::consume);
+  }
+
+  @Benchmark
+  public void limitRateWithTide(Blackhole bh) {
+    Flux.range(1, elements).limitRate(5, 2).subscribe(bh::consume);
+  }
+
+  // take(n, true) caps the request like the deprecated limitRequest(n).
+  @Benchmark
+  public void limitRequest(Blackhole bh) {
+    Flux.range(1, elements).take(elements / 2, true).subscribe(bh::consume);
+  }
+
+  /**
+   * the custom subscriber of simpleWayToCustomRequest, requesting one element at a time.
+   */
+  @Benchmark
+  public void requestOneByOne(Blackhole bh) {
+    Flux.range(1, elements).subscribe(new BaseSubscriber<Integer>() {
+      @Override
+      protected void hookOnSubscribe(Subscription subscription) {
+        request(1);
+      }
+
+      @Override
+      protected void hookOnNext(Integer value) {
+        bh.consume(value);
+        request(1);
+      }
+    });
+  }
+}
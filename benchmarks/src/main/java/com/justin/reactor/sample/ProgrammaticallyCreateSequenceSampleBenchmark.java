@@ -0,0 +1,158 @@
+package com.justin.reactor.sample;
+
+import com.justin.reactor.sample.ProgrammaticallyCreateSequenceSample.MyEventListener;
+import com.justin.reactor.sample.ProgrammaticallyCreateSequenceSample.MyEventProcessor;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.FluxSink;
+
+/**
+ * Description: benchmark of the bridges in {@link ProgrammaticallyCreateSequenceSample}.
+ * the listener based bridges push {@code elements} strings in chunks of two,
+ * the same shape MyEvent.generateChunkData produces.
+ *
+ * @author Justin_Zhang
+ * @date 10/18/2026 09:52
+ */
+@BenchmarkMode({Mode.Throughput, Mode.SampleTime})
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class ProgrammaticallyCreateSequenceSampleBenchmark {
+  private static final int CHUNK_SIZE = 2;
+
+  private static final int PRODUCERS = 2;
+
+  @Param({"1000", "100000"})
+  private int elements;
+
+  private List<String> chunk;
+
+  private ExecutorService producers;
+
+  @Setup(Level.Trial)
+  public void setUp() {
+    chunk = new ArrayList<>();
+    for (int i = 0; i < CHUNK_SIZE; i++) {
+      chunk.add("value " + i);
+    }
+    producers = Executors.newFixedThreadPool(PRODUCERS);
+  }
+
+  @TearDown(Level.Trial)
+  public void tearDown() {
+    producers.shutdownNow();
+  }
+
+  @Benchmark
+  public void synchronousGenerate(Blackhole bh) {
+    Flux.<Integer, Integer>generate(() -> 0, (state, sink) -> {
+      sink.next(3 * state);
+      if (state == elements - 1) {
+        sink.complete();
+      }
+      return state + 1;
+    }).subscribe(bh::consume);
+  }
+
+  @Benchmark
+  public void asynchronousSingleThreadPush(Blackhole bh) {
+    MyEventProcessor<String> processor = new MyEventProcessor<>();
+    Flux.<String>push(sink -> registerListener(processor, sink)).subscribe(bh::consume);
+    produce(processor, elements);
+    processor.done();
+  }
+
+  @Benchmark
+  public void createBuffer(Blackhole bh) {
+    MyEventProcessor<String> processor = new MyEventProcessor<>();
+    Flux.<String>create(sink -> registerListener(processor, sink)).subscribe(bh::consume);
+    produce(processor, elements);
+    processor.done();
+  }
+
+  @Benchmark
+  public void createDrop(Blackhole bh) {
+    MyEventProcessor<String> processor = new MyEventProcessor<>();
+    Flux.<String>create(sink -> registerListener(processor, sink), FluxSink.OverflowStrategy.DROP)
+        .subscribe(bh::consume);
+    produce(processor, elements);
+    processor.done();
+  }
+
+  /**
+   * the shape of asynchronousMultiThreadCreate: several producer threads share one create sink.
+   */
+  @Benchmark
+  public void asynchronousMultiThreadCreate(Blackhole bh) throws InterruptedException {
+    MyEventProcessor<String> processor = new MyEventProcessor<>();
+    CountDownLatch completed = new CountDownLatch(1);
+    Flux.<String>create(sink -> registerListener(processor, sink))
+        .subscribe(bh::consume, e -> completed.countDown(), completed::countDown);
+    CountDownLatch produced = new CountDownLatch(PRODUCERS);
+    for (int p = 0; p < PRODUCERS; p++) {
+      producers.execute(() -> {
+        produce(processor, elements / PRODUCERS);
+        produced.countDown();
+      });
+    }
+    produced.await();
+    processor.done();
+    completed.await();
+  }
+
+  @Benchmark
+  public void handle(Blackhole bh) {
+    Flux.range(0, elements)
+        .<Character>handle((i, sink) -> {
+          int letter = i % 32;
+          if (letter >= 1 && letter <= 26) {
+            sink.next((char) ('A' + letter - 1));
+          }
+        })
+        .subscribe(bh::consume);
+  }
+
+  private void produce(MyEventProcessor<String> processor, int count) {
+    for (int i = 0; i < count; i += CHUNK_SIZE) {
+      processor.process(chunk);
+    }
+  }
+
+  private static void registerListener(MyEventProcessor<String> processor, FluxSink<String> sink) {
+    processor.register(new MyEventListener<>() {
+      @Override
+      public void onDataChunk(List<String> chunk) {
+        for (String s : chunk) {
+          sink.next(s);
+        }
+      }
+
+      @Override
+      public void processComplete() {
+        sink.complete();
+      }
+    });
+  }
+}
@@ -0,0 +1,128 @@
+package com.justin.reactor.sample;
+
+import java.time.Duration;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+import reactor.core.publisher.Sinks;
+
+/**
+ * Description: benchmark of the sink variants used in {@link SinkSample}.
+ * one operation emits {@code elements} values into a fresh sink and drains them.
+ *
+ * @author Justin_Zhang
+ * @date 10/18/2026 09:30
+ */
+@BenchmarkMode({Mode.Throughput, Mode.SampleTime})
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class SinkSampleBenchmark {
+  private static final int PRODUCERS = 4;
+
+  @Param({"1000", "100000"})
+  private int elements;
+
+  private ExecutorService producers;
+
+  @Setup(Level.Trial)
+  public void setUp() {
+    producers = Executors.newFixedThreadPool(PRODUCERS);
+  }
+
+  @TearDown(Level.Trial)
+  public void tearDown() {
+    producers.shutdownNow();
+  }
+
+  @Benchmark
+  public void replayAll(Blackhole bh) {
+    drainAfterEmit(Sinks.many().replay().all(), bh);
+  }
+
+  @Benchmark
+  public void replayLimit(Blackhole bh) {
+    drainAfterEmit(Sinks.many().replay().limit(256), bh);
+  }
+
+  @Benchmark
+  public void multicastOnBackpressureBuffer(Blackhole bh) {
+    Sinks.Many<Integer> sink = Sinks.many().multicast().onBackpressureBuffer();
+    emitToSubscriber(sink, bh);
+  }
+
+  @Benchmark
+  public void multicastDirectBestEffort(Blackhole bh) {
+    Sinks.Many<Integer> sink = Sinks.many().multicast().directBestEffort();
+    emitToSubscriber(sink, bh);
+  }
+
+  @Benchmark
+  public void unicastOnBackpressureBuffer(Blackhole bh) {
+    Sinks.Many<Integer> sink = Sinks.many().unicast().onBackpressureBuffer();
+    emitToSubscriber(sink, bh);
+  }
+
+  @Benchmark
+  public void unsafeReplayAll(Blackhole bh) {
+    drainAfterEmit(Sinks.unsafe().many().replay().all(), bh);
+  }
+
+  /**
+   * the contended path of multipleThreadEmitElementsReply: several threads emit with busyLooping.
+   */
+  @Benchmark
+  public void multipleThreadEmitBusyLooping(Blackhole bh) throws InterruptedException {
+    Sinks.Many<Integer> sink = Sinks.many().multicast().onBackpressureBuffer();
+    CountDownLatch completed = new CountDownLatch(1);
+    sink.asFlux().subscribe(bh::consume, e -> completed.countDown(), completed::countDown);
+    CountDownLatch emitted = new CountDownLatch(PRODUCERS);
+    int perProducer = elements / PRODUCERS;
+    for (int p = 0; p < PRODUCERS; p++) {
+      producers.execute(() -> {
+        Sinks.EmitFailureHandler handler = Sinks.EmitFailureHandler
+            .busyLooping(Duration.ofSeconds(2));
+        for (int i = 0; i < perProducer; i++) {
+          sink.emitNext(i, handler);
+        }
+        emitted.countDown();
+      });
+    }
+    emitted.await();
+    sink.emitComplete(Sinks.EmitFailureHandler.FAIL_FAST);
+    completed.await();
+  }
+
+  private void drainAfterEmit(Sinks.Many<Integer> sink, Blackhole bh) {
+    for (int i = 0; i < elements; i++) {
+      sink.emitNext(i, Sinks.EmitFailureHandler.FAIL_FAST);
+    }
+    sink.emitComplete(Sinks.EmitFailureHandler.FAIL_FAST);
+    sink.asFlux().subscribe(bh::consume);
+  }
+
+  private void emitToSubscriber(Sinks.Many<Integer> sink, Blackhole bh) {
+    sink.asFlux().subscribe(bh::consume);
+    for (int i = 0; i < elements; i++) {
+      sink.emitNext(i, Sinks.EmitFailureHandler.FAIL_FAST);
+    }
+    sink.emitComplete(Sinks.EmitFailureHandler.FAIL_FAST);
+  }
+}
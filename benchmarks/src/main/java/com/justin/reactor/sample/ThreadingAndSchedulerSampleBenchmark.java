@@ -0,0 +1,82 @@
+package com.justin.reactor.sample;
+
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import reactor.core.publisher.Flux;
+import reactor.core.scheduler.Scheduler;
+import reactor.core.scheduler.Schedulers;
+
+/**
+ * Description: benchmark of the schedulers in {@link ThreadingAndSchedulerSample}.
+ * the pipeline is the map - switch - map shape of publishOn() and subscribeOn().
+ *
+ * @author Justin_Zhang
+ * @date 10/18/2026 10:21
+ */
+@BenchmarkMode({Mode.Throughput, Mode.SampleTime})
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class ThreadingAndSchedulerSampleBenchmark {
+  @Param({"1000", "100000"})
+  private int elements;
+
+  @Param({"immediate", "single", "parallel", "boundedElastic", "newParallel"})
+  private String schedulerType;
+
+  private Scheduler scheduler;
+
+  /**
+   * resolve the scheduler once, newParallel is created per trial instead of per call.
+   */
+  @Setup(Level.Trial)
+  public void setUp() {
+    switch (schedulerType) {
+      case "immediate" -> scheduler = Schedulers.immediate();
+      case "single" -> scheduler = Schedulers.single();
+      case "parallel" -> scheduler = Schedulers.parallel();
+      case "boundedElastic" -> scheduler = Schedulers.boundedElastic();
+      case "newParallel" -> scheduler = Schedulers.newParallel("parallel-scheduler", 4);
+      default -> throw new IllegalArgumentException("unknown scheduler: " + schedulerType);
+    }
+  }
+
+  @TearDown(Level.Trial)
+  public void tearDown() {
+    if ("newParallel".equals(schedulerType)) {
+      scheduler.dispose();
+    }
+  }
+
+  @Benchmark
+  public Integer publishOn() {
+    return Flux.range(1, elements)
+        .map(i -> 10 + i)
+        .publishOn(scheduler)
+        .map(i -> i * 2)
+        .blockLast();
+  }
+
+  @Benchmark
+  public Integer subscribeOn() {
+    return Flux.range(1, elements)
+        .map(i -> 10 + i)
+        .subscribeOn(scheduler)
+        .map(i -> i * 2)
+        .blockLast();
+  }
+}
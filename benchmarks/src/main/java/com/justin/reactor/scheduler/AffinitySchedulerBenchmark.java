@@ -0,0 +1,122 @@
+package com.justin.reactor.scheduler;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.AuxCounters;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+import reactor.core.scheduler.Scheduler;
+import reactor.core.scheduler.Schedulers;
+
+/**
+ * Description: benchmark of rails with skewed workloads, on {@link AffinityScheduler} against a
+ * newParallel() of as many threads.
+ * <p>
+ * 1.{@code rails} workers, as created by ParallelFlux.runOn(), get {@code tasks} tasks each. a
+ * worker is assigned its thread round robin, so the rails 0, threads, 2 * threads.. share the
+ * first thread: they are the heavy ones, {@code skew} times the cost of the others.
+ * </p>
+ * <p>
+ * 2.with newParallel() the first thread runs all the heavy rails while the others finish early;
+ * the affinity scheduler lets them steal the heavy rails waiting. the iterations report the
+ * steals.
+ * </p>
+ *
+ * @author Justin_Zhang
+ * @date 10/19/2026 07:15
+ */
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 5)
+@Measurement(iterations = 10)
+@Fork(1)
+@State(Scope.Benchmark)
+public class AffinitySchedulerBenchmark {
+  @Param({"4"})
+  private int threads;
+
+  @Param({"16"})
+  private int rails;
+
+  @Param({"8"})
+  private int skew;
+
+  @Param({"1000"})
+  private int tasks;
+
+  private AffinityScheduler affinity;
+
+  private Scheduler parallel;
+
+  @Setup(Level.Trial)
+  public void setUp() {
+    affinity = AffinityScheduler.create("affinity", threads);
+    parallel = Schedulers.newParallel("parallel", threads);
+  }
+
+  @TearDown(Level.Trial)
+  public void tearDown() {
+    affinity.dispose();
+    parallel.dispose();
+  }
+
+  @Benchmark
+  public void affinity(Steals steals) throws InterruptedException {
+    long before = affinity.steals();
+    run(affinity);
+    steals.steals += affinity.steals() - before;
+  }
+
+  @Benchmark
+  public void parallel() throws InterruptedException {
+    run(parallel);
+  }
+
+  private void run(Scheduler scheduler) throws InterruptedException {
+    // rails is a multiple of threads: rail r lands on the thread r % threads at every operation.
+    Scheduler.Worker[] workers = new Scheduler.Worker[rails];
+    for (int r = 0; r < rails; r++) {
+      workers[r] = scheduler.createWorker();
+    }
+    CountDownLatch done = new CountDownLatch(rails * tasks);
+    for (int t = 0; t < tasks; t++) {
+      for (int r = 0; r < rails; r++) {
+        long tokens = r % threads == 0 ? 100L * skew : 100L;
+        workers[r].schedule(() -> {
+          Blackhole.consumeCPU(tokens);
+          done.countDown();
+        });
+      }
+    }
+    done.await();
+    for (Scheduler.Worker worker : workers) {
+      worker.dispose();
+    }
+  }
+
+  /**
+   * rails stolen in one iteration, i.e. in one operation in single shot mode.
+   */
+  @State(Scope.Thread)
+  @AuxCounters(AuxCounters.Type.EVENTS)
+  public static class Steals {
+    public long steals;
+
+    @Setup(Level.Iteration)
+    public void reset() {
+      steals = 0;
+    }
+  }
+}
@@ -0,0 +1,72 @@
+package com.justin.reactor.scheduler;
+
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Scheduler;
+import reactor.core.scheduler.Schedulers;
+
+/**
+ * Description: benchmark of boundedElastic() against virtual threads under {@value #CALLS}
+ * concurrent blocking calls of {@value #BLOCKING_MILLIS}ms.
+ * one operation subscribes every call at once and waits for the last one.
+ *
+ * @author Justin_Zhang
+ * @date 10/18/2026 17:34
+ */
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3)
+@Measurement(iterations = 10)
+@Fork(1)
+@State(Scope.Benchmark)
+public class BlockingSchedulerBenchmark {
+  private static final int CALLS = 10_000;
+
+  private static final int BLOCKING_MILLIS = 10;
+
+  @Param({"boundedElastic", "virtual"})
+  private String scheduler;
+
+  private Scheduler s;
+
+  /**
+   * a new scheduler per trial with the default caps of boundedElastic().
+   */
+  @Setup(Level.Trial)
+  public void setUp() {
+    s = "virtual".equals(scheduler)
+        ? VirtualThreadSchedulers.newVirtual("virtual")
+        : Schedulers.newBoundedElastic(Schedulers.DEFAULT_BOUNDED_ELASTIC_SIZE,
+            Schedulers.DEFAULT_BOUNDED_ELASTIC_QUEUESIZE, "boundedElastic");
+  }
+
+  @TearDown(Level.Trial)
+  public void tearDown() {
+    s.dispose();
+  }
+
+  @Benchmark
+  public Long blockingCalls() {
+    return Flux.range(0, CALLS)
+        .flatMap(i -> Mono.fromCallable(() -> {
+          Thread.sleep(BLOCKING_MILLIS);
+          return i;
+        }).subscribeOn(s), CALLS)
+        .count()
+        .block();
+  }
+}
@@ -0,0 +1,124 @@
+package com.justin.reactor.sink;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Comparator;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+import org.openjdk.jmh.annotations.AuxCounters;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+import reactor.core.publisher.Sinks;
+
+/**
+ * Description: benchmark of the emissions of {@link DurableSink} by 1 to 64 producer threads,
+ * with group commit (an fsync per group of concurrent emissions) against an fsync per emission.
+ * one operation emits {@code elements} values split across the producers into a new log.
+ * <p>
+ * the iterations report the fsyncs of the operation, elements / syncs is the size of a group.
+ * </p>
+ *
+ * @author Justin_Zhang
+ * @date 10/19/2026 04:50
+ */
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+@Fork(1)
+@State(Scope.Benchmark)
+public class DurableSinkBenchmark {
+  @Param({"1", "8", "64"})
+  private int producers;
+
+  @Param({"2048"})
+  private int elements;
+
+  private ExecutorService executor;
+
+  private Path directory;
+
+  @Setup(Level.Trial)
+  public void setUp() {
+    executor = Executors.newFixedThreadPool(producers);
+  }
+
+  @TearDown(Level.Trial)
+  public void tearDown() {
+    executor.shutdownNow();
+  }
+
+  @Setup(Level.Invocation)
+  public void createLog() throws IOException {
+    directory = Files.createTempDirectory("durable-sink");
+  }
+
+  @TearDown(Level.Invocation)
+  public void deleteLog() throws IOException {
+    try (Stream<Path> files = Files.walk(directory)) {
+      files.sorted(Comparator.reverseOrder()).forEach(file -> file.toFile().delete());
+    }
+  }
+
+  @Benchmark
+  public void groupCommit(Syncs syncs, Blackhole bh) throws Exception {
+    emit(new DurableSink<>(directory, RecordSerializer.ofInteger(),
+        DurableSink.DEFAULT_SEGMENT_BYTES, true), syncs, bh);
+  }
+
+  @Benchmark
+  public void syncPerElement(Syncs syncs, Blackhole bh) throws Exception {
+    emit(new DurableSink<>(directory, RecordSerializer.ofInteger(),
+        DurableSink.DEFAULT_SEGMENT_BYTES, false), syncs, bh);
+  }
+
+  private void emit(DurableSink<Integer> sink, Syncs syncs, Blackhole bh)
+      throws InterruptedException {
+    CountDownLatch completed = new CountDownLatch(1);
+    sink.asFlux().subscribe(bh::consume, e -> completed.countDown(), completed::countDown);
+    CountDownLatch emitted = new CountDownLatch(producers);
+    int perProducer = elements / producers;
+    for (int p = 0; p < producers; p++) {
+      executor.execute(() -> {
+        for (int i = 0; i < perProducer; i++) {
+          sink.emitNext(i, Sinks.EmitFailureHandler.FAIL_FAST);
+        }
+        emitted.countDown();
+      });
+    }
+    emitted.await();
+    sink.emitComplete(Sinks.EmitFailureHandler.FAIL_FAST);
+    completed.await();
+    syncs.syncs += sink.syncCount();
+  }
+
+  /**
+   * fsyncs of one iteration, i.e. of one operation in single shot mode.
+   */
+  @State(Scope.Thread)
+  @AuxCounters(AuxCounters.Type.EVENTS)
+  public static class Syncs {
+    public long syncs;
+
+    @Setup(Level.Iteration)
+    public void reset() {
+      syncs = 0;
+    }
+  }
+}
@@ -0,0 +1,140 @@
+package com.justin.reactor.sink;
+
+import java.lang.management.ManagementFactory;
+import java.lang.management.MemoryMXBean;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+import org.openjdk.jmh.annotations.AuxCounters;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+import reactor.core.publisher.Sinks;
+
+/**
+ * Description: benchmark of {@link OffHeapReplaySink} against replay().limit(n) and
+ * replay().all(), every sink keeping the whole history of {@code elements} values.
+ * <p>
+ * 1.replay*: one operation replays the history to a late subscriber.
+ * </p>
+ * <p>
+ * 2.footprint: one operation fills a fresh sink, the heap retained by the sink after a gc is
+ * reported as retainedKb. the off-heap sink keeps its index on the heap only.
+ * </p>
+ *
+ * @author Justin_Zhang
+ * @date 10/18/2026 22:05
+ */
+@BenchmarkMode({Mode.Throughput, Mode.SampleTime})
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class OffHeapReplaySinkBenchmark {
+  // 4 bytes of header and 8 of value.
+  private static final int RECORD_BYTES = 12;
+
+  @Param({"100000", "1000000"})
+  private int elements;
+
+  private Sinks.Many<Long> all;
+
+  private Sinks.Many<Long> limit;
+
+  private Sinks.Many<Long> offHeap;
+
+  @Setup(Level.Trial)
+  public void setUp() {
+    all = fill(Sinks.many().replay().all());
+    limit = fill(Sinks.many().replay().limit(elements));
+    offHeap = fill(offHeapSink());
+  }
+
+  @Benchmark
+  public void replayAll(Blackhole bh) {
+    all.asFlux().subscribe(bh::consume);
+  }
+
+  @Benchmark
+  public void replayLimit(Blackhole bh) {
+    limit.asFlux().subscribe(bh::consume);
+  }
+
+  @Benchmark
+  public void replayOffHeap(Blackhole bh) {
+    offHeap.asFlux().subscribe(bh::consume);
+  }
+
+  @Benchmark
+  @BenchmarkMode(Mode.SingleShotTime)
+  @Warmup(iterations = 2)
+  @Measurement(iterations = 5)
+  public Object footprintAll(Footprint footprint) {
+    return footprint.measure(() -> fill(Sinks.many().replay().all()));
+  }
+
+  @Benchmark
+  @BenchmarkMode(Mode.SingleShotTime)
+  @Warmup(iterations = 2)
+  @Measurement(iterations = 5)
+  public Object footprintLimit(Footprint footprint) {
+    return footprint.measure(() -> fill(Sinks.many().replay().limit(elements)));
+  }
+
+  @Benchmark
+  @BenchmarkMode(Mode.SingleShotTime)
+  @Warmup(iterations = 2)
+  @Measurement(iterations = 5)
+  public Object footprintOffHeap(Footprint footprint) {
+    return footprint.measure(() -> fill(offHeapSink()));
+  }
+
+  private OffHeapReplaySink<Long> offHeapSink() {
+    return OffHeapReplaySink.direct(elements * RECORD_BYTES, elements, RecordSerializer.ofLong());
+  }
+
+  private <S extends Sinks.Many<Long>> S fill(S sink) {
+    for (long i = 0; i < elements; i++) {
+      sink.emitNext(i, Sinks.EmitFailureHandler.FAIL_FAST);
+    }
+    return sink;
+  }
+
+  /**
+   * heap retained by the sink of one iteration, i.e. of one operation in single shot mode.
+   */
+  @State(Scope.Thread)
+  @AuxCounters(AuxCounters.Type.EVENTS)
+  public static class Footprint {
+    private static final MemoryMXBean MEMORY = ManagementFactory.getMemoryMXBean();
+
+    public long retainedKb;
+
+    @Setup(Level.Iteration)
+    public void reset() {
+      retainedKb = 0;
+    }
+
+    Object measure(Supplier<Object> filled) {
+      long before = heapUsedAfterGc();
+      Object sink = filled.get();
+      retainedKb += (heapUsedAfterGc() - before) / 1024;
+      return sink;
+    }
+
+    private static long heapUsedAfterGc() {
+      System.gc();
+      return MEMORY.getHeapMemoryUsage().getUsed();
+    }
+  }
+}
@@ -0,0 +1,123 @@
+package com.justin.reactor.sink;
+
+import java.lang.management.ManagementFactory;
+import java.time.Duration;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+import org.openjdk.jmh.annotations.AuxCounters;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+import reactor.core.publisher.Sinks;
+
+/**
+ * Description: contention benchmark of {@link ShardedSink} against a multicast sink shared by
+ * 2 to 64 producer threads. one operation emits {@code elements} values split across the
+ * producers and waits until the subscriber has seen them all.
+ * <p>
+ * besides the time, the iterations report the process cpu time: busyLooping burns it on
+ * FAIL_NON_SERIALIZED, parking and the lanes of the sharded sink should not.
+ * </p>
+ *
+ * @author Justin_Zhang
+ * @date 10/19/2026 02:40
+ */
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 5)
+@Measurement(iterations = 10)
+@Fork(1)
+@State(Scope.Benchmark)
+public class ShardedSinkBenchmark {
+  private static final Duration TIMEOUT = Duration.ofSeconds(10);
+
+  @Param({"2", "8", "16", "64"})
+  private int producers;
+
+  @Param({"100000"})
+  private int elements;
+
+  private ExecutorService executor;
+
+  @Setup(Level.Trial)
+  public void setUp() {
+    executor = Executors.newFixedThreadPool(producers);
+  }
+
+  @TearDown(Level.Trial)
+  public void tearDown() {
+    executor.shutdownNow();
+  }
+
+  @Benchmark
+  public void multicastBusyLooping(Cpu cpu, Blackhole bh) throws InterruptedException {
+    emit(Sinks.many().multicast().onBackpressureBuffer(),
+        () -> Sinks.EmitFailureHandler.busyLooping(TIMEOUT), cpu, bh);
+  }
+
+  @Benchmark
+  public void multicastParking(Cpu cpu, Blackhole bh) throws InterruptedException {
+    emit(Sinks.many().multicast().onBackpressureBuffer(),
+        () -> ParkingEmitFailureHandler.parking(TIMEOUT), cpu, bh);
+  }
+
+  @Benchmark
+  public void sharded(Cpu cpu, Blackhole bh) throws InterruptedException {
+    emit(new ShardedSink<>(), () -> ParkingEmitFailureHandler.parking(TIMEOUT), cpu, bh);
+  }
+
+  private void emit(Sinks.Many<Integer> sink, Supplier<Sinks.EmitFailureHandler> handlers,
+      Cpu cpu, Blackhole bh) throws InterruptedException {
+    long cpuTime = processCpuTime();
+    CountDownLatch completed = new CountDownLatch(1);
+    sink.asFlux().subscribe(bh::consume, e -> completed.countDown(), completed::countDown);
+    CountDownLatch emitted = new CountDownLatch(producers);
+    int perProducer = elements / producers;
+    for (int p = 0; p < producers; p++) {
+      executor.execute(() -> {
+        for (int i = 0; i < perProducer; i++) {
+          // a handler per emission, its deadline starts with it.
+          sink.emitNext(i, handlers.get());
+        }
+        emitted.countDown();
+      });
+    }
+    emitted.await();
+    sink.emitComplete(Sinks.EmitFailureHandler.FAIL_FAST);
+    completed.await();
+    cpu.cpuMillis += TimeUnit.NANOSECONDS.toMillis(processCpuTime() - cpuTime);
+  }
+
+  private static long processCpuTime() {
+    return ((com.sun.management.OperatingSystemMXBean) ManagementFactory
+        .getOperatingSystemMXBean()).getProcessCpuTime();
+  }
+
+  /**
+   * cpu time of one iteration, i.e. of one operation in single shot mode.
+   */
+  @State(Scope.Thread)
+  @AuxCounters(AuxCounters.Type.EVENTS)
+  public static class Cpu {
+    public long cpuMillis;
+
+    @Setup(Level.Iteration)
+    public void reset() {
+      cpuMillis = 0;
+    }
+  }
+}
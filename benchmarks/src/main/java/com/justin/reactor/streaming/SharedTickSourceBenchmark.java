@@ -0,0 +1,137 @@
+package com.justin.reactor.streaming;
+
+import java.lang.management.ManagementFactory;
+import java.time.Duration;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+import org.openjdk.jmh.annotations.AuxCounters;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+import reactor.core.publisher.Flux;
+import reactor.core.scheduler.Schedulers;
+
+/**
+ * Description: load test of the /flux tick source with 1 to 10k connected clients.
+ * one operation connects every client and waits until each one has seen {@value #TICKS} ticks.
+ * perClient is the former endpoint starting one Flux.interval per client,
+ * shared is {@link SharedTickSource}.
+ * <p>
+ * besides the time, the iterations report the timers started on the reactor schedulers,
+ * the runs of scheduled tasks and the process cpu time, the two last ones should stay flat for
+ * shared while they grow with the clients for perClient.
+ * </p>
+ *
+ * @author Justin_Zhang
+ * @date 10/18/2026 16:35
+ */
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3)
+@Measurement(iterations = 10)
+@Fork(1)
+@State(Scope.Benchmark)
+public class SharedTickSourceBenchmark {
+  private static final String HOOK = "sharedTickSourceBenchmark";
+
+  private static final Duration EMIT_INTERVAL = Duration.ofMillis(10);
+
+  private static final int TICKS = 50;
+
+  private static final LongAdder TIMERS = new LongAdder();
+
+  private static final LongAdder TASK_RUNS = new LongAdder();
+
+  @Param({"1", "100", "1000", "10000"})
+  private int clients;
+
+  private SharedTickSource source;
+
+  /**
+   * count every task handed to the reactor schedulers and every run of it,
+   * a periodic task is handed once and runs once per period.
+   */
+  @Setup(Level.Trial)
+  public void setUp() {
+    StreamingProperties properties = new StreamingProperties();
+    properties.setEmitInterval(EMIT_INTERVAL);
+    source = new SharedTickSource(properties);
+    Schedulers.onScheduleHook(HOOK, task -> {
+      TIMERS.increment();
+      return () -> {
+        TASK_RUNS.increment();
+        task.run();
+      };
+    });
+  }
+
+  @TearDown(Level.Trial)
+  public void tearDown() {
+    Schedulers.resetOnScheduleHook(HOOK);
+  }
+
+  @Benchmark
+  public void perClient(Load load, Blackhole bh) throws InterruptedException {
+    connect(() -> Flux.interval(EMIT_INTERVAL), load, bh);
+  }
+
+  @Benchmark
+  public void shared(Load load, Blackhole bh) throws InterruptedException {
+    connect(source::ticks, load, bh);
+  }
+
+  private void connect(Supplier<Flux<Long>> client, Load load, Blackhole bh)
+      throws InterruptedException {
+    long timers = TIMERS.sum();
+    long taskRuns = TASK_RUNS.sum();
+    long cpuTime = processCpuTime();
+    CountDownLatch disconnected = new CountDownLatch(clients);
+    for (int i = 0; i < clients; i++) {
+      client.get()
+          .take(TICKS)
+          .subscribe(bh::consume, e -> disconnected.countDown(), disconnected::countDown);
+    }
+    disconnected.await();
+    load.timers += TIMERS.sum() - timers;
+    load.taskRuns += TASK_RUNS.sum() - taskRuns;
+    load.cpuMillis += TimeUnit.NANOSECONDS.toMillis(processCpuTime() - cpuTime);
+  }
+
+  private static long processCpuTime() {
+    return ((com.sun.management.OperatingSystemMXBean) ManagementFactory
+        .getOperatingSystemMXBean()).getProcessCpuTime();
+  }
+
+  /**
+   * counters of one iteration, i.e. of one operation in single shot mode.
+   */
+  @State(Scope.Thread)
+  @AuxCounters(AuxCounters.Type.EVENTS)
+  public static class Load {
+    public long timers;
+
+    public long taskRuns;
+
+    public long cpuMillis;
+
+    @Setup(Level.Iteration)
+    public void reset() {
+      timers = 0;
+      taskRuns = 0;
+      cpuMillis = 0;
+    }
+  }
+}
@@ -0,0 +1,104 @@
+package com.justin.reactor.subscriber;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+import org.reactivestreams.Subscription;
+import reactor.core.publisher.BaseSubscriber;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.SignalType;
+import reactor.core.scheduler.Scheduler;
+import reactor.core.scheduler.Schedulers;
+
+/**
+ * Description: benchmark of {@link BatchedRequestSubscriber} against the request(1) per element
+ * of BaseSubscriberSample.SampleSubscriber (without its logging).
+ * the upstream is a synchronous range, or a range behind publishOn() whose drain loop is
+ * re-entered by every request.
+ *
+ * @author Justin_Zhang
+ * @date 10/19/2026 01:20
+ */
+@BenchmarkMode({Mode.Throughput, Mode.SampleTime})
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class BatchedRequestSubscriberBenchmark {
+  @Param({"100000"})
+  private int elements;
+
+  @Param({"false", "true"})
+  private boolean publishOn;
+
+  private Scheduler scheduler;
+
+  @Setup(Level.Trial)
+  public void setUp() {
+    scheduler = Schedulers.newSingle("benchmark");
+  }
+
+  @TearDown(Level.Trial)
+  public void tearDown() {
+    scheduler.dispose();
+  }
+
+  @Benchmark
+  public void oneByOne(Blackhole bh) throws InterruptedException {
+    CountDownLatch done = new CountDownLatch(1);
+    source().subscribe(new BaseSubscriber<Integer>() {
+      @Override
+      protected void hookOnSubscribe(Subscription subscription) {
+        request(1);
+      }
+
+      @Override
+      protected void hookOnNext(Integer value) {
+        bh.consume(value);
+        request(1);
+      }
+
+      @Override
+      protected void hookFinally(SignalType type) {
+        done.countDown();
+      }
+    });
+    done.await();
+  }
+
+  @Benchmark
+  public void batched(Blackhole bh) throws InterruptedException {
+    CountDownLatch done = new CountDownLatch(1);
+    source().subscribe(new BatchedRequestSubscriber<Integer>(256) {
+      @Override
+      protected void hookOnNext(Integer value) {
+        bh.consume(value);
+      }
+
+      @Override
+      protected void hookFinally(SignalType type) {
+        done.countDown();
+      }
+    });
+    done.await();
+  }
+
+  private Flux<Integer> source() {
+    Flux<Integer> range = Flux.range(0, elements);
+    return publishOn ? range.publishOn(scheduler) : range;
+  }
+}
@@ -0,0 +1,148 @@
+package com.justin.reactor.window;
+
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import reactor.core.Disposable;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Sinks;
+import reactor.test.scheduler.VirtualTimeScheduler;
+
+/**
+ * Description: benchmark of {@link WindowAggregator} against window(Duration) and a reduction of
+ * every window, on a stream of 1M events per second of virtual time.
+ * <p>
+ * 1.an operation emits the 1000 events of one millisecond, then moves the clock by 1ms: the
+ * windows close at the pace of 1M events/s, whatever the speed of the machine. the score is the
+ * events per second of real time the pipeline takes.
+ * </p>
+ * <p>
+ * 2.1s is a tumbling window, 10s and 60s slide every second. window(size, shift) puts an event in
+ * each of the size / shift windows open, the aggregator in one pane. the reduction of the
+ * baseline computes the count, sum, min and max, no quantile.
+ * </p>
+ *
+ * @author Justin_Zhang
+ * @date 10/19/2026 08:05
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class WindowAggregatorBenchmark {
+  private static final int EVENTS_PER_MS = 1000;
+
+  @Param({"1", "10", "60"})
+  private int windowSeconds;
+
+  private VirtualTimeScheduler scheduler;
+
+  private Sinks.Many<Event> aggregated;
+
+  private Sinks.Many<Event> windowed;
+
+  private final AtomicLong windows = new AtomicLong();
+
+  private Disposable subscriptions;
+
+  @Setup(Level.Trial)
+  public void setUp() {
+    scheduler = VirtualTimeScheduler.create();
+    Duration size = Duration.ofSeconds(windowSeconds);
+    Duration slide = Duration.ofSeconds(1);
+    aggregated = Sinks.many().unicast().onBackpressureError();
+    windowed = Sinks.many().unicast().onBackpressureError();
+    WindowAggregator<Event> aggregator = WindowAggregator.<Event>builder(
+            event -> event.at, event -> event.value)
+        .sliding(size, slide)
+        .scheduler(scheduler)
+        .build();
+    Disposable aggregating = aggregator.aggregate(aggregated.asFlux())
+        .subscribe(window -> windows.incrementAndGet());
+    Disposable reducing = windowed.asFlux()
+        .window(size, slide, scheduler)
+        .flatMap(window -> window.reduce(new Stats(), Stats::add), Integer.MAX_VALUE)
+        .subscribe(stats -> windows.incrementAndGet());
+    subscriptions = () -> {
+      aggregating.dispose();
+      reducing.dispose();
+    };
+  }
+
+  @TearDown(Level.Trial)
+  public void tearDown() {
+    subscriptions.dispose();
+    scheduler.dispose();
+  }
+
+  @Benchmark
+  @OperationsPerInvocation(EVENTS_PER_MS)
+  public void aggregator() {
+    millisecond(aggregated);
+  }
+
+  @Benchmark
+  @OperationsPerInvocation(EVENTS_PER_MS)
+  public void window() {
+    millisecond(windowed);
+  }
+
+  private void millisecond(Sinks.Many<Event> events) {
+    long now = scheduler.now(TimeUnit.MILLISECONDS);
+    for (int i = 0; i < EVENTS_PER_MS; i++) {
+      events.tryEmitNext(new Event(now, 1 + i % 100));
+    }
+    scheduler.advanceTimeBy(Duration.ofMillis(1));
+  }
+
+  /**
+   * a measure at a millisecond.
+   */
+  static final class Event {
+    final long at;
+
+    final double value;
+
+    Event(long at, double value) {
+      this.at = at;
+      this.value = value;
+    }
+  }
+
+  /**
+   * the reduction of a window of the baseline.
+   */
+  static final class Stats {
+    long count;
+
+    double sum;
+
+    double min = Double.POSITIVE_INFINITY;
+
+    double max = Double.NEGATIVE_INFINITY;
+
+    Stats add(Event event) {
+      count++;
+      sum += event.value;
+      min = Math.min(min, event.value);
+      max = Math.max(max, event.value);
+      return this;
+    }
+  }
+}
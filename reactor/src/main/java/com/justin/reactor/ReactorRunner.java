@@ -2,6 +2,7 @@ package com.justin.reactor;
 
 import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
+import org.springframework.boot.context.properties.ConfigurationPropertiesScan;
 
 /**
  * Description: runner of reactor server.
@@ -10,6 +11,7 @@ import org.springframework.boot.autoconfigure.SpringBootApplication;
  * @date 11/11/2022 11:13
  */
 @SpringBootApplication
+@ConfigurationPropertiesScan
 public class ReactorRunner {
   public static void main(String[] args) {
     SpringApplication.run(ReactorRunner.class, args);
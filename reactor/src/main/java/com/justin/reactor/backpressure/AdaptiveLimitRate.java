@@ -0,0 +1,336 @@
+package com.justin.reactor.backpressure;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.util.Queue;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicIntegerFieldUpdater;
+import java.util.concurrent.atomic.AtomicLongFieldUpdater;
+import java.util.function.Function;
+import java.util.function.LongSupplier;
+import org.reactivestreams.Subscription;
+import reactor.core.CoreSubscriber;
+import reactor.core.Exceptions;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Operators;
+import reactor.util.concurrent.Queues;
+import reactor.util.context.Context;
+
+/**
+ * Description: a limitRate() whose prefetch (the window) and low tide follow the consumer.
+ * <p>
+ * 1.like limitRate(), the upstream never has more than the window requested and not yet
+ * delivered, whatever the downstream demand. unlike it, the window is tuned at every replenish
+ * from two moving averages (ewma): the upstream latency, from a request to its first element,
+ * and the downstream processing time, the interval between two deliveries while elements were
+ * waiting in the queue.
+ * </p>
+ * <p>
+ * 2.their ratio is the number of elements the consumer gets through during one round trip to
+ * the upstream. the window is tuned like AIMD: it grows when the consumer starved since the last
+ * replenish (doubling until the first decrease, by minRate after), and is halved when it holds
+ * more than twice that ratio, i.e. when the queue only grows behind a slow consumer.
+ * </p>
+ * <p>
+ * 3.the low tide is the ratio as well, within [window / 4, window / 2]: the next request is sent
+ * early enough to arrive before the queue runs dry.
+ * </p>
+ * <p>
+ * 4.the current window is published as the gauge {name}.limitRate.window.
+ * </p>
+ *
+ * @author Justin_Zhang
+ * @date 10/18/2026 22:40
+ */
+public class AdaptiveLimitRate {
+  // weight of a new sample in the moving averages.
+  static final double ALPHA = 0.25;
+
+  private final int minRate;
+
+  private final int maxRate;
+
+  private final LongSupplier nanoClock;
+
+  private final AtomicInteger window;
+
+  AdaptiveLimitRate(int minRate, int maxRate, LongSupplier nanoClock) {
+    if (minRate <= 0 || maxRate < minRate) {
+      throw new IllegalArgumentException(
+          "rates must be 0 < minRate <= maxRate: " + minRate + ", " + maxRate);
+    }
+    this.minRate = minRate;
+    this.maxRate = maxRate;
+    this.nanoClock = nanoClock;
+    this.window = new AtomicInteger(minRate);
+  }
+
+  /**
+   * an adaptive limitRate to pass to transform().
+   *
+   * @param minRate the smallest window, the initial one
+   * @param maxRate the largest window, i.e. the most elements buffered
+   * @return the transformer
+   */
+  public static <T> Function<Flux<T>, Flux<T>> of(int minRate, int maxRate) {
+    return new AdaptiveLimitRate(minRate, maxRate, System::nanoTime).transformer();
+  }
+
+  /**
+   * an adaptive limitRate publishing its window.
+   *
+   * @param minRate  the smallest window, the initial one
+   * @param maxRate  the largest window, i.e. the most elements buffered
+   * @param registry the registry of the gauge
+   * @param name     the name of the pipeline, prefix of the gauge
+   * @return the transformer
+   */
+  public static <T> Function<Flux<T>, Flux<T>> of(int minRate, int maxRate,
+      MeterRegistry registry, String name) {
+    AdaptiveLimitRate limitRate = new AdaptiveLimitRate(minRate, maxRate, System::nanoTime);
+    limitRate.register(registry, name);
+    return limitRate.transformer();
+  }
+
+  void register(MeterRegistry registry, String name) {
+    Gauge.builder(name + ".limitRate.window", window, AtomicInteger::get)
+        .description("current prefetch of the adaptive limitRate, the last tuned subscription's")
+        .register(registry);
+  }
+
+  <T> Function<Flux<T>, Flux<T>> transformer() {
+    return flux -> Flux.from(Operators.<T, T>lift(
+        (scannable, actual) -> new AdaptiveSubscriber<>(actual, this)).apply(flux));
+  }
+
+  static final class AdaptiveSubscriber<T> implements CoreSubscriber<T>, Subscription {
+    @SuppressWarnings("rawtypes")
+    private static final AtomicIntegerFieldUpdater<AdaptiveSubscriber> WIP =
+        AtomicIntegerFieldUpdater.newUpdater(AdaptiveSubscriber.class, "wip");
+
+    @SuppressWarnings("rawtypes")
+    private static final AtomicLongFieldUpdater<AdaptiveSubscriber> REQUESTED =
+        AtomicLongFieldUpdater.newUpdater(AdaptiveSubscriber.class, "requested");
+
+    private final CoreSubscriber<? super T> actual;
+
+    private final AdaptiveLimitRate config;
+
+    private final Queue<T> queue;
+
+    private Subscription upstream;
+
+    // only touched inside the drain loop.
+    private int window;
+
+    private int lowTide;
+
+    // requested upstream and not delivered yet, i.e. in flight or queued.
+    private int outstanding;
+
+    private boolean decreased;
+
+    private boolean starved;
+
+    private long lastDeliveryAt;
+
+    private boolean queuedAfterLastDelivery;
+
+    private double processingNanos;
+
+    // set by the drain loop, read by onNext to time the round trip.
+    private volatile long requestedAt;
+
+    private volatile double latencyNanos;
+
+    private Throwable error;
+
+    private volatile boolean done;
+
+    private volatile boolean cancelled;
+
+    private volatile int wip;
+
+    private volatile long requested;
+
+    AdaptiveSubscriber(CoreSubscriber<? super T> actual, AdaptiveLimitRate config) {
+      this.actual = actual;
+      this.config = config;
+      this.queue = Queues.<T>get(config.maxRate).get();
+      this.window = config.minRate;
+      this.lowTide = window / 4;
+    }
+
+    @Override
+    public Context currentContext() {
+      return actual.currentContext();
+    }
+
+    @Override
+    public void onSubscribe(Subscription s) {
+      if (Operators.validate(upstream, s)) {
+        upstream = s;
+        outstanding = window;
+        actual.onSubscribe(this);
+        requestedAt = config.nanoClock.getAsLong();
+        s.request(window);
+      }
+    }
+
+    @Override
+    public void onNext(T t) {
+      if (done) {
+        Operators.onNextDropped(t, actual.currentContext());
+        return;
+      }
+      long at = requestedAt;
+      if (at != 0L) {
+        requestedAt = 0L;
+        latencyNanos = ewma(latencyNanos, config.nanoClock.getAsLong() - at);
+      }
+      if (!queue.offer(t)) {
+        upstream.cancel();
+        onError(Exceptions.failWithOverflow(Exceptions.BACKPRESSURE_ERROR_QUEUE_FULL));
+        return;
+      }
+      drain();
+    }
+
+    @Override
+    public void onError(Throwable t) {
+      if (done) {
+        Operators.onErrorDropped(t, actual.currentContext());
+        return;
+      }
+      error = t;
+      done = true;
+      drain();
+    }
+
+    @Override
+    public void onComplete() {
+      if (done) {
+        return;
+      }
+      done = true;
+      drain();
+    }
+
+    @Override
+    public void request(long n) {
+      if (Operators.validate(n)) {
+        Operators.addCap(REQUESTED, this, n);
+        drain();
+      }
+    }
+
+    @Override
+    public void cancel() {
+      if (cancelled) {
+        return;
+      }
+      cancelled = true;
+      upstream.cancel();
+      if (WIP.getAndIncrement(this) == 0) {
+        queue.clear();
+      }
+    }
+
+    private void drain() {
+      if (WIP.getAndIncrement(this) != 0) {
+        return;
+      }
+      int missed = 1;
+      for (;;) {
+        long r = requested;
+        long e = 0L;
+        while (e != r) {
+          if (cancelled) {
+            queue.clear();
+            return;
+          }
+          boolean d = done;
+          T t = queue.poll();
+          if (t == null) {
+            if (d) {
+              terminate();
+              return;
+            }
+            // the consumer has demand and nothing to process.
+            starved = true;
+            break;
+          }
+          deliver(t);
+          e++;
+          if (--outstanding <= lowTide && !done) {
+            replenish();
+          }
+        }
+        if (e == r) {
+          if (cancelled) {
+            queue.clear();
+            return;
+          }
+          if (done && queue.isEmpty()) {
+            terminate();
+            return;
+          }
+        }
+        if (e != 0L && r != Long.MAX_VALUE) {
+          REQUESTED.addAndGet(this, -e);
+        }
+        missed = WIP.addAndGet(this, -missed);
+        if (missed == 0) {
+          return;
+        }
+      }
+    }
+
+    private void deliver(T t) {
+      long now = config.nanoClock.getAsLong();
+      // an element waited for the consumer: the interval is its processing time.
+      if (queuedAfterLastDelivery && lastDeliveryAt != 0L) {
+        processingNanos = ewma(processingNanos, now - lastDeliveryAt);
+      }
+      actual.onNext(t);
+      lastDeliveryAt = config.nanoClock.getAsLong();
+      queuedAfterLastDelivery = !queue.isEmpty();
+    }
+
+    private void replenish() {
+      double roundTrip = processingNanos == 0 ? config.maxRate : latencyNanos / processingNanos;
+      if (starved) {
+        window = Math.min(config.maxRate, decreased ? window + config.minRate : window * 2);
+      } else if (window > 2 * roundTrip && window > config.minRate) {
+        window = Math.max(config.minRate, window / 2);
+        decreased = true;
+      }
+      starved = false;
+      lowTide = (int) Math.min(window / 2, Math.max(window / 4, Math.ceil(roundTrip)));
+      config.window.set(window);
+      int n = window - outstanding;
+      if (n > 0) {
+        // the round trip is timed only when nothing is in flight, otherwise the first element
+        // to come may answer an older request.
+        if (outstanding == queue.size()) {
+          requestedAt = config.nanoClock.getAsLong();
+        }
+        outstanding += n;
+        upstream.request(n);
+      }
+    }
+
+    private void terminate() {
+      Throwable t = error;
+      if (t != null) {
+        actual.onError(t);
+      } else {
+        actual.onComplete();
+      }
+    }
+
+    private static double ewma(double average, long sample) {
+      return average == 0 ? sample : average + ALPHA * (sample - average);
+    }
+  }
+}
@@ -0,0 +1,101 @@
+package com.justin.reactor.batch;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.function.ToIntFunction;
+
+/**
+ * Description: a batch handed to the writer of a {@link BatchingWriter}.
+ * <p>
+ * the batches are pooled: once the write of a batch completes it is cleared and filled again, a
+ * writer must not keep the batch or its items() after its Mono completed.
+ * </p>
+ *
+ * @author Justin_Zhang
+ * @date 10/19/2026 07:30
+ */
+public final class Batch<T> {
+  /**
+   * why a batch was flushed, the first bound reached.
+   */
+  public enum Reason {
+    /**
+     * maxCount items.
+     */
+    COUNT,
+    /**
+     * maxBytes bytes.
+     */
+    BYTES,
+    /**
+     * maxLatency since the first item.
+     */
+    LATENCY,
+    /**
+     * the source completed.
+     */
+    COMPLETE
+  }
+
+  private final ArrayList<T> items;
+
+  private final List<T> view;
+
+  private long bytes;
+
+  private Reason reason = Reason.COMPLETE;
+
+  Batch(int capacity) {
+    items = new ArrayList<>(capacity);
+    view = Collections.unmodifiableList(items);
+  }
+
+  /**
+   * the items, in the order of the source.
+   */
+  public List<T> items() {
+    return view;
+  }
+
+  public int size() {
+    return items.size();
+  }
+
+  /**
+   * the bytes of the items, as the sizer of the writer counts them.
+   */
+  public long bytes() {
+    return bytes;
+  }
+
+  public Reason reason() {
+    return reason;
+  }
+
+  boolean isEmpty() {
+    return items.isEmpty();
+  }
+
+  void add(T item, ToIntFunction<? super T> sizer) {
+    items.add(item);
+    bytes += sizer.applyAsInt(item);
+  }
+
+  void seal(Reason reason) {
+    this.reason = reason;
+  }
+
+  /**
+   * back to the pool: the capacity of the list is kept.
+   */
+  void clear() {
+    items.clear();
+    bytes = 0;
+  }
+
+  @Override
+  public String toString() {
+    return "Batch(" + items.size() + " items, " + bytes + " bytes, " + reason + ")";
+  }
+}
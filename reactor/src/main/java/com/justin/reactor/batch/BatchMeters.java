@@ -0,0 +1,45 @@
+package com.justin.reactor.batch;
+
+import com.justin.reactor.metrics.MeterRegistries;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import java.util.EnumMap;
+import java.util.Map;
+
+/**
+ * Description: the meters of one batching writer.
+ * <p>
+ * {name}.batch.flushes counts the batches written, tagged with the reason of their flush: mostly
+ * latency means the bounds are never reached, the batches are small. {name}.batch.size is the
+ * items per batch and {name}.batch.write the time of the writes.
+ * </p>
+ *
+ * @author Justin_Zhang
+ * @date 10/19/2026 07:30
+ */
+class BatchMeters {
+  static final BatchMeters NOOP = new BatchMeters(MeterRegistries.noop(), "noop");
+
+  final Map<Batch.Reason, Counter> flushes = new EnumMap<>(Batch.Reason.class);
+
+  final DistributionSummary size;
+
+  final Timer write;
+
+  BatchMeters(MeterRegistry registry, String name) {
+    for (Batch.Reason reason : Batch.Reason.values()) {
+      flushes.put(reason, Counter.builder(name + ".batch.flushes")
+          .description("batches flushed to the writer")
+          .tag("reason", reason.name().toLowerCase())
+          .register(registry));
+    }
+    size = DistributionSummary.builder(name + ".batch.size")
+        .description("items per batch")
+        .register(registry);
+    write = Timer.builder(name + ".batch.write")
+        .description("time of the writes of the batches")
+        .register(registry);
+  }
+}
@@ -0,0 +1,500 @@
+package com.justin.reactor.batch;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import java.time.Duration;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+import java.util.function.ToIntFunction;
+import org.reactivestreams.Publisher;
+import org.reactivestreams.Subscription;
+import reactor.core.Disposable;
+import reactor.core.publisher.BaseSubscriber;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.MonoSink;
+import reactor.core.scheduler.Scheduler;
+import reactor.core.scheduler.Schedulers;
+import reactor.util.annotation.Nullable;
+
+/**
+ * Description: a stage writing a Flux to a downstream sink by batches, a batch being flushed at
+ * maxCount items, maxBytes bytes or maxLatency after its first item, whichever comes first.
+ * <p>
+ * 1.buffer(n) only flushes on count: a slow source keeps its items waiting for the batch to fill,
+ * and bufferTimeout() doesn't know the bytes. here a batch also leaves when it's big enough for
+ * the sink, or when its first item waited long enough.
+ * </p>
+ * <p>
+ * 2.at most maxInFlight batches are written at once, the batches flushed meanwhile wait for a
+ * write. the source is requested maxCount items, then as many as the batches handed to the writer
+ * hold: at most maxCount items wait in the stage, a slow writer backpressures the source instead
+ * of piling up batches. the bounds are hard ones, a batch waiting for a write doesn't grow.
+ * </p>
+ * <p>
+ * 3.the batches are pooled: a written batch is cleared and filled again, once the pool holds the
+ * batches written, waiting and filling no list is allocated anymore.
+ * </p>
+ * <p>
+ * 4.a writer error cancels the source and fails the write once the other writes are done; so
+ * does a source error, the items not flushed yet are dropped.
+ * </p>
+ *
+ * @author Justin_Zhang
+ * @date 10/19/2026 07:35
+ */
+public final class BatchingWriter<T> {
+  private final Function<? super Batch<T>, ? extends Mono<Void>> writer;
+
+  private final int maxCount;
+
+  private final long maxBytes;
+
+  private final ToIntFunction<? super T> sizer;
+
+  @Nullable
+  private final Duration maxLatency;
+
+  private final int maxInFlight;
+
+  private final Scheduler scheduler;
+
+  private final BatchMeters meters;
+
+  private BatchingWriter(Builder<T> builder) {
+    this.writer = builder.writer;
+    this.maxCount = builder.maxCount;
+    this.maxBytes = builder.maxBytes;
+    this.sizer = builder.sizer;
+    this.maxLatency = builder.maxLatency;
+    this.maxInFlight = builder.maxInFlight;
+    this.scheduler = builder.scheduler;
+    this.meters = builder.registry == null
+        ? BatchMeters.NOOP
+        : new BatchMeters(builder.registry, builder.name);
+  }
+
+  /**
+   * a stage handing its batches to the writer, the batch being written until the Mono completes.
+   */
+  public static <T> Builder<T> builder(Function<? super Batch<T>, ? extends Mono<Void>> writer) {
+    return new Builder<>(Objects.requireNonNull(writer, "writer"));
+  }
+
+  /**
+   * write the source by batches.
+   *
+   * @param source the items to write
+   * @return completes once the last batch is written, fails with the first error
+   */
+  public Mono<Void> write(Publisher<? extends T> source) {
+    return Mono.create(sink -> {
+      Stage stage = new Stage(sink);
+      sink.onCancel(stage::cancelAll);
+      Flux.<T>from(source).subscribe(stage);
+    });
+  }
+
+  /**
+   * the writes of one subscription to write().
+   */
+  private final class Stage extends BaseSubscriber<T> {
+    private final MonoSink<Void> sink;
+
+    // the state below is guarded by this, the calls to the source, the writer and the sink are
+    // made outside of the lock.
+    private final ArrayDeque<Batch<T>> pool = new ArrayDeque<>();
+
+    // the batches flushed while maxInFlight writes run, oldest first.
+    private final ArrayDeque<Batch<T>> ready = new ArrayDeque<>();
+
+    private final Set<Write> writes = new HashSet<>();
+
+    private Batch<T> current;
+
+    // bumped by every new current batch: a late timer of a batch gone is ignored.
+    private long generation;
+
+    @Nullable
+    private Disposable timer;
+
+    private boolean done;
+
+    @Nullable
+    private Throwable error;
+
+    private boolean terminated;
+
+    Stage(MonoSink<Void> sink) {
+      this.sink = sink;
+      this.current = new Batch<>(maxCount);
+    }
+
+    @Override
+    protected void hookOnSubscribe(Subscription subscription) {
+      // the items requested and not handed to the writer yet, filling or ready, are maxCount:
+      // a batch handed to the writer is requested again.
+      request(maxCount);
+    }
+
+    @Override
+    protected void hookOnNext(T item) {
+      Flush flush = null;
+      long armed = -1;
+      synchronized (this) {
+        if (terminated || error != null) {
+          return;
+        }
+        if (current.isEmpty() && maxLatency != null) {
+          armed = generation;
+        }
+        current.add(item, sizer);
+        if (current.size() >= maxCount) {
+          flush = flush(Batch.Reason.COUNT);
+        } else if (current.bytes() >= maxBytes) {
+          flush = flush(Batch.Reason.BYTES);
+        }
+      }
+      if (armed >= 0 && flush == null) {
+        arm(armed);
+      }
+      run(flush);
+    }
+
+    @Override
+    protected void hookOnComplete() {
+      Flush flush = null;
+      synchronized (this) {
+        done = true;
+        if (!current.isEmpty()) {
+          flush = flush(Batch.Reason.COMPLETE);
+        }
+      }
+      run(flush);
+      terminateIfDone();
+    }
+
+    @Override
+    protected void hookOnError(Throwable throwable) {
+      synchronized (this) {
+        done = true;
+        if (error == null) {
+          error = throwable;
+        }
+        discard();
+      }
+      terminateIfDone();
+    }
+
+    /**
+     * the timer of the first item of the current batch.
+     */
+    private void arm(long armed) {
+      Disposable scheduled = scheduler.schedule(() -> onLatency(armed), maxLatency.toNanos(),
+          TimeUnit.NANOSECONDS);
+      synchronized (this) {
+        if (generation == armed && !terminated) {
+          timer = scheduled;
+          return;
+        }
+      }
+      // the batch left already.
+      scheduled.dispose();
+    }
+
+    private void onLatency(long armed) {
+      Flush flush = null;
+      synchronized (this) {
+        if (generation == armed && !current.isEmpty() && !terminated && error == null) {
+          flush = flush(Batch.Reason.LATENCY);
+        }
+      }
+      run(flush);
+    }
+
+    /**
+     * seal the current batch, and hand the oldest ready one to the writer if a write is allowed.
+     */
+    private Flush flush(Batch.Reason reason) {
+      current.seal(reason);
+      ready.offer(current);
+      Batch<T> next = pool.poll();
+      current = next == null ? new Batch<>(maxCount) : next;
+      generation++;
+      Disposable expired = timer;
+      timer = null;
+      return new Flush(dispatch(), expired);
+    }
+
+    @Nullable
+    private Write dispatch() {
+      if (writes.size() >= maxInFlight || ready.isEmpty()) {
+        return null;
+      }
+      Write write = new Write(ready.poll());
+      writes.add(write);
+      return write;
+    }
+
+    /**
+     * the items not written anymore, after an error: their batches back to the pool.
+     */
+    private void discard() {
+      current.clear();
+      for (Batch<T> batch : ready) {
+        batch.clear();
+        pool.offer(batch);
+      }
+      ready.clear();
+    }
+
+    private void run(@Nullable Flush flush) {
+      if (flush == null) {
+        return;
+      }
+      if (flush.timer != null) {
+        flush.timer.dispose();
+      }
+      Write write = flush.write;
+      if (write == null) {
+        return;
+      }
+      Batch<T> batch = write.batch;
+      int size = batch.size();
+      meters.flushes.get(batch.reason()).increment();
+      meters.size.record(size);
+      Mono<Void> mono;
+      try {
+        mono = Objects.requireNonNull(writer.apply(batch), "the writer returned null");
+      } catch (Throwable e) {
+        written(write, e);
+        return;
+      }
+      mono.subscribe(write);
+      // the items of the batch left the stage, as many can come in. a no-op once the source is
+      // done or cancelled.
+      request(size);
+    }
+
+    /**
+     * a write is done: its batch back to the pool, and the oldest ready batch to the writer.
+     */
+    private void written(Write write, @Nullable Throwable failure) {
+      Flush flush = null;
+      boolean cancel = false;
+      synchronized (this) {
+        if (!writes.remove(write)) {
+          return;
+        }
+        write.batch.clear();
+        pool.offer(write.batch);
+        if (failure != null && error == null) {
+          error = failure;
+          cancel = !done;
+          discard();
+        }
+        if (error == null) {
+          Write next = dispatch();
+          if (next != null) {
+            flush = new Flush(next, null);
+          }
+        }
+      }
+      if (cancel) {
+        cancel();
+      }
+      run(flush);
+      terminateIfDone();
+    }
+
+    private void terminateIfDone() {
+      Throwable failure;
+      Disposable expired;
+      synchronized (this) {
+        if (terminated || !writes.isEmpty()
+            || (error == null && (!done || !current.isEmpty() || !ready.isEmpty()))) {
+          return;
+        }
+        terminated = true;
+        failure = error;
+        expired = timer;
+        timer = null;
+      }
+      if (expired != null) {
+        expired.dispose();
+      }
+      if (failure != null) {
+        sink.error(failure);
+      } else {
+        sink.success();
+      }
+    }
+
+    /**
+     * the subscriber of the write Mono cancelled: stop the source, the timer and the writes.
+     */
+    void cancelAll() {
+      List<Write> cancelled;
+      Disposable expired;
+      synchronized (this) {
+        terminated = true;
+        cancelled = new ArrayList<>(writes);
+        writes.clear();
+        expired = timer;
+        timer = null;
+      }
+      cancel();
+      if (expired != null) {
+        expired.dispose();
+      }
+      cancelled.forEach(Write::dispose);
+    }
+
+    /**
+     * the subscription to the Mono of the writer for one batch.
+     */
+    private final class Write extends BaseSubscriber<Void> {
+      final Batch<T> batch;
+
+      private long start;
+
+      Write(Batch<T> batch) {
+        this.batch = batch;
+      }
+
+      @Override
+      protected void hookOnSubscribe(Subscription subscription) {
+        start = System.nanoTime();
+        subscription.request(Long.MAX_VALUE);
+      }
+
+      @Override
+      protected void hookOnComplete() {
+        meters.write.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+        written(this, null);
+      }
+
+      @Override
+      protected void hookOnError(Throwable throwable) {
+        written(this, throwable);
+      }
+    }
+
+    /**
+     * the batch handed to the writer if any, and the timer of the batch sealed.
+     */
+    private final class Flush {
+      @Nullable
+      final Write write;
+
+      @Nullable
+      final Disposable timer;
+
+      Flush(@Nullable Write write, @Nullable Disposable timer) {
+        this.write = write;
+        this.timer = timer;
+      }
+    }
+  }
+
+  /**
+   * Description: the bounds, in-flight writes and metrics of a {@link BatchingWriter}.
+   */
+  public static final class Builder<T> {
+    private final Function<? super Batch<T>, ? extends Mono<Void>> writer;
+
+    private int maxCount = 256;
+
+    private long maxBytes = Long.MAX_VALUE;
+
+    private ToIntFunction<? super T> sizer = item -> 0;
+
+    @Nullable
+    private Duration maxLatency;
+
+    private int maxInFlight = 1;
+
+    private Scheduler scheduler = Schedulers.parallel();
+
+    @Nullable
+    private MeterRegistry registry;
+
+    @Nullable
+    private String name;
+
+    private Builder(Function<? super Batch<T>, ? extends Mono<Void>> writer) {
+      this.writer = writer;
+    }
+
+    /**
+     * flush at maxCount items, 256 by default.
+     */
+    public Builder<T> maxCount(int maxCount) {
+      if (maxCount <= 0) {
+        throw new IllegalArgumentException("maxCount must be positive: " + maxCount);
+      }
+      this.maxCount = maxCount;
+      return this;
+    }
+
+    /**
+     * flush at maxBytes, an item weighing sizer(item) bytes; no bound by default.
+     */
+    public Builder<T> maxBytes(long maxBytes, ToIntFunction<? super T> sizer) {
+      if (maxBytes <= 0) {
+        throw new IllegalArgumentException("maxBytes must be positive: " + maxBytes);
+      }
+      this.maxBytes = maxBytes;
+      this.sizer = Objects.requireNonNull(sizer, "sizer");
+      return this;
+    }
+
+    /**
+     * flush maxLatency after the first item of the batch; no bound by default.
+     */
+    public Builder<T> maxLatency(Duration maxLatency) {
+      if (maxLatency.isNegative() || maxLatency.isZero()) {
+        throw new IllegalArgumentException("maxLatency must be positive: " + maxLatency);
+      }
+      this.maxLatency = maxLatency;
+      return this;
+    }
+
+    /**
+     * write at most maxInFlight batches at once, 1 by default.
+     */
+    public Builder<T> maxInFlight(int maxInFlight) {
+      if (maxInFlight <= 0) {
+        throw new IllegalArgumentException("maxInFlight must be positive: " + maxInFlight);
+      }
+      this.maxInFlight = maxInFlight;
+      return this;
+    }
+
+    /**
+     * the scheduler of the maxLatency timers.
+     */
+    public Builder<T> scheduler(Scheduler scheduler) {
+      this.scheduler = Objects.requireNonNull(scheduler, "scheduler");
+      return this;
+    }
+
+    /**
+     * publish the meters {name}.batch.flushes, .size and .write.
+     */
+    public Builder<T> metrics(MeterRegistry registry, String name) {
+      this.registry = Objects.requireNonNull(registry, "registry");
+      this.name = Objects.requireNonNull(name, "name");
+      return this;
+    }
+
+    public BatchingWriter<T> build() {
+      return new BatchingWriter<>(this);
+    }
+  }
+}
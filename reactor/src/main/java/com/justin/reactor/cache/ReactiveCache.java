@@ -0,0 +1,228 @@
+package com.justin.reactor.cache;
+
+import com.github.benmanes.caffeine.cache.AsyncCacheLoader;
+import com.github.benmanes.caffeine.cache.AsyncLoadingCache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Ticker;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import java.time.Duration;
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+import java.util.function.ToIntBiFunction;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Scheduler;
+import reactor.core.scheduler.Schedulers;
+import reactor.util.annotation.Nullable;
+
+/**
+ * Description: an async loading cache returning Mono, on top of a Caffeine AsyncLoadingCache.
+ * <p>
+ * 1.the entries are bounded by weight, evicted and admitted by W-TinyLFU: a new entry replaces a
+ * victim only when it was requested more often lately, a scan of cold keys doesn't flush the hot
+ * ones out as in a LRU.
+ * </p>
+ * <p>
+ * 2.refresh ahead: an entry read refreshAfterWrite after it was loaded is reloaded in the
+ * background, the read gets the current value at once. a hot entry is never seen expired, a cold
+ * one expires expireAfterWrite after it was loaded.
+ * </p>
+ * <p>
+ * 3.the loads and the reloads are subscribed on the scheduler, Schedulers.parallel() by default,
+ * boundedElastic() for a blocking loader. the concurrent loads of a key share one subscription,
+ * cancelling a get doesn't cancel the load: the other gets still wait for it.
+ * </p>
+ * <p>
+ * 4.metrics(registry, name) publishes the Micrometer cache meters: cache.gets tagged hit or miss,
+ * cache.evictions, cache.eviction.weight, cache.size and cache.load.duration, tagged cache=name.
+ * </p>
+ * <p>
+ * 5.the clock is the one of Schedulers.parallel(), a VirtualTimeScheduler in tests.
+ * </p>
+ *
+ * @author Justin_Zhang
+ * @date 10/19/2026 06:50
+ */
+public final class ReactiveCache<K, V> {
+  private final AsyncLoadingCache<K, V> cache;
+
+  private ReactiveCache(AsyncLoadingCache<K, V> cache) {
+    this.cache = cache;
+  }
+
+  /**
+   * a cache loading its entries with the loader, an empty Mono meaning no value.
+   */
+  public static <K, V> Builder<K, V> builder(Function<? super K, ? extends Mono<V>> loader) {
+    return new Builder<>(Objects.requireNonNull(loader, "loader"));
+  }
+
+  /**
+   * the value of the key, loaded when absent.
+   */
+  public Mono<V> get(K key) {
+    Objects.requireNonNull(key, "key");
+    return Mono.defer(() -> {
+      CompletableFuture<V> future = cache.get(key);
+      // a hit: the value without the subscription to the future.
+      if (future.isDone() && !future.isCompletedExceptionally()) {
+        return Mono.justOrEmpty(future.join());
+      }
+      return Mono.fromFuture(future, true);
+    });
+  }
+
+  /**
+   * the value of the key, empty when absent: nothing is loaded.
+   */
+  public Mono<V> getIfPresent(K key) {
+    return Mono.defer(() -> {
+      CompletableFuture<V> future = cache.getIfPresent(key);
+      return future == null ? Mono.empty() : Mono.fromFuture(future, true);
+    });
+  }
+
+  public void put(K key, V value) {
+    cache.put(key, CompletableFuture.completedFuture(value));
+  }
+
+  public void invalidate(K key) {
+    cache.synchronous().invalidate(key);
+  }
+
+  public long estimatedSize() {
+    return cache.synchronous().estimatedSize();
+  }
+
+  /**
+   * run the pending evictions, done by the executor otherwise.
+   */
+  void cleanUp() {
+    cache.synchronous().cleanUp();
+  }
+
+  /**
+   * Description: the bounds, expiration, refresh and metrics of a {@link ReactiveCache}.
+   */
+  public static final class Builder<K, V> {
+    private final Function<? super K, ? extends Mono<V>> loader;
+
+    private long maximumWeight;
+
+    @Nullable
+    private ToIntBiFunction<? super K, ? super V> weigher;
+
+    @Nullable
+    private Duration expireAfterWrite;
+
+    @Nullable
+    private Duration refreshAfterWrite;
+
+    private Scheduler scheduler = Schedulers.parallel();
+
+    private Ticker ticker = () -> Schedulers.parallel().now(TimeUnit.NANOSECONDS);
+
+    @Nullable
+    private MeterRegistry registry;
+
+    @Nullable
+    private String name;
+
+    private Builder(Function<? super K, ? extends Mono<V>> loader) {
+      this.loader = loader;
+    }
+
+    /**
+     * at most maximumSize entries.
+     */
+    public Builder<K, V> maximumSize(long maximumSize) {
+      return maximumWeight(maximumSize, (key, value) -> 1);
+    }
+
+    /**
+     * at most maximumWeight of entries, each weighing weigher(key, value).
+     */
+    public Builder<K, V> maximumWeight(long maximumWeight,
+        ToIntBiFunction<? super K, ? super V> weigher) {
+      this.maximumWeight = maximumWeight;
+      this.weigher = Objects.requireNonNull(weigher, "weigher");
+      return this;
+    }
+
+    /**
+     * an entry expires that long after it was loaded.
+     */
+    public Builder<K, V> expireAfterWrite(Duration expireAfterWrite) {
+      this.expireAfterWrite = expireAfterWrite;
+      return this;
+    }
+
+    /**
+     * an entry read that long after it was loaded is reloaded in the background, shorter than
+     * expireAfterWrite.
+     */
+    public Builder<K, V> refreshAfterWrite(Duration refreshAfterWrite) {
+      this.refreshAfterWrite = refreshAfterWrite;
+      return this;
+    }
+
+    /**
+     * the scheduler of the loads, reloads and evictions.
+     */
+    public Builder<K, V> scheduler(Scheduler scheduler) {
+      this.scheduler = Objects.requireNonNull(scheduler, "scheduler");
+      return this;
+    }
+
+    /**
+     * publish the cache meters, tagged cache=name.
+     */
+    public Builder<K, V> metrics(MeterRegistry registry, String name) {
+      this.registry = Objects.requireNonNull(registry, "registry");
+      this.name = Objects.requireNonNull(name, "name");
+      return this;
+    }
+
+    Builder<K, V> ticker(Ticker ticker) {
+      this.ticker = ticker;
+      return this;
+    }
+
+    public ReactiveCache<K, V> build() {
+      if (refreshAfterWrite != null && expireAfterWrite != null
+          && refreshAfterWrite.compareTo(expireAfterWrite) >= 0) {
+        throw new IllegalArgumentException("refreshAfterWrite must be shorter than "
+            + "expireAfterWrite: " + refreshAfterWrite + ", " + expireAfterWrite);
+      }
+      Scheduler scheduler = this.scheduler;
+      Executor executor = scheduler::schedule;
+      Caffeine<Object, Object> caffeine = Caffeine.newBuilder()
+          .executor(executor)
+          .ticker(ticker);
+      if (expireAfterWrite != null) {
+        caffeine.expireAfterWrite(expireAfterWrite);
+      }
+      if (refreshAfterWrite != null) {
+        caffeine.refreshAfterWrite(refreshAfterWrite);
+      }
+      if (registry != null) {
+        caffeine.recordStats();
+      }
+      Function<? super K, ? extends Mono<V>> loader = this.loader;
+      AsyncCacheLoader<K, V> asyncLoader = (key, loadExecutor) ->
+          Mono.defer(() -> loader.apply(key)).subscribeOn(scheduler).toFuture();
+      ToIntBiFunction<? super K, ? super V> weigher = this.weigher;
+      AsyncLoadingCache<K, V> cache = weigher == null
+          ? caffeine.buildAsync(asyncLoader)
+          : caffeine.maximumWeight(maximumWeight).<K, V>weigher(weigher::applyAsInt)
+              .buildAsync(asyncLoader);
+      if (registry != null) {
+        CaffeineCacheMetrics.monitor(registry, cache, name);
+      }
+      return new ReactiveCache<>(cache);
+    }
+  }
+}
@@ -0,0 +1,179 @@
+package com.justin.reactor.cache;
+
+import java.time.Duration;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+import reactor.core.publisher.BaseSubscriber;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.Sinks;
+import reactor.core.scheduler.Schedulers;
+import reactor.util.annotation.Nullable;
+
+/**
+ * Description: single flight lookups: the concurrent lookups of one key share one subscription
+ * to the loader, its value or error goes to all of them.
+ * <p>
+ * 1.publish().autoConnect() or share() share one source, here a flight is shared per key: the
+ * first lookup of a key subscribes to the loader, the next ones wait for its result, the flight
+ * ends with it. a hot key hit by thousands of identical lookups costs one upstream call per
+ * latency of the upstream.
+ * </p>
+ * <p>
+ * 2.a flight is reference counted: cancelled by all its lookups, the upstream call is cancelled.
+ * </p>
+ * <p>
+ * 3.with cache(ttl, maximumSize), the values stay in a {@link TtlCache} behind the flights: the
+ * lookups within ttl don't call the loader at all. the errors and empty results are not cached.
+ * </p>
+ * <p>
+ * 4.the loader is subscribed without the context of the lookups, a flight serves many of them.
+ * </p>
+ *
+ * @author Justin_Zhang
+ * @date 10/19/2026 06:35
+ */
+public final class SingleFlight<K, V> {
+  private final Function<? super K, ? extends Mono<? extends V>> loader;
+
+  @Nullable
+  private final TtlCache<K, V> cache;
+
+  private final ConcurrentHashMap<K, Flight> flights = new ConcurrentHashMap<>();
+
+  private SingleFlight(Function<? super K, ? extends Mono<? extends V>> loader,
+      @Nullable TtlCache<K, V> cache) {
+    this.loader = loader;
+    this.cache = cache;
+  }
+
+  /**
+   * single flight lookups, without cache.
+   *
+   * @param loader the upstream lookup of a key
+   * @return the lookups, to share between the callers of the upstream
+   */
+  public static <K, V> SingleFlight<K, V> of(
+      Function<? super K, ? extends Mono<? extends V>> loader) {
+    return new SingleFlight<>(Objects.requireNonNull(loader, "loader"), null);
+  }
+
+  /**
+   * keep the values ttl after they were loaded, at most maximumSize of them.
+   */
+  public SingleFlight<K, V> cache(Duration ttl, int maximumSize) {
+    return new SingleFlight<>(loader, new TtlCache<>(ttl.toMillis(), maximumSize,
+        () -> Schedulers.parallel().now(TimeUnit.MILLISECONDS)));
+  }
+
+  /**
+   * look the key up: from the cache, the flight of the key or a new flight.
+   */
+  public Mono<V> get(K key) {
+    Objects.requireNonNull(key, "key");
+    return Mono.defer(() -> {
+      if (cache != null) {
+        V cached = cache.get(key);
+        if (cached != null) {
+          return Mono.just(cached);
+        }
+      }
+      Flight flight = join(key);
+      return flight.result.asMono().doOnCancel(flight::leave);
+    });
+  }
+
+  /**
+   * forget the cached value of the key, the flight in progress is not affected.
+   */
+  public void invalidate(K key) {
+    if (cache != null) {
+      cache.invalidate(key);
+    }
+  }
+
+  int inFlight() {
+    return flights.size();
+  }
+
+  private Flight join(K key) {
+    for (;;) {
+      Flight flight = flights.computeIfAbsent(key, Flight::new);
+      if (flight.tryJoin()) {
+        flight.start();
+        return flight;
+      }
+      // cancelled by all its lookups, not removed yet.
+      flights.remove(key, flight);
+    }
+  }
+
+  /**
+   * the upstream call of one key, subscribed by its first lookup.
+   */
+  private final class Flight extends BaseSubscriber<V> {
+    final K key;
+
+    final Sinks.One<V> result = Sinks.one();
+
+    // the lookups waiting for the result, -1 once all of them cancelled.
+    final AtomicInteger waiters = new AtomicInteger();
+
+    final AtomicBoolean started = new AtomicBoolean();
+
+    Flight(K key) {
+      this.key = key;
+    }
+
+    boolean tryJoin() {
+      for (;;) {
+        int current = waiters.get();
+        if (current < 0) {
+          return false;
+        }
+        if (waiters.compareAndSet(current, current + 1)) {
+          return true;
+        }
+      }
+    }
+
+    void start() {
+      if (started.compareAndSet(false, true)) {
+        Mono.defer(() -> loader.apply(key)).subscribe(this);
+      }
+    }
+
+    void leave() {
+      // a lookup joining in between keeps the flight.
+      if (waiters.decrementAndGet() == 0 && waiters.compareAndSet(0, -1)) {
+        flights.remove(key, this);
+        dispose();
+      }
+    }
+
+    @Override
+    protected void hookOnNext(V value) {
+      // cached before the flight ends: the next lookup finds one or the other.
+      if (cache != null) {
+        cache.put(key, value);
+      }
+      flights.remove(key, this);
+      result.tryEmitValue(value);
+    }
+
+    @Override
+    protected void hookOnComplete() {
+      flights.remove(key, this);
+      result.tryEmitEmpty();
+    }
+
+    @Override
+    protected void hookOnError(Throwable throwable) {
+      flights.remove(key, this);
+      result.tryEmitError(throwable);
+    }
+  }
+}
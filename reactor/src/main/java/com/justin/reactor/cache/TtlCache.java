@@ -0,0 +1,90 @@
+package com.justin.reactor.cache;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.function.LongSupplier;
+import reactor.util.annotation.Nullable;
+
+/**
+ * Description: a cache of values expiring ttl after they were written, evicting the least
+ * recently read entry above maximumSize.
+ * <p>
+ * 1.an access ordered LinkedHashMap under a lock: a read moves the entry to the tail, the eldest
+ * is evicted on write. the expired entries are removed when read, or evicted as the eldest.
+ * </p>
+ * <p>
+ * 2.the clock is the one of the caller, Schedulers.parallel() for {@link SingleFlight}.
+ * </p>
+ *
+ * @author Justin_Zhang
+ * @date 10/19/2026 06:30
+ */
+class TtlCache<K, V> {
+  private final long ttlMillis;
+
+  private final LongSupplier millisClock;
+
+  // guarded by itself.
+  private final LinkedHashMap<K, Entry<V>> entries;
+
+  TtlCache(long ttlMillis, int maximumSize, LongSupplier millisClock) {
+    if (ttlMillis <= 0 || maximumSize <= 0) {
+      throw new IllegalArgumentException(
+          "ttl and maximumSize must be positive: " + ttlMillis + "ms, " + maximumSize);
+    }
+    this.ttlMillis = ttlMillis;
+    this.millisClock = millisClock;
+    this.entries = new LinkedHashMap<>(16, 0.75f, true) {
+      @Override
+      protected boolean removeEldestEntry(Map.Entry<K, Entry<V>> eldest) {
+        return size() > maximumSize;
+      }
+    };
+  }
+
+  @Nullable
+  V get(K key) {
+    long now = millisClock.getAsLong();
+    synchronized (entries) {
+      Entry<V> entry = entries.get(key);
+      if (entry == null) {
+        return null;
+      }
+      if (now - entry.writtenAt >= ttlMillis) {
+        entries.remove(key);
+        return null;
+      }
+      return entry.value;
+    }
+  }
+
+  void put(K key, V value) {
+    Entry<V> entry = new Entry<>(value, millisClock.getAsLong());
+    synchronized (entries) {
+      entries.put(key, entry);
+    }
+  }
+
+  void invalidate(K key) {
+    synchronized (entries) {
+      entries.remove(key);
+    }
+  }
+
+  int size() {
+    synchronized (entries) {
+      return entries.size();
+    }
+  }
+
+  private static final class Entry<V> {
+    final V value;
+
+    final long writtenAt;
+
+    Entry(V value, long writtenAt) {
+      this.value = value;
+      this.writtenAt = writtenAt;
+    }
+  }
+}
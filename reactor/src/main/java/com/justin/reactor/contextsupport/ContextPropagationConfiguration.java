@@ -0,0 +1,36 @@
+package com.justin.reactor.contextsupport;
+
+import javax.annotation.PostConstruct;
+import javax.annotation.PreDestroy;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Description: install the context propagation at startup, and the filter of the request ids.
+ *
+ * @author Justin_Zhang
+ * @date 10/19/2026 08:20
+ */
+@Configuration
+public class ContextPropagationConfiguration {
+  private final ContextPropagationProperties properties;
+
+  public ContextPropagationConfiguration(ContextPropagationProperties properties) {
+    this.properties = properties;
+  }
+
+  @PostConstruct
+  public void install() {
+    ContextPropagationSupport.install(properties.getMdcKeys());
+  }
+
+  @Bean
+  public RequestIdWebFilter requestIdWebFilter() {
+    return new RequestIdWebFilter(properties.getRequestIdHeader());
+  }
+
+  @PreDestroy
+  public void uninstall() {
+    ContextPropagationSupport.uninstall();
+  }
+}
@@ -0,0 +1,26 @@
+package com.justin.reactor.contextsupport;
+
+import java.util.ArrayList;
+import java.util.List;
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * Description: properties of the context propagation (reactor.context.*).
+ *
+ * @author Justin_Zhang
+ * @date 10/19/2026 08:15
+ */
+@Data
+@ConfigurationProperties(prefix = "reactor.context")
+public class ContextPropagationProperties {
+  /**
+   * the MDC keys restored on every thread of a pipeline, from the Reactor Context.
+   */
+  private List<String> mdcKeys = new ArrayList<>(List.of(RequestIdWebFilter.KEY));
+
+  /**
+   * the header of the request id, generated when absent.
+   */
+  private String requestIdHeader = "X-Request-Id";
+}
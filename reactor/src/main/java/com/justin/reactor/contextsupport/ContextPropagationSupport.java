@@ -0,0 +1,70 @@
+package com.justin.reactor.contextsupport;
+
+import io.micrometer.context.ContextRegistry;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import lombok.extern.slf4j.Slf4j;
+import reactor.core.publisher.Hooks;
+
+/**
+ * Description: restore the MDC and the trace id of a pipeline on every thread it runs on.
+ * <p>
+ * 1.install() registers an {@link MdcAccessor} per MDC key and the {@link TraceContext} in the
+ * global ContextRegistry, the one contextCapture() and the hooks of reactor read: registering
+ * them in a new ContextRegistry() captures nothing.
+ * </p>
+ * <p>
+ * 2.then Hooks.enableAutomaticContextPropagation(): block() and subscribe() capture these
+ * ThreadLocals into the Reactor Context, and every operator delivering a signal on another
+ * thread, after a publishOn(), a delay or a netty event loop, sets them from the Context first
+ * and resets them after. a value written by contextWrite(Context.of("requestId", id)) is in the
+ * MDC of every log of the pipeline.
+ * </p>
+ * <p>
+ * 3.the hook costs every signal a lookup of the registered keys, see
+ * ContextPropagationBenchmark; uninstall() removes it with the accessors.
+ * </p>
+ *
+ * @author Justin_Zhang
+ * @date 10/19/2026 08:15
+ */
+@Slf4j
+public final class ContextPropagationSupport {
+  // guarded by the class.
+  private static final List<String> REGISTERED = new ArrayList<>();
+
+  private ContextPropagationSupport() {
+  }
+
+  /**
+   * register the accessors of the MDC keys and of the trace id, then enable the automatic
+   * propagation. installing again replaces the keys.
+   */
+  public static synchronized void install(Collection<String> mdcKeys) {
+    ContextRegistry registry = ContextRegistry.getInstance();
+    removeAccessors(registry);
+    for (String key : mdcKeys) {
+      registry.registerThreadLocalAccessor(new MdcAccessor(key));
+      REGISTERED.add(key);
+    }
+    registry.registerThreadLocalAccessor(TraceContext.KEY, TraceContext::current,
+        TraceContext::set, TraceContext::clear);
+    REGISTERED.add(TraceContext.KEY);
+    Hooks.enableAutomaticContextPropagation();
+    log.info("context propagated on every hop: {}", REGISTERED);
+  }
+
+  /**
+   * disable the automatic propagation and remove the accessors.
+   */
+  public static synchronized void uninstall() {
+    Hooks.disableAutomaticContextPropagation();
+    removeAccessors(ContextRegistry.getInstance());
+  }
+
+  private static void removeAccessors(ContextRegistry registry) {
+    REGISTERED.forEach(registry::removeThreadLocalAccessor);
+    REGISTERED.clear();
+  }
+}
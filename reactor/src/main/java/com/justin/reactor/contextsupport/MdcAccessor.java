@@ -0,0 +1,39 @@
+package com.justin.reactor.contextsupport;
+
+import io.micrometer.context.ThreadLocalAccessor;
+import org.slf4j.MDC;
+
+/**
+ * Description: a key of the slf4j MDC as a ThreadLocal of context-propagation: the value of the
+ * Reactor Context under that key is put in the MDC of the thread running an operator.
+ *
+ * @author Justin_Zhang
+ * @date 10/19/2026 08:10
+ */
+public class MdcAccessor implements ThreadLocalAccessor<String> {
+  private final String key;
+
+  public MdcAccessor(String key) {
+    this.key = key;
+  }
+
+  @Override
+  public Object key() {
+    return key;
+  }
+
+  @Override
+  public String getValue() {
+    return MDC.get(key);
+  }
+
+  @Override
+  public void setValue(String value) {
+    MDC.put(key, value);
+  }
+
+  @Override
+  public void setValue() {
+    MDC.remove(key);
+  }
+}
@@ -0,0 +1,41 @@
+package com.justin.reactor.contextsupport;
+
+import java.util.UUID;
+import org.springframework.web.server.ServerWebExchange;
+import org.springframework.web.server.WebFilter;
+import org.springframework.web.server.WebFilterChain;
+import reactor.core.publisher.Mono;
+
+/**
+ * Description: the request id of a request, from its header or generated, written into the
+ * Reactor Context of the request and echoed in the response header.
+ * <p>
+ * the context propagation puts it in the MDC under requestId, on whatever thread logs.
+ * </p>
+ *
+ * @author Justin_Zhang
+ * @date 10/19/2026 08:20
+ */
+public class RequestIdWebFilter implements WebFilter {
+  /**
+   * the key of the request id, in the Reactor Context and the MDC.
+   */
+  public static final String KEY = "requestId";
+
+  private final String header;
+
+  public RequestIdWebFilter(String header) {
+    this.header = header;
+  }
+
+  @Override
+  public Mono<Void> filter(ServerWebExchange exchange, WebFilterChain chain) {
+    String requestId = exchange.getRequest().getHeaders().getFirst(header);
+    if (requestId == null || requestId.isBlank()) {
+      requestId = UUID.randomUUID().toString();
+    }
+    exchange.getResponse().getHeaders().set(header, requestId);
+    String id = requestId;
+    return chain.filter(exchange).contextWrite(context -> context.put(KEY, id));
+  }
+}
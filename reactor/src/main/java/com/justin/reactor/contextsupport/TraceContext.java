@@ -0,0 +1,39 @@
+package com.justin.reactor.contextsupport;
+
+import reactor.util.annotation.Nullable;
+
+/**
+ * Description: the trace id of the work running on a thread, in a ThreadLocal as tracing
+ * libraries keep their current span.
+ * <p>
+ * once {@link ContextPropagationSupport} is installed, the trace id set on the thread subscribing
+ * follows the pipeline: current() returns it on every thread an operator runs on.
+ * </p>
+ *
+ * @author Justin_Zhang
+ * @date 10/19/2026 08:10
+ */
+public final class TraceContext {
+  /**
+   * the key of the trace id in the Reactor Context.
+   */
+  public static final String KEY = "traceId";
+
+  private static final ThreadLocal<String> TRACE_ID = new ThreadLocal<>();
+
+  private TraceContext() {
+  }
+
+  @Nullable
+  public static String current() {
+    return TRACE_ID.get();
+  }
+
+  public static void set(String traceId) {
+    TRACE_ID.set(traceId);
+  }
+
+  public static void clear() {
+    TRACE_ID.remove();
+  }
+}
@@ -0,0 +1,26 @@
+package com.justin.reactor.controller;
+
+import io.micrometer.prometheus.PrometheusMeterRegistry;
+import io.prometheus.client.exporter.common.TextFormat;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+/**
+ * Description: the prometheus scrape endpoint, without spring boot actuator.
+ *
+ * @author Justin_Zhang
+ * @date 10/18/2026 18:44
+ */
+@RestController
+public class PrometheusController {
+  private final PrometheusMeterRegistry registry;
+
+  public PrometheusController(PrometheusMeterRegistry registry) {
+    this.registry = registry;
+  }
+
+  @GetMapping(value = "/prometheus", produces = TextFormat.CONTENT_TYPE_004)
+  public String scrape() {
+    return registry.scrape();
+  }
+}
@@ -1,10 +1,16 @@
 package com.justin.reactor.controller;
 
-import java.time.Duration;
+import com.justin.reactor.metrics.PipelineMetrics;
+import com.justin.reactor.streaming.SharedTickSource;
+import com.justin.reactor.streaming.TickStreamService;
+import java.util.function.Function;
+import org.springframework.http.MediaType;
+import org.springframework.http.server.reactive.ServerHttpResponse;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.RestController;
 import org.springframework.web.reactive.function.client.WebClient;
 import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
 
 /**
  * Description: controller for reactor.
@@ -14,8 +20,37 @@ import reactor.core.publisher.Flux;
  */
 @RestController
 public class ReactorController {
+  private final SharedTickSource tickSource;
+
+  private final TickStreamService tickStreamService;
+
+  private final Function<Flux<String>, Flux<String>> fluxMetrics;
+
+  public ReactorController(SharedTickSource tickSource, TickStreamService tickStreamService,
+      PipelineMetrics pipelineMetrics) {
+    this.tickSource = tickSource;
+    this.tickStreamService = tickStreamService;
+    this.fluxMetrics = pipelineMetrics.flux("controller.flux", "endpoint", "/flux");
+  }
+
+  /**
+   * every client attaches to the same shared interval instead of starting its own timer.
+   */
   @GetMapping("/flux")
   public Flux<String> getFluxStr() {
-    return Flux.interval(Duration.ofSeconds(1)).map(num -> String.valueOf(num).concat("-flux "));
+    return tickSource.ticks()
+        .map(num -> String.valueOf(num).concat("-flux "))
+        .transform(fluxMetrics);
+  }
+
+  /**
+   * server-sent events of ticks, batched by size or time and written as pooled DataBuffers.
+   * every batch is flushed on its own, a slow client only holds a bounded number of batches.
+   */
+  @GetMapping(value = "/flux/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+  public Mono<Void> streamFlux(ServerHttpResponse response) {
+    response.getHeaders().setContentType(MediaType.TEXT_EVENT_STREAM);
+    return response.writeAndFlushWith(
+        tickStreamService.stream(response.bufferFactory()).map(Mono::just));
   }
 }
@@ -0,0 +1,241 @@
+package com.justin.reactor.eventbus;
+
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.atomic.AtomicIntegerFieldUpdater;
+import java.util.concurrent.atomic.AtomicLongFieldUpdater;
+import org.reactivestreams.Subscription;
+import reactor.core.CoreSubscriber;
+import reactor.core.Exceptions;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Operators;
+import reactor.util.concurrent.Queues;
+import reactor.util.context.Context;
+
+/**
+ * Description: operators for fluxes of chunks.
+ * <p>
+ * flatten() is the optional stage after EventBus.asChunkFlux(): it keeps the current chunk and
+ * an int cursor and pulls elements with get(index) as downstream requests them, so it allocates
+ * no iterator and no inner publisher per chunk, unlike flatMapIterable() or concatMap().
+ * chunks are expected to be random access lists (ArrayList, List.of).
+ * </p>
+ *
+ * @author Justin_Zhang
+ * @date 10/18/2026 13:36
+ */
+public class ChunkFlux {
+  public static final int DEFAULT_PREFETCH = Queues.SMALL_BUFFER_SIZE;
+
+  private ChunkFlux() {
+  }
+
+  public static <T> Flux<T> flatten(Flux<? extends List<T>> chunks) {
+    return flatten(chunks, DEFAULT_PREFETCH);
+  }
+
+  /**
+   * flatten chunks into elements while honoring downstream demand.
+   *
+   * @param chunks   the flux of chunks
+   * @param prefetch how many chunks to request upstream ahead of the demand
+   * @return the flux of elements
+   */
+  public static <T> Flux<T> flatten(Flux<? extends List<T>> chunks, int prefetch) {
+    if (prefetch <= 0) {
+      throw new IllegalArgumentException("prefetch must be positive: " + prefetch);
+    }
+    Flux<List<T>> source = Flux.from(chunks);
+    return Flux.from(Operators.<List<T>, T>lift(
+        (scannable, actual) -> new FlattenSubscriber<>(actual, prefetch)).apply(source));
+  }
+
+  static final class FlattenSubscriber<T> implements CoreSubscriber<List<T>>, Subscription {
+    @SuppressWarnings("rawtypes")
+    private static final AtomicIntegerFieldUpdater<FlattenSubscriber> WIP =
+        AtomicIntegerFieldUpdater.newUpdater(FlattenSubscriber.class, "wip");
+
+    @SuppressWarnings("rawtypes")
+    private static final AtomicLongFieldUpdater<FlattenSubscriber> REQUESTED =
+        AtomicLongFieldUpdater.newUpdater(FlattenSubscriber.class, "requested");
+
+    private final CoreSubscriber<? super T> actual;
+
+    private final int prefetch;
+
+    private final int limit;
+
+    private final Queue<List<T>> queue;
+
+    private Subscription upstream;
+
+    // only touched inside the drain loop.
+    private List<T> current;
+
+    private int index;
+
+    private int consumed;
+
+    private Throwable error;
+
+    private volatile boolean done;
+
+    private volatile boolean cancelled;
+
+    private volatile int wip;
+
+    private volatile long requested;
+
+    FlattenSubscriber(CoreSubscriber<? super T> actual, int prefetch) {
+      this.actual = actual;
+      this.prefetch = prefetch;
+      this.limit = prefetch - (prefetch >> 2);
+      this.queue = Queues.<List<T>>get(prefetch).get();
+    }
+
+    @Override
+    public Context currentContext() {
+      return actual.currentContext();
+    }
+
+    @Override
+    public void onSubscribe(Subscription s) {
+      if (Operators.validate(upstream, s)) {
+        upstream = s;
+        actual.onSubscribe(this);
+        s.request(prefetch);
+      }
+    }
+
+    @Override
+    public void onNext(List<T> chunk) {
+      if (done) {
+        Operators.onNextDropped(chunk, actual.currentContext());
+        return;
+      }
+      if (!queue.offer(chunk)) {
+        upstream.cancel();
+        onError(Exceptions.failWithOverflow(Exceptions.BACKPRESSURE_ERROR_QUEUE_FULL));
+        return;
+      }
+      drain();
+    }
+
+    @Override
+    public void onError(Throwable t) {
+      if (done) {
+        Operators.onErrorDropped(t, actual.currentContext());
+        return;
+      }
+      error = t;
+      done = true;
+      drain();
+    }
+
+    @Override
+    public void onComplete() {
+      if (done) {
+        return;
+      }
+      done = true;
+      drain();
+    }
+
+    @Override
+    public void request(long n) {
+      if (Operators.validate(n)) {
+        Operators.addCap(REQUESTED, this, n);
+        drain();
+      }
+    }
+
+    @Override
+    public void cancel() {
+      if (cancelled) {
+        return;
+      }
+      cancelled = true;
+      upstream.cancel();
+      if (WIP.getAndIncrement(this) == 0) {
+        clear();
+      }
+    }
+
+    private void drain() {
+      if (WIP.getAndIncrement(this) != 0) {
+        return;
+      }
+      int missed = 1;
+      for (;;) {
+        long r = requested;
+        long e = 0L;
+        while (e != r) {
+          if (cancelled) {
+            clear();
+            return;
+          }
+          List<T> chunk = current;
+          if (chunk == null) {
+            boolean d = done;
+            chunk = queue.poll();
+            if (chunk == null) {
+              if (d) {
+                terminate();
+                return;
+              }
+              break;
+            }
+            current = chunk;
+            index = 0;
+            if (++consumed == limit) {
+              consumed = 0;
+              upstream.request(limit);
+            }
+          }
+          int i = index;
+          int size = chunk.size();
+          while (i < size && e != r) {
+            actual.onNext(chunk.get(i++));
+            e++;
+          }
+          index = i;
+          if (i == size) {
+            current = null;
+          }
+        }
+        if (e == r) {
+          if (cancelled) {
+            clear();
+            return;
+          }
+          if (current == null && done && queue.isEmpty()) {
+            terminate();
+            return;
+          }
+        }
+        if (e != 0L && r != Long.MAX_VALUE) {
+          REQUESTED.addAndGet(this, -e);
+        }
+        missed = WIP.addAndGet(this, -missed);
+        if (missed == 0) {
+          return;
+        }
+      }
+    }
+
+    private void terminate() {
+      current = null;
+      Throwable t = error;
+      if (t != null) {
+        actual.onError(t);
+      } else {
+        actual.onComplete();
+      }
+    }
+
+    private void clear() {
+      current = null;
+      queue.clear();
+    }
+  }
+}
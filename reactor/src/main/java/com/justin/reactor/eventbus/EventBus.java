@@ -0,0 +1,217 @@
+package com.justin.reactor.eventbus;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.LockSupport;
+import java.util.function.Consumer;
+import lombok.extern.slf4j.Slf4j;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.FluxSink;
+
+/**
+ * Description: multi-producer event bus bridging chunk producers to any number of listeners.
+ * <p>
+ * 1.listeners live in a copy-on-write registry, so registering never blocks publishing.
+ * </p>
+ * <p>
+ * 2.producers only offer their chunk into a lock-free {@link MpscRingBuffer}, whichever
+ * producer wins the work-in-progress counter drains the buffer and fans the chunks out,
+ * so listeners are never called concurrently and no chunk is lost between threads.
+ * </p>
+ * <p>
+ * 3.asFlux() bridges the bus into a Flux.create sink element by element,
+ * asChunkFlux() emits each chunk as one signal.
+ * </p>
+ *
+ * @author Justin_Zhang
+ * @date 10/18/2026 11:05
+ */
+@Slf4j
+public class EventBus<T> {
+  public static final int DEFAULT_CAPACITY = 1024;
+
+  private static final int SPIN_TRIES = 128;
+
+  private static final long PARK_NANOS = 1_000L;
+
+  private final List<EventListener<T>> listeners = new CopyOnWriteArrayList<>();
+
+  private final MpscRingBuffer<List<T>> ring;
+
+  private final AtomicInteger wip = new AtomicInteger();
+
+  private volatile boolean done;
+
+  private volatile boolean completed;
+
+  public EventBus() {
+    this(DEFAULT_CAPACITY);
+  }
+
+  public EventBus(int capacity) {
+    this.ring = new MpscRingBuffer<>(capacity);
+  }
+
+  /**
+   * register a listener, it receives processComplete() at once if the bus is already completed.
+   *
+   * @param listener the listener
+   */
+  public void register(EventListener<T> listener) {
+    boolean alreadyCompleted;
+    synchronized (listeners) {
+      listeners.add(listener);
+      alreadyCompleted = completed;
+    }
+    if (alreadyCompleted) {
+      listener.processComplete();
+    }
+  }
+
+  public boolean unregister(EventListener<T> listener) {
+    return listeners.remove(listener);
+  }
+
+  public int listenerCount() {
+    return listeners.size();
+  }
+
+  /**
+   * try to publish a chunk without waiting, safe to call from any thread.
+   *
+   * @param chunk the chunk, must not be modified after publishing
+   * @return false if the bus is completed or the ring buffer is full
+   */
+  public boolean tryPublish(List<T> chunk) {
+    if (done) {
+      return false;
+    }
+    boolean offered = ring.offer(chunk);
+    // drain even if the offer failed, so that a full buffer always makes progress.
+    drain();
+    return offered;
+  }
+
+  /**
+   * publish a chunk, spinning and then parking while the ring buffer is full.
+   * a chunk published concurrently with complete() may be dropped.
+   *
+   * @param chunk the chunk, must not be modified after publishing
+   */
+  public void publish(List<T> chunk) {
+    int tries = 0;
+    while (!tryPublish(chunk)) {
+      if (done) {
+        throw new IllegalStateException("event bus is completed");
+      }
+      if (++tries < SPIN_TRIES) {
+        Thread.onSpinWait();
+      } else {
+        LockSupport.parkNanos(PARK_NANOS);
+      }
+    }
+  }
+
+  /**
+   * complete the bus, listeners receive processComplete() after every published chunk.
+   */
+  public void complete() {
+    done = true;
+    drain();
+  }
+
+  public Flux<T> asFlux() {
+    return asFlux(FluxSink.OverflowStrategy.BUFFER);
+  }
+
+  /**
+   * bridge the bus into a Flux, each subscriber registers its own listener.
+   * every element of a chunk pays for one sink.next, see asChunkFlux() for the batched mode.
+   *
+   * @param overflowStrategy what to do when the subscriber can't keep up
+   * @return the bridged flux
+   */
+  public Flux<T> asFlux(FluxSink.OverflowStrategy overflowStrategy) {
+    return Flux.create(sink -> bridge(sink, chunk -> {
+      for (T t : chunk) {
+        sink.next(t);
+      }
+    }), overflowStrategy);
+  }
+
+  public Flux<List<T>> asChunkFlux() {
+    return asChunkFlux(FluxSink.OverflowStrategy.BUFFER);
+  }
+
+  /**
+   * bridge the bus into a Flux emitting every chunk as one signal (batched mode).
+   * the serialized sink and its queue are paid once per chunk instead of once per element,
+   * {@link ChunkFlux#flatten(Flux)} turns it back into elements if needed.
+   *
+   * @param overflowStrategy what to do when the subscriber can't keep up, counted in chunks
+   * @return the bridged flux of chunks
+   */
+  public Flux<List<T>> asChunkFlux(FluxSink.OverflowStrategy overflowStrategy) {
+    return Flux.create(sink -> bridge(sink, sink::next), overflowStrategy);
+  }
+
+  private void bridge(FluxSink<?> sink, Consumer<List<T>> onChunk) {
+    EventListener<T> listener = new EventListener<>() {
+      @Override
+      public void onDataChunk(List<T> chunk) {
+        onChunk.accept(chunk);
+      }
+
+      @Override
+      public void processComplete() {
+        sink.complete();
+      }
+    };
+    sink.onDispose(() -> unregister(listener));
+    register(listener);
+  }
+
+  private void drain() {
+    if (wip.getAndIncrement() != 0) {
+      return;
+    }
+    int missed = 1;
+    for (;;) {
+      List<T> chunk;
+      while ((chunk = ring.poll()) != null) {
+        for (EventListener<T> listener : listeners) {
+          try {
+            listener.onDataChunk(chunk);
+          } catch (RuntimeException e) {
+            log.warn("listener {} failed on a chunk", listener, e);
+          }
+        }
+      }
+      // poll() returns null while a claimed slot is still being written, so check the indexes.
+      if (done && !completed && ring.isEmpty()) {
+        completeListeners();
+      }
+      missed = wip.addAndGet(-missed);
+      if (missed == 0) {
+        return;
+      }
+    }
+  }
+
+  private void completeListeners() {
+    // take the snapshot with the flag, listeners registered afterwards are completed by register().
+    List<EventListener<T>> snapshot;
+    synchronized (listeners) {
+      completed = true;
+      snapshot = List.copyOf(listeners);
+    }
+    for (EventListener<T> listener : snapshot) {
+      try {
+        listener.processComplete();
+      } catch (RuntimeException e) {
+        log.warn("listener {} failed on complete", listener, e);
+      }
+    }
+  }
+}
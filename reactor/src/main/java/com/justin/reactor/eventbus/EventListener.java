@@ -0,0 +1,16 @@
+package com.justin.reactor.eventbus;
+
+import java.util.List;
+
+/**
+ * Description: listener of the chunks published on an {@link EventBus}.
+ * the bus never calls one listener concurrently, so implementations don't need to be thread-safe.
+ *
+ * @author Justin_Zhang
+ * @date 10/18/2026 10:47
+ */
+public interface EventListener<T> {
+  void onDataChunk(List<T> chunk);
+
+  void processComplete();
+}
@@ -0,0 +1,103 @@
+package com.justin.reactor.eventbus;
+
+import java.util.Objects;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * Description: bounded lock-free multi-producer single-consumer ring buffer.
+ * <p>
+ * producers claim a slot by CAS on the producer index, then publish the element with an
+ * ordered store. the consumer treats an empty slot as "not yet published" and tries again
+ * later, so it never blocks the producers.
+ * </p>
+ * <p>
+ * poll() must only be called by one thread at a time.
+ * </p>
+ *
+ * @author Justin_Zhang
+ * @date 10/18/2026 10:52
+ */
+public class MpscRingBuffer<E> {
+  private final AtomicReferenceArray<E> buffer;
+
+  private final int mask;
+
+  private final AtomicLong producerIndex = new AtomicLong();
+
+  private final AtomicLong consumerIndex = new AtomicLong();
+
+  /**
+   * create a ring buffer.
+   *
+   * @param capacity the minimum capacity, rounded up to the next power of two
+   */
+  public MpscRingBuffer(int capacity) {
+    if (capacity < 1) {
+      throw new IllegalArgumentException("capacity must be positive: " + capacity);
+    }
+    int actualCapacity = capacity == 1 ? 1 : Integer.highestOneBit(capacity - 1) << 1;
+    this.buffer = new AtomicReferenceArray<>(actualCapacity);
+    this.mask = actualCapacity - 1;
+  }
+
+  /**
+   * offer an element, safe to call from any thread.
+   *
+   * @param element the element to add
+   * @return false if the buffer is full
+   */
+  public boolean offer(E element) {
+    Objects.requireNonNull(element, "element");
+    long capacity = mask + 1L;
+    long limit = consumerIndex.get() + capacity;
+    for (;;) {
+      long index = producerIndex.get();
+      if (index >= limit) {
+        limit = consumerIndex.get() + capacity;
+        if (index >= limit) {
+          return false;
+        }
+      }
+      if (producerIndex.compareAndSet(index, index + 1)) {
+        buffer.lazySet((int) index & mask, element);
+        return true;
+      }
+    }
+  }
+
+  /**
+   * poll the oldest published element, single consumer only.
+   *
+   * @return the element or null if nothing is published yet
+   */
+  public E poll() {
+    long index = consumerIndex.get();
+    int offset = (int) index & mask;
+    E element = buffer.get(offset);
+    if (element == null) {
+      return null;
+    }
+    buffer.lazySet(offset, null);
+    consumerIndex.lazySet(index + 1);
+    return element;
+  }
+
+  /**
+   * whether every claimed slot has been consumed.
+   * unlike a null poll(), this stays false while a producer is still writing a claimed slot.
+   */
+  public boolean isEmpty() {
+    return consumerIndex.get() == producerIndex.get();
+  }
+
+  public int size() {
+    // read the consumer first so that the result can't become negative.
+    long consumed = consumerIndex.get();
+    return (int) (producerIndex.get() - consumed);
+  }
+
+  public int capacity() {
+    return mask + 1;
+  }
+}
@@ -0,0 +1,88 @@
+package com.justin.reactor.eventlog;
+
+import com.justin.reactor.sink.RecordSerializer;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import lombok.extern.slf4j.Slf4j;
+import reactor.core.Exceptions;
+import reactor.core.publisher.Flux;
+
+/**
+ * Description: read the records of an event log written by {@link EventLogWriter}, through a
+ * memory mapping.
+ * <p>
+ * 1.no copy: a record is a read only slice of the mapped file, the page cache is read in place
+ * instead of going through the buffers of an InputStream. a record can be kept after the flux
+ * completed, it holds its window mapped.
+ * </p>
+ * <p>
+ * 2.the flux is generated: a record is read per request, and a window of the file is mapped
+ * when the first record it holds is requested. a slow subscriber maps nothing ahead.
+ * </p>
+ * <p>
+ * 3.the log is read up to its size when subscribed, a torn tail (the last append of a crash) is
+ * skipped with a warning. reading blocks on page faults, subscribe on a scheduler that may block,
+ * e.g. Schedulers.boundedElastic().
+ * </p>
+ *
+ * @author Justin_Zhang
+ * @date 10/19/2026 03:35
+ */
+@Slf4j
+public final class EventLogReader {
+  public static final int DEFAULT_WINDOW_SIZE = 64 << 20;
+
+  private EventLogReader() {
+  }
+
+  public static Flux<ByteBuffer> records(Path file) {
+    return records(file, 0L, DEFAULT_WINDOW_SIZE);
+  }
+
+  /**
+   * the records of the log, from an offset.
+   *
+   * @param file       the log
+   * @param from       the offset of a record, e.g. a position of the writer
+   * @param windowSize the size of the mapped windows, grown for a larger record
+   * @return the records, read only buffers over the mapping
+   */
+  public static Flux<ByteBuffer> records(Path file, long from, int windowSize) {
+    return Flux.generate(
+        () -> new LogCursor(FileChannel.open(file, StandardOpenOption.READ), from, windowSize),
+        (cursor, sink) -> {
+          ByteBuffer record;
+          try {
+            record = cursor.next();
+          } catch (IOException e) {
+            throw Exceptions.propagate(e);
+          }
+          if (record != null) {
+            sink.next(record);
+          } else {
+            if (cursor.isTorn()) {
+              log.warn("{} ends with a torn record at {}, skipped", file, cursor.position());
+            }
+            sink.complete();
+          }
+          return cursor;
+        },
+        cursor -> {
+          try {
+            cursor.close();
+          } catch (IOException e) {
+            log.warn("failed to close {}", file, e);
+          }
+        });
+  }
+
+  /**
+   * the records of the log, deserialized.
+   */
+  public static <T> Flux<T> records(Path file, RecordSerializer<T> serializer) {
+    return records(file).map(serializer::read);
+  }
+}
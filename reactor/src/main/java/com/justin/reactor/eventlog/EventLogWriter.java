@@ -0,0 +1,340 @@
+package com.justin.reactor.eventlog;
+
+import com.justin.reactor.sink.RecordSerializer;
+import com.justin.reactor.subscriber.BatchedRequestSubscriber;
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.BufferOverflowException;
+import java.nio.ByteBuffer;
+import java.nio.channels.ClosedChannelException;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.Duration;
+import java.util.Objects;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.zip.CRC32C;
+import lombok.extern.slf4j.Slf4j;
+import org.reactivestreams.Publisher;
+import reactor.core.Disposable;
+import reactor.core.Exceptions;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
+
+/**
+ * Description: append records to an event log, read by {@link EventLogReader}.
+ * <p>
+ * 1.the records are framed with their length and checksum into a direct buffer, written to the
+ * file when full: one write per {@value #DEFAULT_BUFFER_SIZE} bytes rather than one per record.
+ * </p>
+ * <p>
+ * 2.the file is fsynced on a cadence: every syncEvery records, and every syncInterval by a timer
+ * when something was appended since. syncedPosition() is how far a crash can't lose. the fsync
+ * runs out of the lock, appends go on meanwhile.
+ * </p>
+ * <p>
+ * 3.opening an existing log truncates its torn tail, so that the next record follows the last
+ * valid one. this reads the whole log once.
+ * </p>
+ * <p>
+ * 4.write() appends a flux with batched requests, syncing when it completes. the appends and
+ * syncs block: the events must be published on a scheduler that may block.
+ * </p>
+ *
+ * @author Justin_Zhang
+ * @date 10/19/2026 03:45
+ */
+@Slf4j
+public final class EventLogWriter<T> implements Closeable {
+  public static final int DEFAULT_BUFFER_SIZE = 1 << 20;
+
+  static final int MAX_BUFFER_SIZE = 1 << 30;
+
+  static final int BATCH_SIZE = 256;
+
+  private final Path file;
+
+  private final FileChannel channel;
+
+  private final RecordSerializer<T> serializer;
+
+  private final int syncEvery;
+
+  private final ReentrantLock lock = new ReentrantLock();
+
+  private final CRC32C crc = new CRC32C();
+
+  private final Disposable timer;
+
+  private ByteBuffer buffer = ByteBuffer.allocateDirect(DEFAULT_BUFFER_SIZE);
+
+  // the end of the records appended, written or still in the buffer.
+  private long position;
+
+  private int unsynced;
+
+  private boolean closed;
+
+  private volatile long syncedPosition;
+
+  private EventLogWriter(Path file, FileChannel channel, long end, RecordSerializer<T> serializer,
+      int syncEvery, Duration syncInterval) throws IOException {
+    this.file = file;
+    this.channel = channel.position(end);
+    this.position = end;
+    this.syncedPosition = end;
+    this.serializer = serializer;
+    this.syncEvery = syncEvery;
+    long interval = syncInterval.toNanos();
+    this.timer = Schedulers.boundedElastic()
+        .schedulePeriodically(this::syncOnTimer, interval, interval, TimeUnit.NANOSECONDS);
+  }
+
+  /**
+   * open a log syncing every 1024 records or 100ms.
+   */
+  public static <T> EventLogWriter<T> open(Path file, RecordSerializer<T> serializer)
+      throws IOException {
+    return open(file, serializer, 1024, Duration.ofMillis(100));
+  }
+
+  /**
+   * open a log to append to, created if needed.
+   *
+   * @param file         the log
+   * @param serializer   the serializer of the records
+   * @param syncEvery    the most records appended between two syncs
+   * @param syncInterval the longest time between an append and its sync
+   * @return the writer, to close
+   * @throws IOException when the log can't be opened or recovered
+   */
+  public static <T> EventLogWriter<T> open(Path file, RecordSerializer<T> serializer,
+      int syncEvery, Duration syncInterval) throws IOException {
+    if (syncEvery <= 0 || syncInterval.isNegative() || syncInterval.isZero()) {
+      throw new IllegalArgumentException(
+          "syncEvery and syncInterval must be positive: " + syncEvery + ", " + syncInterval);
+    }
+    Objects.requireNonNull(serializer, "serializer");
+    FileChannel channel = FileChannel.open(file, StandardOpenOption.CREATE,
+        StandardOpenOption.READ, StandardOpenOption.WRITE);
+    try {
+      long end = recover(file, channel);
+      return new EventLogWriter<>(file, channel, end, serializer, syncEvery, syncInterval);
+    } catch (IOException | RuntimeException e) {
+      channel.close();
+      throw e;
+    }
+  }
+
+  private static long recover(Path file, FileChannel channel) throws IOException {
+    LogCursor cursor = new LogCursor(channel, 0L, EventLogReader.DEFAULT_WINDOW_SIZE);
+    while (cursor.next() != null) {
+      // skip to the end of the valid records.
+    }
+    if (cursor.isTorn()) {
+      log.warn("{} ends with a torn record at {}, truncated from {} bytes", file,
+          cursor.position(), channel.size());
+      channel.truncate(cursor.position());
+      channel.force(true);
+    }
+    return cursor.position();
+  }
+
+  /**
+   * append a record, it's durable once syncedPosition() passed position().
+   *
+   * @param value the record
+   * @throws IOException when the log can't be written, or is closed
+   */
+  public void append(T value) throws IOException {
+    Objects.requireNonNull(value, "value");
+    boolean sync;
+    lock.lock();
+    try {
+      if (closed) {
+        throw new ClosedChannelException();
+      }
+      int start = frame(value);
+      int length = buffer.position() - start - LogCursor.HEADER;
+      buffer.putInt(start, length);
+      crc.reset();
+      crc.update(buffer.slice(start, Integer.BYTES));
+      crc.update(buffer.slice(start + LogCursor.HEADER, length));
+      buffer.putInt(start + 4, (int) crc.getValue());
+      position += LogCursor.HEADER + length;
+      sync = ++unsynced >= syncEvery;
+    } finally {
+      lock.unlock();
+    }
+    if (sync) {
+      sync();
+    }
+  }
+
+  /**
+   * serialize the value after room for its header, the offset of the frame is returned.
+   */
+  private int frame(T value) throws IOException {
+    for (;;) {
+      if (buffer.remaining() <= LogCursor.HEADER) {
+        flush();
+      }
+      int start = buffer.position();
+      try {
+        buffer.position(start + LogCursor.HEADER);
+        serializer.write(value, buffer);
+        return start;
+      } catch (BufferOverflowException e) {
+        buffer.position(start);
+        if (start > 0) {
+          flush();
+        } else if (buffer.capacity() >= MAX_BUFFER_SIZE) {
+          throw new IllegalArgumentException("the record is larger than " + MAX_BUFFER_SIZE);
+        } else {
+          // larger than the buffer, it grows for good: such records tend to come again.
+          buffer = ByteBuffer.allocateDirect(buffer.capacity() * 2);
+        }
+      } catch (Throwable e) {
+        // drop the partial frame, the next append would follow a header never written.
+        buffer.position(start);
+        throw e;
+      }
+    }
+  }
+
+  /**
+   * write the buffer to the file, without syncing.
+   */
+  private void flush() throws IOException {
+    buffer.flip();
+    while (buffer.hasRemaining()) {
+      channel.write(buffer);
+    }
+    buffer.clear();
+  }
+
+  /**
+   * write and fsync what was appended.
+   *
+   * @return the synced position
+   * @throws IOException when the log can't be written
+   */
+  public long sync() throws IOException {
+    long target;
+    lock.lock();
+    try {
+      if (buffer.position() > 0) {
+        flush();
+      }
+      target = position;
+      unsynced = 0;
+    } finally {
+      lock.unlock();
+    }
+    if (target > syncedPosition) {
+      channel.force(false);
+      lock.lock();
+      try {
+        syncedPosition = Math.max(syncedPosition, target);
+      } finally {
+        lock.unlock();
+      }
+    }
+    return syncedPosition;
+  }
+
+  private void syncOnTimer() {
+    if (syncedPosition == position() || !channel.isOpen()) {
+      return;
+    }
+    try {
+      sync();
+    } catch (IOException e) {
+      log.warn("failed to sync {}", file, e);
+    }
+  }
+
+  /**
+   * append the records of a flux, requested by batches.
+   *
+   * @param records the records, published on a scheduler that may block
+   * @return the synced position once the records are all durable, or the error of the flux
+   */
+  public Mono<Long> write(Publisher<? extends T> records) {
+    return Mono.create(sink -> {
+      BatchedRequestSubscriber<T> subscriber = new BatchedRequestSubscriber<>(BATCH_SIZE) {
+        @Override
+        protected void hookOnNext(T value) {
+          try {
+            append(value);
+          } catch (IOException e) {
+            throw Exceptions.propagate(e);
+          }
+        }
+
+        @Override
+        protected void hookOnComplete() {
+          try {
+            sink.success(sync());
+          } catch (IOException e) {
+            sink.error(e);
+          }
+        }
+
+        @Override
+        protected void hookOnError(Throwable throwable) {
+          try {
+            sync();
+          } catch (IOException e) {
+            throwable.addSuppressed(e);
+          }
+          sink.error(Exceptions.unwrap(throwable));
+        }
+      };
+      sink.onCancel(subscriber);
+      records.subscribe(subscriber);
+    });
+  }
+
+  /**
+   * the end of the records appended.
+   */
+  public long position() {
+    lock.lock();
+    try {
+      return position;
+    } finally {
+      lock.unlock();
+    }
+  }
+
+  /**
+   * the end of the records that survive a crash.
+   */
+  public long syncedPosition() {
+    return syncedPosition;
+  }
+
+  /**
+   * sync and close the log.
+   */
+  @Override
+  public void close() throws IOException {
+    timer.dispose();
+    lock.lock();
+    try {
+      if (closed) {
+        return;
+      }
+      closed = true;
+    } finally {
+      lock.unlock();
+    }
+    try {
+      sync();
+    } finally {
+      channel.close();
+    }
+  }
+}
@@ -0,0 +1,116 @@
+package com.justin.reactor.eventlog;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.util.zip.CRC32C;
+
+/**
+ * Description: iterate the records of an event log through windows of a memory mapping.
+ * <p>
+ * 1.a record is framed as [int length][int crc32c of the length and the payload][payload]. the
+ * length is in the checksum, so a zero-filled tail, e.g. pre-allocated, isn't a run of empty
+ * records: the checksum of an empty payload alone is 0. the window holding
+ * the next record is mapped when the record is read, i.e. on demand: only the windows in use are
+ * mapped, a record crossing the end of a window starts the next one.
+ * </p>
+ * <p>
+ * 2.a frame whose length goes past the end of the file, or whose checksum doesn't match, is the
+ * tail torn by a crash during an append: the iteration ends there.
+ * </p>
+ *
+ * @author Justin_Zhang
+ * @date 10/19/2026 03:25
+ */
+final class LogCursor implements Closeable {
+  static final int HEADER = 8;
+
+  private final FileChannel channel;
+
+  private final long size;
+
+  private final int windowSize;
+
+  private final CRC32C crc = new CRC32C();
+
+  private MappedByteBuffer window;
+
+  private long windowStart;
+
+  private long position;
+
+  LogCursor(FileChannel channel, long from, int windowSize) throws IOException {
+    if (windowSize < HEADER) {
+      throw new IllegalArgumentException("windowSize must be at least " + HEADER + ": "
+          + windowSize);
+    }
+    this.channel = channel;
+    this.size = channel.size();
+    this.windowSize = windowSize;
+    this.position = from;
+  }
+
+  /**
+   * the next record, a read only slice of the mapping, positioned on its payload.
+   *
+   * @return the record, null at the end of the log, or at a torn tail
+   * @throws IOException when the file can't be mapped
+   */
+  ByteBuffer next() throws IOException {
+    if (size - position < HEADER) {
+      return null;
+    }
+    ByteBuffer header = map(position, HEADER);
+    int offset = (int) (position - windowStart);
+    int length = header.getInt(offset);
+    int checksum = header.getInt(offset + 4);
+    if (length < 0 || length > Integer.MAX_VALUE - HEADER || length > size - position - HEADER) {
+      return null;
+    }
+    ByteBuffer frame = map(position, HEADER + length);
+    // a slice of a read only mapping is read only.
+    ByteBuffer record = frame.slice((int) (position - windowStart) + HEADER, length);
+    crc.reset();
+    crc.update(header.slice(offset, Integer.BYTES));
+    crc.update(record);
+    if ((int) crc.getValue() != checksum) {
+      return null;
+    }
+    position += HEADER + length;
+    return record.rewind();
+  }
+
+  /**
+   * the end of the last record read, where the next one starts.
+   */
+  long position() {
+    return position;
+  }
+
+  /**
+   * the iteration ended before the end of the file.
+   */
+  boolean isTorn() {
+    return position != size;
+  }
+
+  private MappedByteBuffer map(long at, int length) throws IOException {
+    if (window == null || at < windowStart || at + length > windowStart + window.limit()) {
+      windowStart = at;
+      window = channel.map(FileChannel.MapMode.READ_ONLY, at,
+          Math.min(Math.max(windowSize, length), size - at));
+    }
+    return window;
+  }
+
+  /**
+   * close the channel, the records already read stay readable: a mapping lives until it's
+   * garbage collected.
+   */
+  @Override
+  public void close() throws IOException {
+    channel.close();
+  }
+}
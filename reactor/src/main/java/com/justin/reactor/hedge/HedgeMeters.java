@@ -0,0 +1,44 @@
+package com.justin.reactor.hedge;
+
+import com.justin.reactor.metrics.MeterRegistries;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+
+/**
+ * Description: the counters of one hedger.
+ * <p>
+ * {name}.hedge.calls counts the calls, {name}.hedge.hedges the hedges fired and
+ * {name}.hedge.wins the hedges that answered first: wins / hedges is the win rate, a low one
+ * means the hedges only add load, the delay is too short.
+ * {name}.hedge.denied counts the hedges the budget didn't allow.
+ * </p>
+ *
+ * @author Justin_Zhang
+ * @date 10/19/2026 06:10
+ */
+class HedgeMeters {
+  static final HedgeMeters NOOP = new HedgeMeters(MeterRegistries.noop(), "noop");
+
+  final Counter calls;
+
+  final Counter hedges;
+
+  final Counter wins;
+
+  final Counter denied;
+
+  HedgeMeters(MeterRegistry registry, String name) {
+    calls = Counter.builder(name + ".hedge.calls")
+        .description("calls, hedged or not")
+        .register(registry);
+    hedges = Counter.builder(name + ".hedge.hedges")
+        .description("duplicate calls fired after the hedge delay")
+        .register(registry);
+    wins = Counter.builder(name + ".hedge.wins")
+        .description("duplicate calls answering before the original one")
+        .register(registry);
+    denied = Counter.builder(name + ".hedge.denied")
+        .description("duplicate calls not fired, above the ratio of hedged calls")
+        .register(registry);
+  }
+}
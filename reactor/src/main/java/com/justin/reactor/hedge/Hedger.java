@@ -0,0 +1,183 @@
+package com.justin.reactor.hedge;
+
+import com.justin.reactor.retry.RetryBudget;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Function;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
+import reactor.util.annotation.Nullable;
+
+/**
+ * Description: hedged requests, cutting the tail latency of a call: when the call hasn't
+ * answered after the hedge delay, a duplicate is fired, the first to answer wins and the other is
+ * cancelled.
+ * <p>
+ * 1.the delay is fixed, or the running quantile of the latencies observed, e.g. the p95: only the
+ * calls slower than 95% of the others are hedged, the p99 becomes about p95 + the latency of the
+ * duplicate, for 5% more calls.
+ * </p>
+ * <p>
+ * 2.the loser is cancelled, see CancelSubscribeSample: the cancellation reaches the call only if
+ * its source stops on cancel, a blocking call keeps its thread until it returns.
+ * </p>
+ * <p>
+ * 3.the hedged calls are bounded by a {@link RetryBudget} without reserve: every call deposits
+ * maxHedgeRatio of a hedge. when the downstream slows down as a whole, the delay is below most
+ * latencies and the hedges would double the load; the budget keeps them to that ratio.
+ * </p>
+ * <p>
+ * 4.a hedge is not a retry: the error of the original call ends the call, the error of a
+ * duplicate is ignored while the original one still runs. see RetryPolicy to retry the errors.
+ * </p>
+ * <p>
+ * 5.the delays and the latencies use the clock of Schedulers.parallel(), a VirtualTimeScheduler
+ * in tests. only the original calls are sampled, the hedges start late. an original call beaten
+ * by its hedge is sampled when it's cancelled, its time so far a lower bound of its latency:
+ * sampling the winners only would drop the slow tail and pull the delay down call after call.
+ * </p>
+ *
+ * @author Justin_Zhang
+ * @date 10/19/2026 06:15
+ */
+public final class Hedger {
+  static final int DEFAULT_WINDOW_SIZE = 1000;
+
+  static final double DEFAULT_MAX_HEDGE_RATIO = 0.1;
+
+  private final Duration initialDelay;
+
+  @Nullable
+  private final LatencyQuantile quantile;
+
+  private final double maxHedgeRatio;
+
+  private final RetryBudget budget;
+
+  private final HedgeMeters meters;
+
+  private Hedger(Duration initialDelay, @Nullable LatencyQuantile quantile, double maxHedgeRatio,
+      HedgeMeters meters) {
+    this.initialDelay = initialDelay;
+    this.quantile = quantile;
+    this.maxHedgeRatio = maxHedgeRatio;
+    this.budget = RetryBudget.of(maxHedgeRatio, 0);
+    this.meters = meters;
+  }
+
+  /**
+   * hedge the calls still running after a fixed delay.
+   */
+  public static Hedger after(Duration delay) {
+    return new Hedger(checkDelay(delay), null, DEFAULT_MAX_HEDGE_RATIO, HedgeMeters.NOOP);
+  }
+
+  /**
+   * hedge the calls slower than the quantile of the last 1000 latencies.
+   *
+   * @param quantile     the quantile of the latencies, e.g. 0.95
+   * @param initialDelay the delay until enough latencies are observed
+   * @return the hedger, to share between the callers of the same downstream
+   */
+  public static Hedger afterQuantile(double quantile, Duration initialDelay) {
+    return new Hedger(checkDelay(initialDelay), new LatencyQuantile(quantile, DEFAULT_WINDOW_SIZE),
+        DEFAULT_MAX_HEDGE_RATIO, HedgeMeters.NOOP);
+  }
+
+  private static Duration checkDelay(Duration delay) {
+    if (delay.isNegative()) {
+      throw new IllegalArgumentException("delay must be >= 0: " + delay);
+    }
+    return delay;
+  }
+
+  /**
+   * hedge at most that ratio of the calls, 0.1 by default.
+   */
+  public Hedger maxHedgeRatio(double maxHedgeRatio) {
+    if (maxHedgeRatio < 0 || maxHedgeRatio > 1) {
+      throw new IllegalArgumentException("maxHedgeRatio must be in [0, 1]: " + maxHedgeRatio);
+    }
+    return new Hedger(initialDelay, quantile, maxHedgeRatio, meters);
+  }
+
+  /**
+   * count the calls, hedges and wins, see {@link HedgeMeters}.
+   */
+  public Hedger metrics(MeterRegistry registry, String name) {
+    return new Hedger(initialDelay, quantile, maxHedgeRatio, new HedgeMeters(registry, name));
+  }
+
+  /**
+   * the current hedge delay.
+   */
+  public Duration delay() {
+    long nanos = quantile == null ? -1 : quantile.nanos();
+    return nanos < 0 ? initialDelay : Duration.ofNanos(nanos);
+  }
+
+  /**
+   * hedge a call, to pass to transform(): the call is subscribed once more for the duplicate.
+   */
+  public <T> Function<Mono<T>, Mono<T>> transformer() {
+    return call -> Mono.defer(() -> {
+      meters.calls.increment();
+      budget.deposit();
+      Mono<Attempt<T>> hedge = Mono.delay(delay(), Schedulers.parallel())
+          .flatMap(tick -> {
+            if (!budget.tryWithdraw()) {
+              meters.denied.increment();
+              return Mono.never();
+            }
+            meters.hedges.increment();
+            return attempt(call, true).onErrorResume(error -> Mono.never());
+          });
+      return Mono.firstWithSignal(attempt(call, false), hedge)
+          .mapNotNull(attempt -> {
+            if (attempt.hedge) {
+              meters.wins.increment();
+            }
+            return attempt.value;
+          });
+    });
+  }
+
+  /**
+   * one subscription to the call, its latency sampled when the original one answers or is
+   * cancelled.
+   */
+  private <T> Mono<Attempt<T>> attempt(Mono<T> call, boolean hedge) {
+    Mono<Attempt<T>> attempt = call.map(value -> new Attempt<>(value, hedge))
+        .defaultIfEmpty(new Attempt<>(null, hedge));
+    if (hedge || quantile == null) {
+      return attempt;
+    }
+    return Mono.defer(() -> {
+      long start = Schedulers.parallel().now(TimeUnit.NANOSECONDS);
+      AtomicBoolean sampled = new AtomicBoolean();
+      Runnable sample = () -> {
+        if (sampled.compareAndSet(false, true)) {
+          quantile.record(Schedulers.parallel().now(TimeUnit.NANOSECONDS) - start);
+        }
+      };
+      return attempt.doOnNext(answer -> sample.run()).doOnCancel(sample);
+    });
+  }
+
+  /**
+   * the answer of an attempt, null when it completed empty.
+   */
+  private static final class Attempt<T> {
+    @Nullable
+    final T value;
+
+    final boolean hedge;
+
+    Attempt(@Nullable T value, boolean hedge) {
+      this.value = value;
+      this.hedge = hedge;
+    }
+  }
+}
@@ -0,0 +1,66 @@
+package com.justin.reactor.hedge;
+
+import java.util.Arrays;
+
+/**
+ * Description: a quantile of the latencies recently observed, over a sliding window of samples.
+ * <p>
+ * 1.the last windowSize latencies are kept in a ring, the quantile is computed again by sorting a
+ * copy of the ring every windowSize / 8 samples: the read is a volatile read, the cost of the sort
+ * is spread over the samples.
+ * </p>
+ * <p>
+ * 2.the samples are recorded under a lock: the calls measured are remote ones, the lock is noise
+ * next to their latency.
+ * </p>
+ *
+ * @author Justin_Zhang
+ * @date 10/19/2026 06:05
+ */
+class LatencyQuantile {
+  private final double quantile;
+
+  private final long[] window;
+
+  private final int refreshEvery;
+
+  // guarded by this.
+  private int size;
+
+  private int next;
+
+  private int sinceRefresh;
+
+  private volatile long quantileNanos = -1;
+
+  LatencyQuantile(double quantile, int windowSize) {
+    if (quantile <= 0 || quantile > 1 || windowSize <= 0) {
+      throw new IllegalArgumentException(
+          "quantile must be in (0, 1] and windowSize positive: " + quantile + ", " + windowSize);
+    }
+    this.quantile = quantile;
+    this.window = new long[windowSize];
+    this.refreshEvery = Math.max(1, windowSize / 8);
+  }
+
+  synchronized void record(long nanos) {
+    window[next] = nanos;
+    next = next + 1 == window.length ? 0 : next + 1;
+    if (size < window.length) {
+      size++;
+    }
+    if (++sinceRefresh >= refreshEvery) {
+      sinceRefresh = 0;
+      long[] sorted = Arrays.copyOf(window, size);
+      Arrays.sort(sorted);
+      quantileNanos = sorted[(int) Math.ceil(quantile * size) - 1];
+    }
+  }
+
+  /**
+   * the quantile, -1 until refreshEvery samples were recorded.
+   */
+  long nanos() {
+    return quantileNanos;
+  }
+}
@@ -0,0 +1,28 @@
+package com.justin.reactor.metrics;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.composite.CompositeMeterRegistry;
+
+/**
+ * Description: the registry of the components built without metrics.
+ * <p>
+ * a composite registry without registries creates no-op meters: the meters of a component are
+ * registered on it when no registry is given, the component records unconditionally.
+ * </p>
+ *
+ * @author Justin_Zhang
+ * @date 10/19/2026 08:40
+ */
+public final class MeterRegistries {
+  private static final MeterRegistry NOOP = new CompositeMeterRegistry();
+
+  private MeterRegistries() {
+  }
+
+  /**
+   * the shared registry of no-op meters, never add a registry to it.
+   */
+  public static MeterRegistry noop() {
+    return NOOP;
+  }
+}
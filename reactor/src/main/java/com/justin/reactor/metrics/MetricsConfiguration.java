@@ -0,0 +1,59 @@
+package com.justin.reactor.metrics;
+
+import io.micrometer.core.instrument.Meter;
+import io.micrometer.core.instrument.Metrics;
+import io.micrometer.core.instrument.config.MeterFilter;
+import io.micrometer.core.instrument.distribution.DistributionStatisticConfig;
+import io.micrometer.prometheus.PrometheusConfig;
+import io.micrometer.prometheus.PrometheusMeterRegistry;
+import java.time.Duration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Description: the meter registry of the application, scraped at /prometheus.
+ * <p>
+ * 1.timers named reactor.* publish a histogram, so latency percentiles can be aggregated across
+ * instances by prometheus. the buckets are limited to 1ms..10s to keep the series count low.
+ * </p>
+ * <p>
+ * 2.the registry also joins Metrics.globalRegistry, where {@link PipelineMetrics#global()}
+ * reports the pipelines built outside of spring.
+ * </p>
+ *
+ * @author Justin_Zhang
+ * @date 10/18/2026 18:40
+ */
+@Configuration
+public class MetricsConfiguration {
+  @Bean
+  public PrometheusMeterRegistry prometheusMeterRegistry() {
+    PrometheusMeterRegistry registry = new PrometheusMeterRegistry(PrometheusConfig.DEFAULT);
+    registry.config().meterFilter(reactorHistograms());
+    Metrics.addRegistry(registry);
+    return registry;
+  }
+
+  @Bean
+  public PipelineMetrics pipelineMetrics(PrometheusMeterRegistry registry) {
+    return new PipelineMetrics(registry);
+  }
+
+  static MeterFilter reactorHistograms() {
+    return new MeterFilter() {
+      @Override
+      public DistributionStatisticConfig configure(Meter.Id id,
+          DistributionStatisticConfig config) {
+        if (!id.getName().startsWith("reactor.")) {
+          return config;
+        }
+        return DistributionStatisticConfig.builder()
+            .percentilesHistogram(true)
+            .minimumExpectedValue((double) Duration.ofMillis(1).toNanos())
+            .maximumExpectedValue((double) Duration.ofSeconds(10).toNanos())
+            .build()
+            .merge(config);
+      }
+    };
+  }
+}
@@ -0,0 +1,160 @@
+package com.justin.reactor.metrics;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.Timer;
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+import org.reactivestreams.Publisher;
+import reactor.core.observability.DefaultSignalListener;
+import reactor.core.observability.SignalListener;
+import reactor.core.observability.SignalListenerFactory;
+import reactor.util.context.ContextView;
+
+/**
+ * Description: the meters of one named pipeline and the listener recording them.
+ * <p>
+ * the meter names are the ones of Micrometer.metrics(), but nothing is recorded per onNext
+ * except a plain increment: the elements are added to the counter by blocks of
+ * {@value #ON_NEXT_FLUSH} and when the flow terminates, instead of a timer sample per element.
+ * </p>
+ * <p>
+ * an unbounded request, Long.MAX_VALUE, is counted by .requested.unbounded instead of being
+ * recorded: one subscribe() would make the total and the max of .requested meaningless.
+ * </p>
+ *
+ * @author Justin_Zhang
+ * @date 10/18/2026 20:02
+ */
+class PipelineMeters {
+  static final int ON_NEXT_FLUSH = 1024;
+
+  private final Counter subscribed;
+
+  private final Counter onNext;
+
+  private final DistributionSummary requested;
+
+  private final Counter requestedUnbounded;
+
+  private final Timer completed;
+
+  private final Timer completedEmpty;
+
+  private final Timer error;
+
+  private final Timer cancelled;
+
+  PipelineMeters(MeterRegistry registry, String name, Tags tags) {
+    subscribed = Counter.builder(name + ".subscribed").tags(tags)
+        .description("subscriptions to the pipeline")
+        .register(registry);
+    onNext = Counter.builder(name + ".onNext").tags(tags)
+        .description("elements emitted by the pipeline")
+        .register(registry);
+    requested = DistributionSummary.builder(name + ".requested").tags(tags)
+        .description("demand signalled to the pipeline by its subscribers")
+        .register(registry);
+    requestedUnbounded = Counter.builder(name + ".requested.unbounded").tags(tags)
+        .description("unbounded demand signalled to the pipeline by its subscribers")
+        .register(registry);
+    completed = flowDuration(registry, name, tags, "completed");
+    completedEmpty = flowDuration(registry, name, tags, "completedEmpty");
+    error = flowDuration(registry, name, tags, "error");
+    cancelled = flowDuration(registry, name, tags, "cancelled");
+  }
+
+  private static Timer flowDuration(MeterRegistry registry, String name, Tags tags,
+      String status) {
+    return Timer.builder(name + ".flow.duration").tags(tags).tag("status", status)
+        .description("time from the subscription to the termination of the pipeline")
+        .publishPercentileHistogram()
+        .minimumExpectedValue(Duration.ofMillis(1))
+        .maximumExpectedValue(Duration.ofMinutes(1))
+        .register(registry);
+  }
+
+  <T> SignalListenerFactory<T, PipelineMeters> listenerFactory() {
+    return new SignalListenerFactory<>() {
+      @Override
+      public PipelineMeters initializePublisherState(Publisher<? extends T> source) {
+        return PipelineMeters.this;
+      }
+
+      @Override
+      public SignalListener<T> createListener(Publisher<? extends T> source,
+          ContextView listenerContext, PipelineMeters meters) {
+        return new Listener<>(meters);
+      }
+    };
+  }
+
+  /**
+   * one listener per subscription, the signals are serialized so the fields need no sync.
+   */
+  private static class Listener<T> extends DefaultSignalListener<T> {
+    private final PipelineMeters meters;
+
+    private long subscribedAt;
+
+    private long elements;
+
+    private long pending;
+
+    Listener(PipelineMeters meters) {
+      this.meters = meters;
+    }
+
+    @Override
+    public void doFirst() {
+      subscribedAt = System.nanoTime();
+      meters.subscribed.increment();
+    }
+
+    @Override
+    public void doOnRequest(long requested) {
+      if (requested == Long.MAX_VALUE) {
+        meters.requestedUnbounded.increment();
+      } else {
+        meters.requested.record(requested);
+      }
+    }
+
+    @Override
+    public void doOnNext(T value) {
+      elements++;
+      if (++pending == ON_NEXT_FLUSH) {
+        flush();
+      }
+    }
+
+    @Override
+    public void doOnComplete() {
+      terminate(elements == 0 ? meters.completedEmpty : meters.completed);
+    }
+
+    @Override
+    public void doOnError(Throwable error) {
+      terminate(meters.error);
+    }
+
+    @Override
+    public void doOnCancel() {
+      terminate(meters.cancelled);
+    }
+
+    private void terminate(Timer flowDuration) {
+      flush();
+      flowDuration.record(System.nanoTime() - subscribedAt, TimeUnit.NANOSECONDS);
+    }
+
+    private void flush() {
+      if (pending != 0) {
+        meters.onNext.increment(pending);
+        pending = 0;
+      }
+    }
+  }
+}
@@ -0,0 +1,128 @@
+package com.justin.reactor.metrics;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Metrics;
+import io.micrometer.core.instrument.Tag;
+import io.micrometer.core.instrument.Tags;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+import java.util.regex.Pattern;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+/**
+ * Description: the convention of per-pipeline metrics: name(), tag() and tap() applied by
+ * transform().
+ * <p>
+ * 1.the name of the pipeline prefixes its meters: {name}.flow.duration (tagged by status, so
+ * cancellations are counted apart), {name}.onNext (the onNext rate), {name}.requested
+ * (the request sizes, none when the downstream fuses and polls) and {name}.subscribed.
+ * </p>
+ * <p>
+ * 2.the tap is {@link PipelineMeters} and not Micrometer.metrics(): the latter records a timer
+ * sample per onNext, which divides the throughput of a Flux.range().map() by 20.
+ * </p>
+ * <p>
+ * 3.every tag becomes a dimension of all those meters, so the tags are guarded: at most
+ * {@value #MAX_TAGS} per pipeline, and at most {@value #MAX_VALUES_PER_KEY} distinct values per
+ * tag key across the registry. a tag breaking the guard (e.g. a user id) is rejected at assembly
+ * by IllegalArgumentException, before any meter is created.
+ * </p>
+ *
+ * @author Justin_Zhang
+ * @date 10/18/2026 19:20
+ */
+public class PipelineMetrics {
+  public static final int MAX_TAGS = 4;
+
+  public static final int MAX_VALUES_PER_KEY = 32;
+
+  private static final Pattern NAME = Pattern.compile("[a-z][a-zA-Z0-9]*(\\.[a-z][a-zA-Z0-9]*)*");
+
+  private static final PipelineMetrics GLOBAL = new PipelineMetrics(Metrics.globalRegistry);
+
+  private final MeterRegistry registry;
+
+  private final Map<String, Set<String>> valuesByKey = new ConcurrentHashMap<>();
+
+  public PipelineMetrics(MeterRegistry registry) {
+    this.registry = registry;
+  }
+
+  /**
+   * the pipeline metrics reporting to Metrics.globalRegistry, for the code outside of spring.
+   */
+  public static PipelineMetrics global() {
+    return GLOBAL;
+  }
+
+  /**
+   * instrument a Flux pipeline.
+   *
+   * @param name the name of the pipeline, dot separated, e.g. "sample.publishOn"
+   * @param tags key value pairs of low cardinality
+   * @return the transformer to pass to transform()
+   */
+  public <T> Function<Flux<T>, Flux<T>> flux(String name, String... tags) {
+    Tags checked = check(name, tags);
+    PipelineMeters meters = new PipelineMeters(registry, name, checked);
+    return flux -> {
+      Flux<T> tagged = flux.name(name);
+      for (Tag tag : checked) {
+        tagged = tagged.tag(tag.getKey(), tag.getValue());
+      }
+      return tagged.tap(meters.listenerFactory());
+    };
+  }
+
+  /**
+   * instrument a Mono pipeline.
+   *
+   * @param name the name of the pipeline, dot separated
+   * @param tags key value pairs of low cardinality
+   * @return the transformer to pass to transform()
+   */
+  public <T> Function<Mono<T>, Mono<T>> mono(String name, String... tags) {
+    Tags checked = check(name, tags);
+    PipelineMeters meters = new PipelineMeters(registry, name, checked);
+    return mono -> {
+      Mono<T> tagged = mono.name(name);
+      for (Tag tag : checked) {
+        tagged = tagged.tag(tag.getKey(), tag.getValue());
+      }
+      return tagged.tap(meters.listenerFactory());
+    };
+  }
+
+  private Tags check(String name, String... tags) {
+    if (name == null || !NAME.matcher(name).matches()) {
+      throw new IllegalArgumentException("invalid pipeline name: " + name);
+    }
+    if (tags.length % 2 != 0) {
+      throw new IllegalArgumentException("tags must be key value pairs");
+    }
+    if (tags.length / 2 > MAX_TAGS) {
+      throw new IllegalArgumentException(
+          "pipeline " + name + " has more than " + MAX_TAGS + " tags");
+    }
+    Tags checked = Tags.empty();
+    for (int i = 0; i < tags.length; i += 2) {
+      String key = tags[i];
+      String value = tags[i + 1];
+      if (key == null || key.isEmpty() || value == null || value.isEmpty()) {
+        throw new IllegalArgumentException("empty tag on pipeline " + name);
+      }
+      Set<String> values = valuesByKey.computeIfAbsent(key, k -> ConcurrentHashMap.newKeySet());
+      // check then add is racy, the guard may let a few values more through, never unbounded.
+      if (!values.contains(value) && values.size() >= MAX_VALUES_PER_KEY) {
+        throw new IllegalArgumentException("tag " + key + " has more than "
+            + MAX_VALUES_PER_KEY + " values, " + value + " rejected on pipeline " + name);
+      }
+      values.add(value);
+      checked = checked.and(key, value);
+    }
+    return checked;
+  }
+}
@@ -0,0 +1,112 @@
+package com.justin.reactor.parallel;
+
+import java.util.Objects;
+import java.util.function.Function;
+import org.reactivestreams.Publisher;
+import reactor.core.publisher.Flux;
+import reactor.core.scheduler.Scheduler;
+import reactor.core.scheduler.Schedulers;
+import reactor.util.concurrent.Queues;
+
+/**
+ * Description: process a flux in parallel, keeping the order of the elements of each key.
+ * <p>
+ * 1.parallel().runOn() deals the elements to the rails round robin: two events of one account
+ * may run at the same time, in any order. groupBy() by the key keeps the order, but opens a
+ * group per key: once flatMap() holds as many groups as its concurrency, groupBy() can't emit a
+ * new one, its buffer fills and the flux hangs (100k accounts for a concurrency of 256).
+ * </p>
+ * <p>
+ * 2.here the key is hashed onto a fixed number of rails, and the groups are the rails: never more
+ * groups than the concurrency of the flatMap() consuming them, so no hang, and no group allocated
+ * per key. a rail is a publishOn() on a worker of the scheduler followed by a concatMap(), all
+ * the elements of a key go through the same rail one after the other.
+ * </p>
+ * <p>
+ * 3.the order across keys isn't kept, and a slow key delays the other keys of its rail: use more
+ * rails than cores when the processing time varies a lot between keys.
+ * </p>
+ *
+ * @author Justin_Zhang
+ * @date 10/19/2026 02:55
+ */
+public final class KeyedParallel<T, K> {
+  private final Function<? super T, ? extends K> keyMapper;
+
+  private final int rails;
+
+  private final Scheduler scheduler;
+
+  private final int prefetch;
+
+  private KeyedParallel(Function<? super T, ? extends K> keyMapper, int rails,
+      Scheduler scheduler, int prefetch) {
+    if (rails <= 0 || prefetch <= 0) {
+      throw new IllegalArgumentException(
+          "rails and prefetch must be positive: " + rails + ", " + prefetch);
+    }
+    this.keyMapper = Objects.requireNonNull(keyMapper, "keyMapper");
+    this.rails = rails;
+    this.scheduler = Objects.requireNonNull(scheduler, "scheduler");
+    this.prefetch = prefetch;
+  }
+
+  /**
+   * one rail per core, on Schedulers.parallel().
+   *
+   * @param keyMapper the key whose order is kept, e.g. the account of an event
+   */
+  public static <T, K> KeyedParallel<T, K> by(Function<? super T, ? extends K> keyMapper) {
+    return new KeyedParallel<>(keyMapper, Schedulers.DEFAULT_POOL_SIZE, Schedulers.parallel(),
+        Queues.SMALL_BUFFER_SIZE);
+  }
+
+  public KeyedParallel<T, K> rails(int rails) {
+    return new KeyedParallel<>(keyMapper, rails, scheduler, prefetch);
+  }
+
+  /**
+   * the scheduler whose workers run the rails, each rail takes a worker.
+   */
+  public KeyedParallel<T, K> runOn(Scheduler scheduler) {
+    return new KeyedParallel<>(keyMapper, rails, scheduler, prefetch);
+  }
+
+  /**
+   * the elements buffered per rail.
+   */
+  public KeyedParallel<T, K> prefetch(int prefetch) {
+    return new KeyedParallel<>(keyMapper, rails, scheduler, prefetch);
+  }
+
+  /**
+   * map every element on its rail, to pass to transform().
+   */
+  public <R> Function<Flux<T>, Flux<R>> map(Function<? super T, ? extends R> mapper) {
+    return flux -> onRails(flux, rail -> rail.map(mapper));
+  }
+
+  /**
+   * process every element asynchronously on its rail, to pass to transform(). the publisher of an
+   * element completes before the next element of the rail is processed.
+   *
+   * @param handler the processing of an element
+   * @return the transformer, the results are merged in the order they come
+   */
+  public <R> Function<Flux<T>, Flux<R>> concatMap(
+      Function<? super T, ? extends Publisher<? extends R>> handler) {
+    return flux -> onRails(flux, rail -> rail.concatMap(handler));
+  }
+
+  private <R> Flux<R> onRails(Flux<T> flux, Function<Flux<T>, Flux<R>> processing) {
+    return flux
+        .groupBy(this::railOf, prefetch)
+        .flatMap(rail -> processing.apply(rail.publishOn(scheduler, prefetch)), rails, prefetch);
+  }
+
+  int railOf(T t) {
+    int h = Objects.hashCode(keyMapper.apply(t));
+    // spread the high bits, like HashMap, keys often differ only there.
+    return Math.floorMod(h ^ (h >>> 16), rails);
+  }
+}
@@ -0,0 +1,231 @@
+package com.justin.reactor.primitive;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.function.IntBinaryOperator;
+import java.util.function.IntPredicate;
+import java.util.function.IntToLongFunction;
+import java.util.function.IntUnaryOperator;
+import java.util.stream.IntStream;
+import org.reactivestreams.Publisher;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+/**
+ * Description: a Flux of int values carried unboxed, in chunks of int[].
+ * <p>
+ * 1.reactive streams only signal objects, so the values travel as a Flux&lt;int[]&gt;: the
+ * backpressure, the schedulers and the operators of Flux apply to chunks, while map(), filter()
+ * and reduce() loop over the int values of each chunk. a chunk of {@value #DEFAULT_CHUNK} values
+ * costs one array instead of {@value #DEFAULT_CHUNK} Integer.
+ * </p>
+ * <p>
+ * 2.the values are boxed only by boxed(), at the boundary with a regular Flux. buffer() and
+ * chunks() hand over arrays, reduce() boxes its result once.
+ * </p>
+ * <p>
+ * 3.a chunk given to fromChunks() or just() is never modified, so it may be shared or cached.
+ * the chunks created by the pipeline itself (range(), or any stage) are reused in place by
+ * map() and filter(), which then allocate nothing but for a filtered chunk.
+ * </p>
+ *
+ * @author Justin_Zhang
+ * @date 10/18/2026 23:50
+ */
+public final class IntFlux {
+  public static final int DEFAULT_CHUNK = 256;
+
+  private final Flux<int[]> chunks;
+
+  // the chunks are arrays created by this pipeline, that nothing else sees: stages may reuse them.
+  private final boolean owned;
+
+  private IntFlux(Flux<int[]> chunks, boolean owned) {
+    this.chunks = chunks;
+    this.owned = owned;
+  }
+
+  /**
+   * wrap a publisher of int chunks, e.g. the batches of a numeric source.
+   */
+  public static IntFlux fromChunks(Publisher<int[]> chunks) {
+    return new IntFlux(Flux.from(chunks).filter(chunk -> chunk.length > 0), false);
+  }
+
+  public static IntFlux just(int... values) {
+    return new IntFlux(values.length == 0 ? Flux.empty() : Flux.just(values), false);
+  }
+
+  public static IntFlux range(int start, int count) {
+    return range(start, count, DEFAULT_CHUNK);
+  }
+
+  /**
+   * the values start, start + 1, ... start + count - 1, generated chunk by chunk on demand.
+   *
+   * @param start     the first value
+   * @param count     the number of values
+   * @param chunkSize the number of values per chunk
+   * @return the int flux
+   */
+  public static IntFlux range(int start, int count, int chunkSize) {
+    if (count < 0 || chunkSize <= 0) {
+      throw new IllegalArgumentException(
+          "count must be >= 0 and chunkSize > 0: " + count + ", " + chunkSize);
+    }
+    if ((long) start + count - 1 > Integer.MAX_VALUE) {
+      throw new IllegalArgumentException("start + count overflows an int");
+    }
+    long end = (long) start + count;
+    return new IntFlux(Flux.generate(() -> (long) start, (next, sink) -> {
+      if (next == end) {
+        sink.complete();
+        return next;
+      }
+      int size = (int) Math.min(chunkSize, end - next);
+      int[] chunk = new int[size];
+      for (int i = 0; i < size; i++) {
+        chunk[i] = (int) (next + i);
+      }
+      sink.next(chunk);
+      return next + size;
+    }), true);
+  }
+
+  public IntFlux map(IntUnaryOperator mapper) {
+    return new IntFlux(chunks.map(chunk -> {
+      int[] mapped = owned ? chunk : new int[chunk.length];
+      for (int i = 0; i < chunk.length; i++) {
+        mapped[i] = mapper.applyAsInt(chunk[i]);
+      }
+      return mapped;
+    }), true);
+  }
+
+  public LongFlux mapToLong(IntToLongFunction mapper) {
+    return LongFlux.owned(chunks.map(chunk -> {
+      long[] mapped = new long[chunk.length];
+      for (int i = 0; i < chunk.length; i++) {
+        mapped[i] = mapper.applyAsLong(chunk[i]);
+      }
+      return mapped;
+    }));
+  }
+
+  /**
+   * keep the values matching the predicate, a chunk left empty is not emitted.
+   */
+  public IntFlux filter(IntPredicate predicate) {
+    return new IntFlux(chunks.<int[]>handle((chunk, sink) -> {
+      int[] kept = owned ? chunk : new int[chunk.length];
+      int n = 0;
+      for (int value : chunk) {
+        if (predicate.test(value)) {
+          kept[n++] = value;
+        }
+      }
+      if (n == chunk.length) {
+        sink.next(kept);
+      } else if (n > 0) {
+        sink.next(Arrays.copyOf(kept, n));
+      }
+    }), true);
+  }
+
+  /**
+   * reduce all the values, the result is boxed once.
+   *
+   * @param identity    the initial value
+   * @param accumulator the reducing function
+   * @return the result, the identity for an empty flux
+   */
+  public Mono<Integer> reduce(int identity, IntBinaryOperator accumulator) {
+    return chunks
+        .collect(() -> new int[] {identity}, (result, chunk) -> {
+          int acc = result[0];
+          for (int value : chunk) {
+            acc = accumulator.applyAsInt(acc, value);
+          }
+          result[0] = acc;
+        })
+        .map(result -> result[0]);
+  }
+
+  /**
+   * the sum of the values, as a long so that it doesn't overflow.
+   */
+  public Mono<Long> sum() {
+    return chunks
+        .collect(() -> new long[1], (result, chunk) -> {
+          long acc = result[0];
+          for (int value : chunk) {
+            acc += value;
+          }
+          result[0] = acc;
+        })
+        .map(result -> result[0]);
+  }
+
+  /**
+   * re-chunk the values into arrays of the given size, the last one may be smaller.
+   */
+  public Flux<int[]> buffer(int size) {
+    if (size <= 0) {
+      throw new IllegalArgumentException("size must be positive: " + size);
+    }
+    return Flux.defer(() -> {
+      Rechunker rechunker = new Rechunker(size);
+      return chunks.concatMapIterable(rechunker::add)
+          .concatWith(Mono.fromSupplier(rechunker::flush));
+    });
+  }
+
+  public Flux<int[]> chunks() {
+    return chunks;
+  }
+
+  /**
+   * convert to a regular flux, boxing every value.
+   */
+  public Flux<Integer> boxed() {
+    return chunks.concatMapIterable(chunk -> () -> IntStream.of(chunk).iterator());
+  }
+
+  /**
+   * the state of one subscription to buffer().
+   */
+  private static final class Rechunker {
+    private final int size;
+
+    private int[] current;
+
+    private int filled;
+
+    Rechunker(int size) {
+      this.size = size;
+      this.current = new int[size];
+    }
+
+    List<int[]> add(int[] chunk) {
+      List<int[]> full = new ArrayList<>(1 + chunk.length / size);
+      int offset = 0;
+      while (offset < chunk.length) {
+        int n = Math.min(size - filled, chunk.length - offset);
+        System.arraycopy(chunk, offset, current, filled, n);
+        filled += n;
+        offset += n;
+        if (filled == size) {
+          full.add(current);
+          current = new int[size];
+          filled = 0;
+        }
+      }
+      return full;
+    }
+
+    int[] flush() {
+      return filled == 0 ? null : Arrays.copyOf(current, filled);
+    }
+  }
+}
@@ -0,0 +1,221 @@
+package com.justin.reactor.primitive;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.function.LongBinaryOperator;
+import java.util.function.LongPredicate;
+import java.util.function.LongUnaryOperator;
+import java.util.stream.LongStream;
+import org.reactivestreams.Publisher;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+/**
+ * Description: a Flux of long values carried unboxed, in chunks of long[].
+ * <p>
+ * 1.reactive streams only signal objects, so the values travel as a Flux&lt;long[]&gt;: the
+ * backpressure, the schedulers and the operators of Flux apply to chunks, while map(), filter()
+ * and reduce() loop over the long values of each chunk. a chunk of {@value #DEFAULT_CHUNK} values
+ * costs one array instead of {@value #DEFAULT_CHUNK} Long.
+ * </p>
+ * <p>
+ * 2.the values are boxed only by boxed(), at the boundary with a regular Flux. buffer() and
+ * chunks() hand over arrays, reduce() boxes its result once.
+ * </p>
+ * <p>
+ * 3.a chunk given to fromChunks() or just() is never modified, so it may be shared or cached.
+ * the chunks created by the pipeline itself (range(), or any stage) are reused in place by
+ * map() and filter(), which then allocate nothing but for a filtered chunk.
+ * </p>
+ *
+ * @author Justin_Zhang
+ * @date 10/18/2026 23:58
+ */
+public final class LongFlux {
+  public static final int DEFAULT_CHUNK = IntFlux.DEFAULT_CHUNK;
+
+  private final Flux<long[]> chunks;
+
+  // the chunks are arrays created by this pipeline, that nothing else sees: stages may reuse them.
+  private final boolean owned;
+
+  private LongFlux(Flux<long[]> chunks, boolean owned) {
+    this.chunks = chunks;
+    this.owned = owned;
+  }
+
+  /**
+   * wrap a publisher of long chunks, e.g. the batches of a numeric source.
+   */
+  public static LongFlux fromChunks(Publisher<long[]> chunks) {
+    return new LongFlux(Flux.from(chunks).filter(chunk -> chunk.length > 0), false);
+  }
+
+  /**
+   * the chunks created by another primitive flux, e.g. IntFlux.mapToLong().
+   */
+  static LongFlux owned(Flux<long[]> chunks) {
+    return new LongFlux(chunks, true);
+  }
+
+  public static LongFlux just(long... values) {
+    return new LongFlux(values.length == 0 ? Flux.empty() : Flux.just(values), false);
+  }
+
+  public static LongFlux range(long start, long count) {
+    return range(start, count, DEFAULT_CHUNK);
+  }
+
+  /**
+   * the values start, start + 1, ... start + count - 1, generated chunk by chunk on demand.
+   *
+   * @param start     the first value
+   * @param count     the number of values
+   * @param chunkSize the number of values per chunk
+   * @return the long flux
+   */
+  public static LongFlux range(long start, long count, int chunkSize) {
+    if (count < 0 || chunkSize <= 0) {
+      throw new IllegalArgumentException(
+          "count must be >= 0 and chunkSize > 0: " + count + ", " + chunkSize);
+    }
+    // the last value start + count - 1 may be Long.MAX_VALUE, start + count may not.
+    if (count > 0 && start > Long.MAX_VALUE - (count - 1)) {
+      throw new IllegalArgumentException("start + count - 1 overflows a long");
+    }
+    // the state is the number of values emitted, the values never go past the last one.
+    return new LongFlux(Flux.generate(() -> 0L, (emitted, sink) -> {
+      if (emitted == count) {
+        sink.complete();
+        return emitted;
+      }
+      int size = (int) Math.min(chunkSize, count - emitted);
+      long first = start + emitted;
+      long[] chunk = new long[size];
+      for (int i = 0; i < size; i++) {
+        chunk[i] = first + i;
+      }
+      sink.next(chunk);
+      return emitted + size;
+    }), true);
+  }
+
+  public LongFlux map(LongUnaryOperator mapper) {
+    return new LongFlux(chunks.map(chunk -> {
+      long[] mapped = owned ? chunk : new long[chunk.length];
+      for (int i = 0; i < chunk.length; i++) {
+        mapped[i] = mapper.applyAsLong(chunk[i]);
+      }
+      return mapped;
+    }), true);
+  }
+
+  /**
+   * keep the values matching the predicate, a chunk left empty is not emitted.
+   */
+  public LongFlux filter(LongPredicate predicate) {
+    return new LongFlux(chunks.<long[]>handle((chunk, sink) -> {
+      long[] kept = owned ? chunk : new long[chunk.length];
+      int n = 0;
+      for (long value : chunk) {
+        if (predicate.test(value)) {
+          kept[n++] = value;
+        }
+      }
+      if (n == chunk.length) {
+        sink.next(kept);
+      } else if (n > 0) {
+        sink.next(Arrays.copyOf(kept, n));
+      }
+    }), true);
+  }
+
+  /**
+   * reduce all the values, the result is boxed once.
+   *
+   * @param identity    the initial value
+   * @param accumulator the reducing function
+   * @return the result, the identity for an empty flux
+   */
+  public Mono<Long> reduce(long identity, LongBinaryOperator accumulator) {
+    return chunks
+        .collect(() -> new long[] {identity}, (result, chunk) -> {
+          long acc = result[0];
+          for (long value : chunk) {
+            acc = accumulator.applyAsLong(acc, value);
+          }
+          result[0] = acc;
+        })
+        .map(result -> result[0]);
+  }
+
+  /**
+   * the sum of the values, overflowing like a long addition.
+   */
+  public Mono<Long> sum() {
+    return reduce(0L, Long::sum);
+  }
+
+  /**
+   * re-chunk the values into arrays of the given size, the last one may be smaller.
+   */
+  public Flux<long[]> buffer(int size) {
+    if (size <= 0) {
+      throw new IllegalArgumentException("size must be positive: " + size);
+    }
+    return Flux.defer(() -> {
+      Rechunker rechunker = new Rechunker(size);
+      return chunks.concatMapIterable(rechunker::add)
+          .concatWith(Mono.fromSupplier(rechunker::flush));
+    });
+  }
+
+  public Flux<long[]> chunks() {
+    return chunks;
+  }
+
+  /**
+   * convert to a regular flux, boxing every value.
+   */
+  public Flux<Long> boxed() {
+    return chunks.concatMapIterable(chunk -> () -> LongStream.of(chunk).iterator());
+  }
+
+  /**
+   * the state of one subscription to buffer().
+   */
+  private static final class Rechunker {
+    private final int size;
+
+    private long[] current;
+
+    private int filled;
+
+    Rechunker(int size) {
+      this.size = size;
+      this.current = new long[size];
+    }
+
+    List<long[]> add(long[] chunk) {
+      List<long[]> full = new ArrayList<>(1 + chunk.length / size);
+      int offset = 0;
+      while (offset < chunk.length) {
+        int n = Math.min(size - filled, chunk.length - offset);
+        System.arraycopy(chunk, offset, current, filled, n);
+        filled += n;
+        offset += n;
+        if (filled == size) {
+          full.add(current);
+          current = new long[size];
+          filled = 0;
+        }
+      }
+      return full;
+    }
+
+    long[] flush() {
+      return filled == 0 ? null : Arrays.copyOf(current, filled);
+    }
+  }
+}
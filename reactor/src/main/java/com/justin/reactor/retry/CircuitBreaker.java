@@ -0,0 +1,175 @@
+package com.justin.reactor.retry;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.time.Duration;
+import java.util.Objects;
+import java.util.concurrent.TimeUnit;
+import java.util.function.LongSupplier;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
+
+/**
+ * Description: a circuit breaker short-circuiting the calls to a failing downstream.
+ * <p>
+ * 1.CLOSED: the calls go through, failureThreshold failures in a row open the circuit.
+ * OPEN: the calls fail at once with a {@link CircuitOpenException}, without calling the
+ * downstream, for openDuration. HALF_OPEN: one trial call goes through, its success closes the
+ * circuit, its failure opens it again.
+ * </p>
+ * <p>
+ * 2.a call through a closed circuit costs volatile reads, the transitions and failures are
+ * synchronized.
+ * </p>
+ * <p>
+ * 3.the clock is the one of Schedulers.parallel(), a VirtualTimeScheduler in tests.
+ * </p>
+ *
+ * @author Justin_Zhang
+ * @date 10/19/2026 05:15
+ */
+public class CircuitBreaker {
+  public enum State {
+    CLOSED, OPEN, HALF_OPEN
+  }
+
+  static final int REJECTED = 0;
+
+  static final int PASSED = 1;
+
+  static final int TRIAL = 2;
+
+  private final String name;
+
+  private final int failureThreshold;
+
+  private final long openMillis;
+
+  private final LongSupplier millisClock;
+
+  private volatile State state = State.CLOSED;
+
+  private volatile Counter rejected;
+
+  // written under the lock, read without it by the calls of a closed circuit.
+  private volatile int consecutiveFailures;
+
+  // guarded by this.
+  private long openedAt;
+
+  private boolean trialInFlight;
+
+  CircuitBreaker(String name, int failureThreshold, Duration openDuration,
+      LongSupplier millisClock) {
+    if (failureThreshold <= 0 || openDuration.isNegative()) {
+      throw new IllegalArgumentException(
+          "failureThreshold must be positive and openDuration >= 0: " + failureThreshold + ", "
+              + openDuration);
+    }
+    this.name = Objects.requireNonNull(name, "name");
+    this.failureThreshold = failureThreshold;
+    this.openMillis = openDuration.toMillis();
+    this.millisClock = millisClock;
+  }
+
+  /**
+   * a circuit breaker, to share between the pipelines calling the same downstream.
+   *
+   * @param name             the name of the downstream
+   * @param failureThreshold the failures in a row opening the circuit
+   * @param openDuration     the time the circuit stays open before a trial call
+   * @return the circuit breaker
+   */
+  public static CircuitBreaker of(String name, int failureThreshold, Duration openDuration) {
+    return new CircuitBreaker(name, failureThreshold, openDuration,
+        () -> Schedulers.parallel().now(TimeUnit.MILLISECONDS));
+  }
+
+  /**
+   * publish the gauge {name}.circuit.open, 1 unless closed, and the counter
+   * {name}.circuit.rejected.
+   */
+  public void register(MeterRegistry registry) {
+    Gauge.builder(name + ".circuit.open", this, breaker -> breaker.state == State.CLOSED ? 0 : 1)
+        .description("1 when the circuit is open or half open")
+        .register(registry);
+    rejected = Counter.builder(name + ".circuit.rejected")
+        .description("calls rejected by the open circuit")
+        .register(registry);
+  }
+
+  /**
+   * the call, guarded by the circuit: every subscription, i.e. every attempt, goes through it.
+   */
+  public <T> Mono<T> protect(Mono<T> call) {
+    return Mono.defer(() -> {
+      int permit = tryAcquire();
+      if (permit == REJECTED) {
+        Counter counter = rejected;
+        if (counter != null) {
+          counter.increment();
+        }
+        return Mono.error(new CircuitOpenException(name));
+      }
+      Mono<T> guarded = call
+          .doOnSuccess(value -> onSuccess())
+          .doOnError(error -> onFailure());
+      return permit == TRIAL ? guarded.doOnCancel(this::onTrialCancelled) : guarded;
+    });
+  }
+
+  public State state() {
+    return state;
+  }
+
+  /**
+   * REJECTED, PASSED through a closed circuit, or the TRIAL of a half open one.
+   */
+  int tryAcquire() {
+    if (state == State.CLOSED) {
+      return PASSED;
+    }
+    synchronized (this) {
+      if (state == State.OPEN && millisClock.getAsLong() - openedAt >= openMillis) {
+        state = State.HALF_OPEN;
+        trialInFlight = false;
+      }
+      if (state == State.HALF_OPEN && !trialInFlight) {
+        trialInFlight = true;
+        return TRIAL;
+      }
+      return state == State.CLOSED ? PASSED : REJECTED;
+    }
+  }
+
+  void onSuccess() {
+    if (state == State.CLOSED && consecutiveFailures == 0) {
+      return;
+    }
+    synchronized (this) {
+      consecutiveFailures = 0;
+      if (state == State.HALF_OPEN) {
+        state = State.CLOSED;
+      }
+    }
+  }
+
+  synchronized void onFailure() {
+    if (state == State.HALF_OPEN || (state == State.CLOSED
+        && (consecutiveFailures = consecutiveFailures + 1) >= failureThreshold)) {
+      state = State.OPEN;
+      openedAt = millisClock.getAsLong();
+      consecutiveFailures = 0;
+    }
+  }
+
+  /**
+   * a cancelled trial call lets another one try.
+   */
+  synchronized void onTrialCancelled() {
+    if (state == State.HALF_OPEN) {
+      trialInFlight = false;
+    }
+  }
+}
@@ -0,0 +1,14 @@
+package com.justin.reactor.retry;
+
+/**
+ * Description: the error of a call rejected by an open {@link CircuitBreaker}, never retried.
+ *
+ * @author Justin_Zhang
+ * @date 10/19/2026 05:10
+ */
+public class CircuitOpenException extends RuntimeException {
+  public CircuitOpenException(String name) {
+    // thrown at a high rate while the circuit is open, without a stack trace.
+    super("circuit " + name + " is open", null, false, false);
+  }
+}
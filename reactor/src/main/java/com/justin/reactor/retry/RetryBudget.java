@@ -0,0 +1,131 @@
+package com.justin.reactor.retry;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.LongSupplier;
+import reactor.core.scheduler.Schedulers;
+
+/**
+ * Description: a budget of retries shared by the pipelines calling one downstream.
+ * <p>
+ * 1.every call deposits ratio of a retry, every retry withdraws one: the retries stay below that
+ * ratio of the calls, whatever the retry policy of each pipeline. without it, during an outage
+ * every caller retries maxRetries times and the downstream gets (1 + maxRetries) times the load:
+ * a retry storm that keeps it down.
+ * </p>
+ * <p>
+ * 2.minRetriesPerSecond retries are allowed anyway, so that a low traffic still retries. the
+ * balance is capped at maxBalance retries, an idle period can't save up for a storm.
+ * </p>
+ * <p>
+ * 3.the clock is the one of Schedulers.parallel(), a VirtualTimeScheduler in tests.
+ * </p>
+ *
+ * @author Justin_Zhang
+ * @date 10/19/2026 05:05
+ */
+public class RetryBudget {
+  // the balance counts thousandths of a retry.
+  private static final long UNIT = 1000;
+
+  static final int DEFAULT_MAX_BALANCE = 100;
+
+  private final long deposit;
+
+  private final long maxBalance;
+
+  private final int minRetriesPerSecond;
+
+  private final LongSupplier millisClock;
+
+  private final AtomicLong balance = new AtomicLong();
+
+  // guarded by this.
+  private long reserveSecond = Long.MIN_VALUE;
+
+  private int reserveUsed;
+
+  RetryBudget(double ratio, int minRetriesPerSecond, int maxBalance, LongSupplier millisClock) {
+    if (ratio < 0 || minRetriesPerSecond < 0 || maxBalance < 0) {
+      throw new IllegalArgumentException("ratio, minRetriesPerSecond and maxBalance must be >= 0: "
+          + ratio + ", " + minRetriesPerSecond + ", " + maxBalance);
+    }
+    this.deposit = Math.round(ratio * UNIT);
+    this.maxBalance = maxBalance * UNIT;
+    this.minRetriesPerSecond = minRetriesPerSecond;
+    this.millisClock = millisClock;
+  }
+
+  /**
+   * a budget of ratio retries per call, at most 100 saved up.
+   *
+   * @param ratio               the retries allowed per call, e.g. 0.1 for 10%
+   * @param minRetriesPerSecond the retries allowed per second whatever the calls
+   * @return the budget, to share between the policies retrying the same downstream
+   */
+  public static RetryBudget of(double ratio, int minRetriesPerSecond) {
+    return new RetryBudget(ratio, minRetriesPerSecond, DEFAULT_MAX_BALANCE,
+        () -> Schedulers.parallel().now(TimeUnit.MILLISECONDS));
+  }
+
+  /**
+   * a call was made.
+   */
+  public void deposit() {
+    for (;;) {
+      long current = balance.get();
+      long next = Math.min(maxBalance, current + deposit);
+      if (next == current || balance.compareAndSet(current, next)) {
+        return;
+      }
+    }
+  }
+
+  /**
+   * take a retry from the budget.
+   *
+   * @return false when the budget is exhausted: don't retry
+   */
+  public boolean tryWithdraw() {
+    for (;;) {
+      long current = balance.get();
+      if (current < UNIT) {
+        return tryReserve();
+      }
+      if (balance.compareAndSet(current, current - UNIT)) {
+        return true;
+      }
+    }
+  }
+
+  private synchronized boolean tryReserve() {
+    long second = millisClock.getAsLong() / 1000;
+    if (second != reserveSecond) {
+      reserveSecond = second;
+      reserveUsed = 0;
+    }
+    if (reserveUsed < minRetriesPerSecond) {
+      reserveUsed++;
+      return true;
+    }
+    return false;
+  }
+
+  /**
+   * the retries available, without the per second reserve.
+   */
+  public double balance() {
+    return (double) balance.get() / UNIT;
+  }
+
+  /**
+   * publish the balance as the gauge {name}.retry.budget.balance.
+   */
+  public void register(MeterRegistry registry, String name) {
+    Gauge.builder(name + ".retry.budget.balance", this, RetryBudget::balance)
+        .description("retries available in the budget shared by the callers")
+        .register(registry);
+  }
+}
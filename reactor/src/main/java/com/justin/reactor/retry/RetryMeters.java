@@ -0,0 +1,45 @@
+package com.justin.reactor.retry;
+
+import com.justin.reactor.metrics.MeterRegistries;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+
+/**
+ * Description: the counters of one retry policy.
+ * <p>
+ * {name}.retry.attempts counts the calls to the downstream, the first ones and the retries,
+ * {name}.retry.retries the retries only, and {name}.retry.exhausted the calls given up, tagged
+ * with the reason: the retries of the call, or the budget.
+ * </p>
+ *
+ * @author Justin_Zhang
+ * @date 10/19/2026 05:25
+ */
+class RetryMeters {
+  static final RetryMeters NOOP = new RetryMeters(MeterRegistries.noop(), "noop");
+
+  final Counter attempts;
+
+  final Counter retries;
+
+  final Counter exhaustedRetries;
+
+  final Counter exhaustedBudget;
+
+  RetryMeters(MeterRegistry registry, String name) {
+    attempts = Counter.builder(name + ".retry.attempts")
+        .description("calls to the downstream, retries included")
+        .register(registry);
+    retries = Counter.builder(name + ".retry.retries")
+        .description("calls to the downstream retrying a failed one")
+        .register(registry);
+    exhaustedRetries = exhausted(registry, name, "retries");
+    exhaustedBudget = exhausted(registry, name, "budget");
+  }
+
+  private static Counter exhausted(MeterRegistry registry, String name, String reason) {
+    return Counter.builder(name + ".retry.exhausted").tag("reason", reason)
+        .description("failed calls not retried anymore")
+        .register(registry);
+  }
+}
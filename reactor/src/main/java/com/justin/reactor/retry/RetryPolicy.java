@@ -0,0 +1,185 @@
+package com.justin.reactor.retry;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import java.time.Duration;
+import java.util.Objects;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.function.DoubleSupplier;
+import java.util.function.Function;
+import java.util.function.Predicate;
+import reactor.core.Exceptions;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
+import reactor.util.annotation.Nullable;
+import reactor.util.retry.Retry;
+
+/**
+ * Description: a retry policy with an exponential backoff and full jitter, bounded by a shared
+ * {@link RetryBudget} and guarded by a {@link CircuitBreaker}.
+ * <p>
+ * 1.the n-th retry waits a random delay in [0, min(maxBackoff, minBackoff * 2^n)]: the full
+ * jitter. Retry.backoff().jitter() spreads the delays around the backoff, the callers that failed
+ * together still retry about together; here they are spread over the whole backoff.
+ * </p>
+ * <p>
+ * 2.a retry is withdrawn from the budget, a call gives up with its error once the budget is
+ * exhausted. the errors of an open circuit are never retried, the errors rejected by the filter
+ * neither.
+ * </p>
+ * <p>
+ * 3.toRetry() is the Retry to pass to retryWhen(). transformer() does the whole: deposits into the
+ * budget per call, goes through the circuit breaker per attempt, counts the attempts, retries.
+ * </p>
+ * <p>
+ * 4.the delays run on Schedulers.parallel(), a VirtualTimeScheduler in tests.
+ * </p>
+ *
+ * @author Justin_Zhang
+ * @date 10/19/2026 05:30
+ */
+public final class RetryPolicy {
+  private final long maxRetries;
+
+  private final Duration minBackoff;
+
+  private final Duration maxBackoff;
+
+  private final Predicate<Throwable> filter;
+
+  @Nullable
+  private final RetryBudget budget;
+
+  @Nullable
+  private final CircuitBreaker circuitBreaker;
+
+  private final RetryMeters meters;
+
+  private final DoubleSupplier random;
+
+  private RetryPolicy(long maxRetries, Duration minBackoff, Duration maxBackoff,
+      Predicate<Throwable> filter, @Nullable RetryBudget budget,
+      @Nullable CircuitBreaker circuitBreaker, RetryMeters meters, DoubleSupplier random) {
+    this.maxRetries = maxRetries;
+    this.minBackoff = minBackoff;
+    this.maxBackoff = maxBackoff;
+    this.filter = filter;
+    this.budget = budget;
+    this.circuitBreaker = circuitBreaker;
+    this.meters = meters;
+    this.random = random;
+  }
+
+  /**
+   * retry with an exponential backoff and full jitter.
+   *
+   * @param maxRetries the retries of a call, after its first attempt
+   * @param minBackoff the backoff of the first retry
+   * @param maxBackoff the longest backoff
+   * @return the policy, without budget nor circuit breaker
+   */
+  public static RetryPolicy backoff(long maxRetries, Duration minBackoff, Duration maxBackoff) {
+    if (maxRetries < 0 || minBackoff.isNegative() || maxBackoff.compareTo(minBackoff) < 0) {
+      throw new IllegalArgumentException(
+          "maxRetries must be >= 0 and 0 <= minBackoff <= maxBackoff: " + maxRetries + ", "
+              + minBackoff + ", " + maxBackoff);
+    }
+    return new RetryPolicy(maxRetries, minBackoff, maxBackoff, error -> true, null, null,
+        RetryMeters.NOOP, () -> ThreadLocalRandom.current().nextDouble());
+  }
+
+  /**
+   * retry only the errors matching the predicate.
+   */
+  public RetryPolicy filter(Predicate<Throwable> filter) {
+    return new RetryPolicy(maxRetries, minBackoff, maxBackoff, Objects.requireNonNull(filter),
+        budget, circuitBreaker, meters, random);
+  }
+
+  /**
+   * withdraw every retry from the budget, shared by the policies of the same downstream.
+   */
+  public RetryPolicy budget(RetryBudget budget) {
+    return new RetryPolicy(maxRetries, minBackoff, maxBackoff, filter,
+        Objects.requireNonNull(budget), circuitBreaker, meters, random);
+  }
+
+  /**
+   * guard every attempt of transformer() by the circuit breaker.
+   */
+  public RetryPolicy circuitBreaker(CircuitBreaker circuitBreaker) {
+    return new RetryPolicy(maxRetries, minBackoff, maxBackoff, filter, budget,
+        Objects.requireNonNull(circuitBreaker), meters, random);
+  }
+
+  /**
+   * count the attempts, retries and exhausted calls, see {@link RetryMeters}.
+   */
+  public RetryPolicy metrics(MeterRegistry registry, String name) {
+    return new RetryPolicy(maxRetries, minBackoff, maxBackoff, filter, budget, circuitBreaker,
+        new RetryMeters(registry, name), random);
+  }
+
+  RetryPolicy random(DoubleSupplier random) {
+    return new RetryPolicy(maxRetries, minBackoff, maxBackoff, filter, budget, circuitBreaker,
+        meters, random);
+  }
+
+  /**
+   * the Retry to pass to retryWhen(), without the circuit breaker: it can't see the attempts.
+   */
+  public Retry toRetry() {
+    return new Retry() {
+      @Override
+      public Flux<Long> generateCompanion(Flux<RetrySignal> retrySignals) {
+        return retrySignals.concatMap(signal -> {
+          Throwable failure = signal.failure();
+          if (failure instanceof CircuitOpenException || !filter.test(failure)) {
+            return Mono.error(failure);
+          }
+          long retry = signal.totalRetries();
+          if (retry >= maxRetries) {
+            meters.exhaustedRetries.increment();
+            return Mono.error(Exceptions.retryExhausted(
+                "retries exhausted: " + retry + "/" + maxRetries, failure));
+          }
+          if (budget != null && !budget.tryWithdraw()) {
+            meters.exhaustedBudget.increment();
+            return Mono.error(failure);
+          }
+          meters.retries.increment();
+          return Mono.delay(RetryPolicy.this.backoff(retry), Schedulers.parallel());
+        });
+      }
+    };
+  }
+
+  /**
+   * retry a call, guarded by the budget and the circuit breaker, to pass to transform().
+   */
+  public <T> Function<Mono<T>, Mono<T>> transformer() {
+    Retry retry = toRetry();
+    return call -> {
+      Mono<T> attempt = call.doOnSubscribe(subscription -> meters.attempts.increment());
+      Mono<T> guarded = circuitBreaker == null ? attempt : circuitBreaker.protect(attempt);
+      return Mono.defer(() -> {
+        if (budget != null) {
+          budget.deposit();
+        }
+        return guarded.retryWhen(retry);
+      });
+    };
+  }
+
+  /**
+   * the delay before the retry, a retry being numbered from 0.
+   */
+  Duration backoff(long retry) {
+    long min = minBackoff.toNanos();
+    long max = maxBackoff.toNanos();
+    // min * 2^retry, without overflowing.
+    long ceiling = retry >= Long.numberOfLeadingZeros(Math.max(min, 1)) - 1
+        ? max : Math.min(max, min << retry);
+    return Duration.ofNanos((long) (random.getAsDouble() * ceiling));
+  }
+}
@@ -1,5 +1,8 @@
 package com.justin.reactor.sample;
 
+import com.justin.reactor.backpressure.AdaptiveLimitRate;
+import com.justin.reactor.metrics.PipelineMetrics;
+import com.justin.reactor.util.ThreadUtil;
 import lombok.extern.slf4j.Slf4j;
 import org.reactivestreams.Subscription;
 import reactor.core.publisher.BaseSubscriber;
@@ -31,6 +34,8 @@ public class BackpressureAndReshapeRequestsSample {
   public void simpleWayToCustomRequest() {
     Flux.range(1, 10)
         .doOnRequest(num -> log.info("do on request: {}", num))
+        // the cancellation is counted as flow.duration{status="cancelled"}.
+        .transform(PipelineMetrics.global().flux("sample.customRequest", "sample", "backpressure"))
         .subscribe(new BaseSubscriber<Integer>() {
           @Override
           protected void hookOnSubscribe(Subscription subscription) {
@@ -48,10 +53,13 @@ public class BackpressureAndReshapeRequestsSample {
 
   /**
    * change the demand from downstream.
-   * TODO: how to test effect of backpressure using limitRate?
+   * the effect of limitRate is the sequence of requests seen by the upstream, the test records
+   * it with doOnRequest.
    */
   public void operatorsThatChangeTheDemandFromDownstream() {
-    Flux.range(1, 20).limitRate(5)
+    Flux.range(1, 20)
+        .transform(PipelineMetrics.global().flux("sample.limitRate", "sample", "backpressure"))
+        .limitRate(5)
         .subscribe(num -> log.info("limitRateWithPrefetch: {}", num.toString()));
 
     Flux.range(1, 20).limitRate(5, 2)
@@ -60,4 +68,19 @@ public class BackpressureAndReshapeRequestsSample {
     Flux.range(1, 20).limitRequest(5)
         .subscribe(num -> log.info("limitRequest: {}", num));
   }
+
+  /**
+   * a limitRate whose window follows the consumer: it grows while the consumer waits for
+   * elements and shrinks when elements wait for the consumer.
+   */
+  public void adaptiveLimitRate() {
+    Flux.range(1, 1000)
+        .doOnRequest(num -> log.info("adaptive request: {}", num))
+        .transform(AdaptiveLimitRate.of(4, 64))
+        .subscribe(num -> {
+          if (num > 500) {
+            ThreadUtil.sleepByMillisecond(1);
+          }
+        });
+  }
 }
@@ -1,5 +1,6 @@
 package com.justin.reactor.sample;
 
+import com.justin.reactor.subscriber.BatchedRequestSubscriber;
 import lombok.extern.slf4j.Slf4j;
 import org.reactivestreams.Subscription;
 import reactor.core.publisher.BaseSubscriber;
@@ -23,6 +24,27 @@ public class BaseSubscriberSample {
     ints.subscribe(sampleSubscriber);
   }
 
+  /**
+   * subscribe with a subscriber requesting by batches instead of request(1) per element.
+   */
+  public void useBatchedSubscriberToSubscribe() {
+    Flux.range(1, 100)
+        .doOnRequest(num -> log.info("request: {}", num))
+        .subscribe(new BatchedRequestSubscriber<Integer>(16) {
+          private int sum;
+
+          @Override
+          protected void hookOnNext(Integer value) {
+            sum += value;
+          }
+
+          @Override
+          protected void hookOnBatch(int size) {
+            log.info("batch of {}, sum: {}", size, sum);
+          }
+        });
+  }
+
   static class SampleSubscriber<T> extends BaseSubscriber<T> {
     @Override
     protected void hookOnSubscribe(Subscription subscription) {
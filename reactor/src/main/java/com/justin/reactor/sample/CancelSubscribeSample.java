@@ -1,30 +1,32 @@
 package com.justin.reactor.sample;
 
+import com.justin.reactor.hedge.Hedger;
+import com.justin.reactor.scheduler.SchedulerRegistry;
 import com.justin.reactor.util.ThreadUtil;
 import java.time.Duration;
 import java.util.ArrayList;
 import java.util.List;
-import java.util.concurrent.ExecutorService;
-import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.concurrent.atomic.AtomicReference;
 import lombok.extern.slf4j.Slf4j;
 import reactor.core.Disposable;
 import reactor.core.Disposables;
 import reactor.core.publisher.Flux;
-import reactor.core.scheduler.Schedulers;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Scheduler;
 
 /**
  * Description: the sample of cancel subscribe.
  * cancellation is a signal that the resource should stop producing elements.
  * it is not guaranteed to be immediate. maybe producer complete fast before receive signal.
+ * the schedulers are leases of the SchedulerRegistry, released once the sample is done.
  *
  * @author Justin_Zhang
  * @date 11/12/2022 10:04
  */
 @Slf4j
 public class CancelSubscribeSample {
-  private final ExecutorService executor = Executors
-      .newFixedThreadPool(Runtime.getRuntime().availableProcessors());
+  private final SchedulerRegistry schedulers = SchedulerRegistry.global();
 
   /**
    * description: cancel a fixed flux.
@@ -43,11 +45,15 @@ public class CancelSubscribeSample {
    * cancel a interval flux.
    */
   public void cancelIntervalFlux() {
-    Disposable disposable = Flux.interval(Duration.ofMillis(300),
-            Schedulers.newParallel("parallel-1"))
-        .subscribe(num -> log.info(num.toString()));
-    ThreadUtil.sleepBySecond(1);
-    disposable.dispose();
+    Scheduler scheduler = schedulers.parallel("parallel-1");
+    try {
+      Disposable disposable = Flux.interval(Duration.ofMillis(300), scheduler)
+          .subscribe(num -> log.info(num.toString()));
+      ThreadUtil.sleepBySecond(1);
+      disposable.dispose();
+    } finally {
+      scheduler.dispose();
+    }
   }
 
   /**
@@ -55,13 +61,18 @@ public class CancelSubscribeSample {
    */
   public void tryToCancelFluxByThread() {
     AtomicReference<Disposable> disposableAtomic = new AtomicReference<>();
-    // executor.execute(() -> disposableAtomic.set(subscribeOneFlux()));
-    executor.execute(() -> disposableAtomic.set(subscribeFlux()));
-    // after flux has produced all element, disposable had a result otherwise it's a null
-    // because flux.just().map is synchronous, though execute by another thread,
-    // disposable still need to wait flux producing done to receive result
-    ThreadUtil.sleepBySecond(2);
-    disposableAtomic.get().dispose();
+    Scheduler scheduler = schedulers.boundedElastic("cancel-subscribe");
+    try {
+      scheduler.schedule(() -> disposableAtomic.set(subscribeFlux()));
+      // after flux has produced all element, disposable had a result otherwise it's a null
+      // because flux.just().map is synchronous, though execute by another thread,
+      // disposable still need to wait flux producing done to receive result
+      ThreadUtil.sleepBySecond(2);
+      disposableAtomic.get().dispose();
+    } finally {
+      // the last lease: disposing the scheduler interrupts the flux still sleeping.
+      scheduler.dispose();
+    }
   }
 
   private Disposable subscribeFlux() {
@@ -75,19 +86,26 @@ public class CancelSubscribeSample {
    * swap flux by wrapper class Swap.
    */
   public void swapDisposable() {
-    Disposable disposable = Flux.interval(Duration.ofSeconds(1),
-            Schedulers.newParallel("parallel-2"))
-        .subscribe(num -> log.info(num.toString()));
-    ThreadUtil.sleepBySecond(2);
-    Disposable.Swap swap = Disposables.swap();
-    // need to update current disposable first.
-    swap.update(disposable);
-    // then replace, it doesn't stop old one.
-    swap.replace(Flux.interval(Duration.ofSeconds(2), Schedulers.newParallel("parallel-3"))
-        .subscribe(num -> log.info(num.toString())));
-    // whether to stop old one depends on requirement.
-    disposable.dispose();
-    ThreadUtil.sleepBySecond(5);
+    Scheduler first = schedulers.parallel("parallel-2");
+    Scheduler second = schedulers.parallel("parallel-3");
+    try {
+      Disposable disposable = Flux.interval(Duration.ofSeconds(1), first)
+          .subscribe(num -> log.info(num.toString()));
+      ThreadUtil.sleepBySecond(2);
+      Disposable.Swap swap = Disposables.swap();
+      // need to update current disposable first.
+      swap.update(disposable);
+      // then replace, it doesn't stop old one.
+      swap.replace(Flux.interval(Duration.ofSeconds(2), second)
+          .subscribe(num -> log.info(num.toString())));
+      // whether to stop old one depends on requirement.
+      disposable.dispose();
+      ThreadUtil.sleepBySecond(5);
+      swap.dispose();
+    } finally {
+      first.dispose();
+      second.dispose();
+    }
   }
 
   /**
@@ -95,22 +113,40 @@ public class CancelSubscribeSample {
    * you can dispose all disposable you add.
    */
   public void compositeDisposable() {
-    Disposable disposable = Flux.interval(Duration.ofSeconds(1),
-            Schedulers.newParallel("parallel-4"))
-        .subscribe(num -> log.info(num.toString()));
-    Disposable disposable2 = Flux.interval(Duration.ofSeconds(1),
-            Schedulers.newParallel("parallel-5"))
-        .subscribe(num -> log.info(num.toString()));
-    Disposable disposable3 = Flux.interval(Duration.ofSeconds(1),
-            Schedulers.newParallel("parallel-6"))
-        .subscribe(num -> log.info(num.toString()));
-    ThreadUtil.sleepBySecond(3);
-    Disposable.Composite composite = Disposables.composite(disposable);
-    composite.add(disposable2);
-    composite.add(disposable3);
-    composite.remove(disposable2);
-    composite.dispose();
-    ThreadUtil.sleepBySecond(5);
-    disposable2.dispose();
+    Scheduler scheduler = schedulers.parallel("parallel-4");
+    try {
+      Disposable disposable = Flux.interval(Duration.ofSeconds(1), scheduler)
+          .subscribe(num -> log.info(num.toString()));
+      Disposable disposable2 = Flux.interval(Duration.ofSeconds(1), scheduler)
+          .subscribe(num -> log.info(num.toString()));
+      Disposable disposable3 = Flux.interval(Duration.ofSeconds(1), scheduler)
+          .subscribe(num -> log.info(num.toString()));
+      ThreadUtil.sleepBySecond(3);
+      Disposable.Composite composite = Disposables.composite(disposable);
+      composite.add(disposable2);
+      composite.add(disposable3);
+      composite.remove(disposable2);
+      composite.dispose();
+      ThreadUtil.sleepBySecond(5);
+      disposable2.dispose();
+    } finally {
+      scheduler.dispose();
+    }
+  }
+
+  /**
+   * hedge a slow call: after 200ms a duplicate is fired, the first answer wins and the loser is
+   * cancelled. the cancellation stops the delay of the loser, it would not stop a blocking call.
+   */
+  public void cancelHedgeLoser() {
+    AtomicInteger calls = new AtomicInteger();
+    Mono<String> downstream = Mono.defer(() -> {
+      int call = calls.incrementAndGet();
+      return Mono.delay(Duration.ofMillis(call == 1 ? 1000 : 100))
+          .map(tick -> "answer of call " + call)
+          .doOnCancel(() -> log.info("call {} cancelled", call));
+    });
+    Hedger hedger = Hedger.after(Duration.ofMillis(200)).maxHedgeRatio(1);
+    log.info(downstream.transform(hedger.transformer()).block());
   }
 }
@@ -1,9 +1,15 @@
 package com.justin.reactor.sample;
 
+import com.justin.reactor.eventlog.EventLogReader;
+import com.justin.reactor.eventlog.EventLogWriter;
+import com.justin.reactor.retry.CircuitBreaker;
+import com.justin.reactor.retry.RetryBudget;
+import com.justin.reactor.retry.RetryPolicy;
+import com.justin.reactor.sink.RecordSerializer;
 import com.justin.reactor.util.ThreadUtil;
-import java.io.FileInputStream;
 import java.io.IOException;
-import java.io.InputStreamReader;
+import java.nio.file.Files;
+import java.nio.file.Path;
 import java.time.Duration;
 import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.concurrent.atomic.AtomicInteger;
@@ -11,6 +17,8 @@ import lombok.extern.slf4j.Slf4j;
 import reactor.core.Disposable;
 import reactor.core.Exceptions;
 import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
 import reactor.util.retry.Retry;
 import reactor.util.retry.RetrySpec;
 
@@ -164,12 +172,64 @@ public class HandlingErrorSample {
         throw new RuntimeException("error");
       }
       // }).retryWhen(Retry.from(companion -> companion.take(3)));
-      // TODO: RetrySpec and RetryBackoffSpec
+      // Retry.max(3) is a RetrySpec, see retryWhenWithSpec() for the rest of it.
     }).retryWhen(Retry.max(3));
     flux.subscribe(log::info);
     ThreadUtil.sleepBySecond(5);
   }
 
+  /**
+   * retryWhen with a RetrySpec (immediate retries) and a RetryBackoffSpec (delayed retries).
+   */
+  public void retryWhenWithSpec() {
+    Flux<String> flux = Flux.interval(Duration.ofMillis(100)).map(input -> {
+      if (input < 2) {
+        return "tick " + input;
+      } else {
+        throw new IllegalStateException("error " + input);
+      }
+    });
+    flux.retryWhen(Retry.max(2)
+            // only these errors are retried, the others propagate at once.
+            .filter(error -> error instanceof IllegalStateException)
+            .doBeforeRetry(signal -> log.info("retry #{}", signal.totalRetries()))
+            // the error once exhausted, instead of a RetryExhaustedException.
+            .onRetryExhaustedThrow((spec, signal) -> signal.failure()))
+        .subscribe(log::info, error -> log.error(error.toString()));
+    // exponential backoff: 100ms, 200ms, 400ms... capped by maxBackoff, +/- 50% of jitter.
+    flux.retryWhen(Retry.backoff(3, Duration.ofMillis(100))
+            .maxBackoff(Duration.ofSeconds(1))
+            .jitter(0.5)
+            .doAfterRetry(signal -> log.info("retried #{}", signal.totalRetries())))
+        .subscribe(log::info, error -> log.error(error.toString()));
+    ThreadUtil.sleepBySecond(3);
+  }
+
+  /**
+   * retry with a RetryPolicy: full jitter, a budget shared with the other callers of the
+   * downstream and a circuit breaker, each attempt going through the circuit: the first call
+   * succeeds after 3 retries, the next ones at once.
+   */
+  public void retryWithPolicy() {
+    RetryBudget budget = RetryBudget.of(0.2, 5);
+    CircuitBreaker circuitBreaker = CircuitBreaker.of("downstream", 5, Duration.ofSeconds(1));
+    RetryPolicy policy = RetryPolicy.backoff(3, Duration.ofMillis(50), Duration.ofMillis(500))
+        .budget(budget)
+        .circuitBreaker(circuitBreaker);
+    AtomicInteger calls = new AtomicInteger();
+    Mono<String> downstream = Mono.fromCallable(() -> {
+      if (calls.incrementAndGet() < 4) {
+        throw new IOException("downstream is down " + calls.get());
+      }
+      return "success after " + calls.get() + " calls";
+    });
+    Flux.range(1, 5)
+        .concatMap(i -> downstream.transform(policy.transformer())
+            .onErrorResume(error -> Mono.just(error.toString())))
+        .doOnNext(log::info)
+        .blockLast();
+  }
+
   /**
    * retryWhen and throw.
    */
@@ -229,6 +289,32 @@ public class HandlingErrorSample {
     });
   }
 
+  /**
+   * a real I/O path: the IOException of opening a missing file comes as onError, not as a throw.
+   */
+  public void readEventLog() throws IOException {
+    Path file = Files.createTempFile("events", ".log");
+    try {
+      try (EventLogWriter<String> writer = EventLogWriter.open(file,
+          RecordSerializer.ofString())) {
+        writer.write(Flux.just("created", "paid", "shipped")).block();
+      }
+      Path missing = file.resolveSibling(file.getFileName() + ".missing");
+      Flux.concat(EventLogReader.records(file, RecordSerializer.ofString()),
+              EventLogReader.records(missing, RecordSerializer.ofString()))
+          // reading blocks on page faults.
+          .subscribeOn(Schedulers.boundedElastic())
+          .doOnNext(log::info)
+          .onErrorResume(error -> Exceptions.unwrap(error) instanceof IOException, error -> {
+            log.error("I/O error: {}", error.toString());
+            return Flux.empty();
+          })
+          .blockLast();
+    } finally {
+      Files.deleteIfExists(file);
+    }
+  }
+
   private String convert(Integer num) throws IOException {
     if (num > 3) {
       throw new IOException("error " + num);
@@ -90,6 +90,23 @@ public class ProgrammaticallyCreateSequenceSample {
     event.done();
   }
 
+  /**
+   * asynchronous multi thread create, emitting each chunk as one signal.
+   * the sink (serialized by a CAS and backed by a queue) is paid once per chunk
+   * instead of once per element like in registerListener.
+   */
+  public void asynchronousMultiThreadCreateBatched() {
+    MyEventProcessor<String> myEventProcessor = new MyEventProcessor<>();
+    Flux<List<String>> bride = Flux.create(sink -> registerChunkListener(myEventProcessor, sink));
+    bride.subscribe(chunk -> log.info("chunk of {}: {}", chunk.size(), chunk));
+    MyEvent<String> event = new MyEvent<>();
+    event.register(myEventProcessor);
+    Thread thread = produceByAnotherThread(event);
+    Thread thread2 = produceByAnotherThread(event);
+    ThreadUtil.joinThread(thread, thread2);
+    event.done();
+  }
+
   /**
    * asynchronous single thread push.
    * using push: only one producing thread may invoke next, complete or error
@@ -202,6 +219,23 @@ public class ProgrammaticallyCreateSequenceSample {
         });
   }
 
+  private static void registerChunkListener(MyEventProcessor<String> myEventProcessor,
+                                            FluxSink<List<String>> sink) {
+    myEventProcessor.register(
+        new MyEventListener<>() {
+          @Override
+          public void onDataChunk(List<String> chunk) {
+            sink.next(chunk);
+          }
+
+          @Override
+          public void processComplete() {
+            log.info("complete");
+            sink.complete();
+          }
+        });
+  }
+
   private static void produceByCurrentThread(MyEvent<String> event) {
     event.generateChunkData();
   }
@@ -218,8 +252,13 @@ public class ProgrammaticallyCreateSequenceSample {
     void processComplete();
   }
 
+  /**
+   * a single listener holder for the samples.
+   * see com.justin.reactor.eventbus.EventBus for many listeners and many producing threads.
+   */
   static class MyEventProcessor<T> {
-    private MyEventListener<T> listener;
+    // volatile: the listener is registered and used by different threads.
+    private volatile MyEventListener<T> listener;
 
     public void register(MyEventListener<T> listener) {
       this.listener = listener;
@@ -235,7 +274,7 @@ public class ProgrammaticallyCreateSequenceSample {
   }
 
   static class MyEvent<T> {
-    private MyEventProcessor<T> processor;
+    private volatile MyEventProcessor<T> processor;
 
     public void register(MyEventProcessor<T> processor) {
       this.processor = processor;
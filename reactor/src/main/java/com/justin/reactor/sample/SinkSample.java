@@ -1,6 +1,14 @@
 package com.justin.reactor.sample;
 
+import com.justin.reactor.sink.DurableSink;
+import com.justin.reactor.sink.OffHeapReplaySink;
+import com.justin.reactor.sink.ParkingEmitFailureHandler;
+import com.justin.reactor.sink.RecordSerializer;
+import com.justin.reactor.sink.ShardedSink;
 import com.justin.reactor.util.ThreadUtil;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
 import java.time.Duration;
 import lombok.extern.slf4j.Slf4j;
 import org.reactivestreams.Subscription;
@@ -45,6 +53,28 @@ public class SinkSample {
     ThreadUtil.joinThread(thread1, thread2, thread3);
   }
 
+  /**
+   * using multiple thread to emit elements into a sharded sink: every thread has a lane of its
+   * own, so there is no FAIL_NON_SERIALIZED to spin on, a full lane parks the producer.
+   */
+  public void multipleThreadEmitElementsSharded() {
+    ShardedSink<String> shardedSink = new ShardedSink<>();
+    Thread[] producers = new Thread[3];
+    for (int p = 0; p < producers.length; p++) {
+      String name = "producer-" + p;
+      producers[p] = new Thread(() -> {
+        for (int i = 0; i < 3; i++) {
+          shardedSink.emitNext(name + ":" + i,
+              ParkingEmitFailureHandler.parking(Duration.ofSeconds(2)));
+        }
+      });
+      producers[p].start();
+    }
+    ThreadUtil.joinThread(producers);
+    shardedSink.emitComplete(Sinks.EmitFailureHandler.FAIL_FAST);
+    shardedSink.asFlux().log().blockLast();
+  }
+
   /**
    * sink.many.multicast.
    */
@@ -81,6 +111,39 @@ public class SinkSample {
     replaySink.emitNext(3, Sinks.EmitFailureHandler.FAIL_FAST);
   }
 
+  /**
+   * replay from an off-heap ring: the history is bounded by bytes and records instead of
+   * growing the heap like replay().all(), a late subscriber gets the newest records kept.
+   */
+  public void sinkReplayOffHeap() {
+    OffHeapReplaySink<Integer> replaySink =
+        OffHeapReplaySink.direct(64 * 1024, 1024, RecordSerializer.ofInteger());
+    for (int i = 0; i < 10_000; i++) {
+      replaySink.emitNext(i, Sinks.EmitFailureHandler.FAIL_FAST);
+    }
+    replaySink.asFlux().take(3).log().subscribe();
+    replaySink.emitNext(10_000, Sinks.EmitFailureHandler.FAIL_FAST);
+    replaySink.asFlux().log().subscribe();
+    replaySink.emitComplete(Sinks.EmitFailureHandler.FAIL_FAST);
+  }
+
+  /**
+   * sink.many durable: the elements are in a write-ahead log before the emission returns, the
+   * ones not acknowledged by the subscriber survive a restart.
+   */
+  public void sinkDurable() throws IOException {
+    Path directory = Files.createTempDirectory("durable-sink");
+    DurableSink<String> durableSink = DurableSink.open(directory, RecordSerializer.ofString());
+    durableSink.emitNext("created", Sinks.EmitFailureHandler.FAIL_FAST);
+    durableSink.emitNext("paid", Sinks.EmitFailureHandler.FAIL_FAST);
+    durableSink.asFlux().take(1).log().subscribe();
+    // the process restarts without completing the sink: "paid" was never acknowledged.
+    DurableSink<String> restarted = DurableSink.open(directory, RecordSerializer.ofString());
+    restarted.asFlux().log().subscribe();
+    restarted.emitNext("shipped", Sinks.EmitFailureHandler.FAIL_FAST);
+    restarted.emitComplete(Sinks.EmitFailureHandler.FAIL_FAST);
+  }
+
   /**
    * unicast backpressure buffer.
    */
@@ -1,5 +1,8 @@
 package com.justin.reactor.sample;
 
+import com.justin.reactor.metrics.PipelineMetrics;
+import com.justin.reactor.scheduler.SchedulerRegistry;
+import com.justin.reactor.scheduler.VirtualThreadSchedulers;
 import com.justin.reactor.util.ThreadUtil;
 import java.time.Duration;
 import java.util.ArrayList;
@@ -54,8 +57,16 @@ public class ThreadingAndSchedulerSample {
   public void singleScheduler() {
     Flux.just("1", "2").subscribeOn(Schedulers.single()).subscribe(log::info);
     Flux.just("3", "4").subscribeOn(Schedulers.single()).subscribe(log::info);
-    Flux.just("5", "6").subscribeOn(Schedulers.newSingle("singleOne")).subscribe(log::info);
-    Flux.just("7", "8").subscribeOn(Schedulers.newSingle("singleTwo")).subscribe(log::info);
+    // leases of the registry: called again, these reuse the same two threads.
+    Scheduler singleOne = SchedulerRegistry.global().single("singleOne");
+    Scheduler singleTwo = SchedulerRegistry.global().single("singleTwo");
+    try {
+      Flux.just("5", "6").subscribeOn(singleOne).doOnNext(log::info).blockLast();
+      Flux.just("7", "8").subscribeOn(singleTwo).doOnNext(log::info).blockLast();
+    } finally {
+      singleOne.dispose();
+      singleTwo.dispose();
+    }
   }
 
   public void elasticScheduler() {
@@ -73,6 +84,27 @@ public class ThreadingAndSchedulerSample {
     Flux.just("3", "4").subscribeOn(Schedulers.boundedElastic()).subscribe(log::info);
   }
 
+  /**
+   * every task on its own virtual thread, blocking calls park it instead of holding a thread,
+   * so 10 000 of them run at once where boundedElastic() queues all but 10 per core.
+   */
+  public void virtualThreadScheduler() {
+    Scheduler s = SchedulerRegistry.global()
+        .lease("virtual", () -> VirtualThreadSchedulers.newVirtual("virtual"));
+    try {
+      Long count = Flux.range(1, 10_000)
+          .flatMap(i -> Mono.fromCallable(() -> {
+            Thread.sleep(100);
+            return i;
+          }).subscribeOn(s), 10_000)
+          .count()
+          .block();
+      log.info("{} blocking calls done", count);
+    } finally {
+      s.dispose();
+    }
+  }
+
   /**
    * a fixed pool of workers. It creates as many workers as CPU cores you have.
    */
@@ -85,7 +117,7 @@ public class ThreadingAndSchedulerSample {
    * publishOn() to switch execution context.
    */
   public void publishOn() {
-    Scheduler s = Schedulers.newParallel("parallel-scheduler", 4);
+    Scheduler s = SchedulerRegistry.global().parallel("parallel-scheduler", 4);
     final Flux<String> flux = Flux
         .range(1, 2)
         .map(i -> {
@@ -96,17 +128,23 @@ public class ThreadingAndSchedulerSample {
         .map(i -> {
           log.info("second map");
           return "value " + i;
-        });
-    Thread thread = new Thread(() -> flux.subscribe(log::info));
+        })
+        .transform(PipelineMetrics.global().flux("sample.publishOn", "sample", "threading"));
+    // blockLast(): the lease is released once the flux is done, not while it still runs on it.
+    Thread thread = new Thread(() -> flux.doOnNext(log::info).blockLast());
     thread.start();
-    ThreadUtil.joinThread(thread);
+    try {
+      ThreadUtil.joinThread(thread);
+    } finally {
+      s.dispose();
+    }
   }
 
   /**
    * subscribeOn() to switch execution context.
    */
   public void subscribeOn() {
-    Scheduler s = Schedulers.newParallel("parallel-scheduler", 4);
+    Scheduler s = SchedulerRegistry.global().parallel("parallel-scheduler", 4);
     final Flux<String> flux = Flux
         .range(1, 2)
         .map(i -> {
@@ -117,9 +155,15 @@ public class ThreadingAndSchedulerSample {
         .map(i -> {
           log.info("second map");
           return "value " + i;
-        });
-    Thread thread = new Thread(() -> flux.subscribe(log::info));
+        })
+        .transform(PipelineMetrics.global().flux("sample.subscribeOn", "sample", "threading"));
+    // blockLast(): the lease is released once the flux is done, not while it still runs on it.
+    Thread thread = new Thread(() -> flux.doOnNext(log::info).blockLast());
     thread.start();
-    ThreadUtil.joinThread(thread);
+    try {
+      ThreadUtil.joinThread(thread);
+    } finally {
+      s.dispose();
+    }
   }
 }
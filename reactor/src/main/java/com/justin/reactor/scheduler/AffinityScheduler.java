@@ -0,0 +1,390 @@
+package com.justin.reactor.scheduler;
+
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedDeque;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.LockSupport;
+import java.util.function.Supplier;
+import reactor.core.Disposable;
+import reactor.core.Exceptions;
+import reactor.core.publisher.Operators;
+import reactor.core.scheduler.NonBlocking;
+import reactor.core.scheduler.Scheduler;
+import reactor.util.concurrent.Queues;
+import reactor.util.context.Context;
+
+/**
+ * Description: a pool of pinned threads keeping every worker, i.e. every rail of
+ * ParallelFlux.runOn(), on the same thread, the idle threads stealing the rails of the busy ones.
+ * <p>
+ * 1.a worker is a rail: a queue of tasks run one at a time in order, as the contract of
+ * Scheduler.Worker requires. a rail ready to run sits in the deque of its home thread, which runs
+ * it by batches of 64 tasks: the data of a rail stays in the caches of one core.
+ * </p>
+ * <p>
+ * 2.an idle thread steals the oldest ready rail of another thread, and keeps it: the rail moves
+ * home. a whole rail is stolen, never a task, so its tasks stay in order. a thread alone with one
+ * rail keeps running it, a hot rail doesn't bounce between threads. with Schedulers.parallel() a
+ * rail is bound to its thread for good, a slow rail delays the rails sharing its thread while the
+ * other threads wait.
+ * </p>
+ * <p>
+ * 3.the JVM can't pin a thread to a core, the OS keeps a busy thread on its core; the threads
+ * here are dedicated: one per core by default, nothing else runs on them. they are NonBlocking,
+ * block() fails on them as on parallel().
+ * </p>
+ * <p>
+ * 4.the delayed and periodic tasks wait on a timer thread, then join their rail.
+ * </p>
+ *
+ * @author Justin_Zhang
+ * @date 10/19/2026 07:05
+ */
+public final class AffinityScheduler implements Scheduler {
+  static final int BATCH = 64;
+
+  private final String name;
+
+  private final PoolThread[] threads;
+
+  private final ScheduledExecutorService timer;
+
+  private final AtomicInteger nextHome = new AtomicInteger();
+
+  private final LongAdder steals = new LongAdder();
+
+  private volatile boolean disposed;
+
+  private AffinityScheduler(String name, int parallelism) {
+    this.name = name;
+    this.threads = new PoolThread[parallelism];
+    for (int i = 0; i < parallelism; i++) {
+      threads[i] = new PoolThread(i);
+    }
+    ScheduledThreadPoolExecutor timer = new ScheduledThreadPoolExecutor(1, runnable -> {
+      Thread thread = new Thread(runnable, name + "-timer");
+      thread.setDaemon(true);
+      return thread;
+    });
+    timer.setRemoveOnCancelPolicy(true);
+    this.timer = timer;
+    for (PoolThread thread : threads) {
+      thread.start();
+    }
+  }
+
+  /**
+   * a pool of parallelism threads named name-0 .. name-(parallelism - 1).
+   */
+  public static AffinityScheduler create(String name, int parallelism) {
+    if (parallelism <= 0) {
+      throw new IllegalArgumentException("parallelism must be positive: " + parallelism);
+    }
+    return new AffinityScheduler(name, parallelism);
+  }
+
+  @Override
+  public Disposable schedule(Runnable task) {
+    // a task of its own: nothing to keep in order with.
+    return new AffinityWorker().submit(task);
+  }
+
+  @Override
+  public Disposable schedule(Runnable task, long delay, TimeUnit unit) {
+    return new AffinityWorker().schedule(task, delay, unit);
+  }
+
+  @Override
+  public Disposable schedulePeriodically(Runnable task, long initialDelay, long period,
+      TimeUnit unit) {
+    return new AffinityWorker().schedulePeriodically(task, initialDelay, period, unit);
+  }
+
+  @Override
+  public Worker createWorker() {
+    return new AffinityWorker();
+  }
+
+  @Override
+  public void dispose() {
+    disposed = true;
+    timer.shutdownNow();
+    for (PoolThread thread : threads) {
+      LockSupport.unpark(thread);
+    }
+  }
+
+  @Override
+  public boolean isDisposed() {
+    return disposed;
+  }
+
+  public int parallelism() {
+    return threads.length;
+  }
+
+  /**
+   * the rails stolen by an idle thread so far.
+   */
+  public long steals() {
+    return steals.sum();
+  }
+
+  @Override
+  public String toString() {
+    return "AffinityScheduler(" + name + ", " + threads.length + ")";
+  }
+
+  /**
+   * a rail becomes ready: to the deque of its home, waking up the home or else an idle thread
+   * to steal it.
+   */
+  void ready(AffinityWorker rail) {
+    PoolThread home = threads[rail.home];
+    home.ready.offerLast(rail);
+    if (home.idle) {
+      LockSupport.unpark(home);
+    } else {
+      signalIdle();
+    }
+  }
+
+  /**
+   * wake up an idle thread, to steal a rail.
+   */
+  void signalIdle() {
+    for (PoolThread thread : threads) {
+      if (thread.idle) {
+        LockSupport.unpark(thread);
+        return;
+      }
+    }
+  }
+
+  /**
+   * a worker, served by one thread at a time.
+   */
+  final class AffinityWorker implements Worker {
+    final Queue<Task> tasks = Queues.<Task>unboundedMultiproducer().get();
+
+    // the tasks submitted not run yet: while not 0, the rail is in one ready deque or running.
+    final AtomicInteger pending = new AtomicInteger();
+
+    // written by the thread running the rail.
+    volatile int home;
+
+    volatile boolean workerDisposed;
+
+    AffinityWorker() {
+      home = Math.floorMod(nextHome.getAndIncrement(), threads.length);
+    }
+
+    @Override
+    public Disposable schedule(Runnable task) {
+      return submit(task);
+    }
+
+    @Override
+    public Disposable schedule(Runnable task, long delay, TimeUnit unit) {
+      if (delay <= 0) {
+        return submit(task);
+      }
+      Task delayed = task(task);
+      delayed.future = timer(() -> timer.schedule(() -> submit(delayed), delay, unit));
+      return delayed;
+    }
+
+    @Override
+    public Disposable schedulePeriodically(Runnable task, long initialDelay, long period,
+        TimeUnit unit) {
+      Task periodic = task(task);
+      periodic.future = timer(() -> timer.scheduleAtFixedRate(() -> {
+        if (periodic.isDisposed()) {
+          periodic.cancelTimer();
+        } else {
+          submit(periodic);
+        }
+      }, initialDelay, period, unit));
+      return periodic;
+    }
+
+    private ScheduledFuture<?> timer(Supplier<ScheduledFuture<?>> schedule) {
+      try {
+        return schedule.get();
+      } catch (RejectedExecutionException e) {
+        throw Exceptions.failWithRejected(e);
+      }
+    }
+
+    private Task task(Runnable runnable) {
+      if (workerDisposed || disposed) {
+        throw Exceptions.failWithRejected();
+      }
+      return new Task(runnable, this);
+    }
+
+    Task submit(Runnable runnable) {
+      Task task = runnable instanceof Task own && own.worker == this ? own : task(runnable);
+      // counted before queued: the rail is made ready once, by the 0 to 1 transition, and the
+      // thread running it sees pending != 0 until the task it counts is polled.
+      int previous = pending.getAndIncrement();
+      tasks.offer(task);
+      if (previous == 0) {
+        ready(this);
+      }
+      return task;
+    }
+
+    /**
+     * run up to BATCH tasks.
+     *
+     * @return true when tasks are left, the rail is still ready
+     */
+    boolean drain() {
+      int done = 0;
+      while (done < BATCH) {
+        Task task = tasks.poll();
+        if (task == null) {
+          break;
+        }
+        task.run();
+        done++;
+      }
+      return pending.addAndGet(-done) != 0;
+    }
+
+    @Override
+    public void dispose() {
+      workerDisposed = true;
+    }
+
+    @Override
+    public boolean isDisposed() {
+      return workerDisposed;
+    }
+  }
+
+  /**
+   * a task of a worker, skipped once it or its worker is disposed.
+   */
+  static final class Task implements Runnable, Disposable {
+    final Runnable runnable;
+
+    final AffinityWorker worker;
+
+    volatile boolean taskDisposed;
+
+    volatile ScheduledFuture<?> future;
+
+    Task(Runnable runnable, AffinityWorker worker) {
+      this.runnable = runnable;
+      this.worker = worker;
+    }
+
+    @Override
+    public void run() {
+      if (isDisposed()) {
+        return;
+      }
+      try {
+        runnable.run();
+      } catch (Throwable e) {
+        Operators.onErrorDropped(e, Context.empty());
+      }
+    }
+
+    void cancelTimer() {
+      ScheduledFuture<?> scheduled = future;
+      if (scheduled != null) {
+        scheduled.cancel(false);
+      }
+    }
+
+    @Override
+    public void dispose() {
+      taskDisposed = true;
+      cancelTimer();
+    }
+
+    @Override
+    public boolean isDisposed() {
+      return taskDisposed || worker.workerDisposed;
+    }
+  }
+
+  /**
+   * a thread of the pool, running the rails of its deque and stealing the others'.
+   */
+  final class PoolThread extends Thread implements NonBlocking {
+    final int index;
+
+    final ConcurrentLinkedDeque<AffinityWorker> ready = new ConcurrentLinkedDeque<>();
+
+    volatile boolean idle;
+
+    PoolThread(int index) {
+      super(name + "-" + index);
+      this.index = index;
+      setDaemon(true);
+    }
+
+    @Override
+    public void run() {
+      while (!disposed) {
+        AffinityWorker rail = ready.pollFirst();
+        if (rail == null) {
+          rail = steal();
+        }
+        if (rail == null) {
+          park();
+          continue;
+        }
+        // other rails wait behind this one: pass the wake up on.
+        if (!ready.isEmpty()) {
+          signalIdle();
+        }
+        // the next batch at once while nothing else waits for this thread.
+        boolean more = rail.drain();
+        while (more && ready.isEmpty() && !disposed) {
+          more = rail.drain();
+        }
+        if (more) {
+          ready(rail);
+        }
+      }
+    }
+
+    private AffinityWorker steal() {
+      for (int i = 1; i < threads.length; i++) {
+        AffinityWorker rail = threads[(index + i) % threads.length].ready.pollFirst();
+        if (rail != null) {
+          rail.home = index;
+          steals.increment();
+          return rail;
+        }
+      }
+      return null;
+    }
+
+    private void park() {
+      idle = true;
+      // a rail made ready before idle was set didn't unpark this thread: look again.
+      for (PoolThread thread : threads) {
+        if (!thread.ready.isEmpty()) {
+          idle = false;
+          return;
+        }
+      }
+      if (!disposed) {
+        LockSupport.park(this);
+      }
+      idle = false;
+    }
+  }
+}
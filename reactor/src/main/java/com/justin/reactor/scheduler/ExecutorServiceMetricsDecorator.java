@@ -0,0 +1,138 @@
+package com.justin.reactor.scheduler;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.util.Collections;
+import java.util.Map;
+import java.util.Set;
+import java.util.WeakHashMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.function.BiFunction;
+import java.util.function.ToIntFunction;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import reactor.core.Scannable;
+import reactor.core.scheduler.Scheduler;
+
+/**
+ * Description: the executor service decorator reporting the executors behind the schedulers.
+ * <p>
+ * 1.reactor.scheduler.executor.queued, .active and .pool.size are gauges summed over the live
+ * executors of one scheduler: parallel() has one executor per worker and boundedElastic() creates
+ * and evicts them on demand, so one set of gauges per scheduler keeps the cardinality bounded.
+ * the executors of {@link VirtualThreadSchedulers} report their tasks running on a virtual thread
+ * as active and as the pool size, and their delayed tasks waiting on the timer as queued: none
+ * waits for a thread.
+ * </p>
+ * <p>
+ * 2.reactor.scheduler.executor.rejected counts the tasks an executor refused,
+ * e.g. once disposed or when boundedElastic() has reached its queued task cap.
+ * </p>
+ * <p>
+ * 3.the executors are held weakly and the terminated ones are removed on every apply(), so a
+ * disposed scheduler is collected even if the gauges are never read.
+ * </p>
+ * <p>
+ * register it with Schedulers.addExecutorServiceDecorator() before the schedulers are created.
+ * </p>
+ *
+ * @author Justin_Zhang
+ * @date 10/18/2026 18:22
+ */
+public class ExecutorServiceMetricsDecorator
+    implements BiFunction<Scheduler, ScheduledExecutorService, ScheduledExecutorService> {
+  public static final String KEY = "executorServiceMetrics";
+
+  private static final Pattern SCHEDULER_NAME = Pattern.compile("\"([^\"]+)\"|^\\w+\\(([^,]+)\\)$");
+
+  private final MeterRegistry registry;
+
+  private final Map<String, ExecutorPool> pools = new ConcurrentHashMap<>();
+
+  public ExecutorServiceMetricsDecorator(MeterRegistry registry) {
+    this.registry = registry;
+  }
+
+  @Override
+  public ScheduledExecutorService apply(Scheduler scheduler, ScheduledExecutorService executor) {
+    String name = name(scheduler);
+    ExecutorPool pool = pools.computeIfAbsent(name, this::register);
+    pools.values().forEach(ExecutorPool::removeTerminated);
+    if (executor instanceof ThreadPoolExecutor
+        || executor instanceof VirtualThreadExecutorService) {
+      pool.executors.add(executor);
+    }
+    return new RejectionCountingExecutorService(executor, pool.rejected);
+  }
+
+  private ExecutorPool register(String name) {
+    ExecutorPool pool = new ExecutorPool(Counter.builder("reactor.scheduler.executor.rejected")
+        .tag("name", name)
+        .description("tasks refused by the executors of the scheduler")
+        .register(registry));
+    gauge("reactor.scheduler.executor.queued", name, pool,
+        e -> e.getQueue().size(), VirtualThreadExecutorService::delayed);
+    gauge("reactor.scheduler.executor.active", name, pool,
+        ThreadPoolExecutor::getActiveCount, VirtualThreadExecutorService::running);
+    gauge("reactor.scheduler.executor.pool.size", name, pool,
+        ThreadPoolExecutor::getPoolSize, VirtualThreadExecutorService::running);
+    return pool;
+  }
+
+  private void gauge(String meter, String name, ExecutorPool pool,
+      ToIntFunction<ThreadPoolExecutor> threadPool,
+      ToIntFunction<VirtualThreadExecutorService> virtual) {
+    ToIntFunction<ExecutorService> value = executor -> executor instanceof ThreadPoolExecutor t
+        ? threadPool.applyAsInt(t)
+        : virtual.applyAsInt((VirtualThreadExecutorService) executor);
+    Gauge.builder(meter, pool, p -> p.sum(value))
+        .tag("name", name)
+        .register(registry);
+  }
+
+  /**
+   * the scanned name is the toString() of the scheduler, e.g. parallel(4,"parallel-1") or
+   * fromExecutorService(boundedElastic), the name inside matches the name tag of
+   * {@link TimedSchedulerFactory}.
+   */
+  static String name(Scheduler scheduler) {
+    String scanned = Scannable.from(scheduler)
+        .scanOrDefault(Scannable.Attr.NAME, scheduler.getClass().getSimpleName());
+    Matcher matcher = SCHEDULER_NAME.matcher(scanned);
+    if (!matcher.find()) {
+      return scanned;
+    }
+    return matcher.group(1) != null ? matcher.group(1) : matcher.group(2);
+  }
+
+  private static class ExecutorPool {
+    // guarded by itself, the live executors are held by their scheduler or their threads.
+    private final Set<ExecutorService> executors =
+        Collections.synchronizedSet(Collections.newSetFromMap(new WeakHashMap<>()));
+
+    private final Counter rejected;
+
+    ExecutorPool(Counter rejected) {
+      this.rejected = rejected;
+    }
+
+    void removeTerminated() {
+      executors.removeIf(ExecutorService::isTerminated);
+    }
+
+    double sum(ToIntFunction<ExecutorService> value) {
+      int sum = 0;
+      synchronized (executors) {
+        executors.removeIf(ExecutorService::isTerminated);
+        for (ExecutorService executor : executors) {
+          sum += value.applyAsInt(executor);
+        }
+      }
+      return sum;
+    }
+  }
+}
@@ -0,0 +1,135 @@
+package com.justin.reactor.scheduler;
+
+import io.micrometer.core.instrument.Counter;
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.function.Supplier;
+
+/**
+ * Description: the executor service counting the tasks its delegate rejects.
+ * the RejectedExecutionException is rethrown, so the scheduler reports it as before.
+ *
+ * @author Justin_Zhang
+ * @date 10/18/2026 18:31
+ */
+class RejectionCountingExecutorService implements ScheduledExecutorService {
+  private final ScheduledExecutorService delegate;
+
+  private final Counter rejected;
+
+  RejectionCountingExecutorService(ScheduledExecutorService delegate, Counter rejected) {
+    this.delegate = delegate;
+    this.rejected = rejected;
+  }
+
+  private <T> T counting(Supplier<T> submission) {
+    try {
+      return submission.get();
+    } catch (RejectedExecutionException e) {
+      rejected.increment();
+      throw e;
+    }
+  }
+
+  @Override
+  public void execute(Runnable command) {
+    counting(() -> {
+      delegate.execute(command);
+      return null;
+    });
+  }
+
+  @Override
+  public ScheduledFuture<?> schedule(Runnable command, long delay, TimeUnit unit) {
+    return counting(() -> delegate.schedule(command, delay, unit));
+  }
+
+  @Override
+  public <V> ScheduledFuture<V> schedule(Callable<V> callable, long delay, TimeUnit unit) {
+    return counting(() -> delegate.schedule(callable, delay, unit));
+  }
+
+  @Override
+  public ScheduledFuture<?> scheduleAtFixedRate(Runnable command, long initialDelay, long period,
+      TimeUnit unit) {
+    return counting(() -> delegate.scheduleAtFixedRate(command, initialDelay, period, unit));
+  }
+
+  @Override
+  public ScheduledFuture<?> scheduleWithFixedDelay(Runnable command, long initialDelay,
+      long delay, TimeUnit unit) {
+    return counting(() -> delegate.scheduleWithFixedDelay(command, initialDelay, delay, unit));
+  }
+
+  @Override
+  public <T> Future<T> submit(Callable<T> task) {
+    return counting(() -> delegate.submit(task));
+  }
+
+  @Override
+  public <T> Future<T> submit(Runnable task, T result) {
+    return counting(() -> delegate.submit(task, result));
+  }
+
+  @Override
+  public Future<?> submit(Runnable task) {
+    return counting(() -> delegate.submit(task));
+  }
+
+  @Override
+  public <T> List<Future<T>> invokeAll(Collection<? extends Callable<T>> tasks)
+      throws InterruptedException {
+    return delegate.invokeAll(tasks);
+  }
+
+  @Override
+  public <T> List<Future<T>> invokeAll(Collection<? extends Callable<T>> tasks, long timeout,
+      TimeUnit unit) throws InterruptedException {
+    return delegate.invokeAll(tasks, timeout, unit);
+  }
+
+  @Override
+  public <T> T invokeAny(Collection<? extends Callable<T>> tasks)
+      throws InterruptedException, ExecutionException {
+    return delegate.invokeAny(tasks);
+  }
+
+  @Override
+  public <T> T invokeAny(Collection<? extends Callable<T>> tasks, long timeout, TimeUnit unit)
+      throws InterruptedException, ExecutionException, TimeoutException {
+    return delegate.invokeAny(tasks, timeout, unit);
+  }
+
+  @Override
+  public void shutdown() {
+    delegate.shutdown();
+  }
+
+  @Override
+  public List<Runnable> shutdownNow() {
+    return delegate.shutdownNow();
+  }
+
+  @Override
+  public boolean isShutdown() {
+    return delegate.isShutdown();
+  }
+
+  @Override
+  public boolean isTerminated() {
+    return delegate.isTerminated();
+  }
+
+  @Override
+  public boolean awaitTermination(long timeout, TimeUnit unit) throws InterruptedException {
+    return delegate.awaitTermination(timeout, unit);
+  }
+}
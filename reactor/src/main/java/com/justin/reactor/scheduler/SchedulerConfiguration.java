@@ -0,0 +1,83 @@
+package com.justin.reactor.scheduler;
+
+import com.justin.reactor.scheduler.SchedulerProperties.Blocking;
+import io.micrometer.core.instrument.MeterRegistry;
+import javax.annotation.PostConstruct;
+import javax.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import reactor.core.scheduler.Schedulers;
+
+/**
+ * Description: install the schedulers of the application at startup.
+ * <p>
+ * 1.boundedElastic() runs on the configured implementation.
+ * </p>
+ * <p>
+ * 2.every scheduler is timed by {@link TimedSchedulerFactory} and its executors are reported by
+ * {@link ExecutorServiceMetricsDecorator}.
+ * </p>
+ * <p>
+ * 3.the {@link AffinityScheduler} of the ParallelFlux rails is a bean, disposed with the context.
+ * </p>
+ * <p>
+ * 4.so is the {@link SchedulerRegistry} of the named schedulers, with the schedulers still leased.
+ * </p>
+ *
+ * @author Justin_Zhang
+ * @date 10/18/2026 17:16
+ */
+@Slf4j
+@Configuration
+public class SchedulerConfiguration {
+  private final SchedulerProperties properties;
+
+  private final MeterRegistry registry;
+
+  public SchedulerConfiguration(SchedulerProperties properties, MeterRegistry registry) {
+    this.properties = properties;
+    this.registry = registry;
+  }
+
+  /**
+   * setFactory() also disposes the schedulers created before, so the decorator and the factory
+   * apply to every later call.
+   */
+  @PostConstruct
+  public void installFactory() {
+    Schedulers.addExecutorServiceDecorator(ExecutorServiceMetricsDecorator.KEY,
+        new ExecutorServiceMetricsDecorator(registry));
+    Schedulers.Factory blocking = properties.getBlocking() == Blocking.VIRTUAL
+        ? new VirtualThreadSchedulers.Factory()
+        : new Schedulers.Factory() {
+        };
+    Schedulers.setFactory(new TimedSchedulerFactory(registry, blocking));
+    log.info("blocking work runs on {}", properties.getBlocking());
+  }
+
+  /**
+   * the pool of the ParallelFlux rails, one per application: runOn(affinityScheduler) instead of
+   * a newParallel() per pipeline.
+   */
+  @Bean(destroyMethod = "dispose")
+  public AffinityScheduler affinityScheduler() {
+    return AffinityScheduler.create("affinity", properties.getAffinityParallelism());
+  }
+
+  /**
+   * the named schedulers, shared by the beans leasing the same name.
+   */
+  @Bean(destroyMethod = "dispose")
+  public SchedulerRegistry schedulerRegistry() {
+    SchedulerRegistry schedulerRegistry = new SchedulerRegistry();
+    schedulerRegistry.register(registry);
+    return schedulerRegistry;
+  }
+
+  @PreDestroy
+  public void resetFactory() {
+    Schedulers.resetFactory();
+    Schedulers.removeExecutorServiceDecorator(ExecutorServiceMetricsDecorator.KEY);
+  }
+}
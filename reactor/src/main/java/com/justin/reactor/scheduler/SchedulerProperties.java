@@ -0,0 +1,38 @@
+package com.justin.reactor.scheduler;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * Description: properties of the reactor schedulers (reactor.scheduler.*).
+ *
+ * @author Justin_Zhang
+ * @date 10/18/2026 17:12
+ */
+@Data
+@ConfigurationProperties(prefix = "reactor.scheduler")
+public class SchedulerProperties {
+  /**
+   * what Schedulers.boundedElastic() runs the blocking work on.
+   */
+  private Blocking blocking = Blocking.BOUNDED_ELASTIC;
+
+  /**
+   * the threads of the {@link AffinityScheduler} running the ParallelFlux rails.
+   */
+  private int affinityParallelism = Runtime.getRuntime().availableProcessors();
+
+  /**
+   * the implementations of boundedElastic().
+   */
+  public enum Blocking {
+    /**
+     * reactor's default: 10 threads per core, then up to 100 000 queued tasks.
+     */
+    BOUNDED_ELASTIC,
+    /**
+     * one virtual thread per task.
+     */
+    VIRTUAL
+  }
+}
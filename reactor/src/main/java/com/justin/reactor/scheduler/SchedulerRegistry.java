@@ -0,0 +1,357 @@
+package com.justin.reactor.scheduler;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.lang.ref.Cleaner;
+import java.lang.ref.Reference;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+import lombok.extern.slf4j.Slf4j;
+import reactor.core.Disposable;
+import reactor.core.Exceptions;
+import reactor.core.scheduler.Scheduler;
+import reactor.core.scheduler.Schedulers;
+
+/**
+ * Description: named schedulers shared by reference counting, instead of a newParallel() per
+ * call that nobody disposes.
+ * <p>
+ * 1.a lease is a Scheduler: the first lease of a name creates the scheduler, the next ones share
+ * it, disposing a lease releases it and the last release disposes the scheduler. the threads of a
+ * registry's schedulers are daemon ones, the registry owns their lifecycle.
+ * </p>
+ * <p>
+ * 2.a lease collected by the GC without being disposed is a leak: a Cleaner releases it, logs
+ * where it was acquired and counts it. a lease stays reachable while one of its workers or tasks
+ * is in use, a pipeline running on it doesn't leak it.
+ * </p>
+ * <p>
+ * 3.dispose() disposes all the schedulers, and logs the ones still leased: the bean of
+ * SchedulerConfiguration is disposed with the spring context. global() serves the code outside
+ * of spring, as PipelineMetrics.global() does.
+ * </p>
+ *
+ * @author Justin_Zhang
+ * @date 10/19/2026 07:20
+ */
+@Slf4j
+public class SchedulerRegistry implements Disposable {
+  private static final Cleaner CLEANER = Cleaner.create();
+
+  private static final SchedulerRegistry GLOBAL = new SchedulerRegistry();
+
+  // guarded by this.
+  private final Map<String, Entry> entries = new HashMap<>();
+
+  private boolean disposed;
+
+  private final LongAdder leaked = new LongAdder();
+
+  /**
+   * the registry of the code outside of spring, never disposed.
+   */
+  public static SchedulerRegistry global() {
+    return GLOBAL;
+  }
+
+  /**
+   * a lease of the parallel scheduler of that name, one thread per core.
+   */
+  public Scheduler parallel(String name) {
+    return parallel(name, Schedulers.DEFAULT_POOL_SIZE);
+  }
+
+  /**
+   * a lease of the parallel scheduler of that name, created with parallelism threads.
+   */
+  public Scheduler parallel(String name, int parallelism) {
+    return lease(name, () -> Schedulers.newParallel(name, parallelism, true));
+  }
+
+  /**
+   * a lease of the single thread scheduler of that name.
+   */
+  public Scheduler single(String name) {
+    return lease(name, () -> Schedulers.newSingle(name, true));
+  }
+
+  /**
+   * a lease of the bounded elastic scheduler of that name, with reactor's default bounds.
+   */
+  public Scheduler boundedElastic(String name) {
+    return lease(name, () -> Schedulers.newBoundedElastic(Schedulers.DEFAULT_BOUNDED_ELASTIC_SIZE,
+        Schedulers.DEFAULT_BOUNDED_ELASTIC_QUEUESIZE, name, 60, true));
+  }
+
+  /**
+   * a lease of the scheduler of that name, created by the factory for the first lease: the
+   * leases of one name share the scheduler of the first, whatever their factory.
+   *
+   * @param name    the name of the scheduler
+   * @param factory the scheduler, when no lease of that name is held
+   * @return the lease, to dispose once the scheduler isn't needed anymore
+   */
+  public Scheduler lease(String name, Supplier<? extends Scheduler> factory) {
+    Objects.requireNonNull(name, "name");
+    Entry entry;
+    synchronized (this) {
+      if (disposed) {
+        throw new IllegalStateException("the scheduler registry is disposed");
+      }
+      entry = entries.get(name);
+      if (entry == null) {
+        entry = new Entry(name, factory.get());
+        entries.put(name, entry);
+      }
+      entry.leases++;
+    }
+    return new Lease(entry);
+  }
+
+  /**
+   * the leases held on the scheduler of that name.
+   */
+  public synchronized int leases(String name) {
+    Entry entry = entries.get(name);
+    return entry == null ? 0 : entry.leases;
+  }
+
+  /**
+   * the leases collected without being disposed so far.
+   */
+  public long leaked() {
+    return leaked.sum();
+  }
+
+  /**
+   * publish the gauges reactor.scheduler.registry.schedulers and .leases, and the counter
+   * reactor.scheduler.registry.leaked.
+   */
+  public void register(MeterRegistry registry) {
+    Gauge.builder("reactor.scheduler.registry.schedulers", this, SchedulerRegistry::schedulers)
+        .description("schedulers leased from the registry")
+        .register(registry);
+    Gauge.builder("reactor.scheduler.registry.leases", this, SchedulerRegistry::totalLeases)
+        .description("leases held on the schedulers of the registry")
+        .register(registry);
+    FunctionCounter.builder("reactor.scheduler.registry.leaked", this,
+            SchedulerRegistry::leaked)
+        .description("leases collected by the GC without being disposed")
+        .register(registry);
+  }
+
+  private synchronized int schedulers() {
+    return entries.size();
+  }
+
+  private synchronized int totalLeases() {
+    return entries.values().stream().mapToInt(entry -> entry.leases).sum();
+  }
+
+  private void release(Entry entry) {
+    synchronized (this) {
+      if (--entry.leases > 0 || entries.get(entry.name) != entry) {
+        return;
+      }
+      entries.remove(entry.name);
+    }
+    entry.scheduler.dispose();
+  }
+
+  @Override
+  public void dispose() {
+    Map<String, Entry> disposing;
+    synchronized (this) {
+      disposed = true;
+      disposing = new HashMap<>(entries);
+      entries.clear();
+    }
+    disposing.values().forEach(entry -> {
+      if (entry.leases > 0) {
+        log.warn("scheduler {} disposed while {} lease(s) are still held", entry.name,
+            entry.leases);
+      }
+      entry.scheduler.dispose();
+    });
+  }
+
+  @Override
+  public synchronized boolean isDisposed() {
+    return disposed;
+  }
+
+  /**
+   * a scheduler of the registry and its leases.
+   */
+  private static final class Entry {
+    final String name;
+
+    final Scheduler scheduler;
+
+    // guarded by the registry.
+    int leases;
+
+    Entry(String name, Scheduler scheduler) {
+      this.name = name;
+      this.scheduler = scheduler;
+    }
+  }
+
+  /**
+   * the release of a lease, run once: by dispose(), or by the Cleaner after a leak. it holds no
+   * reference to the lease, or the lease would never be collected.
+   */
+  private final class Release implements Runnable {
+    final Entry entry;
+
+    final Throwable acquiredAt;
+
+    final AtomicBoolean released = new AtomicBoolean();
+
+    volatile boolean disposed;
+
+    Release(Entry entry) {
+      this.entry = entry;
+      this.acquiredAt = new Throwable("lease of scheduler " + entry.name + " acquired here");
+    }
+
+    @Override
+    public void run() {
+      if (!released.compareAndSet(false, true)) {
+        return;
+      }
+      if (!disposed) {
+        leaked.increment();
+        log.warn("a lease of scheduler {} was never disposed", entry.name, acquiredAt);
+      }
+      release(entry);
+    }
+  }
+
+  /**
+   * a lease, delegating to the shared scheduler until disposed.
+   */
+  private final class Lease implements Scheduler {
+    final Entry entry;
+
+    final Release release;
+
+    final Cleaner.Cleanable cleanable;
+
+    Lease(Entry entry) {
+      this.entry = entry;
+      this.release = new Release(entry);
+      this.cleanable = CLEANER.register(this, release);
+    }
+
+    private Scheduler scheduler() {
+      if (release.released.get()) {
+        throw Exceptions.failWithRejected("the lease of scheduler " + entry.name
+            + " is disposed");
+      }
+      return entry.scheduler;
+    }
+
+    /**
+     * the task, keeping the lease reachable until it ran.
+     */
+    private Runnable reaching(Runnable task) {
+      return () -> {
+        try {
+          task.run();
+        } finally {
+          Reference.reachabilityFence(this);
+        }
+      };
+    }
+
+    @Override
+    public Disposable schedule(Runnable task) {
+      return scheduler().schedule(reaching(task));
+    }
+
+    @Override
+    public Disposable schedule(Runnable task, long delay, TimeUnit unit) {
+      return scheduler().schedule(reaching(task), delay, unit);
+    }
+
+    @Override
+    public Disposable schedulePeriodically(Runnable task, long initialDelay, long period,
+        TimeUnit unit) {
+      return scheduler().schedulePeriodically(reaching(task), initialDelay, period, unit);
+    }
+
+    @Override
+    public long now(TimeUnit unit) {
+      return entry.scheduler.now(unit);
+    }
+
+    @Override
+    public Worker createWorker() {
+      return new LeaseWorker(scheduler().createWorker(), this);
+    }
+
+    @Override
+    public void dispose() {
+      release.disposed = true;
+      cleanable.clean();
+    }
+
+    @Override
+    public boolean isDisposed() {
+      return release.released.get();
+    }
+
+    @Override
+    public String toString() {
+      return "SchedulerRegistry.Lease(" + entry.scheduler + ")";
+    }
+  }
+
+  /**
+   * a worker of a lease, keeping it reachable while the worker is.
+   */
+  private static final class LeaseWorker implements Scheduler.Worker {
+    final Scheduler.Worker delegate;
+
+    @SuppressWarnings({"unused", "FieldCanBeLocal"})
+    final Scheduler lease;
+
+    LeaseWorker(Scheduler.Worker delegate, Scheduler lease) {
+      this.delegate = delegate;
+      this.lease = lease;
+    }
+
+    @Override
+    public Disposable schedule(Runnable task) {
+      return delegate.schedule(task);
+    }
+
+    @Override
+    public Disposable schedule(Runnable task, long delay, TimeUnit unit) {
+      return delegate.schedule(task, delay, unit);
+    }
+
+    @Override
+    public Disposable schedulePeriodically(Runnable task, long initialDelay, long period,
+        TimeUnit unit) {
+      return delegate.schedulePeriodically(task, initialDelay, period, unit);
+    }
+
+    @Override
+    public void dispose() {
+      delegate.dispose();
+    }
+
+    @Override
+    public boolean isDisposed() {
+      return delegate.isDisposed();
+    }
+  }
+}
@@ -0,0 +1,67 @@
+package com.justin.reactor.scheduler;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import java.util.concurrent.ThreadFactory;
+import java.util.function.Supplier;
+import reactor.core.observability.micrometer.Micrometer;
+import reactor.core.scheduler.Scheduler;
+import reactor.core.scheduler.Schedulers;
+
+/**
+ * Description: the factory timing every scheduler it creates with Micrometer.timedScheduler().
+ * <p>
+ * 1.it decorates another factory, so it composes with {@link VirtualThreadSchedulers.Factory}.
+ * </p>
+ * <p>
+ * 2.once installed by Schedulers.setFactory(), single(), parallel(), boundedElastic() and every
+ * newSingle()/newParallel()/newBoundedElastic() report reactor.scheduler.tasks.* (submitted,
+ * active, pending and completed), tagged by the name of the scheduler.
+ * </p>
+ *
+ * @author Justin_Zhang
+ * @date 10/18/2026 18:10
+ */
+public class TimedSchedulerFactory implements Schedulers.Factory {
+  public static final String METRICS_PREFIX = "reactor";
+
+  private final MeterRegistry registry;
+
+  private final Schedulers.Factory delegate;
+
+  public TimedSchedulerFactory(MeterRegistry registry, Schedulers.Factory delegate) {
+    this.registry = registry;
+    this.delegate = delegate;
+  }
+
+  @Override
+  public Scheduler newBoundedElastic(int threadCap, int queuedTaskCap,
+      ThreadFactory threadFactory, int ttlSeconds) {
+    return timed(delegate.newBoundedElastic(threadCap, queuedTaskCap, threadFactory, ttlSeconds),
+        threadFactory);
+  }
+
+  @Override
+  public Scheduler newParallel(int parallelism, ThreadFactory threadFactory) {
+    return timed(delegate.newParallel(parallelism, threadFactory), threadFactory);
+  }
+
+  @Override
+  public Scheduler newSingle(ThreadFactory threadFactory) {
+    return timed(delegate.newSingle(threadFactory), threadFactory);
+  }
+
+  private Scheduler timed(Scheduler scheduler, ThreadFactory threadFactory) {
+    return Micrometer.timedScheduler(scheduler, registry, METRICS_PREFIX,
+        Tags.of("name", name(threadFactory)));
+  }
+
+  /**
+   * reactor's thread factories supply their name prefix, e.g. "parallel" or "singleOne".
+   */
+  static String name(ThreadFactory threadFactory) {
+    return threadFactory instanceof Supplier<?> supplier
+        ? String.valueOf(supplier.get())
+        : threadFactory.getClass().getSimpleName();
+  }
+}
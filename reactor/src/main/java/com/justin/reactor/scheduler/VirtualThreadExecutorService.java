@@ -0,0 +1,277 @@
+package com.justin.reactor.scheduler;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.AbstractExecutorService;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Delayed;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+/**
+ * Description: a ScheduledExecutorService running every task on its own virtual thread.
+ * <p>
+ * 1.a thread-per-task executor has no delay: Schedulers.fromExecutorService() of it fails
+ * Mono.delay() and schedulePeriodically(). here a timer of one platform thread waits for the
+ * delays, then hands each task off to a virtual thread: the timer never runs the task itself,
+ * a blocking task can't hold the other delays back.
+ * </p>
+ * <p>
+ * 2.a periodic task is rescheduled once its run is over, the runs of a task never overlap.
+ * the timer thread is started on the first delay and stops after a minute idle.
+ * </p>
+ * <p>
+ * 3.maxTasks bounds the tasks running on a virtual thread, the tasks beyond are rejected like
+ * on a saturated boundedElastic().
+ * </p>
+ *
+ * @author Justin_Zhang
+ * @date 10/19/2026 08:30
+ */
+final class VirtualThreadExecutorService extends AbstractExecutorService
+    implements ScheduledExecutorService {
+  private final ExecutorService tasks;
+
+  private final ScheduledThreadPoolExecutor timer;
+
+  private final int maxTasks;
+
+  private final Semaphore capacity;
+
+  VirtualThreadExecutorService(String name, int maxTasks) {
+    if (maxTasks <= 0) {
+      throw new IllegalArgumentException("maxTasks must be positive: " + maxTasks);
+    }
+    this.tasks = Executors.newThreadPerTaskExecutor(
+        Thread.ofVirtual().name(name + "-", 0).factory());
+    this.timer = new ScheduledThreadPoolExecutor(1,
+        Thread.ofPlatform().name(name + "-timer").daemon().factory());
+    this.timer.setKeepAliveTime(1, TimeUnit.MINUTES);
+    this.timer.allowCoreThreadTimeOut(true);
+    this.timer.setRemoveOnCancelPolicy(true);
+    this.timer.setExecuteExistingDelayedTasksAfterShutdownPolicy(false);
+    this.maxTasks = maxTasks;
+    this.capacity = new Semaphore(maxTasks);
+  }
+
+  /**
+   * the tasks running on a virtual thread, one thread each.
+   */
+  int running() {
+    return maxTasks - capacity.availablePermits();
+  }
+
+  /**
+   * the delayed and periodic tasks waiting on the timer.
+   */
+  int delayed() {
+    return timer.getQueue().size();
+  }
+
+  @Override
+  public void execute(Runnable command) {
+    start(command);
+  }
+
+  /**
+   * run the task on a virtual thread if there is room for it.
+   */
+  private Future<?> start(Runnable task) {
+    if (!capacity.tryAcquire()) {
+      throw new RejectedExecutionException("too many tasks, " + maxTasks + " running");
+    }
+    try {
+      return tasks.submit(() -> {
+        try {
+          task.run();
+        } finally {
+          capacity.release();
+        }
+      });
+    } catch (RejectedExecutionException e) {
+      capacity.release();
+      throw e;
+    }
+  }
+
+  @Override
+  public ScheduledFuture<?> schedule(Runnable command, long delay, TimeUnit unit) {
+    return schedule(Executors.callable(command), delay, unit);
+  }
+
+  @Override
+  public <V> ScheduledFuture<V> schedule(Callable<V> callable, long delay, TimeUnit unit) {
+    return new Task<>(callable, 0).arm(unit.toNanos(delay));
+  }
+
+  @Override
+  public ScheduledFuture<?> scheduleAtFixedRate(Runnable command, long initialDelay, long period,
+      TimeUnit unit) {
+    return periodic(command, initialDelay, unit.toNanos(period), unit);
+  }
+
+  @Override
+  public ScheduledFuture<?> scheduleWithFixedDelay(Runnable command, long initialDelay,
+      long delay, TimeUnit unit) {
+    return periodic(command, initialDelay, -unit.toNanos(delay), unit);
+  }
+
+  private ScheduledFuture<?> periodic(Runnable command, long initialDelay, long period,
+      TimeUnit unit) {
+    if (period == 0) {
+      throw new IllegalArgumentException("the period must be positive");
+    }
+    return new Task<>(Executors.callable(command), period).arm(unit.toNanos(initialDelay));
+  }
+
+  @Override
+  public void shutdown() {
+    timer.shutdown();
+    tasks.shutdown();
+  }
+
+  @Override
+  public List<Runnable> shutdownNow() {
+    List<Runnable> pending = new ArrayList<>(timer.shutdownNow());
+    pending.addAll(tasks.shutdownNow());
+    return pending;
+  }
+
+  @Override
+  public boolean isShutdown() {
+    return tasks.isShutdown();
+  }
+
+  @Override
+  public boolean isTerminated() {
+    return timer.isTerminated() && tasks.isTerminated();
+  }
+
+  @Override
+  public boolean awaitTermination(long timeout, TimeUnit unit) throws InterruptedException {
+    long deadline = System.nanoTime() + unit.toNanos(timeout);
+    return timer.awaitTermination(timeout, unit)
+        && tasks.awaitTermination(deadline - System.nanoTime(), TimeUnit.NANOSECONDS);
+  }
+
+  /**
+   * a delayed task: on the timer until it's due, then on a virtual thread. period is 0 for a
+   * single run, positive for a fixed rate and negative for a fixed delay, like in the JDK.
+   */
+  private final class Task<V> implements ScheduledFuture<V>, Runnable {
+    private final Callable<V> callable;
+
+    private final long period;
+
+    private final CompletableFuture<V> result = new CompletableFuture<>();
+
+    // when the next run is due, in System.nanoTime().
+    private volatile long time;
+
+    // the wait on the timer or the run on a virtual thread.
+    private volatile Future<?> step;
+
+    private volatile boolean interrupt;
+
+    Task(Callable<V> callable, long period) {
+      this.callable = callable;
+      this.period = period;
+    }
+
+    Task<V> arm(long delay) {
+      time = System.nanoTime() + delay;
+      next(timer.schedule(this::handOff, delay, TimeUnit.NANOSECONDS));
+      return this;
+    }
+
+    private void handOff() {
+      try {
+        next(start(this));
+      } catch (RejectedExecutionException e) {
+        result.completeExceptionally(e);
+      }
+    }
+
+    private void next(Future<?> future) {
+      step = future;
+      if (result.isCancelled()) {
+        future.cancel(interrupt);
+      }
+    }
+
+    @Override
+    public void run() {
+      if (result.isDone()) {
+        return;
+      }
+      try {
+        V value = callable.call();
+        if (period == 0) {
+          result.complete(value);
+          return;
+        }
+      } catch (Throwable e) {
+        result.completeExceptionally(e);
+        return;
+      }
+      try {
+        arm(period > 0 ? time + period - System.nanoTime() : -period);
+      } catch (RejectedExecutionException e) {
+        // shut down meanwhile.
+        result.completeExceptionally(e);
+      }
+    }
+
+    @Override
+    public boolean cancel(boolean mayInterruptIfRunning) {
+      interrupt = mayInterruptIfRunning;
+      boolean cancelled = result.cancel(false);
+      Future<?> current = step;
+      if (current != null) {
+        current.cancel(mayInterruptIfRunning);
+      }
+      return cancelled;
+    }
+
+    @Override
+    public boolean isCancelled() {
+      return result.isCancelled();
+    }
+
+    @Override
+    public boolean isDone() {
+      return result.isDone();
+    }
+
+    @Override
+    public V get() throws InterruptedException, ExecutionException {
+      return result.get();
+    }
+
+    @Override
+    public V get(long timeout, TimeUnit unit)
+        throws InterruptedException, ExecutionException, TimeoutException {
+      return result.get(timeout, unit);
+    }
+
+    @Override
+    public long getDelay(TimeUnit unit) {
+      return unit.convert(time - System.nanoTime(), TimeUnit.NANOSECONDS);
+    }
+
+    @Override
+    public int compareTo(Delayed other) {
+      return Long.compare(getDelay(TimeUnit.NANOSECONDS), other.getDelay(TimeUnit.NANOSECONDS));
+    }
+  }
+}
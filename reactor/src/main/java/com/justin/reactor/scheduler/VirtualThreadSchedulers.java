@@ -0,0 +1,73 @@
+package com.justin.reactor.scheduler;
+
+import java.util.concurrent.ThreadFactory;
+import java.util.function.Supplier;
+import reactor.core.scheduler.Scheduler;
+import reactor.core.scheduler.Schedulers;
+
+/**
+ * Description: schedulers running every task on its own virtual thread.
+ * <p>
+ * 1.a blocking call parks the virtual thread and releases its carrier, so there is no cap of
+ * threads to starve and no queue to overflow like with boundedElastic().
+ * </p>
+ * <p>
+ * 2.the flip side: newVirtual(name) has no bound at all, the concurrency has to be limited
+ * upstream (e.g. flatMap's concurrency) if the blocked resource can't take it. the cap of
+ * newVirtual(name, maxTasks) only rejects, it doesn't make the tasks wait.
+ * </p>
+ * <p>
+ * 3.{@link Factory} makes it a drop-in for boundedElastic(): once installed by
+ * Schedulers.setFactory(), every boundedElastic() of the application is a virtual one. the
+ * delays and the periods wait on a timer thread before the hand-off to a virtual thread, see
+ * {@link VirtualThreadExecutorService}.
+ * </p>
+ * <p>
+ * 4.the factory keeps the capacity of the boundedElastic() it replaces: threadCap + queuedTaskCap
+ * tasks at once, the next ones are rejected. they all run though, none waits for a thread.
+ * </p>
+ *
+ * @author Justin_Zhang
+ * @date 10/18/2026 17:05
+ */
+public class VirtualThreadSchedulers {
+  private VirtualThreadSchedulers() {
+  }
+
+  /**
+   * create a scheduler of virtual threads.
+   *
+   * @param name the name of the scheduler, prefix of its threads
+   * @return a scheduler to dispose once useless
+   */
+  public static Scheduler newVirtual(String name) {
+    return newVirtual(name, Integer.MAX_VALUE);
+  }
+
+  /**
+   * create a scheduler of virtual threads rejecting the tasks beyond maxTasks at once.
+   *
+   * @param name the name of the scheduler, prefix of its threads
+   * @param maxTasks the tasks running at once
+   * @return a scheduler to dispose once useless
+   */
+  public static Scheduler newVirtual(String name, int maxTasks) {
+    return Schedulers.fromExecutorService(new VirtualThreadExecutorService(name, maxTasks), name);
+  }
+
+  /**
+   * the factory replacing boundedElastic() by virtual threads, the other schedulers are unchanged.
+   */
+  public static class Factory implements Schedulers.Factory {
+    @Override
+    public Scheduler newBoundedElastic(int threadCap, int queuedTaskCap,
+        ThreadFactory threadFactory, int ttlSeconds) {
+      // reactor's thread factories supply their name prefix.
+      String name = threadFactory instanceof Supplier<?> supplier
+          ? String.valueOf(supplier.get())
+          : "boundedElastic";
+      long maxTasks = (long) threadCap + queuedTaskCap;
+      return newVirtual(name, (int) Math.min(maxTasks, Integer.MAX_VALUE));
+    }
+  }
+}
@@ -0,0 +1,646 @@
+package com.justin.reactor.sink;
+
+import com.justin.reactor.eventlog.EventLogReader;
+import com.justin.reactor.eventlog.EventLogWriter;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.ClosedChannelException;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicIntegerFieldUpdater;
+import java.util.concurrent.atomic.AtomicLongFieldUpdater;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+import lombok.extern.slf4j.Slf4j;
+import org.reactivestreams.Subscription;
+import reactor.core.CoreSubscriber;
+import reactor.core.Exceptions;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Operators;
+import reactor.core.publisher.SignalType;
+import reactor.core.publisher.Sinks;
+import reactor.util.annotation.Nullable;
+import reactor.util.context.Context;
+
+/**
+ * Description: a unicast sink whose elements survive a crash, in a segmented write-ahead log.
+ * <p>
+ * 1.tryEmitNext() appends the element to the current segment of the log, an
+ * {@link EventLogWriter}, and returns OK once it's fsynced: an acknowledged emission is durable.
+ * a segment holds segmentBytes, the next one is named after the sequence of its first entry.
+ * when the log can't be written or synced, the emission fails with FAIL_TERMINATED and the sink
+ * is terminated with the IOException: the entries not synced yet are dropped, never delivered,
+ * as a failed fsync may have lost them.
+ * </p>
+ * <p>
+ * 2.group commit: the emitters waiting for their sync share it. the first one fsyncs everything
+ * appended so far, the others wait and find their entry synced: one fsync per group of
+ * concurrent emissions instead of one per emission.
+ * </p>
+ * <p>
+ * 3.an entry is delivered once durable, and acknowledged once the onNext() of the subscriber
+ * returned. the acknowledged sequence is checkpointed at every sync, open() replays the entries
+ * logged after it to the next subscriber: at least once. a segment is deleted once all its
+ * entries are acknowledged.
+ * </p>
+ * <p>
+ * 4.like Sinks.many().unicast().onBackpressureBuffer(), the entries are buffered until delivered,
+ * in memory as well. unlike it, a subscriber can come after another one cancelled, it gets the
+ * entries not acknowledged yet. the terminal signals aren't logged.
+ * </p>
+ *
+ * @author Justin_Zhang
+ * @date 10/19/2026 04:20
+ */
+@Slf4j
+public class DurableSink<T> implements Sinks.Many<T> {
+  public static final long DEFAULT_SEGMENT_BYTES = 64L << 20;
+
+  static final String SEGMENT_SUFFIX = ".wal";
+
+  static final String CHECKPOINT = "checkpoint";
+
+  // the emitters sync, the timer of a writer is only a fallback.
+  private static final Duration WRITER_SYNC_INTERVAL = Duration.ofSeconds(1);
+
+  @SuppressWarnings("rawtypes")
+  private static final AtomicIntegerFieldUpdater<DurableSink> WIP =
+      AtomicIntegerFieldUpdater.newUpdater(DurableSink.class, "wip");
+
+  private final Path directory;
+
+  private final RecordSerializer<T> serializer;
+
+  private final long segmentBytes;
+
+  private final boolean groupCommit;
+
+  private final FileChannel checkpoint;
+
+  private final Queue<Entry<T>> queue = new ConcurrentLinkedQueue<>();
+
+  // the base sequence and file of the segments, the last one being written.
+  private final List<Segment> segments = new ArrayList<>();
+
+  private final ReentrantLock appendLock = new ReentrantLock();
+
+  private final Object syncMonitor = new Object();
+
+  private final Flux<T> flux = new Flux<>() {
+    @Override
+    public void subscribe(CoreSubscriber<? super T> actual) {
+      DurableSink.this.subscribe(actual);
+    }
+  };
+
+  // guarded by appendLock.
+  private EventLogWriter<T> writer;
+
+  private long nextSequence;
+
+  private boolean closing;
+
+  // guarded by syncMonitor.
+  private boolean syncing;
+
+  // a sync failed, syncedSequence doesn't move anymore.
+  private boolean broken;
+
+  private long syncCount;
+
+  private volatile long syncedSequence;
+
+  private volatile long acknowledged;
+
+  private Throwable error;
+
+  private volatile boolean done;
+
+  private volatile Inner<T> current;
+
+  private volatile int wip;
+
+  DurableSink(Path directory, RecordSerializer<T> serializer, long segmentBytes,
+      boolean groupCommit) throws IOException {
+    if (segmentBytes <= 0) {
+      throw new IllegalArgumentException("segmentBytes must be positive: " + segmentBytes);
+    }
+    this.directory = Files.createDirectories(directory);
+    this.serializer = Objects.requireNonNull(serializer, "serializer");
+    this.segmentBytes = segmentBytes;
+    this.groupCommit = groupCommit;
+    this.checkpoint = FileChannel.open(directory.resolve(CHECKPOINT), StandardOpenOption.CREATE,
+        StandardOpenOption.READ, StandardOpenOption.WRITE);
+    try {
+      recover();
+    } catch (IOException | RuntimeException e) {
+      closeQuietly();
+      throw e;
+    }
+  }
+
+  /**
+   * open a durable sink with segments of 64MB.
+   */
+  public static <T> DurableSink<T> open(Path directory, RecordSerializer<T> serializer)
+      throws IOException {
+    return open(directory, serializer, DEFAULT_SEGMENT_BYTES);
+  }
+
+  /**
+   * open a durable sink, the entries not acknowledged by the last process are replayed.
+   *
+   * @param directory    the directory of the log, created if needed
+   * @param serializer   the serializer of the elements
+   * @param segmentBytes the size after which a segment is rolled
+   * @return the sink
+   * @throws IOException when the log can't be opened or recovered
+   */
+  public static <T> DurableSink<T> open(Path directory, RecordSerializer<T> serializer,
+      long segmentBytes) throws IOException {
+    return new DurableSink<>(directory, serializer, segmentBytes, true);
+  }
+
+  private void recover() throws IOException {
+    long acked = 0L;
+    ByteBuffer buffer = ByteBuffer.allocate(Long.BYTES);
+    if (checkpoint.read(buffer, 0L) == Long.BYTES) {
+      acked = buffer.getLong(0);
+    }
+    List<Path> files;
+    try (Stream<Path> list = Files.list(directory)) {
+      files = list.filter(file -> file.getFileName().toString().endsWith(SEGMENT_SUFFIX))
+          .sorted()
+          .collect(Collectors.toList());
+    }
+    if (files.isEmpty()) {
+      files = List.of(segmentFile(0L));
+    }
+    // opening the last segment truncates its torn tail, before it's read.
+    writer = EventLogWriter.open(files.get(files.size() - 1), serializer, Integer.MAX_VALUE,
+        WRITER_SYNC_INTERVAL);
+    long sequence = 0L;
+    for (Path file : files) {
+      String name = file.getFileName().toString();
+      sequence = Long.parseLong(name.substring(0, name.length() - SEGMENT_SUFFIX.length()));
+      segments.add(new Segment(sequence, file));
+      for (T value : EventLogReader.records(file, serializer).toIterable()) {
+        if (sequence >= acked) {
+          queue.offer(new Entry<>(sequence, value));
+        }
+        sequence++;
+      }
+    }
+    nextSequence = sequence;
+    syncedSequence = sequence;
+    acknowledged = Math.min(acked, sequence);
+    if (!queue.isEmpty()) {
+      log.info("{} replays {} entries not acknowledged", directory, queue.size());
+    }
+  }
+
+  private Path segmentFile(long baseSequence) {
+    return directory.resolve(String.format("%020d%s", baseSequence, SEGMENT_SUFFIX));
+  }
+
+  /**
+   * append the element to the log and wait for its sync, FAIL_TERMINATED once completed or when
+   * the log can't be written: the sink is then terminated with the IOException.
+   */
+  @Override
+  public Sinks.EmitResult tryEmitNext(T t) {
+    Objects.requireNonNull(t, "t");
+    long sequence = -1L;
+    IOException failure = null;
+    appendLock.lock();
+    try {
+      if (closing) {
+        return Sinks.EmitResult.FAIL_TERMINATED;
+      }
+      if (writer.position() >= segmentBytes) {
+        roll();
+      }
+      writer.append(t);
+      sequence = nextSequence++;
+      queue.offer(new Entry<>(sequence, t));
+      if (!groupCommit) {
+        sync(writer, nextSequence);
+      }
+    } catch (IOException e) {
+      failure = e;
+    } finally {
+      appendLock.unlock();
+    }
+    if (failure != null) {
+      return fail(failure);
+    }
+    boolean durable;
+    try {
+      durable = awaitSync(sequence);
+    } catch (IOException e) {
+      return fail(e);
+    }
+    if (!durable) {
+      // the sync of another emitter failed, it terminated the sink.
+      return Sinks.EmitResult.FAIL_TERMINATED;
+    }
+    drain();
+    return Sinks.EmitResult.OK;
+  }
+
+  /**
+   * terminate the sink with the failure of the log, dropping the entries not synced.
+   */
+  private Sinks.EmitResult fail(IOException failure) {
+    boolean first;
+    appendLock.lock();
+    try {
+      first = !closing;
+      closing = true;
+      if (first) {
+        try {
+          writer.close();
+        } catch (IOException e) {
+          failure.addSuppressed(e);
+        }
+      }
+    } finally {
+      appendLock.unlock();
+    }
+    long durable;
+    synchronized (syncMonitor) {
+      broken = true;
+      durable = syncedSequence;
+      syncMonitor.notifyAll();
+    }
+    // the drain only delivers below syncedSequence, these entries are never delivered.
+    queue.removeIf(entry -> entry.sequence >= durable);
+    if (first) {
+      log.error("{} can't be written, the sink is terminated", directory, failure);
+      error = failure;
+      done = true;
+      drain();
+    }
+    return Sinks.EmitResult.FAIL_TERMINATED;
+  }
+
+  /**
+   * wait for a sync covering the sequence, or run it when none is running.
+   *
+   * @return false when another sync failed and terminated the sink
+   * @throws IOException when the sync run by this emitter fails
+   */
+  private boolean awaitSync(long sequence) throws IOException {
+    for (;;) {
+      synchronized (syncMonitor) {
+        while (syncedSequence <= sequence && syncing) {
+          try {
+            syncMonitor.wait();
+          } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw Exceptions.propagate(e);
+          }
+        }
+        if (syncedSequence > sequence) {
+          return true;
+        }
+        if (broken) {
+          return false;
+        }
+        syncing = true;
+      }
+      EventLogWriter<T> last;
+      long target;
+      appendLock.lock();
+      try {
+        last = writer;
+        target = nextSequence;
+      } finally {
+        appendLock.unlock();
+      }
+      try {
+        // the entries of the rolled segments were synced when they were closed.
+        sync(last, target);
+      } finally {
+        synchronized (syncMonitor) {
+          syncing = false;
+          syncMonitor.notifyAll();
+        }
+      }
+    }
+  }
+
+  private void sync(EventLogWriter<T> writer, long target) throws IOException {
+    writer.sync();
+    writeCheckpoint(false);
+    synchronized (syncMonitor) {
+      syncCount++;
+      if (!broken && target > syncedSequence) {
+        syncedSequence = target;
+      }
+    }
+  }
+
+  /**
+   * close the current segment and start the next one, deleting the segments acknowledged.
+   */
+  private void roll() throws IOException {
+    writer.close();
+    Path file = segmentFile(nextSequence);
+    writer = EventLogWriter.open(file, serializer, Integer.MAX_VALUE, WRITER_SYNC_INTERVAL);
+    segments.add(new Segment(nextSequence, file));
+    // the acknowledged sequence must be durable before the entries it covers are deleted.
+    long acked = writeCheckpoint(true);
+    while (segments.size() > 1 && segments.get(1).baseSequence <= acked) {
+      Files.deleteIfExists(segments.remove(0).file);
+    }
+  }
+
+  /**
+   * write the acknowledged sequence, racing writes are fine: an older one only replays more.
+   */
+  private long writeCheckpoint(boolean force) throws IOException {
+    long acked = acknowledged;
+    try {
+      checkpoint.write(ByteBuffer.allocate(Long.BYTES).putLong(0, acked), 0L);
+      if (force) {
+        checkpoint.force(false);
+      }
+    } catch (ClosedChannelException e) {
+      // the terminal signal was delivered, the last checkpoint is written.
+    }
+    return acked;
+  }
+
+  @Override
+  public Sinks.EmitResult tryEmitComplete() {
+    return terminate(null);
+  }
+
+  @Override
+  public Sinks.EmitResult tryEmitError(Throwable error) {
+    return terminate(Objects.requireNonNull(error, "error"));
+  }
+
+  private Sinks.EmitResult terminate(@Nullable Throwable failure) {
+    appendLock.lock();
+    try {
+      if (closing) {
+        return Sinks.EmitResult.FAIL_TERMINATED;
+      }
+      closing = true;
+      long target = nextSequence;
+      writer.close();
+      synchronized (syncMonitor) {
+        syncedSequence = Math.max(syncedSequence, target);
+        syncMonitor.notifyAll();
+      }
+    } catch (IOException e) {
+      throw new UncheckedIOException(e);
+    } finally {
+      appendLock.unlock();
+    }
+    error = failure;
+    done = true;
+    drain();
+    return Sinks.EmitResult.OK;
+  }
+
+  @Override
+  public void emitNext(T t, Sinks.EmitFailureHandler failureHandler) {
+    for (;;) {
+      Sinks.EmitResult result = tryEmitNext(t);
+      if (result.isSuccess()) {
+        return;
+      }
+      if (failureHandler.onEmitFailure(SignalType.ON_NEXT, result)) {
+        continue;
+      }
+      if (result == Sinks.EmitResult.FAIL_TERMINATED) {
+        Operators.onNextDropped(t, Context.empty());
+        return;
+      }
+      throw new Sinks.EmissionException(result, "emitNext failed for " + t);
+    }
+  }
+
+  @Override
+  public void emitComplete(Sinks.EmitFailureHandler failureHandler) {
+    for (;;) {
+      Sinks.EmitResult result = tryEmitComplete();
+      if (result.isSuccess() || !failureHandler.onEmitFailure(SignalType.ON_COMPLETE, result)) {
+        return;
+      }
+    }
+  }
+
+  @Override
+  public void emitError(Throwable error, Sinks.EmitFailureHandler failureHandler) {
+    for (;;) {
+      Sinks.EmitResult result = tryEmitError(error);
+      if (result.isSuccess()) {
+        return;
+      }
+      if (!failureHandler.onEmitFailure(SignalType.ON_ERROR, result)) {
+        Operators.onErrorDropped(error, Context.empty());
+        return;
+      }
+    }
+  }
+
+  @Override
+  public int currentSubscriberCount() {
+    return current == null ? 0 : 1;
+  }
+
+  @Override
+  public Flux<T> asFlux() {
+    return flux;
+  }
+
+  @Override
+  @Nullable
+  public Object scanUnsafe(Attr key) {
+    if (key == Attr.TERMINATED) {
+      return done;
+    }
+    if (key == Attr.ERROR) {
+      return error;
+    }
+    if (key == Attr.BUFFERED) {
+      return queue.size();
+    }
+    return null;
+  }
+
+  /**
+   * the number of fsyncs, each one covering a group of emissions.
+   */
+  long syncCount() {
+    synchronized (syncMonitor) {
+      return syncCount;
+    }
+  }
+
+  /**
+   * the sequence of the next entry to acknowledge, i.e. the number of entries acknowledged.
+   */
+  public long acknowledged() {
+    return acknowledged;
+  }
+
+  private void subscribe(CoreSubscriber<? super T> actual) {
+    Inner<T> inner = new Inner<>(this, actual);
+    synchronized (this) {
+      if (current != null) {
+        Operators.error(actual,
+            new IllegalStateException("DurableSink allows only a single Subscriber at a time"));
+        return;
+      }
+      current = inner;
+    }
+    actual.onSubscribe(inner);
+    drain();
+  }
+
+  private void drain() {
+    if (WIP.getAndIncrement(this) != 0) {
+      return;
+    }
+    int missed = 1;
+    for (;;) {
+      Inner<T> inner = current;
+      if (inner != null) {
+        long r = inner.requested;
+        long e = 0L;
+        Entry<T> entry;
+        while (e != r && !inner.cancelled
+            && (entry = queue.peek()) != null && entry.sequence < syncedSequence) {
+          queue.poll();
+          inner.actual.onNext(entry.value);
+          acknowledged = entry.sequence + 1;
+          e++;
+        }
+        if (!inner.cancelled && done && queue.isEmpty()) {
+          current = null;
+          Throwable t = error;
+          if (t != null) {
+            inner.actual.onError(t);
+          } else {
+            inner.actual.onComplete();
+          }
+          closeCheckpoint();
+          return;
+        }
+        if (e != 0L && r != Long.MAX_VALUE) {
+          Inner.REQUESTED.addAndGet(inner, -e);
+        }
+      }
+      missed = WIP.addAndGet(this, -missed);
+      if (missed == 0) {
+        return;
+      }
+    }
+  }
+
+  private void closeCheckpoint() {
+    if (!checkpoint.isOpen()) {
+      return;
+    }
+    try {
+      writeCheckpoint(true);
+      checkpoint.close();
+    } catch (IOException e) {
+      log.warn("failed to checkpoint {}", directory, e);
+    }
+  }
+
+  private void closeQuietly() {
+    try {
+      if (writer != null) {
+        writer.close();
+      }
+      checkpoint.close();
+    } catch (IOException e) {
+      log.warn("failed to close {}", directory, e);
+    }
+  }
+
+  private void cancelled(Inner<T> inner) {
+    synchronized (this) {
+      if (current == inner) {
+        current = null;
+      }
+    }
+  }
+
+  private static final class Entry<T> {
+    private final long sequence;
+
+    private final T value;
+
+    Entry(long sequence, T value) {
+      this.sequence = sequence;
+      this.value = value;
+    }
+  }
+
+  private static final class Segment {
+    private final long baseSequence;
+
+    private final Path file;
+
+    Segment(long baseSequence, Path file) {
+      this.baseSequence = baseSequence;
+      this.file = file;
+    }
+  }
+
+  /**
+   * the subscription of one subscriber, the next one gets the entries it didn't.
+   */
+  private static final class Inner<T> implements Subscription {
+    @SuppressWarnings("rawtypes")
+    private static final AtomicLongFieldUpdater<Inner> REQUESTED =
+        AtomicLongFieldUpdater.newUpdater(Inner.class, "requested");
+
+    private final DurableSink<T> parent;
+
+    private final CoreSubscriber<? super T> actual;
+
+    private volatile boolean cancelled;
+
+    private volatile long requested;
+
+    Inner(DurableSink<T> parent, CoreSubscriber<? super T> actual) {
+      this.parent = parent;
+      this.actual = actual;
+    }
+
+    @Override
+    public void request(long n) {
+      if (Operators.validate(n)) {
+        Operators.addCap(REQUESTED, this, n);
+        parent.drain();
+      }
+    }
+
+    @Override
+    public void cancel() {
+      if (!cancelled) {
+        cancelled = true;
+        parent.cancelled(this);
+      }
+    }
+  }
+}
@@ -0,0 +1,489 @@
+package com.justin.reactor.sink;
+
+import java.io.IOException;
+import java.nio.BufferOverflowException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
+import java.util.Objects;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicIntegerFieldUpdater;
+import java.util.concurrent.atomic.AtomicLongFieldUpdater;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import org.reactivestreams.Subscription;
+import reactor.core.CoreSubscriber;
+import reactor.core.Exceptions;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Operators;
+import reactor.core.publisher.SignalType;
+import reactor.core.publisher.Sinks;
+import reactor.util.annotation.Nullable;
+import reactor.util.context.Context;
+
+/**
+ * Description: a replay sink keeping its history in a fixed-size ring outside of the heap.
+ * <p>
+ * 1.every element is serialized by a {@link RecordSerializer} into a direct or memory-mapped
+ * buffer as [length][bytes]. a record never wraps: when it doesn't fit before the end of the
+ * ring, the rest is padded and the record starts over at 0, so it is read without any copy.
+ * </p>
+ * <p>
+ * 2.the ring keeps the newest records fitting both its bytes and its index of record positions,
+ * the oldest ones are evicted to make room. so the history costs a fixed amount of memory,
+ * whatever the number of elements, and no heap at all besides the index.
+ * </p>
+ * <p>
+ * 3.every subscriber owns a cursor, the sequence of its next record. a late subscriber starts
+ * at the oldest record kept. a subscriber slower than the ring, whose next record was evicted,
+ * fails with an overflow error instead of silently missing elements.
+ * </p>
+ * <p>
+ * 4.emitters write under the write lock (so emission is serialized), subscribers read batches
+ * of {@value #DRAIN_BATCH} records under the read lock and deliver them after releasing it.
+ * </p>
+ *
+ * @author Justin_Zhang
+ * @date 10/18/2026 21:10
+ */
+public class OffHeapReplaySink<T> implements Sinks.Many<T> {
+  static final int DRAIN_BATCH = 64;
+
+  private static final int HEADER = Integer.BYTES;
+
+  private static final int PADDING = -1;
+
+  private final ByteBuffer ring;
+
+  private final int capacity;
+
+  // the largest serialized element a record of half the ring holds.
+  private final int maxLength;
+
+  private final long[] index;
+
+  private final int indexMask;
+
+  private final RecordSerializer<T> serializer;
+
+  private final ReadWriteLock lock = new ReentrantReadWriteLock();
+
+  private final CopyOnWriteArrayList<ReplaySubscription> subscribers =
+      new CopyOnWriteArrayList<>();
+
+  private final Flux<T> flux = new Flux<>() {
+    @Override
+    public void subscribe(CoreSubscriber<? super T> actual) {
+      OffHeapReplaySink.this.subscribe(actual);
+    }
+  };
+
+  // logical byte positions of the oldest record and of the next one, guarded by the lock.
+  private long head;
+
+  private long tail;
+
+  // sequences of the oldest record and of the next one, guarded by the lock.
+  private long firstSeq;
+
+  private long nextSeq;
+
+  private ByteBuffer scratch = ByteBuffer.allocate(256);
+
+  private Throwable error;
+
+  private volatile boolean done;
+
+  OffHeapReplaySink(ByteBuffer ring, int maxRecords, RecordSerializer<T> serializer) {
+    this.ring = ring;
+    this.capacity = ring.capacity() & -HEADER;
+    this.maxLength = Math.max(0, ((capacity / 2) & -HEADER) - HEADER);
+    this.index = new long[capacityFor(maxRecords)];
+    this.indexMask = index.length - 1;
+    this.serializer = serializer;
+  }
+
+  /**
+   * create a sink keeping its history in a direct buffer.
+   *
+   * @param capacityBytes the size of the ring
+   * @param maxRecords    the most records kept, rounded up to a power of two
+   * @param serializer    the serializer of the elements
+   * @return the sink
+   */
+  public static <T> OffHeapReplaySink<T> direct(int capacityBytes, int maxRecords,
+      RecordSerializer<T> serializer) {
+    return new OffHeapReplaySink<>(ByteBuffer.allocateDirect(capacityBytes), maxRecords,
+        serializer);
+  }
+
+  /**
+   * create a sink keeping its history in a memory-mapped file, paged in and out by the os.
+   * the file is the storage of the ring only, nothing is recovered from it.
+   *
+   * @param file          the file to map, created if needed
+   * @param capacityBytes the size of the ring
+   * @param maxRecords    the most records kept, rounded up to a power of two
+   * @param serializer    the serializer of the elements
+   * @return the sink
+   * @throws IOException when the file can't be mapped
+   */
+  public static <T> OffHeapReplaySink<T> mapped(Path file, int capacityBytes, int maxRecords,
+      RecordSerializer<T> serializer) throws IOException {
+    try (FileChannel channel = FileChannel.open(file, StandardOpenOption.CREATE,
+        StandardOpenOption.READ, StandardOpenOption.WRITE)) {
+      // the mapping stays valid once the channel is closed.
+      return new OffHeapReplaySink<>(channel.map(FileChannel.MapMode.READ_WRITE, 0, capacityBytes),
+          maxRecords, serializer);
+    }
+  }
+
+  private static int capacityFor(int maxRecords) {
+    if (maxRecords < 1 || maxRecords > 1 << 30) {
+      throw new IllegalArgumentException("maxRecords must be in [1, 2^30]: " + maxRecords);
+    }
+    return maxRecords == 1 ? 1 : Integer.highestOneBit(maxRecords - 1) << 1;
+  }
+
+  /**
+   * FAIL_OVERFLOW when the serialized element is larger than half of the ring.
+   */
+  @Override
+  public Sinks.EmitResult tryEmitNext(T t) {
+    Objects.requireNonNull(t, "t");
+    if (done) {
+      return Sinks.EmitResult.FAIL_TERMINATED;
+    }
+    lock.writeLock().lock();
+    try {
+      if (done) {
+        return Sinks.EmitResult.FAIL_TERMINATED;
+      }
+      int length = serialize(t);
+      if (length < 0) {
+        return Sinks.EmitResult.FAIL_OVERFLOW;
+      }
+      int size = align(HEADER + length);
+      int offset = offset(tail);
+      // size <= capacity / 2, so a padded record still fits in the ring.
+      int padding = offset + size > capacity ? capacity - offset : 0;
+      while (tail + padding + size - head > capacity || nextSeq - firstSeq == index.length) {
+        evictOldest();
+      }
+      if (padding > 0) {
+        ring.putInt(offset, PADDING);
+        tail += padding;
+        offset = 0;
+      }
+      ring.putInt(offset, length);
+      ring.put(offset + HEADER, scratch, 0, length);
+      index[(int) (nextSeq & indexMask)] = tail;
+      tail += size;
+      nextSeq++;
+    } finally {
+      lock.writeLock().unlock();
+    }
+    drainAll();
+    return Sinks.EmitResult.OK;
+  }
+
+  @Override
+  public Sinks.EmitResult tryEmitComplete() {
+    return terminate(null);
+  }
+
+  @Override
+  public Sinks.EmitResult tryEmitError(Throwable error) {
+    return terminate(Objects.requireNonNull(error, "error"));
+  }
+
+  private Sinks.EmitResult terminate(@Nullable Throwable failure) {
+    lock.writeLock().lock();
+    try {
+      if (done) {
+        return Sinks.EmitResult.FAIL_TERMINATED;
+      }
+      error = failure;
+      done = true;
+    } finally {
+      lock.writeLock().unlock();
+    }
+    drainAll();
+    return Sinks.EmitResult.OK;
+  }
+
+  @Override
+  public void emitNext(T t, Sinks.EmitFailureHandler failureHandler) {
+    for (;;) {
+      Sinks.EmitResult result = tryEmitNext(t);
+      if (result.isSuccess() || failureHandler.onEmitFailure(SignalType.ON_NEXT, result)) {
+        if (result.isSuccess()) {
+          return;
+        }
+        continue;
+      }
+      switch (result) {
+        case FAIL_TERMINATED:
+          Operators.onNextDropped(t, Context.empty());
+          return;
+        case FAIL_OVERFLOW:
+          emitError(Exceptions.failWithOverflow("record larger than half of the ring"),
+              failureHandler);
+          return;
+        default:
+          throw new Sinks.EmissionException(result, "emitNext failed for " + t);
+      }
+    }
+  }
+
+  @Override
+  public void emitComplete(Sinks.EmitFailureHandler failureHandler) {
+    for (;;) {
+      Sinks.EmitResult result = tryEmitComplete();
+      if (result.isSuccess() || !failureHandler.onEmitFailure(SignalType.ON_COMPLETE, result)) {
+        return;
+      }
+    }
+  }
+
+  @Override
+  public void emitError(Throwable error, Sinks.EmitFailureHandler failureHandler) {
+    for (;;) {
+      Sinks.EmitResult result = tryEmitError(error);
+      if (result.isSuccess()) {
+        return;
+      }
+      if (!failureHandler.onEmitFailure(SignalType.ON_ERROR, result)) {
+        Operators.onErrorDropped(error, Context.empty());
+        return;
+      }
+    }
+  }
+
+  @Override
+  public int currentSubscriberCount() {
+    return subscribers.size();
+  }
+
+  @Override
+  public Flux<T> asFlux() {
+    return flux;
+  }
+
+  @Override
+  @Nullable
+  public Object scanUnsafe(Attr key) {
+    if (key == Attr.TERMINATED) {
+      return done;
+    }
+    if (key == Attr.ERROR) {
+      return error;
+    }
+    if (key == Attr.CAPACITY) {
+      return capacity;
+    }
+    if (key == Attr.BUFFERED) {
+      lock.readLock().lock();
+      try {
+        return (int) (nextSeq - firstSeq);
+      } finally {
+        lock.readLock().unlock();
+      }
+    }
+    return null;
+  }
+
+  private void subscribe(CoreSubscriber<? super T> actual) {
+    ReplaySubscription subscription;
+    lock.readLock().lock();
+    try {
+      subscription = new ReplaySubscription(actual, firstSeq);
+    } finally {
+      lock.readLock().unlock();
+    }
+    actual.onSubscribe(subscription);
+    // added after onSubscribe, so that no emitter can signal before it.
+    subscribers.add(subscription);
+    if (subscription.cancelled) {
+      subscribers.remove(subscription);
+      return;
+    }
+    subscription.drain();
+  }
+
+  private void drainAll() {
+    for (ReplaySubscription subscription : subscribers) {
+      subscription.drain();
+    }
+  }
+
+  /**
+   * serialize into the scratch buffer, grown until the element fits but not beyond maxLength:
+   * -1 when the element is larger, the ring could never hold it.
+   */
+  private int serialize(T t) {
+    for (;;) {
+      scratch.clear().limit(Math.min(scratch.capacity(), maxLength));
+      try {
+        serializer.write(t, scratch);
+        return scratch.position();
+      } catch (BufferOverflowException e) {
+        if (scratch.capacity() >= maxLength) {
+          return -1;
+        }
+        scratch = ByteBuffer.allocate(Math.min(scratch.capacity() * 2, maxLength));
+      }
+    }
+  }
+
+  private void evictOldest() {
+    int offset = offset(head);
+    int length = ring.getInt(offset);
+    if (length == PADDING) {
+      head += capacity - offset;
+      return;
+    }
+    head += align(HEADER + length);
+    firstSeq++;
+  }
+
+  private int offset(long position) {
+    return (int) (position % capacity);
+  }
+
+  private static int align(int size) {
+    return (size + HEADER - 1) & -HEADER;
+  }
+
+  /**
+   * read the record of the sequence, under the read lock.
+   */
+  private T read(long seq, ByteBuffer view) {
+    int offset = offset(index[(int) (seq & indexMask)]);
+    int length = ring.getInt(offset);
+    view.limit(capacity).position(offset + HEADER).limit(offset + HEADER + length);
+    return serializer.read(view);
+  }
+
+  private class ReplaySubscription implements Subscription {
+    private final CoreSubscriber<? super T> actual;
+
+    // a view of its own on the ring, so that reading moves no shared position.
+    private final ByteBuffer view = ring.duplicate();
+
+    private final Object[] batch = new Object[DRAIN_BATCH];
+
+    private long cursor;
+
+    private volatile long requested;
+
+    private volatile int wip;
+
+    private volatile boolean cancelled;
+
+    ReplaySubscription(CoreSubscriber<? super T> actual, long cursor) {
+      this.actual = actual;
+      this.cursor = cursor;
+    }
+
+    @Override
+    public void request(long n) {
+      if (Operators.validate(n)) {
+        Operators.addCap(REQUESTED, this, n);
+        drain();
+      }
+    }
+
+    @Override
+    public void cancel() {
+      cancelled = true;
+      subscribers.remove(this);
+      if (WIP.getAndIncrement(this) == 0) {
+        Arrays.fill(batch, null);
+      }
+    }
+
+    @SuppressWarnings("unchecked")
+    void drain() {
+      if (WIP.getAndIncrement(this) != 0) {
+        return;
+      }
+      int missed = 1;
+      for (;;) {
+        long r = requested;
+        long e = 0L;
+        for (;;) {
+          if (cancelled) {
+            Arrays.fill(batch, null);
+            return;
+          }
+          int n = 0;
+          boolean lagged = false;
+          boolean caughtUp = false;
+          boolean terminated;
+          lock.readLock().lock();
+          try {
+            terminated = done;
+            if (cursor < firstSeq) {
+              lagged = true;
+            } else {
+              n = (int) Math.min(nextSeq - cursor, Math.min(DRAIN_BATCH, r - e));
+              for (int i = 0; i < n; i++) {
+                batch[i] = read(cursor + i, view);
+              }
+              cursor += n;
+              caughtUp = cursor == nextSeq;
+            }
+          } finally {
+            lock.readLock().unlock();
+          }
+          if (lagged) {
+            subscribers.remove(this);
+            actual.onError(Exceptions.failWithOverflow(
+                "the subscriber lagged behind the ring, its next record was evicted"));
+            return;
+          }
+          for (int i = 0; i < n; i++) {
+            if (cancelled) {
+              Arrays.fill(batch, null);
+              return;
+            }
+            T value = (T) batch[i];
+            batch[i] = null;
+            actual.onNext(value);
+          }
+          e += n;
+          if (caughtUp && terminated) {
+            subscribers.remove(this);
+            if (error != null) {
+              actual.onError(error);
+            } else {
+              actual.onComplete();
+            }
+            return;
+          }
+          if (n == 0) {
+            break;
+          }
+        }
+        if (e != 0L && r != Long.MAX_VALUE) {
+          REQUESTED.addAndGet(this, -e);
+        }
+        missed = WIP.addAndGet(this, -missed);
+        if (missed == 0) {
+          break;
+        }
+      }
+    }
+  }
+
+  @SuppressWarnings("rawtypes")
+  private static final AtomicLongFieldUpdater<OffHeapReplaySink.ReplaySubscription> REQUESTED =
+      AtomicLongFieldUpdater.newUpdater(OffHeapReplaySink.ReplaySubscription.class, "requested");
+
+  @SuppressWarnings("rawtypes")
+  private static final AtomicIntegerFieldUpdater<OffHeapReplaySink.ReplaySubscription> WIP =
+      AtomicIntegerFieldUpdater.newUpdater(OffHeapReplaySink.ReplaySubscription.class, "wip");
+}
@@ -0,0 +1,93 @@
+package com.justin.reactor.sink;
+
+import java.time.Duration;
+import java.util.concurrent.locks.LockSupport;
+import reactor.core.publisher.SignalType;
+import reactor.core.publisher.Sinks;
+
+/**
+ * Description: an EmitFailureHandler retrying with an exponential backoff, parking the thread.
+ * <p>
+ * 1.busyLooping() retries FAIL_NON_SERIALIZED at once, spinning a core as long as the other
+ * emitter holds the sink. this one parks between the retries, from minPark doubling up to
+ * maxPark, so that the contended emitters leave the cpu to the one emitting.
+ * </p>
+ * <p>
+ * 2.FAIL_OVERFLOW is retried as well: a full buffer is drained by the subscriber, parking waits
+ * for it. the other failures are never retried.
+ * </p>
+ * <p>
+ * 3.like busyLooping(), the deadline is taken when the handler is created, so a handler is meant
+ * for one emission (or one burst of emissions), not to be kept in a field.
+ * </p>
+ *
+ * @author Justin_Zhang
+ * @date 10/19/2026 01:40
+ */
+public class ParkingEmitFailureHandler implements Sinks.EmitFailureHandler {
+  static final long DEFAULT_MIN_PARK_NANOS = Duration.ofNanos(1_000).toNanos();
+
+  static final long DEFAULT_MAX_PARK_NANOS = Duration.ofMillis(1).toNanos();
+
+  private final long deadline;
+
+  private final long minParkNanos;
+
+  private final long maxParkNanos;
+
+  private long nextParkNanos;
+
+  ParkingEmitFailureHandler(long timeoutNanos, long minParkNanos, long maxParkNanos) {
+    if (minParkNanos <= 0 || maxParkNanos < minParkNanos) {
+      throw new IllegalArgumentException(
+          "parks must be 0 < minPark <= maxPark: " + minParkNanos + ", " + maxParkNanos);
+    }
+    this.deadline = System.nanoTime() + timeoutNanos;
+    this.minParkNanos = minParkNanos;
+    this.maxParkNanos = maxParkNanos;
+    this.nextParkNanos = minParkNanos;
+  }
+
+  /**
+   * park from 1µs up to 1ms between the retries, until the timeout.
+   */
+  public static ParkingEmitFailureHandler parking(Duration timeout) {
+    return new ParkingEmitFailureHandler(timeout.toNanos(), DEFAULT_MIN_PARK_NANOS,
+        DEFAULT_MAX_PARK_NANOS);
+  }
+
+  /**
+   * park from minPark doubling up to maxPark between the retries, until the timeout.
+   *
+   * @param timeout the time after which the emission fails
+   * @param minPark the first park
+   * @param maxPark the longest park
+   * @return the handler, for one emission
+   */
+  public static ParkingEmitFailureHandler parking(Duration timeout, Duration minPark,
+      Duration maxPark) {
+    return new ParkingEmitFailureHandler(timeout.toNanos(), minPark.toNanos(), maxPark.toNanos());
+  }
+
+  @Override
+  public boolean onEmitFailure(SignalType signalType, Sinks.EmitResult emitResult) {
+    if (emitResult != Sinks.EmitResult.FAIL_NON_SERIALIZED
+        && emitResult != Sinks.EmitResult.FAIL_OVERFLOW) {
+      return false;
+    }
+    long remaining = deadline - System.nanoTime();
+    if (remaining <= 0) {
+      return false;
+    }
+    LockSupport.parkNanos(Math.min(nextParkNanos, remaining));
+    nextParkNanos = Math.min(maxParkNanos, nextParkNanos << 1);
+    return true;
+  }
+
+  /**
+   * start the backoff over from minPark, e.g. after a successful emission of a burst.
+   */
+  public void reset() {
+    nextParkNanos = minParkNanos;
+  }
+}
@@ -0,0 +1,76 @@
+package com.justin.reactor.sink;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Description: the serializer of the records kept outside of the heap.
+ *
+ * @author Justin_Zhang
+ * @date 10/18/2026 21:02
+ */
+public interface RecordSerializer<T> {
+  /**
+   * write the value at the position of the buffer.
+   * a BufferOverflowException is fine: the caller retries with a larger buffer.
+   *
+   * @param value the value to write
+   * @param out   the buffer to write into
+   */
+  void write(T value, ByteBuffer out);
+
+  /**
+   * read a value from the remaining bytes of the buffer, i.e. exactly what write() wrote.
+   *
+   * @param in the buffer to read from
+   * @return the value
+   */
+  T read(ByteBuffer in);
+
+  static RecordSerializer<Integer> ofInteger() {
+    return new RecordSerializer<>() {
+      @Override
+      public void write(Integer value, ByteBuffer out) {
+        out.putInt(value);
+      }
+
+      @Override
+      public Integer read(ByteBuffer in) {
+        return in.getInt();
+      }
+    };
+  }
+
+  static RecordSerializer<Long> ofLong() {
+    return new RecordSerializer<>() {
+      @Override
+      public void write(Long value, ByteBuffer out) {
+        out.putLong(value);
+      }
+
+      @Override
+      public Long read(ByteBuffer in) {
+        return in.getLong();
+      }
+    };
+  }
+
+  /**
+   * UTF-8 strings.
+   */
+  static RecordSerializer<String> ofString() {
+    return new RecordSerializer<>() {
+      @Override
+      public void write(String value, ByteBuffer out) {
+        out.put(value.getBytes(StandardCharsets.UTF_8));
+      }
+
+      @Override
+      public String read(ByteBuffer in) {
+        byte[] bytes = new byte[in.remaining()];
+        in.get(bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+      }
+    };
+  }
+}
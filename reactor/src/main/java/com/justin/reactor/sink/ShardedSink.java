@@ -0,0 +1,421 @@
+package com.justin.reactor.sink;
+
+import java.lang.ref.WeakReference;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Objects;
+import java.util.Queue;
+import java.util.concurrent.atomic.AtomicIntegerFieldUpdater;
+import java.util.concurrent.atomic.AtomicLongFieldUpdater;
+import java.util.concurrent.atomic.AtomicReferenceFieldUpdater;
+import org.reactivestreams.Subscription;
+import reactor.core.CoreSubscriber;
+import reactor.core.Exceptions;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Operators;
+import reactor.core.publisher.SignalType;
+import reactor.core.publisher.Sinks;
+import reactor.util.annotation.Nullable;
+import reactor.util.concurrent.Queues;
+import reactor.util.context.Context;
+
+/**
+ * Description: a unicast sink where every producer thread emits into a lane of its own.
+ * <p>
+ * 1.a lane is a bounded single producer single consumer queue, created on the first emission of
+ * a thread. emitting is an offer into it and an increment of the drain counter: producers never
+ * wait for each other, so tryEmitNext() never fails with FAIL_NON_SERIALIZED. a full lane fails
+ * with FAIL_OVERFLOW, to retry with {@link ParkingEmitFailureHandler}.
+ * </p>
+ * <p>
+ * 2.the lanes are merged into one Flux by a single drain loop, round robin, at most
+ * {@value #FAIR_QUOTA} elements per lane per round: a busy producer can't starve the others.
+ * the order of the elements of one producer is kept, there is no order across producers.
+ * </p>
+ * <p>
+ * 3.the lane of a thread that died is dropped once drained, so short-lived producers don't
+ * accumulate lanes.
+ * </p>
+ * <p>
+ * 4.elements are buffered until the only subscriber arrives. the terminal signal is delivered
+ * once every lane is drained: complete the sink after the producers are done. a producer flags
+ * its lane while it checks the termination and offers, the drain doesn't terminate while a lane
+ * is flagged: an element is either refused with FAIL_TERMINATED or delivered, never lost.
+ * </p>
+ *
+ * @author Justin_Zhang
+ * @date 10/19/2026 01:55
+ */
+public class ShardedSink<T> implements Sinks.Many<T>, Subscription {
+  static final int FAIR_QUOTA = 16;
+
+  @SuppressWarnings("rawtypes")
+  private static final AtomicIntegerFieldUpdater<ShardedSink> WIP =
+      AtomicIntegerFieldUpdater.newUpdater(ShardedSink.class, "wip");
+
+  @SuppressWarnings("rawtypes")
+  private static final AtomicLongFieldUpdater<ShardedSink> REQUESTED =
+      AtomicLongFieldUpdater.newUpdater(ShardedSink.class, "requested");
+
+  @SuppressWarnings("rawtypes")
+  private static final AtomicReferenceFieldUpdater<ShardedSink, CoreSubscriber> ACTUAL =
+      AtomicReferenceFieldUpdater.newUpdater(ShardedSink.class, CoreSubscriber.class, "actual");
+
+  private final int laneCapacity;
+
+  // the lanes are copied on write under the lock, a drain round reads one snapshot.
+  @SuppressWarnings("unchecked")
+  private volatile Lane<T>[] lanes = new Lane[0];
+
+  private final Object lock = new Object();
+
+  private final ThreadLocal<Lane<T>> localLane = ThreadLocal.withInitial(this::newLane);
+
+  private final Flux<T> flux = new Flux<>() {
+    @Override
+    public void subscribe(CoreSubscriber<? super T> actual) {
+      ShardedSink.this.subscribe(actual);
+    }
+  };
+
+  // only touched inside the drain loop.
+  private int cursor;
+
+  private Throwable error;
+
+  private volatile boolean done;
+
+  private volatile boolean cancelled;
+
+  private volatile CoreSubscriber<? super T> actual;
+
+  private volatile int wip;
+
+  private volatile long requested;
+
+  /**
+   * create a sharded sink.
+   *
+   * @param laneCapacity the most elements buffered per producer thread, at least 8 and rounded
+   *                     up to a power of two by Queues.get()
+   */
+  public ShardedSink(int laneCapacity) {
+    if (laneCapacity <= 0) {
+      throw new IllegalArgumentException("laneCapacity must be positive: " + laneCapacity);
+    }
+    this.laneCapacity = laneCapacity;
+  }
+
+  public ShardedSink() {
+    this(Queues.SMALL_BUFFER_SIZE);
+  }
+
+  private Lane<T> newLane() {
+    Lane<T> lane = new Lane<>(Queues.<T>get(laneCapacity).get(), Thread.currentThread());
+    synchronized (lock) {
+      Lane<T>[] copy = Arrays.copyOf(lanes, lanes.length + 1);
+      copy[copy.length - 1] = lane;
+      lanes = copy;
+    }
+    return lane;
+  }
+
+  private void removeLanes(List<Lane<T>> abandoned) {
+    synchronized (lock) {
+      Lane<T>[] kept = lanes.clone();
+      int size = 0;
+      for (Lane<T> lane : lanes) {
+        if (!abandoned.contains(lane)) {
+          kept[size++] = lane;
+        }
+      }
+      lanes = Arrays.copyOf(kept, size);
+    }
+  }
+
+  @Override
+  public Sinks.EmitResult tryEmitNext(T t) {
+    Objects.requireNonNull(t, "t");
+    if (done) {
+      return Sinks.EmitResult.FAIL_TERMINATED;
+    }
+    if (cancelled) {
+      return Sinks.EmitResult.FAIL_CANCELLED;
+    }
+    Lane<T> lane = localLane.get();
+    // flagged before done is read again: a drain seeing done then no flag sees every offer.
+    lane.emitting = true;
+    Sinks.EmitResult result;
+    if (done) {
+      result = Sinks.EmitResult.FAIL_TERMINATED;
+    } else if (!lane.queue.offer(t)) {
+      result = Sinks.EmitResult.FAIL_OVERFLOW;
+    } else {
+      result = Sinks.EmitResult.OK;
+    }
+    lane.emitting = false;
+    // also when refused: a drain may have put off the termination because of the flag.
+    drain();
+    return result;
+  }
+
+  @Override
+  public Sinks.EmitResult tryEmitComplete() {
+    return terminate(null);
+  }
+
+  @Override
+  public Sinks.EmitResult tryEmitError(Throwable error) {
+    return terminate(Objects.requireNonNull(error, "error"));
+  }
+
+  private Sinks.EmitResult terminate(@Nullable Throwable failure) {
+    // terminating is rare, a monitor is enough to let only one terminal signal through.
+    synchronized (lock) {
+      if (done) {
+        return Sinks.EmitResult.FAIL_TERMINATED;
+      }
+      if (cancelled) {
+        return Sinks.EmitResult.FAIL_CANCELLED;
+      }
+      error = failure;
+      done = true;
+    }
+    drain();
+    return Sinks.EmitResult.OK;
+  }
+
+  @Override
+  public void emitNext(T t, Sinks.EmitFailureHandler failureHandler) {
+    for (;;) {
+      Sinks.EmitResult result = tryEmitNext(t);
+      if (result.isSuccess()) {
+        return;
+      }
+      if (failureHandler.onEmitFailure(SignalType.ON_NEXT, result)) {
+        continue;
+      }
+      switch (result) {
+        case FAIL_TERMINATED:
+        case FAIL_CANCELLED:
+          Operators.onNextDropped(t, Context.empty());
+          return;
+        case FAIL_OVERFLOW:
+          Operators.onDiscard(t, Context.empty());
+          emitError(Exceptions.failWithOverflow("the lane of " + Thread.currentThread().getName()
+              + " is full"), failureHandler);
+          return;
+        default:
+          throw new Sinks.EmissionException(result, "emitNext failed for " + t);
+      }
+    }
+  }
+
+  @Override
+  public void emitComplete(Sinks.EmitFailureHandler failureHandler) {
+    for (;;) {
+      Sinks.EmitResult result = tryEmitComplete();
+      if (result.isSuccess() || !failureHandler.onEmitFailure(SignalType.ON_COMPLETE, result)) {
+        return;
+      }
+    }
+  }
+
+  @Override
+  public void emitError(Throwable error, Sinks.EmitFailureHandler failureHandler) {
+    for (;;) {
+      Sinks.EmitResult result = tryEmitError(error);
+      if (result.isSuccess()) {
+        return;
+      }
+      if (!failureHandler.onEmitFailure(SignalType.ON_ERROR, result)) {
+        Operators.onErrorDropped(error, Context.empty());
+        return;
+      }
+    }
+  }
+
+  @Override
+  public int currentSubscriberCount() {
+    return actual == null || cancelled ? 0 : 1;
+  }
+
+  @Override
+  public Flux<T> asFlux() {
+    return flux;
+  }
+
+  @Override
+  @Nullable
+  public Object scanUnsafe(Attr key) {
+    if (key == Attr.TERMINATED) {
+      return done;
+    }
+    if (key == Attr.ERROR) {
+      return error;
+    }
+    if (key == Attr.CANCELLED) {
+      return cancelled;
+    }
+    if (key == Attr.ACTUAL) {
+      return actual;
+    }
+    if (key == Attr.BUFFERED) {
+      int buffered = 0;
+      for (Lane<T> lane : lanes) {
+        buffered += lane.queue.size();
+      }
+      return buffered;
+    }
+    return null;
+  }
+
+  private void subscribe(CoreSubscriber<? super T> subscriber) {
+    if (!ACTUAL.compareAndSet(this, null, subscriber)) {
+      Operators.error(subscriber,
+          new IllegalStateException("ShardedSink allows only a single Subscriber"));
+      return;
+    }
+    subscriber.onSubscribe(this);
+    drain();
+  }
+
+  @Override
+  public void request(long n) {
+    if (Operators.validate(n)) {
+      Operators.addCap(REQUESTED, this, n);
+      drain();
+    }
+  }
+
+  @Override
+  public void cancel() {
+    if (cancelled) {
+      return;
+    }
+    cancelled = true;
+    if (WIP.getAndIncrement(this) == 0) {
+      clear();
+    }
+  }
+
+  private void drain() {
+    if (WIP.getAndIncrement(this) != 0) {
+      return;
+    }
+    int missed = 1;
+    for (;;) {
+      CoreSubscriber<? super T> a = actual;
+      if (a != null) {
+        if (cancelled) {
+          clear();
+          return;
+        }
+        long r = requested;
+        long e = 0L;
+        for (;;) {
+          boolean d = done;
+          int n = e == r ? 0 : pollRound(a, r - e);
+          e += n;
+          if (cancelled) {
+            clear();
+            return;
+          }
+          if (n == 0) {
+            if (d && isIdle()) {
+              Throwable t = error;
+              if (t != null) {
+                a.onError(t);
+              } else {
+                a.onComplete();
+              }
+              return;
+            }
+            break;
+          }
+        }
+        if (e != 0L && r != Long.MAX_VALUE) {
+          REQUESTED.addAndGet(this, -e);
+        }
+      }
+      missed = WIP.addAndGet(this, -missed);
+      if (missed == 0) {
+        return;
+      }
+    }
+  }
+
+  /**
+   * one round robin over the lanes, from the lane after the one that started the last round.
+   */
+  private int pollRound(CoreSubscriber<? super T> a, long limit) {
+    Lane<T>[] round = lanes;
+    int size = round.length;
+    int delivered = 0;
+    List<Lane<T>> abandoned = null;
+    for (int i = 0; i < size && delivered < limit && !cancelled; i++) {
+      Lane<T> lane = round[(cursor + i) % size];
+      int quota = (int) Math.min(FAIR_QUOTA, limit - delivered);
+      int taken = 0;
+      T t;
+      while (taken < quota && (t = lane.queue.poll()) != null) {
+        a.onNext(t);
+        taken++;
+      }
+      delivered += taken;
+      if (taken == 0 && lane.isAbandoned()) {
+        if (abandoned == null) {
+          abandoned = new ArrayList<>();
+        }
+        abandoned.add(lane);
+      }
+    }
+    // removed after the round, so the round visits every lane of its snapshot once.
+    if (abandoned != null) {
+      removeLanes(abandoned);
+    }
+    cursor = size == 0 ? 0 : (cursor + 1) % size;
+    return delivered;
+  }
+
+  /**
+   * no element buffered, and no producer offering one.
+   */
+  private boolean isIdle() {
+    for (Lane<T> lane : lanes) {
+      if (lane.emitting || !lane.queue.isEmpty()) {
+        return false;
+      }
+    }
+    return true;
+  }
+
+  private void clear() {
+    for (Lane<T> lane : lanes) {
+      lane.queue.clear();
+    }
+  }
+
+  private static final class Lane<T> {
+    private final Queue<T> queue;
+
+    private final WeakReference<Thread> owner;
+
+    // written by the owner only, around its check of done and its offer.
+    private volatile boolean emitting;
+
+    Lane(Queue<T> queue, Thread owner) {
+      this.queue = queue;
+      this.owner = new WeakReference<>(owner);
+    }
+
+    /**
+     * the producer died, nothing can be offered to the lane anymore.
+     */
+    boolean isAbandoned() {
+      Thread thread = owner.get();
+      return (thread == null || !thread.isAlive()) && queue.isEmpty();
+    }
+  }
+}
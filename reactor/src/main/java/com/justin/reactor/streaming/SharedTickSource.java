@@ -0,0 +1,79 @@
+package com.justin.reactor.streaming;
+
+import com.justin.reactor.streaming.StreamingProperties.OverflowPolicy;
+import java.util.List;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.BufferOverflowStrategy;
+import reactor.core.publisher.Flux;
+
+/**
+ * Description: one hot tick source shared by every client of the streaming endpoints.
+ * <p>
+ * 1.the interval is connected by publish().refCount() when the first client arrives and
+ * cancelled when the last one leaves, so N clients cost one scheduled task instead of N.
+ * </p>
+ * <p>
+ * 2.batches are cut once on the shared ticks and shared the same way.
+ * </p>
+ * <p>
+ * 3.every client gets its own bounded buffer behind the shared source and requests unbounded
+ * from it, so a slow client loses ticks by the overflow policy instead of throttling the others.
+ * </p>
+ *
+ * @author Justin_Zhang
+ * @date 10/18/2026 16:02
+ */
+@Slf4j
+@Component
+public class SharedTickSource {
+  private final StreamingProperties properties;
+
+  private final Flux<Long> ticks;
+
+  private final Flux<List<Long>> batches;
+
+  @Autowired
+  public SharedTickSource(StreamingProperties properties) {
+    // deferred: the timers' scheduler is looked up on connection, not while the bean is created,
+    // so that a scheduler factory installed meanwhile (see SchedulerConfiguration) is honored.
+    this(properties, Flux.defer(() -> Flux.interval(properties.getEmitInterval())));
+  }
+
+  SharedTickSource(StreamingProperties properties, Flux<Long> upstream) {
+    this.properties = properties;
+    this.ticks = upstream.publish().refCount();
+    // deferred for the same reason as the interval.
+    this.batches = Flux.defer(() -> ticks
+            .bufferTimeout(properties.getBatchSize(), properties.getBatchTimeout()))
+        .publish()
+        .refCount();
+  }
+
+  /**
+   * the shared ticks, bounded per subscriber to the same number of ticks the pending batches hold.
+   */
+  public Flux<Long> ticks() {
+    return bounded(ticks, properties.getMaxPendingBatches() * properties.getBatchSize());
+  }
+
+  /**
+   * the shared batches, bounded per subscriber.
+   */
+  public Flux<List<Long>> batches() {
+    return bounded(batches, properties.getMaxPendingBatches());
+  }
+
+  private <T> Flux<T> bounded(Flux<T> shared, int maxPending) {
+    return shared.onBackpressureBuffer(maxPending,
+        dropped -> log.debug("slow subscriber, dropped {}", dropped),
+        overflowStrategy(properties.getOverflowPolicy()));
+  }
+
+  private static BufferOverflowStrategy overflowStrategy(OverflowPolicy policy) {
+    return policy == OverflowPolicy.DROP
+        ? BufferOverflowStrategy.DROP_LATEST
+        : BufferOverflowStrategy.DROP_OLDEST;
+  }
+}
@@ -0,0 +1,23 @@
+package com.justin.reactor.streaming;
+
+import org.springframework.boot.web.embedded.netty.NettyReactiveWebServerFactory;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Description: configuration of the streaming server.
+ * <p>
+ * tomcat is on the classpath through spring-boot-starter-web and would be picked first,
+ * declaring the netty factory makes the response buffers come from netty's pooled allocator.
+ * </p>
+ *
+ * @author Justin_Zhang
+ * @date 10/18/2026 15:40
+ */
+@Configuration
+public class StreamingConfiguration {
+  @Bean
+  public NettyReactiveWebServerFactory nettyReactiveWebServerFactory() {
+    return new NettyReactiveWebServerFactory();
+  }
+}
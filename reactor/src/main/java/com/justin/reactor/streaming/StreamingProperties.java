@@ -0,0 +1,51 @@
+package com.justin.reactor.streaming;
+
+import java.time.Duration;
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * Description: properties of the streaming endpoint (reactor.streaming.*).
+ *
+ * @author Justin_Zhang
+ * @date 10/18/2026 14:48
+ */
+@Data
+@ConfigurationProperties(prefix = "reactor.streaming")
+public class StreamingProperties {
+  /**
+   * interval between two ticks, i.e. the emission rate.
+   */
+  private Duration emitInterval = Duration.ofSeconds(1);
+
+  /**
+   * a batch is flushed once it holds this many ticks...
+   */
+  private int batchSize = 64;
+
+  /**
+   * ...or once its first tick is this old, whichever comes first.
+   */
+  private Duration batchTimeout = Duration.ofMillis(100);
+
+  /**
+   * batches buffered per subscriber while the client can't keep up.
+   */
+  private int maxPendingBatches = 16;
+
+  private OverflowPolicy overflowPolicy = OverflowPolicy.LATEST;
+
+  /**
+   * what a slow subscriber loses once its pending batches are full.
+   */
+  public enum OverflowPolicy {
+    /**
+     * drop the incoming batch, keep the buffered ones.
+     */
+    DROP,
+    /**
+     * drop the oldest buffered batch, so the client catches up with the latest ticks.
+     */
+    LATEST
+  }
+}
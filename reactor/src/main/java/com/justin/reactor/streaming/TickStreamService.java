@@ -0,0 +1,50 @@
+package com.justin.reactor.streaming;
+
+import java.util.List;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.core.io.buffer.DataBufferFactory;
+import org.springframework.core.io.buffer.DataBufferUtils;
+import org.springframework.stereotype.Service;
+import reactor.core.publisher.Flux;
+
+/**
+ * Description: the tick stream behind the streaming endpoint.
+ * <p>
+ * batches come from the {@link SharedTickSource}: cut by size or time with bufferTimeout(),
+ * then bounded per subscriber, once that buffer is full the overflow policy drops batches
+ * instead of growing. batches are encoded only when the client requests them,
+ * so nothing dropped holds a DataBuffer.
+ * </p>
+ *
+ * @author Justin_Zhang
+ * @date 10/18/2026 15:07
+ */
+@Service
+public class TickStreamService {
+  private final SharedTickSource source;
+
+  private final SseBatchEncoder encoder = new SseBatchEncoder();
+
+  public TickStreamService(SharedTickSource source) {
+    this.source = source;
+  }
+
+  /**
+   * the stream of encoded batches for one subscriber.
+   *
+   * @param factory the buffer factory of the response
+   * @return one DataBuffer per batch
+   */
+  public Flux<DataBuffer> stream(DataBufferFactory factory) {
+    return batches()
+        .map(batch -> encoder.encode(batch, factory))
+        .doOnDiscard(DataBuffer.class, DataBufferUtils::release);
+  }
+
+  /**
+   * the bounded stream of batches for one subscriber.
+   */
+  public Flux<List<Long>> batches() {
+    return source.batches();
+  }
+}
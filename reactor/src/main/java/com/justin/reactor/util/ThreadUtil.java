@@ -24,6 +24,19 @@ public class ThreadUtil {
     }
   }
 
+  /**
+   * description: sleep for certain milliseconds.
+   *
+   * @param milliseconds the milliseconds of sleep
+   */
+  public static void sleepByMillisecond(long milliseconds) {
+    try {
+      TimeUnit.MILLISECONDS.sleep(milliseconds);
+    } catch (InterruptedException e) {
+      throw new RuntimeException(e);
+    }
+  }
+
   /**
    * join threads.
    *
@@ -0,0 +1,345 @@
+package com.justin.reactor.window;
+
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.Objects;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.ToDoubleFunction;
+import java.util.function.ToLongFunction;
+import reactor.core.Disposable;
+import reactor.core.Disposables;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.FluxSink;
+import reactor.core.scheduler.Scheduler;
+import reactor.core.scheduler.Schedulers;
+
+/**
+ * Description: tumbling and sliding time windows of a stream of measures, aggregated into count,
+ * sum, min, max and quantiles without a Flux per window.
+ * <p>
+ * 1.window(Duration) opens a Flux per window, and a reduce() per window on top of it. here the
+ * time is cut into panes of one slide, a pane is a slot of primitive accumulators: a count, a
+ * sum, a min, a max and the buckets of a {@link LogHistogram}. a window sums the panes it spans,
+ * the slots of a ring are reused: nothing is allocated per event, only the WindowStats per window.
+ * </p>
+ * <p>
+ * 2.an event goes in the pane of its timestamp, in milliseconds on the clock of the scheduler.
+ * a window [start, end) is emitted at end + allowedLateness by that clock, whatever the traffic:
+ * the latency of a window is bounded. an event of a pane no window to come spans is late, it's
+ * dropped and counted by late(). an event more than maxAhead ahead of that clock is dropped too,
+ * counted by early(): a wrong timestamp can't close the windows to come and drop the next events.
+ * </p>
+ * <p>
+ * 3.the first window starts with the pane of the subscription, the windows are emitted in order,
+ * the empty ones included. when the source completes the windows spanning its events are emitted
+ * at once.
+ * </p>
+ *
+ * @author Justin_Zhang
+ * @date 10/19/2026 07:55
+ */
+public final class WindowAggregator<T> {
+  private final ToLongFunction<? super T> timestamp;
+
+  private final ToDoubleFunction<? super T> value;
+
+  private final long size;
+
+  private final long slide;
+
+  private final long allowedLateness;
+
+  private final long maxAhead;
+
+  private final double[] quantiles;
+
+  private final Scheduler scheduler;
+
+  private final LongAdder late = new LongAdder();
+
+  private final LongAdder early = new LongAdder();
+
+  private WindowAggregator(Builder<T> builder) {
+    this.timestamp = builder.timestamp;
+    this.value = builder.value;
+    this.size = builder.size.toMillis();
+    this.slide = builder.slide.toMillis();
+    this.allowedLateness = builder.allowedLateness.toMillis();
+    this.maxAhead = builder.maxAhead != null ? builder.maxAhead.toMillis() : size;
+    this.quantiles = builder.quantiles.clone();
+    this.scheduler = builder.scheduler;
+  }
+
+  /**
+   * windows of the values of the events, at their timestamps in epoch milliseconds.
+   */
+  public static <T> Builder<T> builder(ToLongFunction<? super T> timestamp,
+      ToDoubleFunction<? super T> value) {
+    return new Builder<>(Objects.requireNonNull(timestamp, "timestamp"),
+        Objects.requireNonNull(value, "value"));
+  }
+
+  /**
+   * the windows of the source, one Aggregation per subscription.
+   */
+  public Flux<WindowStats> aggregate(Flux<? extends T> source) {
+    return Flux.create(sink -> {
+      Aggregation aggregation = new Aggregation(sink);
+      long delay = aggregation.closing() - now();
+      Disposable ticks = scheduler.schedulePeriodically(aggregation::tick, Math.max(0, delay),
+          slide, TimeUnit.MILLISECONDS);
+      Disposable events = source.subscribe(aggregation::add, sink::error, aggregation::complete);
+      sink.onDispose(Disposables.composite(ticks, events));
+    });
+  }
+
+  /**
+   * the events dropped so far, their windows being emitted already.
+   */
+  public long late() {
+    return late.sum();
+  }
+
+  /**
+   * the events dropped so far, too far ahead of the clock.
+   */
+  public long early() {
+    return early.sum();
+  }
+
+  private long now() {
+    return scheduler.now(TimeUnit.MILLISECONDS);
+  }
+
+  /**
+   * the panes of one subscription, guarded by this: the events, the ticks and the completion come
+   * on different threads. the windows are emitted under the lock, in order.
+   */
+  private final class Aggregation {
+    private final FluxSink<WindowStats> sink;
+
+    // the panes of a window.
+    private final int span = (int) (size / slide);
+
+    private final int ring = span + (int) ((allowedLateness + slide - 1) / slide)
+        + (int) ((maxAhead + slide - 1) / slide) + 2;
+
+    private final long[] panes = new long[ring];
+
+    private final long[] counts = new long[ring];
+
+    private final double[] sums = new double[ring];
+
+    private final double[] mins = new double[ring];
+
+    private final double[] maxs = new double[ring];
+
+    private final long[] buckets = new long[ring * LogHistogram.BUCKETS];
+
+    // the merged buckets of the window being emitted.
+    private final long[] merged = new long[LogHistogram.BUCKETS];
+
+    // the first pane of the next window to emit.
+    private long next;
+
+    // the last pane with an event.
+    private long last = Long.MIN_VALUE;
+
+    Aggregation(FluxSink<WindowStats> sink) {
+      this.sink = sink;
+      this.next = Math.floorDiv(now(), slide);
+      Arrays.fill(panes, Long.MIN_VALUE);
+    }
+
+    /**
+     * when the next window is due.
+     */
+    synchronized long closing() {
+      return (next + span) * slide + allowedLateness;
+    }
+
+    synchronized void add(T event) {
+      long at = timestamp.applyAsLong(event);
+      if (at > now() + maxAhead) {
+        early.increment();
+        return;
+      }
+      long pane = Math.floorDiv(at, slide);
+      if (pane < next) {
+        late.increment();
+        return;
+      }
+      // only when the ticks lag behind the clock: these windows are due already.
+      while (pane >= next + ring) {
+        emit();
+      }
+      int slot = (int) Math.floorMod(pane, (long) ring);
+      if (panes[slot] != pane) {
+        reset(slot, pane);
+      }
+      double v = value.applyAsDouble(event);
+      counts[slot]++;
+      sums[slot] += v;
+      mins[slot] = Math.min(mins[slot], v);
+      maxs[slot] = Math.max(maxs[slot], v);
+      buckets[slot * LogHistogram.BUCKETS + LogHistogram.index(v)]++;
+      last = Math.max(last, pane);
+    }
+
+    synchronized void tick() {
+      long now = now();
+      while (closing() <= now) {
+        emit();
+      }
+    }
+
+    synchronized void complete() {
+      while (next <= last) {
+        emit();
+      }
+      sink.complete();
+    }
+
+    private void reset(int slot, long pane) {
+      panes[slot] = pane;
+      counts[slot] = 0;
+      sums[slot] = 0;
+      mins[slot] = Double.POSITIVE_INFINITY;
+      maxs[slot] = Double.NEGATIVE_INFINITY;
+      Arrays.fill(buckets, slot * LogHistogram.BUCKETS, (slot + 1) * LogHistogram.BUCKETS, 0);
+    }
+
+    /**
+     * emit the window of the panes next to next + span - 1, then slide.
+     */
+    private void emit() {
+      long count = 0;
+      double sum = 0;
+      double min = Double.POSITIVE_INFINITY;
+      double max = Double.NEGATIVE_INFINITY;
+      Arrays.fill(merged, 0);
+      for (long pane = next; pane < next + span; pane++) {
+        int slot = (int) Math.floorMod(pane, (long) ring);
+        if (panes[slot] != pane || counts[slot] == 0) {
+          continue;
+        }
+        count += counts[slot];
+        sum += sums[slot];
+        min = Math.min(min, mins[slot]);
+        max = Math.max(max, maxs[slot]);
+        int offset = slot * LogHistogram.BUCKETS;
+        for (int i = 0; i < LogHistogram.BUCKETS; i++) {
+          merged[i] += buckets[offset + i];
+        }
+      }
+      double[] values = new double[quantiles.length];
+      if (count == 0) {
+        min = Double.NaN;
+        max = Double.NaN;
+      }
+      for (int i = 0; i < quantiles.length; i++) {
+        values[i] = LogHistogram.quantile(merged, 0, count, quantiles[i], min, max);
+      }
+      sink.next(new WindowStats(next * slide, next * slide + size, count, sum, min, max,
+          quantiles, values));
+      next++;
+    }
+  }
+
+  /**
+   * Description: the windows, lateness and quantiles of a {@link WindowAggregator}.
+   */
+  public static final class Builder<T> {
+    private final ToLongFunction<? super T> timestamp;
+
+    private final ToDoubleFunction<? super T> value;
+
+    private Duration size = Duration.ofSeconds(1);
+
+    private Duration slide = size;
+
+    private Duration allowedLateness = Duration.ZERO;
+
+    private Duration maxAhead;
+
+    private double[] quantiles = {0.5, 0.9, 0.99};
+
+    private Scheduler scheduler = Schedulers.parallel();
+
+    private Builder(ToLongFunction<? super T> timestamp, ToDoubleFunction<? super T> value) {
+      this.timestamp = timestamp;
+      this.value = value;
+    }
+
+    /**
+     * windows of size, one after the other; 1s by default.
+     */
+    public Builder<T> tumbling(Duration size) {
+      return sliding(size, size);
+    }
+
+    /**
+     * windows of size starting every slide, size being a multiple of slide.
+     */
+    public Builder<T> sliding(Duration size, Duration slide) {
+      long sizeMillis = size.toMillis();
+      long slideMillis = slide.toMillis();
+      if (slideMillis <= 0 || sizeMillis < slideMillis || sizeMillis % slideMillis != 0) {
+        throw new IllegalArgumentException("size must be a multiple of slide, in milliseconds: "
+            + size + ", " + slide);
+      }
+      this.size = size;
+      this.slide = slide;
+      return this;
+    }
+
+    /**
+     * emit a window that long after its end, to count the late events; 0 by default.
+     */
+    public Builder<T> allowedLateness(Duration allowedLateness) {
+      if (allowedLateness.isNegative()) {
+        throw new IllegalArgumentException("allowedLateness must not be negative: "
+            + allowedLateness);
+      }
+      this.allowedLateness = allowedLateness;
+      return this;
+    }
+
+    /**
+     * drop the events more than that ahead of the clock, to count them; the window size by default.
+     */
+    public Builder<T> maxAhead(Duration maxAhead) {
+      if (maxAhead.isNegative()) {
+        throw new IllegalArgumentException("maxAhead must not be negative: " + maxAhead);
+      }
+      this.maxAhead = maxAhead;
+      return this;
+    }
+
+    /**
+     * the quantiles of the windows, 0.5, 0.9 and 0.99 by default.
+     */
+    public Builder<T> quantiles(double... quantiles) {
+      for (double q : quantiles) {
+        if (!(q >= 0 && q <= 1)) {
+          throw new IllegalArgumentException("a quantile is within [0, 1]: " + q);
+        }
+      }
+      this.quantiles = quantiles.clone();
+      return this;
+    }
+
+    /**
+     * the clock of the windows and the scheduler of their emission.
+     */
+    public Builder<T> scheduler(Scheduler scheduler) {
+      this.scheduler = Objects.requireNonNull(scheduler, "scheduler");
+      return this;
+    }
+
+    public WindowAggregator<T> build() {
+      return new WindowAggregator<>(this);
+    }
+  }
+}
@@ -0,0 +1,97 @@
+package com.justin.reactor.window;
+
+import java.time.Instant;
+import java.util.Arrays;
+
+/**
+ * Description: the aggregates of one window of a {@link WindowAggregator}.
+ * <p>
+ * min, max, mean and the quantiles are NaN for an empty window. the quantiles are the ones
+ * configured on the aggregator, within 1.6% of the exact ones.
+ * </p>
+ *
+ * @author Justin_Zhang
+ * @date 10/19/2026 07:50
+ */
+public final class WindowStats {
+  private final long start;
+
+  private final long end;
+
+  private final long count;
+
+  private final double sum;
+
+  private final double min;
+
+  private final double max;
+
+  private final double[] quantiles;
+
+  private final double[] values;
+
+  WindowStats(long start, long end, long count, double sum, double min, double max,
+      double[] quantiles, double[] values) {
+    this.start = start;
+    this.end = end;
+    this.count = count;
+    this.sum = sum;
+    this.min = min;
+    this.max = max;
+    this.quantiles = quantiles;
+    this.values = values;
+  }
+
+  /**
+   * the first millisecond of the window.
+   */
+  public Instant start() {
+    return Instant.ofEpochMilli(start);
+  }
+
+  /**
+   * the end of the window, excluded.
+   */
+  public Instant end() {
+    return Instant.ofEpochMilli(end);
+  }
+
+  public long count() {
+    return count;
+  }
+
+  public double sum() {
+    return sum;
+  }
+
+  public double min() {
+    return min;
+  }
+
+  public double max() {
+    return max;
+  }
+
+  public double mean() {
+    return count == 0 ? Double.NaN : sum / count;
+  }
+
+  /**
+   * the quantile q, one of the quantiles of the aggregator.
+   */
+  public double quantile(double q) {
+    for (int i = 0; i < quantiles.length; i++) {
+      if (quantiles[i] == q) {
+        return values[i];
+      }
+    }
+    throw new IllegalArgumentException("not a quantile of the aggregator: " + q
+        + ", one of " + Arrays.toString(quantiles));
+  }
+
+  @Override
+  public String toString() {
+    return "WindowStats(" + start() + " - " + end() + ", count=" + count + ", sum=" + sum
+        + ", min=" + min + ", max=" + max + ", quantiles=" + Arrays.toString(values) + ")";
+  }
+}
@@ -1,5 +1,7 @@
 package com.justin.reactor.advancedfeatures;
 
+import com.justin.reactor.parallel.KeyedParallel;
+import com.justin.reactor.scheduler.AffinityScheduler;
 import org.junit.jupiter.api.Test;
 import reactor.core.publisher.Flux;
 import reactor.core.scheduler.Schedulers;
@@ -26,4 +28,31 @@ public class ParallelizingTest {
         // .sequential() can revert back to a normal Flux
         .subscribe(i -> System.out.println(Thread.currentThread().getName() + " -> " + i));
   }
+
+  @Test
+  public void parallel_run_on_affinity() {
+    // each rail stays on its thread, unless an idle thread steals it from a busy one.
+    AffinityScheduler scheduler = AffinityScheduler.create("affinity", 2);
+    try {
+      Flux.range(1, 10)
+          .parallel(2)
+          .runOn(scheduler)
+          .doOnNext(i -> System.out.println(Thread.currentThread().getName() + " -> " + i))
+          .sequential()
+          .blockLast();
+    } finally {
+      scheduler.dispose();
+    }
+  }
+
+  @Test
+  public void parallel_keyed() {
+    // the key is the parity, each runs on its rail: 1 3 5 7 9 and 2 4 6 8 10 stay in order.
+    Flux.range(1, 10)
+        .transform(KeyedParallel.<Integer, Integer>by(i -> i % 2).rails(2).map(i -> {
+          System.out.println(Thread.currentThread().getName() + " -> " + i);
+          return i;
+        }))
+        .blockLast();
+  }
 }
@@ -0,0 +1,117 @@
+package com.justin.reactor.backpressure;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+import org.junit.jupiter.api.Test;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Scheduler;
+import reactor.test.StepVerifier;
+import reactor.test.scheduler.VirtualTimeScheduler;
+
+/**
+ * Description: test case for the adaptive limitRate.
+ *
+ * @author Justin_Zhang
+ * @date 10/18/2026 23:05
+ */
+public class AdaptiveLimitRateTest {
+  private static final int ELEMENTS = 1000;
+
+  private static final Duration ROUND_TRIP = Duration.ofMillis(10);
+
+  @Test
+  public void requests_never_exceed_the_window() {
+    List<Long> requests = new CopyOnWriteArrayList<>();
+    StepVerifier.create(Flux.range(0, ELEMENTS)
+            .doOnRequest(requests::add)
+            .transform(AdaptiveLimitRate.of(4, 64)), 0)
+        .thenRequest(10)
+        .expectNextCount(10)
+        .thenRequest(Long.MAX_VALUE)
+        .expectNextCount(ELEMENTS - 10)
+        .verifyComplete();
+    assertEquals(4, requests.get(0));
+    assertTrue(requests.stream().allMatch(n -> n <= 64), requests::toString);
+  }
+
+  @Test
+  public void window_grows_behind_a_fast_consumer() {
+    SimpleMeterRegistry registry = new SimpleMeterRegistry();
+    VirtualTimeScheduler scheduler = VirtualTimeScheduler.create();
+    AdaptiveLimitRate limitRate = new AdaptiveLimitRate(4, 256, nanoClock(scheduler));
+    limitRate.register(registry, "test");
+
+    long adaptive = completionMillis(scheduler, limitRate.transformer(), i -> Duration.ZERO);
+    long fixed = completionMillis(VirtualTimeScheduler.create(), flux -> flux.limitRate(4),
+        i -> Duration.ZERO);
+
+    assertEquals(256, registry.get("test.limitRate.window").gauge().value());
+    // limitRate(4) waits a round trip every 3 elements.
+    assertTrue(adaptive * 10 < fixed, adaptive + "ms vs " + fixed + "ms");
+  }
+
+  @Test
+  public void window_shrinks_when_the_consumer_slows_down() {
+    SimpleMeterRegistry registry = new SimpleMeterRegistry();
+    VirtualTimeScheduler scheduler = VirtualTimeScheduler.create();
+    AdaptiveLimitRate limitRate = new AdaptiveLimitRate(4, 256, nanoClock(scheduler));
+    limitRate.register(registry, "test");
+    // fast for the first half, then 1ms per element: 10 elements per round trip.
+    Function<Integer, Duration> processing =
+        i -> i < ELEMENTS / 2 ? Duration.ZERO : Duration.ofMillis(1);
+
+    long adaptive = completionMillis(scheduler, limitRate.transformer(), processing);
+    long fixed = completionMillis(VirtualTimeScheduler.create(), flux -> flux.limitRate(4),
+        processing);
+
+    // at most twice the elements processed during a round trip stay buffered.
+    assertTrue(registry.get("test.limitRate.window").gauge().value() <= 2 * 10 + 4);
+    assertTrue(adaptive < fixed, adaptive + "ms vs " + fixed + "ms");
+  }
+
+  /**
+   * the virtual time at which a remote source, answering every request after a round trip,
+   * completes through the rate limiting and a consumer taking processing(i) per element.
+   */
+  private static long completionMillis(VirtualTimeScheduler scheduler,
+      Function<Flux<Integer>, Flux<Integer>> rateLimiting, Function<Integer, Duration> processing) {
+    AtomicLong completedAt = new AtomicLong();
+    StepVerifier.withVirtualTime(() -> remote(scheduler)
+            .transform(rateLimiting)
+            .concatMap(i -> processing.apply(i).isZero()
+                ? Mono.just(i)
+                : Mono.delay(processing.apply(i), scheduler).thenReturn(i), 0)
+            .doOnComplete(() -> completedAt.set(scheduler.now(TimeUnit.MILLISECONDS))),
+            () -> scheduler, Long.MAX_VALUE)
+        .thenAwait(Duration.ofHours(1))
+        .expectNextCount(ELEMENTS)
+        .verifyComplete();
+    return completedAt.get();
+  }
+
+  private static Flux<Integer> remote(Scheduler scheduler) {
+    AtomicInteger next = new AtomicInteger();
+    return Flux.create(sink -> sink.onRequest(n -> scheduler.schedule(() -> {
+      for (long i = 0; i < n && next.get() < ELEMENTS; i++) {
+        sink.next(next.getAndIncrement());
+      }
+      if (next.get() == ELEMENTS) {
+        sink.complete();
+      }
+    }, ROUND_TRIP.toMillis(), TimeUnit.MILLISECONDS)));
+  }
+
+  private static java.util.function.LongSupplier nanoClock(VirtualTimeScheduler scheduler) {
+    return () -> scheduler.now(TimeUnit.NANOSECONDS);
+  }
+}
@@ -0,0 +1,135 @@
+package com.justin.reactor.batch;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.Test;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+
+/**
+ * Description: test case for the batching writer.
+ *
+ * @author Justin_Zhang
+ * @date 10/19/2026 07:40
+ */
+public class BatchingWriterTest {
+  private final List<List<Object>> batches = Collections.synchronizedList(new ArrayList<>());
+
+  private final List<Batch.Reason> reasons = Collections.synchronizedList(new ArrayList<>());
+
+  private <T> Mono<Void> record(Batch<T> batch) {
+    batches.add(new ArrayList<>(batch.items()));
+    reasons.add(batch.reason());
+    return Mono.empty();
+  }
+
+  @Test
+  public void a_batch_is_flushed_at_max_count() {
+    SimpleMeterRegistry registry = new SimpleMeterRegistry();
+    BatchingWriter<Integer> writer = BatchingWriter.<Integer>builder(this::record)
+        .maxCount(4)
+        .metrics(registry, "test")
+        .build();
+
+    StepVerifier.create(writer.write(Flux.range(1, 10)))
+        .verifyComplete();
+    assertEquals(List.of(List.of(1, 2, 3, 4), List.of(5, 6, 7, 8), List.of(9, 10)), batches);
+    assertEquals(List.of(Batch.Reason.COUNT, Batch.Reason.COUNT, Batch.Reason.COMPLETE),
+        reasons);
+    assertEquals(2, registry.get("test.batch.flushes").tag("reason", "count").counter().count());
+    assertEquals(10, registry.get("test.batch.size").summary().totalAmount());
+  }
+
+  @Test
+  public void a_batch_is_flushed_at_max_bytes() {
+    BatchingWriter<String> writer = BatchingWriter.<String>builder(this::record)
+        .maxCount(100)
+        .maxBytes(8, String::length)
+        .build();
+
+    StepVerifier.create(writer.write(Flux.just("abc", "defg", "h", "ijklmnop", "q")))
+        .verifyComplete();
+    assertEquals(List.of(List.of("abc", "defg", "h"), List.of("ijklmnop"), List.of("q")),
+        batches);
+    assertEquals(List.of(Batch.Reason.BYTES, Batch.Reason.BYTES, Batch.Reason.COMPLETE),
+        reasons);
+  }
+
+  @Test
+  public void a_batch_is_flushed_max_latency_after_its_first_item() {
+    StepVerifier.withVirtualTime(() -> BatchingWriter.<Long>builder(this::record)
+            .maxCount(100)
+            .maxLatency(Duration.ofSeconds(1))
+            .build()
+            .write(Flux.interval(Duration.ofMillis(300)).take(5)))
+        .thenAwait(Duration.ofMillis(1299))
+        .then(() -> assertTrue(batches.isEmpty()))
+        .thenAwait(Duration.ofMillis(1))
+        // the items of 300 to 1200ms: the timer started with the first one.
+        .then(() -> assertEquals(List.of(List.of(0L, 1L, 2L, 3L)), batches))
+        .thenAwait(Duration.ofMillis(200))
+        .verifyComplete();
+    assertEquals(List.of(Batch.Reason.LATENCY, Batch.Reason.COMPLETE), reasons);
+  }
+
+  @Test
+  public void a_slow_writer_bounds_the_batches_in_flight_and_reuses_them() {
+    AtomicInteger writing = new AtomicInteger();
+    AtomicInteger maxWriting = new AtomicInteger();
+    Set<Batch<Integer>> containers = Collections.newSetFromMap(new IdentityHashMap<>());
+    AtomicInteger requested = new AtomicInteger();
+    AtomicInteger written = new AtomicInteger();
+
+    StepVerifier.withVirtualTime(() -> BatchingWriter.<Integer>builder(batch -> {
+              containers.add(batch);
+              maxWriting.accumulateAndGet(writing.incrementAndGet(), Math::max);
+              return Mono.delay(Duration.ofSeconds(1))
+                  // before the completion, which hands the next batch to the writer.
+                  .doOnNext(tick -> {
+                    written.addAndGet(batch.size());
+                    writing.decrementAndGet();
+                  })
+                  .then();
+            })
+            .maxCount(10)
+            .maxInFlight(2)
+            .build()
+            .write(Flux.range(0, 100).doOnRequest(n -> requested.addAndGet((int) n))))
+        // two batches written, one waiting for a write: maxCount items wait, no more requested.
+        .then(() -> assertEquals(30, requested.get()))
+        .thenAwait(Duration.ofSeconds(50))
+        .verifyComplete();
+    assertEquals(100, written.get());
+    assertEquals(2, maxWriting.get());
+    // written, waiting and filling.
+    assertEquals(4, containers.size());
+  }
+
+  @Test
+  public void a_writer_error_cancels_the_source() {
+    AtomicBoolean cancelled = new AtomicBoolean();
+    AtomicInteger writes = new AtomicInteger();
+    BatchingWriter<Integer> writer = BatchingWriter.<Integer>builder(batch ->
+            writes.incrementAndGet() == 2
+                ? Mono.error(new IllegalStateException("sink down"))
+                : Mono.empty())
+        .maxCount(5)
+        .build();
+
+    StepVerifier.create(writer.write(Flux.range(0, 100).doOnCancel(() -> cancelled.set(true))))
+        .verifyErrorMessage("sink down");
+    assertTrue(cancelled.get());
+    assertEquals(2, writes.get());
+  }
+}
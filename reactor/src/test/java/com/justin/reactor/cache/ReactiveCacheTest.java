@@ -0,0 +1,111 @@
+package com.justin.reactor.cache;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import org.junit.jupiter.api.Test;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
+import reactor.test.StepVerifier;
+
+/**
+ * Description: test case for the async loading cache.
+ *
+ * @author Justin_Zhang
+ * @date 10/19/2026 06:55
+ */
+public class ReactiveCacheTest {
+  private final AtomicInteger loads = new AtomicInteger();
+
+  private final AtomicLong nanos = new AtomicLong();
+
+  private final SimpleMeterRegistry registry = new SimpleMeterRegistry();
+
+  private ReactiveCache.Builder<String, String> builder() {
+    return ReactiveCache.<String, String>builder(key -> Mono.fromCallable(
+            () -> key + " " + loads.incrementAndGet()))
+        .scheduler(Schedulers.immediate())
+        .ticker(nanos::get)
+        .metrics(registry, "test");
+  }
+
+  private double count(String name, String result) {
+    return registry.get(name).tag("cache", "test").tag("result", result).functionCounter().count();
+  }
+
+  @Test
+  public void hits_and_misses_are_counted() {
+    ReactiveCache<String, String> cache = builder().build();
+
+    StepVerifier.create(Flux.just("a", "a", "b").concatMap(cache::get))
+        .expectNext("a 1", "a 1", "b 2")
+        .verifyComplete();
+    assertEquals(1.0, count("cache.gets", "hit"));
+    assertEquals(2.0, count("cache.gets", "miss"));
+  }
+
+  @Test
+  public void concurrent_gets_of_a_key_share_one_load() {
+    ReactiveCache<String, String> cache = ReactiveCache.<String, String>builder(key -> Mono.delay(
+            Duration.ofMillis(100)).map(tick -> key + " " + loads.incrementAndGet()))
+        .build();
+
+    StepVerifier.create(Flux.just("a", "a", "a").flatMap(cache::get))
+        .expectNext("a 1", "a 1", "a 1")
+        .verifyComplete();
+    assertEquals(1, loads.get());
+  }
+
+  @Test
+  public void a_read_entry_is_refreshed_ahead_of_its_expiry() {
+    ReactiveCache<String, String> cache = builder()
+        .refreshAfterWrite(Duration.ofSeconds(1))
+        .expireAfterWrite(Duration.ofSeconds(10))
+        .build();
+    StepVerifier.create(cache.get("a")).expectNext("a 1").verifyComplete();
+
+    nanos.addAndGet(Duration.ofSeconds(2).toNanos());
+    // the current value at once, the refresh in the background.
+    StepVerifier.create(cache.get("a")).expectNext("a 1").verifyComplete();
+    StepVerifier.create(cache.get("a")).expectNext("a 2").verifyComplete();
+
+    // an entry not read is not refreshed: it expires.
+    nanos.addAndGet(Duration.ofSeconds(11).toNanos());
+    StepVerifier.create(cache.getIfPresent("a")).verifyComplete();
+    StepVerifier.create(cache.get("a")).expectNext("a 3").verifyComplete();
+  }
+
+  @Test
+  public void entries_are_bounded_by_weight() {
+    ReactiveCache<String, String> cache = builder()
+        .maximumWeight(10, (key, value) -> value.length())
+        .build();
+
+    for (String key : new String[] {"a", "b", "c", "d", "e"}) {
+      cache.put(key, "1234");
+    }
+    cache.cleanUp();
+    assertTrue(cache.estimatedSize() <= 2, "size: " + cache.estimatedSize());
+    assertTrue(registry.get("cache.evictions").tag("cache", "test").functionCounter().count() >= 3);
+  }
+
+  @Test
+  public void errors_are_not_cached() {
+    ReactiveCache<String, String> cache = ReactiveCache.<String, String>builder(key -> Mono.error(
+            new IllegalStateException("load " + loads.incrementAndGet() + " failed")))
+        .scheduler(Schedulers.immediate())
+        .build();
+
+    StepVerifier.create(cache.get("a"))
+        .expectErrorMessage("load 1 failed")
+        .verify();
+    StepVerifier.create(cache.get("a"))
+        .expectErrorMessage("load 2 failed")
+        .verify();
+  }
+}
@@ -0,0 +1,122 @@
+package com.justin.reactor.cache;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.Test;
+import reactor.core.Disposable;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
+import reactor.test.StepVerifier;
+
+/**
+ * Description: test case for single flight lookups.
+ *
+ * @author Justin_Zhang
+ * @date 10/19/2026 06:40
+ */
+public class SingleFlightTest {
+  private final AtomicInteger calls = new AtomicInteger();
+
+  private final AtomicBoolean cancelled = new AtomicBoolean();
+
+  private Mono<String> load(String key) {
+    return Mono.defer(() -> {
+      int call = calls.incrementAndGet();
+      return Mono.delay(Duration.ofMillis(100), Schedulers.parallel())
+          .map(tick -> key + " " + call)
+          .doOnCancel(() -> cancelled.set(true));
+    });
+  }
+
+  @Test
+  public void concurrent_lookups_of_a_key_share_one_call() {
+    SingleFlight<String, String> lookups = SingleFlight.of(this::load);
+
+    StepVerifier.withVirtualTime(() -> Flux.just("a", "a", "b", "a")
+            .flatMap(lookups::get))
+        .expectSubscription()
+        .then(() -> assertEquals(2, lookups.inFlight()))
+        .thenAwait(Duration.ofMillis(100))
+        .expectNextCount(4)
+        .verifyComplete();
+    assertEquals(2, calls.get());
+    assertEquals(0, lookups.inFlight());
+
+    // the flight ended with its result: without cache, the next lookup calls again.
+    StepVerifier.withVirtualTime(() -> lookups.get("a"))
+        .thenAwait(Duration.ofMillis(100))
+        .expectNext("a 3")
+        .verifyComplete();
+  }
+
+  @Test
+  public void the_cache_serves_the_lookups_within_the_ttl() {
+    SingleFlight<String, String> lookups = SingleFlight.<String, String>of(this::load)
+        .cache(Duration.ofSeconds(1), 10);
+
+    StepVerifier.withVirtualTime(() -> lookups.get("a")
+            .then(Mono.delay(Duration.ofMillis(500)))
+            .then(lookups.get("a"))
+            .then(Mono.delay(Duration.ofMillis(500)))
+            .then(lookups.get("a")))
+        .thenAwait(Duration.ofSeconds(2))
+        .expectNext("a 2")
+        .verifyComplete();
+    // loaded at 100ms, cached until 1100ms: the third lookup at 1100ms loads again.
+    assertEquals(2, calls.get());
+  }
+
+  @Test
+  public void the_cache_evicts_the_least_recently_read() {
+    SingleFlight<String, String> lookups = SingleFlight.<String, String>of(this::load)
+        .cache(Duration.ofMinutes(1), 2);
+
+    StepVerifier.withVirtualTime(() -> Flux.just("a", "b", "a", "c", "a", "b")
+            .concatMap(lookups::get))
+        .thenAwait(Duration.ofSeconds(1))
+        .expectNext("a 1", "b 2", "a 1", "c 3", "a 1", "b 4")
+        .verifyComplete();
+  }
+
+  @Test
+  public void the_call_is_cancelled_with_its_last_lookup() {
+    SingleFlight<String, String> lookups = SingleFlight.of(this::load);
+
+    Disposable first = lookups.get("a").subscribe();
+    Disposable second = lookups.get("a").subscribe();
+    first.dispose();
+    assertEquals(1, lookups.inFlight());
+    second.dispose();
+    assertTrue(cancelled.get());
+    assertEquals(0, lookups.inFlight());
+    assertEquals(1, calls.get());
+  }
+
+  @Test
+  public void errors_are_shared_but_not_cached() {
+    SingleFlight<String, String> lookups = SingleFlight.<String, String>of(key -> Mono.defer(
+            () -> {
+              calls.incrementAndGet();
+              return Mono.delay(Duration.ofMillis(100), Schedulers.parallel())
+                  .then(Mono.error(new IllegalStateException("upstream down")));
+            }))
+        .cache(Duration.ofMinutes(1), 10);
+
+    StepVerifier.withVirtualTime(() -> Flux.just("a", "a")
+            .flatMap(key -> lookups.get(key).onErrorResume(error -> Mono.just("failed"))))
+        .thenAwait(Duration.ofMillis(100))
+        .expectNext("failed", "failed")
+        .verifyComplete();
+    assertEquals(1, calls.get());
+    StepVerifier.withVirtualTime(() -> lookups.get("a"))
+        .thenAwait(Duration.ofMillis(100))
+        .expectError(IllegalStateException.class)
+        .verify();
+    assertEquals(2, calls.get());
+  }
+}
@@ -1,11 +1,22 @@
 package com.justin.reactor.contextsupport;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
 import io.micrometer.context.ContextRegistry;
 import java.time.Duration;
+import java.util.List;
 import lombok.extern.slf4j.Slf4j;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeAll;
 import org.junit.jupiter.api.Test;
 import org.slf4j.MDC;
+import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
+import reactor.util.context.Context;
 
 /**
  * Description: test case for context propagation support.
@@ -16,25 +27,42 @@ import reactor.core.publisher.Mono;
 @Slf4j
 public class ContextPropagationSupportTest {
   //assuming TL is known to Context-Propagation as key TLKEY.
-  static final ThreadLocal<String> TL = new ThreadLocal<>();
+  static final ThreadLocal<String> TL = SampleContextAccessor.TL;
+
+  static final String TLKEY = SampleContextAccessor.TLKEY;
+
+  @BeforeAll
+  public static void registerAccessor() {
+    // the global registry: contextCapture() doesn't see a new ContextRegistry().
+    ContextRegistry.getInstance().registerThreadLocalAccessor(new SampleContextAccessor());
+  }
 
-  static final String TLKEY = "TLKEY";
+  @AfterAll
+  public static void removeAccessor() {
+    ContextRegistry.getInstance().removeThreadLocalAccessor(TLKEY);
+  }
+
+  @AfterEach
+  public void clear() {
+    ContextPropagationSupport.uninstall();
+    TL.remove();
+    TraceContext.clear();
+    MDC.clear();
+  }
 
   @Test
   public void context_capture() {
-    // TODO: Wrong way, How do implement capture ThreadLocal values?
-    ContextRegistry contextRegistry = new ContextRegistry();
-    contextRegistry.registerThreadLocalAccessor(TLKEY, TL);
     //in the main thread, TL is set to "HELLO"
     TL.set("HELLO");
-    Mono.deferContextual(ctx ->
+    String delayed = Mono.deferContextual(ctx ->
             Mono.delay(Duration.ofSeconds(1))
                 //we're now in another thread, TL is not set
                 .map(v -> "delayed ctx[" + TLKEY + "]="
                     + ctx.getOrDefault(TLKEY, "not found") + ", TL=" + TL.get()))
         .contextCapture()
         .log()
-        .block(); // returns "delayed ctx[TLKEY]=HELLO, TL=null"
+        .block();
+    assertEquals("delayed ctx[TLKEY]=HELLO, TL=null", delayed);
   }
 
   @Test
@@ -42,14 +70,47 @@ public class ContextPropagationSupportTest {
     //in the main thread, TL is set to "HELLO"
     TL.set("HELLO");
 
-    Mono.delay(Duration.ofSeconds(1))
+    String handled = Mono.delay(Duration.ofSeconds(1))
         //we're now in another thread, TL is not set yet
         .doOnNext(v -> System.out.println(TL.get()))
         //inside the handler however, TL _is_ restored
-        .handle((v, sink) -> sink.next("handled delayed TL=" + TL.get()))
+        .<String>handle((v, sink) -> sink.next("handled delayed TL=" + TL.get()))
         .contextCapture()
         .log()
-        .block(); // prints "null" and returns "handled delayed TL=HELLO"
+        .block();
+    assertEquals("handled delayed TL=HELLO", handled);
+  }
+
+  @Test
+  public void automatic_propagation_restores_thread_locals_after_every_hop() {
+    ContextPropagationSupport.install(List.of(RequestIdWebFilter.KEY));
+    TL.set("HELLO");
+    TraceContext.set("trace-1");
+
+    String delayed = Mono.delay(Duration.ofMillis(100))
+        .map(v -> TL.get() + " " + TraceContext.current() + " on "
+            + Thread.currentThread().getName())
+        .block();
+    assertTrue(delayed.startsWith("HELLO trace-1 on parallel-"), delayed);
+  }
+
+  @Test
+  public void the_mdc_follows_the_context_on_every_publish_on() {
+    ContextPropagationSupport.install(List.of(RequestIdWebFilter.KEY));
+
+    List<String> requestIds = Flux.range(0, 3)
+        .publishOn(Schedulers.boundedElastic())
+        .map(i -> MDC.get(RequestIdWebFilter.KEY))
+        .publishOn(Schedulers.parallel())
+        .map(id -> id + "/" + MDC.get(RequestIdWebFilter.KEY))
+        .doOnNext(id -> log.info("logged with the request id in the MDC"))
+        .contextWrite(Context.of(RequestIdWebFilter.KEY, "request-1"))
+        .collectList()
+        .block();
+    assertEquals(List.of("request-1/request-1", "request-1/request-1", "request-1/request-1"),
+        requestIds);
+    // the thread subscribing isn't changed.
+    assertNull(MDC.get(RequestIdWebFilter.KEY));
   }
 
   @Test
@@ -3,31 +3,34 @@ package com.justin.reactor.contextsupport;
 import io.micrometer.context.ThreadLocalAccessor;
 
 /**
- * Description:
+ * Description: the accessor of the ThreadLocal TL under the key TLKEY: the value has to live in
+ * the ThreadLocal, an instance field would be shared by all the threads.
  *
  * @author Justin_Zhang
  * @date 11/26/2022 10:06
  */
-public class SampleContextAccessor implements ThreadLocalAccessor {
-  private Object value;
+public class SampleContextAccessor implements ThreadLocalAccessor<String> {
+  static final ThreadLocal<String> TL = new ThreadLocal<>();
+
+  static final String TLKEY = "TLKEY";
 
   @Override
   public Object key() {
-    return "TLKEY";
+    return TLKEY;
   }
 
   @Override
-  public Object getValue() {
-    return value;
+  public String getValue() {
+    return TL.get();
   }
 
   @Override
-  public void setValue(Object value) {
-    this.value = value;
+  public void setValue(String value) {
+    TL.set(value);
   }
 
   @Override
-  public void reset() {
-    this.value = null;
+  public void setValue() {
+    TL.remove();
   }
 }
@@ -0,0 +1,62 @@
+package com.justin.reactor.eventbus;
+
+import java.time.Duration;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+import reactor.core.publisher.Flux;
+import reactor.test.StepVerifier;
+import reactor.test.publisher.TestPublisher;
+
+/**
+ * Description: test case for chunk flux.
+ *
+ * @author Justin_Zhang
+ * @date 10/18/2026 14:02
+ */
+public class ChunkFluxTest {
+  @Test
+  public void flatten_honors_downstream_demand() {
+    Flux<List<Integer>> chunks = Flux.just(List.of(1, 2, 3), List.of(), List.of(4, 5));
+    StepVerifier.create(ChunkFlux.flatten(chunks, 1), 0)
+        .thenRequest(2)
+        .expectNext(1, 2)
+        .expectNoEvent(Duration.ofMillis(10))
+        .thenRequest(3)
+        .expectNext(3, 4, 5)
+        .verifyComplete();
+  }
+
+  @Test
+  public void flatten_requests_chunks_by_prefetch() {
+    TestPublisher<List<Integer>> publisher = TestPublisher.create();
+    StepVerifier.create(ChunkFlux.flatten(publisher.flux(), 4))
+        .then(() -> publisher.assertMinRequested(4))
+        .then(() -> publisher.next(List.of(1, 2), List.of(3)))
+        .expectNext(1, 2, 3)
+        .then(() -> publisher.error(new IllegalStateException("boom")))
+        .verifyErrorMessage("boom");
+  }
+
+  @Test
+  public void batched_bus_emits_one_signal_per_chunk() {
+    EventBus<String> bus = new EventBus<>();
+    StepVerifier.create(bus.asChunkFlux())
+        .then(() -> {
+          bus.publish(List.of("a", "b"));
+          bus.publish(List.of("c"));
+          bus.complete();
+        })
+        .expectNext(List.of("a", "b"), List.of("c"))
+        .verifyComplete();
+
+    EventBus<String> flattened = new EventBus<>();
+    StepVerifier.create(ChunkFlux.flatten(flattened.asChunkFlux()))
+        .then(() -> {
+          flattened.publish(List.of("a", "b"));
+          flattened.publish(List.of("c"));
+          flattened.complete();
+        })
+        .expectNext("a", "b", "c")
+        .verifyComplete();
+  }
+}
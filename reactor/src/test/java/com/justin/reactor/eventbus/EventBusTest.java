@@ -0,0 +1,104 @@
+package com.justin.reactor.eventbus;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+
+import com.justin.reactor.util.ThreadUtil;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.Test;
+import reactor.core.Disposable;
+import reactor.test.StepVerifier;
+
+/**
+ * Description: test case for event bus.
+ *
+ * @author Justin_Zhang
+ * @date 10/18/2026 11:31
+ */
+public class EventBusTest {
+  @Test
+  public void multiple_producers_deliver_every_chunk() {
+    EventBus<String> bus = new EventBus<>(16);
+    int producers = 8;
+    int chunks = 1000;
+    StepVerifier.create(bus.asFlux())
+        .then(() -> {
+          Thread[] threads = new Thread[producers];
+          for (int p = 0; p < producers; p++) {
+            threads[p] = new Thread(() -> {
+              for (int i = 0; i < chunks; i++) {
+                bus.publish(List.of("a" + i, "b" + i));
+              }
+            });
+            threads[p].start();
+          }
+          ThreadUtil.joinThread(threads);
+          bus.complete();
+        })
+        .expectNextCount(producers * chunks * 2L)
+        .expectComplete()
+        .verify(Duration.ofSeconds(10));
+  }
+
+  @Test
+  public void every_listener_receives_chunks_in_publish_order() {
+    EventBus<Integer> bus = new EventBus<>();
+    List<Integer> first = new ArrayList<>();
+    List<Integer> second = new ArrayList<>();
+    AtomicInteger completions = new AtomicInteger();
+    bus.register(listener(first, completions));
+    bus.register(listener(second, completions));
+    bus.publish(List.of(1, 2));
+    bus.publish(List.of(3));
+    bus.complete();
+    assertEquals(List.of(1, 2, 3), first);
+    assertEquals(List.of(1, 2, 3), second);
+    assertEquals(2, completions.get());
+    // late listeners are completed at once.
+    bus.register(listener(new ArrayList<>(), completions));
+    assertEquals(3, completions.get());
+    assertFalse(bus.tryPublish(List.of(4)));
+  }
+
+  @Test
+  public void cancel_unregisters_the_listener() {
+    EventBus<Integer> bus = new EventBus<>();
+    Disposable disposable = bus.asFlux().subscribe();
+    assertEquals(1, bus.listenerCount());
+    disposable.dispose();
+    assertEquals(0, bus.listenerCount());
+  }
+
+  @Test
+  public void ring_buffer_is_bounded_and_fifo() {
+    MpscRingBuffer<Integer> ring = new MpscRingBuffer<>(3);
+    assertEquals(4, ring.capacity());
+    for (int i = 0; i < 4; i++) {
+      ring.offer(i);
+    }
+    assertFalse(ring.offer(4));
+    assertEquals(0, ring.poll());
+    ring.offer(4);
+    for (int i = 1; i <= 4; i++) {
+      assertEquals(i, ring.poll());
+    }
+    assertEquals(0, ring.size());
+  }
+
+  private static EventListener<Integer> listener(List<Integer> received, AtomicInteger completions) {
+    return new EventListener<>() {
+      @Override
+      public void onDataChunk(List<Integer> chunk) {
+        received.addAll(chunk);
+      }
+
+      @Override
+      public void processComplete() {
+        completions.incrementAndGet();
+      }
+    };
+  }
+}
@@ -0,0 +1,194 @@
+package com.justin.reactor.eventlog;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.justin.reactor.sink.RecordSerializer;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.Duration;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import reactor.core.publisher.Flux;
+import reactor.test.StepVerifier;
+
+/**
+ * Description: test case for the memory-mapped event log.
+ *
+ * @author Justin_Zhang
+ * @date 10/19/2026 03:55
+ */
+public class EventLogTest {
+  @TempDir
+  Path dir;
+
+  @Test
+  public void records_written_are_read_back() throws IOException {
+    Path file = dir.resolve("events.log");
+    try (EventLogWriter<Integer> writer = EventLogWriter.open(file, RecordSerializer.ofInteger())) {
+      StepVerifier.create(writer.write(Flux.range(0, 10_000)))
+          .expectNext(10_000L * (LogCursor.HEADER + 4))
+          .verifyComplete();
+    }
+
+    StepVerifier.create(EventLogReader.records(file, RecordSerializer.ofInteger()).count())
+        .expectNext(10_000L)
+        .verifyComplete();
+    StepVerifier.create(EventLogReader.records(file, RecordSerializer.ofInteger()).skip(9_998))
+        .expectNext(9_998, 9_999)
+        .verifyComplete();
+  }
+
+  @Test
+  public void records_cross_and_outgrow_the_windows() throws IOException {
+    Path file = dir.resolve("events.log");
+    List<String> records = List.of("a", "b".repeat(20), "c".repeat(100), "d");
+    try (EventLogWriter<String> writer = EventLogWriter.open(file, RecordSerializer.ofString())) {
+      for (String record : records) {
+        writer.append(record);
+      }
+    }
+
+    // windows of 16 bytes: the second record crosses one, the third is larger than one.
+    StepVerifier.create(EventLogReader.records(file, 0L, 16)
+            .map(buffer -> RecordSerializer.ofString().read(buffer)))
+        .expectNextSequence(records)
+        .verifyComplete();
+  }
+
+  @Test
+  public void records_are_read_on_demand_as_read_only_slices() throws IOException {
+    Path file = dir.resolve("events.log");
+    try (EventLogWriter<Long> writer = EventLogWriter.open(file, RecordSerializer.ofLong())) {
+      writer.write(Flux.range(0, 100).map(Long::valueOf)).block();
+    }
+
+    StepVerifier.create(EventLogReader.records(file, 0L, 64), 0)
+        .thenRequest(1)
+        .assertNext(buffer -> {
+          assertTrue(buffer.isReadOnly());
+          assertTrue(buffer.isDirect());
+          assertEquals(8, buffer.remaining());
+          assertEquals(0L, buffer.getLong());
+        })
+        .thenRequest(2)
+        .expectNextCount(2)
+        .thenCancel()
+        .verify();
+  }
+
+  @Test
+  public void torn_tail_is_skipped_and_truncated_on_reopen() throws IOException {
+    Path file = dir.resolve("events.log");
+    long valid;
+    try (EventLogWriter<String> writer = EventLogWriter.open(file, RecordSerializer.ofString())) {
+      writer.append("created");
+      writer.append("paid");
+      valid = writer.sync();
+    }
+    // a crash in the middle of an append: a header announcing more than was written.
+    try (FileChannel channel = FileChannel.open(file, StandardOpenOption.APPEND)) {
+      channel.write(ByteBuffer.allocate(10).putInt(100).putInt(0).flip());
+    }
+
+    StepVerifier.create(EventLogReader.records(file, RecordSerializer.ofString()))
+        .expectNext("created", "paid")
+        .verifyComplete();
+
+    try (EventLogWriter<String> writer = EventLogWriter.open(file, RecordSerializer.ofString())) {
+      assertEquals(valid, writer.position());
+      writer.append("shipped");
+    }
+    StepVerifier.create(EventLogReader.records(file, RecordSerializer.ofString()))
+        .expectNext("created", "paid", "shipped")
+        .verifyComplete();
+  }
+
+  @Test
+  public void zero_filled_tail_is_torn_not_empty_records() throws IOException {
+    Path file = dir.resolve("events.log");
+    long valid;
+    try (EventLogWriter<String> writer = EventLogWriter.open(file, RecordSerializer.ofString())) {
+      writer.append("created");
+      writer.append("");
+      valid = writer.sync();
+    }
+    // a tail pre-extended, or torn, with zeros: length 0 and crc 0.
+    try (FileChannel channel = FileChannel.open(file, StandardOpenOption.APPEND)) {
+      channel.write(ByteBuffer.allocate(64));
+    }
+
+    StepVerifier.create(EventLogReader.records(file, RecordSerializer.ofString()))
+        .expectNext("created", "")
+        .verifyComplete();
+    try (EventLogWriter<String> writer = EventLogWriter.open(file, RecordSerializer.ofString())) {
+      assertEquals(valid, writer.position());
+    }
+    assertEquals(valid, Files.size(file));
+  }
+
+  @Test
+  public void a_failed_serialization_leaves_no_partial_frame() throws IOException {
+    Path file = dir.resolve("events.log");
+    RecordSerializer<String> strings = RecordSerializer.ofString();
+    RecordSerializer<String> failing = new RecordSerializer<>() {
+      @Override
+      public void write(String value, ByteBuffer out) {
+        strings.write(value, out);
+        if (value.startsWith("bad")) {
+          throw new IllegalStateException("can't serialize " + value);
+        }
+      }
+
+      @Override
+      public String read(ByteBuffer in) {
+        return strings.read(in);
+      }
+    };
+    long valid;
+    try (EventLogWriter<String> writer = EventLogWriter.open(file, failing)) {
+      writer.append("one");
+      assertThrows(IllegalStateException.class, () -> writer.append("bad record"));
+      writer.append("two");
+      writer.append("three");
+      valid = writer.sync();
+    }
+    assertEquals(valid, Files.size(file));
+
+    // recovering keeps the records after the failed one.
+    try (EventLogWriter<String> writer = EventLogWriter.open(file, strings)) {
+      assertEquals(valid, writer.position());
+    }
+    StepVerifier.create(EventLogReader.records(file, strings))
+        .expectNext("one", "two", "three")
+        .verifyComplete();
+  }
+
+  @Test
+  public void sync_follows_the_cadence() throws IOException {
+    Path file = dir.resolve("events.log");
+    try (EventLogWriter<Integer> writer = EventLogWriter.open(file, RecordSerializer.ofInteger(),
+        3, Duration.ofMillis(50))) {
+      writer.append(1);
+      writer.append(2);
+      // nothing written yet, the records are in the buffer.
+      assertEquals(0L, writer.syncedPosition());
+      assertEquals(0L, Files.size(file));
+      writer.append(3);
+      assertEquals(3 * (LogCursor.HEADER + 4), writer.syncedPosition());
+
+      writer.append(4);
+      long deadline = System.nanoTime() + Duration.ofSeconds(5).toNanos();
+      while (writer.syncedPosition() != writer.position() && System.nanoTime() < deadline) {
+        Thread.onSpinWait();
+      }
+      assertEquals(4 * (LogCursor.HEADER + 4), writer.syncedPosition());
+    }
+  }
+}
@@ -0,0 +1,141 @@
+package com.justin.reactor.hedge;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.Test;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
+import reactor.test.StepVerifier;
+
+/**
+ * Description: test case for hedged requests.
+ *
+ * @author Justin_Zhang
+ * @date 10/19/2026 06:20
+ */
+public class HedgerTest {
+  private final AtomicInteger subscriptions = new AtomicInteger();
+
+  private final AtomicBoolean cancelled = new AtomicBoolean();
+
+  /**
+   * the first subscription answers after slow, the next ones after fast.
+   */
+  private Mono<String> downstream(Duration slow, Duration fast) {
+    return Mono.defer(() -> {
+      int subscription = subscriptions.incrementAndGet();
+      Duration latency = subscription == 1 ? slow : fast;
+      return Mono.delay(latency, Schedulers.parallel())
+          .map(tick -> "answer " + subscription)
+          .doOnCancel(() -> cancelled.set(true));
+    });
+  }
+
+  @Test
+  public void the_hedge_wins_and_the_original_call_is_cancelled() {
+    SimpleMeterRegistry registry = new SimpleMeterRegistry();
+    Hedger hedger = Hedger.after(Duration.ofMillis(10)).maxHedgeRatio(1)
+        .metrics(registry, "downstream");
+
+    StepVerifier.withVirtualTime(() -> downstream(Duration.ofSeconds(1), Duration.ofMillis(10))
+            .transform(hedger.transformer()))
+        .expectSubscription()
+        .expectNoEvent(Duration.ofMillis(20))
+        .expectNext("answer 2")
+        .verifyComplete();
+    assertTrue(cancelled.get());
+    assertEquals(1.0, registry.get("downstream.hedge.hedges").counter().count());
+    assertEquals(1.0, registry.get("downstream.hedge.wins").counter().count());
+  }
+
+  @Test
+  public void a_call_answering_before_the_delay_is_not_hedged() {
+    SimpleMeterRegistry registry = new SimpleMeterRegistry();
+    Hedger hedger = Hedger.after(Duration.ofMillis(10)).maxHedgeRatio(1)
+        .metrics(registry, "downstream");
+
+    StepVerifier.withVirtualTime(() -> downstream(Duration.ofMillis(5), Duration.ofMillis(5))
+            .transform(hedger.transformer()))
+        .expectSubscription()
+        .expectNoEvent(Duration.ofMillis(5))
+        .expectNext("answer 1")
+        .verifyComplete();
+    assertEquals(1, subscriptions.get());
+    assertEquals(0.0, registry.get("downstream.hedge.hedges").counter().count());
+  }
+
+  @Test
+  public void the_error_of_a_hedge_is_ignored() {
+    Hedger hedger = Hedger.after(Duration.ofMillis(10)).maxHedgeRatio(1);
+    Mono<String> downstream = Mono.defer(() -> subscriptions.incrementAndGet() == 1
+        ? Mono.delay(Duration.ofMillis(100), Schedulers.parallel()).map(tick -> "original")
+        : Mono.error(new IllegalStateException("hedge failed")));
+
+    StepVerifier.withVirtualTime(() -> downstream.transform(hedger.transformer()))
+        .expectSubscription()
+        .expectNoEvent(Duration.ofMillis(100))
+        .expectNext("original")
+        .verifyComplete();
+    assertEquals(2, subscriptions.get());
+  }
+
+  @Test
+  public void hedges_stay_below_the_max_ratio() {
+    SimpleMeterRegistry registry = new SimpleMeterRegistry();
+    Hedger hedger = Hedger.after(Duration.ofMillis(10)).metrics(registry, "downstream");
+    // every call is slow: without a limit, all of them would be hedged.
+    Mono<Long> slow = Mono.defer(() -> {
+      subscriptions.incrementAndGet();
+      return Mono.delay(Duration.ofMillis(100), Schedulers.parallel());
+    });
+
+    StepVerifier.withVirtualTime(() -> Flux.range(0, 100)
+            .flatMap(i -> slow.transform(hedger.transformer())))
+        .thenAwait(Duration.ofSeconds(1))
+        .expectNextCount(100)
+        .verifyComplete();
+    assertEquals(10.0, registry.get("downstream.hedge.hedges").counter().count());
+    assertEquals(90.0, registry.get("downstream.hedge.denied").counter().count());
+    assertEquals(110, subscriptions.get());
+  }
+
+  @Test
+  public void the_delay_follows_the_quantile_of_the_latencies() {
+    Hedger hedger = Hedger.afterQuantile(0.95, Duration.ofMillis(50)).maxHedgeRatio(0);
+    assertEquals(Duration.ofMillis(50), hedger.delay());
+    // 90% of 10ms, 10% of 30ms: the p95 is 30ms.
+    Flux<Long> calls = Flux.range(0, 200).concatMap(i -> Mono.delay(
+            Duration.ofMillis(i % 10 == 0 ? 30 : 10), Schedulers.parallel())
+        .transform(hedger.transformer()));
+
+    StepVerifier.withVirtualTime(() -> calls)
+        .thenAwait(Duration.ofSeconds(10))
+        .expectNextCount(200)
+        .verifyComplete();
+    assertEquals(Duration.ofMillis(30), hedger.delay());
+  }
+
+  @Test
+  public void the_cancelled_originals_keep_the_delay_from_drifting_down() {
+    Hedger hedger = Hedger.afterQuantile(0.5, Duration.ofMillis(50)).maxHedgeRatio(1);
+    // the originals take 100ms, the hedges 10ms: every hedge wins.
+    Flux<String> calls = Flux.range(0, 250).concatMap(i -> {
+      subscriptions.set(0);
+      return downstream(Duration.ofMillis(100), Duration.ofMillis(10))
+          .transform(hedger.transformer());
+    });
+
+    StepVerifier.withVirtualTime(() -> calls)
+        .thenAwait(Duration.ofMinutes(1))
+        .expectNextCount(250)
+        .verifyComplete();
+    // the originals are cancelled after the delay and the hedge: the delay can't go below it.
+    assertTrue(hedger.delay().compareTo(Duration.ofMillis(50)) >= 0, hedger.delay().toString());
+  }
+}
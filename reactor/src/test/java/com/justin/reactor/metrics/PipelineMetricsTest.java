@@ -0,0 +1,85 @@
+package com.justin.reactor.metrics;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+
+/**
+ * Description: test case for the pipeline metrics.
+ *
+ * @author Justin_Zhang
+ * @date 10/18/2026 20:31
+ */
+public class PipelineMetricsTest {
+  private final SimpleMeterRegistry registry = new SimpleMeterRegistry();
+
+  private final PipelineMetrics pipelineMetrics = new PipelineMetrics(registry);
+
+  @Test
+  public void record_flow_elements_and_requests() {
+    // hide(): fused with range, limitRate would poll the elements without any request.
+    StepVerifier.create(Flux.range(0, 3000).hide()
+            .transform(pipelineMetrics.flux("test.range", "stage", "source"))
+            .limitRate(1000))
+        .expectNextCount(3000)
+        .verifyComplete();
+
+    assertEquals(1, registry.get("test.range.subscribed").counter().count());
+    // 2 full blocks flushed while running, the rest on completion.
+    assertEquals(3000, registry.get("test.range.onNext").tag("stage", "source").counter().count());
+    assertEquals(1, registry.get("test.range.flow.duration").tag("status", "completed")
+        .timer().count());
+    assertEquals(0, registry.get("test.range.flow.duration").tag("status", "cancelled")
+        .timer().count());
+    // limitRate(1000) asks 1000 first, then 750 each time 75% of it is consumed.
+    assertEquals(1000, registry.get("test.range.requested").summary().max());
+  }
+
+  @Test
+  public void count_unbounded_requests_apart() {
+    StepVerifier.create(Flux.range(0, 10)
+            .transform(pipelineMetrics.flux("test.unbounded")))
+        .expectNextCount(10)
+        .verifyComplete();
+
+    assertEquals(1, registry.get("test.unbounded.requested.unbounded").counter().count());
+    assertEquals(0, registry.get("test.unbounded.requested").summary().count());
+  }
+
+  @Test
+  public void count_cancellations_apart() {
+    StepVerifier.create(Flux.range(0, 10)
+            .transform(pipelineMetrics.flux("test.cancel")), 2)
+        .expectNext(0, 1)
+        .thenCancel()
+        .verify();
+    StepVerifier.create(Mono.empty()
+            .transform(pipelineMetrics.mono("test.empty")))
+        .verifyComplete();
+
+    assertEquals(1, registry.get("test.cancel.flow.duration").tag("status", "cancelled")
+        .timer().count());
+    assertEquals(2, registry.get("test.cancel.onNext").counter().count());
+    assertEquals(1, registry.get("test.empty.flow.duration").tag("status", "completedEmpty")
+        .timer().count());
+  }
+
+  @Test
+  public void reject_high_cardinality_tags() {
+    for (int i = 0; i < PipelineMetrics.MAX_VALUES_PER_KEY; i++) {
+      pipelineMetrics.flux("test.tenant", "tenant", "tenant-" + i);
+    }
+    // known values are still accepted, a new one is not.
+    pipelineMetrics.flux("test.tenant", "tenant", "tenant-0");
+    assertThrows(IllegalArgumentException.class,
+        () -> pipelineMetrics.flux("test.tenant", "tenant", "user-42"));
+    assertThrows(IllegalArgumentException.class,
+        () -> pipelineMetrics.flux("test.tags", "a", "1", "b", "2", "c", "3", "d", "4", "e", "5"));
+    assertThrows(IllegalArgumentException.class, () -> pipelineMetrics.flux("Test Name"));
+  }
+}
@@ -0,0 +1,112 @@
+package com.justin.reactor.parallel;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadLocalRandom;
+import org.junit.jupiter.api.Test;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Scheduler;
+import reactor.core.scheduler.Schedulers;
+import reactor.test.StepVerifier;
+
+/**
+ * Description: test case for the keyed parallel processing.
+ *
+ * @author Justin_Zhang
+ * @date 10/19/2026 03:05
+ */
+public class KeyedParallelTest {
+  @Test
+  public void order_is_kept_per_key() {
+    Scheduler scheduler = Schedulers.newParallel("keyed", 4);
+    try {
+      // event i belongs to account i % 10, its sequence number in the account is i / 10.
+      Flux<int[]> processed = Flux.range(0, 1_000)
+          .map(i -> new int[] {i % 10, i / 10})
+          .transform(KeyedParallel.<int[], Integer>by(event -> event[0])
+              .rails(4)
+              .runOn(scheduler)
+              .concatMap(event -> Mono.just(event)
+                  .delayElement(Duration.ofMillis(ThreadLocalRandom.current().nextInt(2)))));
+
+      Map<Integer, List<Integer>> sequences = new ConcurrentHashMap<>();
+      StepVerifier.create(processed)
+          .thenConsumeWhile(event -> sequences.computeIfAbsent(event[0], k -> new ArrayList<>())
+              .add(event[1]))
+          .expectComplete()
+          .verify(Duration.ofSeconds(10));
+
+      assertEquals(10, sequences.size());
+      for (List<Integer> sequence : sequences.values()) {
+        assertEquals(100, sequence.size());
+        for (int i = 0; i < sequence.size(); i++) {
+          assertEquals(i, sequence.get(i));
+        }
+      }
+    } finally {
+      scheduler.dispose();
+    }
+  }
+
+  @Test
+  public void many_keys_do_not_hang_and_use_a_fixed_number_of_rails() {
+    Scheduler scheduler = Schedulers.newParallel("keyed", 4);
+    try {
+      Set<String> threads = ConcurrentHashMap.newKeySet();
+      // a key per element: groupBy(key).flatMap() would hang after 256 groups.
+      Flux<Integer> processed = Flux.range(0, 100_000)
+          .transform(KeyedParallel.<Integer, Integer>by(i -> i)
+              .rails(8)
+              .runOn(scheduler)
+              .map(i -> {
+                threads.add(Thread.currentThread().getName());
+                return i;
+              }));
+
+      StepVerifier.create(processed)
+          .expectNextCount(100_000)
+          .expectComplete()
+          .verify(Duration.ofSeconds(10));
+
+      assertTrue(threads.size() <= 4, "more threads than the scheduler has: " + threads);
+    } finally {
+      scheduler.dispose();
+    }
+  }
+
+  @Test
+  public void a_key_always_takes_the_same_rail() {
+    KeyedParallel<String, String> keyed = KeyedParallel.<String, String>by(s -> s).rails(3);
+    for (int i = 0; i < 1_000; i++) {
+      String key = "account-" + i;
+      int rail = keyed.railOf(key);
+      assertTrue(rail >= 0 && rail < 3, "rail out of range: " + rail);
+      assertEquals(rail, keyed.railOf(key));
+    }
+  }
+
+  @Test
+  public void error_of_a_rail_cancels_the_others() {
+    Flux<Integer> processed = Flux.range(0, 100)
+        .transform(KeyedParallel.<Integer, Integer>by(i -> i % 4)
+            .map(i -> {
+              if (i == 50) {
+                throw new IllegalStateException("boom");
+              }
+              return i;
+            }));
+
+    StepVerifier.create(processed)
+        .thenConsumeWhile(i -> true)
+        .expectErrorMessage("boom")
+        .verify(Duration.ofSeconds(5));
+  }
+}
@@ -0,0 +1,96 @@
+package com.justin.reactor.primitive;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.stream.IntStream;
+import org.junit.jupiter.api.Test;
+import reactor.core.publisher.Flux;
+import reactor.test.StepVerifier;
+
+/**
+ * Description: test case for the primitive fluxes.
+ *
+ * @author Justin_Zhang
+ * @date 10/19/2026 00:10
+ */
+public class IntFluxTest {
+  @Test
+  public void map_filter_reduce_match_the_boxed_pipeline() {
+    int expected = Flux.range(0, 10_000)
+        .map(i -> i * 3)
+        .filter(i -> i % 2 == 0)
+        .reduce(0, Integer::sum)
+        .block();
+    StepVerifier.create(IntFlux.range(0, 10_000, 97)
+            .map(i -> i * 3)
+            .filter(i -> i % 2 == 0)
+            .reduce(0, Integer::sum))
+        .expectNext(expected)
+        .verifyComplete();
+  }
+
+  @Test
+  public void buffer_rechunks_across_chunks() {
+    StepVerifier.create(IntFlux.range(0, 10, 3).buffer(4))
+        .assertNext(chunk -> assertArrayEquals(new int[] {0, 1, 2, 3}, chunk))
+        .assertNext(chunk -> assertArrayEquals(new int[] {4, 5, 6, 7}, chunk))
+        .assertNext(chunk -> assertArrayEquals(new int[] {8, 9}, chunk))
+        .verifyComplete();
+  }
+
+  @Test
+  public void chunks_are_requested_on_demand() {
+    StepVerifier.create(IntFlux.range(0, 1000, 10).chunks(), 0)
+        .thenRequest(2)
+        .expectNextCount(2)
+        .expectNoEvent(Duration.ofMillis(10))
+        .thenRequest(Long.MAX_VALUE)
+        .expectNextCount(98)
+        .verifyComplete();
+  }
+
+  @Test
+  public void empty_chunks_and_values_are_skipped() {
+    StepVerifier.create(IntFlux.fromChunks(Flux.just(new int[0], new int[] {1, 2}, new int[0]))
+            .filter(i -> i > 1)
+            .boxed())
+        .expectNext(2)
+        .verifyComplete();
+    StepVerifier.create(IntFlux.just().sum())
+        .expectNext(0L)
+        .verifyComplete();
+  }
+
+  @Test
+  public void given_chunks_are_never_modified() {
+    int[] shared = {1, 2, 3, 4};
+    IntFlux values = IntFlux.fromChunks(Flux.just(shared, shared));
+    StepVerifier.create(values.map(i -> i * 10).filter(i -> i > 10).sum())
+        .expectNext(180L)
+        .verifyComplete();
+    assertArrayEquals(new int[] {1, 2, 3, 4}, shared);
+  }
+
+  @Test
+  public void long_flux_sums_without_overflowing_int() {
+    StepVerifier.create(IntFlux.just(Integer.MAX_VALUE, Integer.MAX_VALUE).sum())
+        .expectNext(2L * Integer.MAX_VALUE)
+        .verifyComplete();
+    StepVerifier.create(IntFlux.range(0, 100)
+            .mapToLong(i -> (long) i << 32)
+            .filter(l -> l > 0)
+            .map(l -> l >> 32)
+            .boxed()
+            .collectList())
+        .expectNext(IntStream.range(1, 100).mapToObj(Long::valueOf).toList())
+        .verifyComplete();
+    StepVerifier.create(LongFlux.range(Long.MAX_VALUE - 3, 3).reduce(0L, Math::max))
+        .expectNext(Long.MAX_VALUE - 1)
+        .verifyComplete();
+    StepVerifier.create(LongFlux.range(0, 5).buffer(2).map(List::of))
+        .expectNextCount(3)
+        .verifyComplete();
+  }
+}
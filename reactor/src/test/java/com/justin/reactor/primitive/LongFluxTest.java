@@ -0,0 +1,52 @@
+package com.justin.reactor.primitive;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import org.junit.jupiter.api.Test;
+import reactor.test.StepVerifier;
+
+/**
+ * Description: test case for the long flux.
+ *
+ * @author Justin_Zhang
+ * @date 10/19/2026 08:35
+ */
+public class LongFluxTest {
+  @Test
+  public void range_may_end_at_the_largest_long() {
+    StepVerifier.create(LongFlux.range(Long.MAX_VALUE, 1).boxed())
+        .expectNext(Long.MAX_VALUE)
+        .verifyComplete();
+    StepVerifier.create(LongFlux.range(Long.MAX_VALUE - 4, 5, 2).chunks())
+        .assertNext(chunk -> assertArrayEquals(
+            new long[] {Long.MAX_VALUE - 4, Long.MAX_VALUE - 3}, chunk))
+        .assertNext(chunk -> assertArrayEquals(
+            new long[] {Long.MAX_VALUE - 2, Long.MAX_VALUE - 1}, chunk))
+        .assertNext(chunk -> assertArrayEquals(new long[] {Long.MAX_VALUE}, chunk))
+        .verifyComplete();
+  }
+
+  @Test
+  public void range_may_start_at_the_smallest_long() {
+    StepVerifier.create(LongFlux.range(Long.MIN_VALUE, 3).boxed())
+        .expectNext(Long.MIN_VALUE, Long.MIN_VALUE + 1, Long.MIN_VALUE + 2)
+        .verifyComplete();
+    StepVerifier.create(LongFlux.range(Long.MIN_VALUE, Long.MAX_VALUE).boxed().take(1))
+        .expectNext(Long.MIN_VALUE)
+        .verifyComplete();
+  }
+
+  @Test
+  public void range_past_the_largest_long_is_rejected() {
+    assertThrows(IllegalArgumentException.class, () -> LongFlux.range(Long.MAX_VALUE, 2));
+    assertThrows(IllegalArgumentException.class, () -> LongFlux.range(2, Long.MAX_VALUE));
+    assertThrows(IllegalArgumentException.class, () -> LongFlux.range(0, -1));
+  }
+
+  @Test
+  public void empty_range_completes_at_once() {
+    StepVerifier.create(LongFlux.range(Long.MAX_VALUE, 0).chunks())
+        .verifyComplete();
+  }
+}
@@ -0,0 +1,83 @@
+package com.justin.reactor.retry;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import org.junit.jupiter.api.Test;
+import reactor.core.Disposable;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+
+/**
+ * Description: test case for the circuit breaker.
+ *
+ * @author Justin_Zhang
+ * @date 10/19/2026 05:50
+ */
+public class CircuitBreakerTest {
+  private final AtomicLong clock = new AtomicLong();
+
+  private final AtomicInteger calls = new AtomicInteger();
+
+  private final CircuitBreaker breaker =
+      new CircuitBreaker("downstream", 3, Duration.ofSeconds(10), clock::get);
+
+  private Mono<String> call(Mono<String> downstream) {
+    return breaker.protect(Mono.defer(() -> {
+      calls.incrementAndGet();
+      return downstream;
+    }));
+  }
+
+  @Test
+  public void opens_after_the_threshold_and_closes_after_a_successful_trial() {
+    for (int i = 0; i < 3; i++) {
+      StepVerifier.create(call(Mono.error(new IllegalStateException("down"))))
+          .expectError(IllegalStateException.class)
+          .verify();
+    }
+    assertEquals(CircuitBreaker.State.OPEN, breaker.state());
+    StepVerifier.create(call(Mono.just("up")))
+        .expectError(CircuitOpenException.class)
+        .verify();
+    assertEquals(3, calls.get());
+
+    clock.addAndGet(Duration.ofSeconds(10).toMillis());
+    // one trial at a time: the second call is rejected while the first one runs.
+    Disposable trial = call(Mono.never()).subscribe();
+    assertEquals(CircuitBreaker.State.HALF_OPEN, breaker.state());
+    StepVerifier.create(call(Mono.just("up")))
+        .expectError(CircuitOpenException.class)
+        .verify();
+    // a cancelled trial lets the next call try.
+    trial.dispose();
+    StepVerifier.create(call(Mono.just("up")))
+        .expectNext("up")
+        .verifyComplete();
+    assertEquals(CircuitBreaker.State.CLOSED, breaker.state());
+  }
+
+  @Test
+  public void a_failed_trial_opens_the_circuit_again() {
+    SimpleMeterRegistry registry = new SimpleMeterRegistry();
+    breaker.register(registry);
+    // a success resets the failures in a row.
+    for (String result : new String[] {"down", "down", "up", "down", "down"}) {
+      call("up".equals(result) ? Mono.just(result) : Mono.error(new IllegalStateException()))
+          .subscribe(value -> { }, error -> { });
+    }
+    assertEquals(CircuitBreaker.State.CLOSED, breaker.state());
+    call(Mono.error(new IllegalStateException())).subscribe(value -> { }, error -> { });
+    assertEquals(CircuitBreaker.State.OPEN, breaker.state());
+    assertEquals(1.0, registry.get("downstream.circuit.open").gauge().value());
+
+    clock.addAndGet(Duration.ofSeconds(10).toMillis());
+    call(Mono.error(new IllegalStateException())).subscribe(value -> { }, error -> { });
+    assertEquals(CircuitBreaker.State.OPEN, breaker.state());
+    call(Mono.just("up")).subscribe(value -> { }, error -> { });
+    assertEquals(1.0, registry.get("downstream.circuit.rejected").counter().count());
+  }
+}
@@ -0,0 +1,133 @@
+package com.justin.reactor.retry;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.io.IOException;
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.Test;
+import reactor.core.Exceptions;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+import reactor.test.scheduler.VirtualTimeScheduler;
+
+/**
+ * Description: test case for the retry policy, its budget and its circuit breaker.
+ *
+ * @author Justin_Zhang
+ * @date 10/19/2026 05:40
+ */
+public class RetryPolicyTest {
+  private final AtomicInteger calls = new AtomicInteger();
+
+  private final Mono<String> failingDownstream = Mono.defer(() -> {
+    calls.incrementAndGet();
+    return Mono.error(new IOException("downstream is down"));
+  });
+
+  @Test
+  public void backoff_is_exponential_capped_and_fully_jittered() {
+    RetryPolicy policy = RetryPolicy.backoff(10, Duration.ofMillis(100), Duration.ofSeconds(1));
+
+    RetryPolicy highest = policy.random(() -> 1.0);
+    assertEquals(Duration.ofMillis(100), highest.backoff(0));
+    assertEquals(Duration.ofMillis(200), highest.backoff(1));
+    assertEquals(Duration.ofMillis(800), highest.backoff(3));
+    assertEquals(Duration.ofSeconds(1), highest.backoff(4));
+    assertEquals(Duration.ofSeconds(1), highest.backoff(Long.MAX_VALUE));
+    // the delay is anywhere in [0, backoff].
+    assertEquals(Duration.ofMillis(100), policy.random(() -> 0.25).backoff(2));
+    assertEquals(Duration.ZERO, policy.random(() -> 0.0).backoff(4));
+  }
+
+  @Test
+  public void retries_wait_their_backoff() {
+    RetryPolicy policy = RetryPolicy.backoff(3, Duration.ofMillis(100), Duration.ofSeconds(1))
+        .random(() -> 1.0);
+
+    StepVerifier.withVirtualTime(() -> failingDownstream.transform(policy.transformer()))
+        .expectSubscription()
+        // 100 + 200 + 400 ms.
+        .expectNoEvent(Duration.ofMillis(699))
+        .thenAwait(Duration.ofMillis(1))
+        .expectErrorMatches(Exceptions::isRetryExhausted)
+        .verify();
+    assertEquals(4, calls.get());
+  }
+
+  @Test
+  public void only_the_filtered_errors_are_retried() {
+    RetryPolicy policy = RetryPolicy.backoff(3, Duration.ofMillis(100), Duration.ofSeconds(1))
+        .filter(error -> !(error instanceof IOException));
+
+    StepVerifier.withVirtualTime(() -> failingDownstream.transform(policy.transformer()))
+        .expectError(IOException.class)
+        .verify();
+    assertEquals(1, calls.get());
+  }
+
+  @Test
+  public void downstream_calls_stay_bounded_during_an_outage() {
+    VirtualTimeScheduler scheduler = VirtualTimeScheduler.getOrSet();
+    try {
+      RetryPolicy retries = RetryPolicy.backoff(3, Duration.ofMillis(10), Duration.ofMillis(100));
+      assertEquals(4000, outage(retries, scheduler));
+
+      // 10% of the calls, plus 5 per second of the outage: the last retries end in the 11th.
+      RetryPolicy budgeted = retries.budget(RetryBudget.of(0.1, 5));
+      int budgetedCalls = outage(budgeted, scheduler);
+      assertTrue(budgetedCalls <= 1000 + 100 + 5 * 11, "calls: " + budgetedCalls);
+
+      // 5 failures in a row open the circuit, then a trial call per second.
+      RetryPolicy broken = budgeted.circuitBreaker(
+          CircuitBreaker.of("downstream", 5, Duration.ofSeconds(1)));
+      int brokenCalls = outage(broken, scheduler);
+      assertTrue(brokenCalls <= 5 + 11, "calls: " + brokenCalls);
+    } finally {
+      VirtualTimeScheduler.reset();
+    }
+  }
+
+  /**
+   * 1000 calls during 10 seconds of outage, the number of calls the downstream got.
+   */
+  private int outage(RetryPolicy policy, VirtualTimeScheduler scheduler) {
+    calls.set(0);
+    AtomicInteger failed = new AtomicInteger();
+    for (int i = 0; i < 1000; i++) {
+      scheduler.schedule(() -> failingDownstream.transform(policy.transformer())
+          .subscribe(value -> { }, error -> failed.incrementAndGet()), i * 10L,
+          TimeUnit.MILLISECONDS);
+    }
+    scheduler.advanceTimeBy(Duration.ofSeconds(20));
+    assertEquals(1000, failed.get());
+    return calls.get();
+  }
+
+  @Test
+  public void metrics_count_attempts_retries_and_exhausted_calls() {
+    SimpleMeterRegistry registry = new SimpleMeterRegistry();
+    RetryPolicy policy = RetryPolicy.backoff(2, Duration.ofMillis(10), Duration.ofMillis(100))
+        .metrics(registry, "downstream");
+
+    StepVerifier.withVirtualTime(() -> failingDownstream.transform(policy.transformer()))
+        .thenAwait(Duration.ofSeconds(1))
+        .expectErrorMatches(Exceptions::isRetryExhausted)
+        .verify();
+    // an empty budget without reserve: no retry.
+    StepVerifier.withVirtualTime(() -> failingDownstream
+            .transform(policy.budget(RetryBudget.of(0, 0)).transformer()))
+        .expectError(IOException.class)
+        .verify();
+
+    assertEquals(4.0, registry.get("downstream.retry.attempts").counter().count());
+    assertEquals(2.0, registry.get("downstream.retry.retries").counter().count());
+    assertEquals(1.0, registry.get("downstream.retry.exhausted").tag("reason", "retries")
+        .counter().count());
+    assertEquals(1.0, registry.get("downstream.retry.exhausted").tag("reason", "budget")
+        .counter().count());
+  }
+}
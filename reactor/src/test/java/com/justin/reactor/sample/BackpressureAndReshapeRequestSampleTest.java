@@ -1,6 +1,12 @@
 package com.justin.reactor.sample;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
 import org.junit.jupiter.api.Test;
+import reactor.core.publisher.Flux;
+import reactor.test.StepVerifier;
 
 /**
  * Description: test case for backpressure and reshape request.
@@ -21,4 +27,28 @@ public class BackpressureAndReshapeRequestSampleTest {
   public void change_the_demand_from_downstream() {
     backpressureAndReshapeRequestsSample.operatorsThatChangeTheDemandFromDownstream();
   }
+
+  @Test
+  public void limit_rate_reshapes_the_requests_of_the_upstream() {
+    List<Long> requests = new CopyOnWriteArrayList<>();
+    // an unbounded subscriber, and the upstream only sees batches of the prefetch.
+    StepVerifier.create(Flux.range(1, 20).doOnRequest(requests::add).limitRate(5))
+        .expectNextCount(20)
+        .verifyComplete();
+    // replenished by 75% of the prefetch.
+    assertEquals(List.of(5L, 4L, 4L, 4L, 4L, 4L), requests);
+
+    requests.clear();
+    StepVerifier.create(Flux.range(1, 20).doOnRequest(requests::add).limitRate(5, 2))
+        .expectNextCount(20)
+        .verifyComplete();
+    // replenished by the low tide.
+    assertEquals(5L, requests.get(0));
+    assertEquals(2L, requests.get(1));
+  }
+
+  @Test
+  public void adaptive_limit_rate() {
+    backpressureAndReshapeRequestsSample.adaptiveLimitRate();
+  }
 }
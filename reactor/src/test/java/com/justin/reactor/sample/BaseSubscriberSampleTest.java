@@ -15,4 +15,9 @@ public class BaseSubscriberSampleTest {
   public void use_base_subscriber_to_subscribe() {
     baseSubscriberSample.useSampleSubscriberToSubscribe();
   }
+
+  @Test
+  public void use_batched_subscriber_to_subscribe() {
+    baseSubscriberSample.useBatchedSubscriberToSubscribe();
+  }
 }
@@ -37,4 +37,9 @@ public class CancelSubscribeSampleTest {
   public void composite_disposable() {
     cancelSubscribeSample.compositeDisposable();
   }
+
+  @Test
+  public void cancel_hedge_loser() {
+    cancelSubscribeSample.cancelHedgeLoser();
+  }
 }
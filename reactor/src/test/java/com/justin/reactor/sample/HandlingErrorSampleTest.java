@@ -1,5 +1,6 @@
 package com.justin.reactor.sample;
 
+import java.io.IOException;
 import org.junit.jupiter.api.Test;
 
 /**
@@ -66,6 +67,16 @@ public class HandlingErrorSampleTest {
     handlingErrorSample.retryWhen();
   }
 
+  @Test
+  public void retry_when_with_spec() {
+    handlingErrorSample.retryWhenWithSpec();
+  }
+
+  @Test
+  public void retry_with_policy() {
+    handlingErrorSample.retryWithPolicy();
+  }
+
   @Test
   public void retry_when_throw() {
     handlingErrorSample.retryWhenThrow();
@@ -80,4 +91,9 @@ public class HandlingErrorSampleTest {
   public void propagate_and_unwrap_error() {
     handlingErrorSample.propagateAndUnwrapError();
   }
+
+  @Test
+  public void read_event_log() throws IOException {
+    handlingErrorSample.readEventLog();
+  }
 }
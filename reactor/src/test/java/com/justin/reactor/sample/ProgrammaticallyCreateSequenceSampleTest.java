@@ -27,6 +27,11 @@ public class ProgrammaticallyCreateSequenceSampleTest {
     programmaticallyCreateSequenceSample.asynchronousMultiThreadCreate();
   }
 
+  @Test
+  public void asynchronous_multi_thread_create_batched() {
+    programmaticallyCreateSequenceSample.asynchronousMultiThreadCreateBatched();
+  }
+
   @Test
   public void asynchronous_single_thread_push() {
     programmaticallyCreateSequenceSample.asynchronousSingleThreadPush();
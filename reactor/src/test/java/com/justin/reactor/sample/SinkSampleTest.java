@@ -1,5 +1,6 @@
 package com.justin.reactor.sample;
 
+import java.io.IOException;
 import org.junit.jupiter.api.Test;
 
 /**
@@ -16,6 +17,11 @@ public class SinkSampleTest {
     sinkSample.multipleThreadEmitElementsReply();
   }
 
+  @Test
+  public void multiple_thread_emit_elements_sharded() {
+    sinkSample.multipleThreadEmitElementsSharded();
+  }
+
   @Test
   public void sink_multicast() {
     sinkSample.sinkMulticast();
@@ -31,6 +37,16 @@ public class SinkSampleTest {
     sinkSample.sinkReplay();
   }
 
+  @Test
+  public void sink_replay_off_heap() {
+    sinkSample.sinkReplayOffHeap();
+  }
+
+  @Test
+  public void sink_durable() throws IOException {
+    sinkSample.sinkDurable();
+  }
+
   @Test
   public void unicast_backpressure_buffer() {
     sinkSample.unicastBackpressureBuffer();
@@ -37,6 +37,11 @@ public class ThreadingAndSchedulerSampleTest {
     threadingAndSchedulerSample.boundedElasticScheduler();
   }
 
+  @Test
+  public void virtual_thread_scheduler() {
+    threadingAndSchedulerSample.virtualThreadScheduler();
+  }
+
   @Test
   public void parallel_scheduler() {
     threadingAndSchedulerSample.parallelScheduler();
@@ -0,0 +1,126 @@
+package com.justin.reactor.scheduler;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import reactor.core.Disposable;
+import reactor.core.publisher.Flux;
+import reactor.core.scheduler.Scheduler;
+import reactor.test.StepVerifier;
+
+/**
+ * Description: test case for the affinity scheduler.
+ *
+ * @author Justin_Zhang
+ * @date 10/19/2026 07:10
+ */
+public class AffinitySchedulerTest {
+  private final AffinityScheduler scheduler = AffinityScheduler.create("affinity-test", 2);
+
+  @AfterEach
+  public void dispose() {
+    scheduler.dispose();
+  }
+
+  @Test
+  public void the_tasks_of_a_worker_run_in_order_one_at_a_time() throws InterruptedException {
+    Scheduler.Worker worker = scheduler.createWorker();
+    List<Integer> order = new ArrayList<>();
+    AtomicInteger running = new AtomicInteger();
+    AtomicInteger overlaps = new AtomicInteger();
+    CountDownLatch done = new CountDownLatch(1);
+    for (int i = 0; i < 10_000; i++) {
+      int task = i;
+      worker.schedule(() -> {
+        if (running.incrementAndGet() != 1) {
+          overlaps.incrementAndGet();
+        }
+        order.add(task);
+        running.decrementAndGet();
+        if (task == 9_999) {
+          done.countDown();
+        }
+      });
+    }
+    assertTrue(done.await(5, TimeUnit.SECONDS));
+    assertEquals(0, overlaps.get());
+    for (int i = 0; i < order.size(); i++) {
+      assertEquals(i, order.get(i));
+    }
+  }
+
+  @Test
+  public void an_idle_thread_steals_the_rail_waiting_behind_a_busy_one()
+      throws InterruptedException {
+    // homes: 0, 1, 0.
+    Scheduler.Worker busy = scheduler.createWorker();
+    scheduler.createWorker();
+    Scheduler.Worker waiting = scheduler.createWorker();
+    CountDownLatch started = new CountDownLatch(1);
+    CountDownLatch release = new CountDownLatch(1);
+    CountDownLatch ran = new CountDownLatch(1);
+    List<String> threads = new ArrayList<>();
+    busy.schedule(() -> {
+      threads.add(Thread.currentThread().getName());
+      started.countDown();
+      try {
+        release.await();
+      } catch (InterruptedException e) {
+        Thread.currentThread().interrupt();
+      }
+    });
+    assertTrue(started.await(5, TimeUnit.SECONDS));
+    waiting.schedule(() -> {
+      threads.add(Thread.currentThread().getName());
+      ran.countDown();
+    });
+    // run on the other thread while the busy one is still blocked.
+    assertTrue(ran.await(5, TimeUnit.SECONDS));
+    release.countDown();
+    assertEquals(2, threads.size());
+    assertNotEquals(threads.get(0), threads.get(1));
+    assertTrue(scheduler.steals() >= 1);
+  }
+
+  @Test
+  public void rails_run_on_the_pool() {
+    Set<String> threads = ConcurrentHashMap.newKeySet();
+
+    StepVerifier.create(Flux.range(0, 1000)
+            .parallel(4)
+            .runOn(scheduler)
+            .doOnNext(i -> threads.add(Thread.currentThread().getName()))
+            .sequential())
+        .expectNextCount(1000)
+        .verifyComplete();
+    threads.forEach(thread -> assertTrue(thread.startsWith("affinity-test-"), thread));
+  }
+
+  @Test
+  public void delayed_and_periodic_tasks_join_their_rail() throws InterruptedException {
+    Scheduler.Worker worker = scheduler.createWorker();
+    CountDownLatch delayed = new CountDownLatch(1);
+    CountDownLatch ticks = new CountDownLatch(3);
+    worker.schedule(delayed::countDown, 10, TimeUnit.MILLISECONDS);
+    Disposable periodic = worker.schedulePeriodically(ticks::countDown, 0, 10,
+        TimeUnit.MILLISECONDS);
+    assertTrue(delayed.await(5, TimeUnit.SECONDS));
+    assertTrue(ticks.await(5, TimeUnit.SECONDS));
+    periodic.dispose();
+
+    StepVerifier.create(Flux.interval(Duration.ofMillis(10), scheduler).take(3))
+        .expectNext(0L, 1L, 2L)
+        .verifyComplete();
+  }
+}
@@ -0,0 +1,118 @@
+package com.justin.reactor.scheduler;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import reactor.core.publisher.Flux;
+import reactor.core.scheduler.Scheduler;
+import reactor.core.scheduler.Schedulers;
+import reactor.test.StepVerifier;
+
+/**
+ * Description: test case for the scheduler registry.
+ *
+ * @author Justin_Zhang
+ * @date 10/19/2026 07:25
+ */
+public class SchedulerRegistryTest {
+  private final SchedulerRegistry registry = new SchedulerRegistry();
+
+  @AfterEach
+  public void dispose() {
+    registry.dispose();
+  }
+
+  @Test
+  public void the_leases_of_a_name_share_one_scheduler() {
+    AtomicInteger created = new AtomicInteger();
+    List<Scheduler> schedulers = new ArrayList<>();
+    Scheduler first = registry.lease("shared", () -> {
+      created.incrementAndGet();
+      Scheduler scheduler = Schedulers.newSingle("shared", true);
+      schedulers.add(scheduler);
+      return scheduler;
+    });
+    Scheduler second = registry.lease("shared", () -> {
+      created.incrementAndGet();
+      return Schedulers.newSingle("shared", true);
+    });
+    assertEquals(1, created.get());
+    assertEquals(2, registry.leases("shared"));
+
+    StepVerifier.create(Flux.just(1, 2).publishOn(first).concatWith(Flux.just(3)
+            .publishOn(second))
+            .map(i -> Thread.currentThread().getName()))
+        .expectNextMatches(thread -> thread.startsWith("shared"))
+        .expectNextMatches(thread -> thread.startsWith("shared"))
+        .expectNextMatches(thread -> thread.startsWith("shared"))
+        .verifyComplete();
+
+    first.dispose();
+    assertEquals(1, registry.leases("shared"));
+    assertFalse(schedulers.get(0).isDisposed());
+    second.dispose();
+    assertEquals(0, registry.leases("shared"));
+    assertTrue(schedulers.get(0).isDisposed());
+  }
+
+  @Test
+  public void a_disposed_lease_rejects_tasks() {
+    Scheduler lease = registry.parallel("rejecting", 1);
+    Scheduler other = registry.parallel("rejecting", 1);
+    lease.dispose();
+    // idempotent: the second dispose doesn't release the other lease.
+    lease.dispose();
+
+    assertTrue(lease.isDisposed());
+    assertEquals(1, registry.leases("rejecting"));
+    assertThrows(RejectedExecutionException.class, () -> lease.schedule(() -> {
+    }));
+    assertThrows(RejectedExecutionException.class, lease::createWorker);
+    other.dispose();
+  }
+
+  @Test
+  public void a_lease_never_disposed_is_released_as_a_leak() throws InterruptedException {
+    SimpleMeterRegistry meters = new SimpleMeterRegistry();
+    registry.register(meters);
+    leak();
+    for (int i = 0; i < 50 && registry.leases("leaking") > 0; i++) {
+      System.gc();
+      Thread.sleep(20);
+    }
+
+    assertEquals(0, registry.leases("leaking"));
+    assertEquals(1, registry.leaked());
+    assertEquals(1, meters.get("reactor.scheduler.registry.leaked").functionCounter().count());
+    assertEquals(0, meters.get("reactor.scheduler.registry.schedulers").gauge().value());
+  }
+
+  private void leak() {
+    registry.single("leaking");
+  }
+
+  @Test
+  public void disposing_the_registry_disposes_its_schedulers() {
+    List<Scheduler> schedulers = new ArrayList<>();
+    Scheduler lease = registry.lease("held", () -> {
+      Scheduler scheduler = Schedulers.newSingle("held", true);
+      schedulers.add(scheduler);
+      return scheduler;
+    });
+    registry.dispose();
+
+    assertTrue(schedulers.get(0).isDisposed());
+    assertThrows(IllegalStateException.class, () -> registry.single("late"));
+    // a lease disposed after its registry is a no-op.
+    lease.dispose();
+  }
+}
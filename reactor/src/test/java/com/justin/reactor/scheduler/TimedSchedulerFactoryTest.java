@@ -0,0 +1,110 @@
+package com.justin.reactor.scheduler;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import reactor.core.publisher.Flux;
+import reactor.core.scheduler.Scheduler;
+import reactor.core.scheduler.Schedulers;
+import reactor.test.StepVerifier;
+
+/**
+ * Description: test case for the timed scheduler factory and the executor metrics.
+ *
+ * @author Justin_Zhang
+ * @date 10/18/2026 18:52
+ */
+public class TimedSchedulerFactoryTest {
+  private final SimpleMeterRegistry registry = new SimpleMeterRegistry();
+
+  @BeforeEach
+  public void installFactory() {
+    Schedulers.addExecutorServiceDecorator(ExecutorServiceMetricsDecorator.KEY,
+        new ExecutorServiceMetricsDecorator(registry));
+    Schedulers.setFactory(new TimedSchedulerFactory(registry, new Schedulers.Factory() {
+    }));
+  }
+
+  @AfterEach
+  public void resetFactory() {
+    Schedulers.resetFactory();
+    Schedulers.removeExecutorServiceDecorator(ExecutorServiceMetricsDecorator.KEY);
+  }
+
+  @Test
+  public void every_scheduler_is_timed_by_name() {
+    Scheduler scheduler = Schedulers.newParallel("timed", 2);
+    StepVerifier.create(Flux.range(0, 10).publishOn(scheduler).count())
+        .expectNext(10L)
+        .verifyComplete();
+    StepVerifier.create(Flux.range(0, 10).subscribeOn(Schedulers.boundedElastic()).count())
+        .expectNext(10L)
+        .verifyComplete();
+
+    assertEquals(1, registry.get("reactor.scheduler.tasks.completed").tag("name", "timed")
+        .timers().size());
+    assertEquals(1, registry.get("reactor.scheduler.tasks.completed")
+        .tag("name", "boundedElastic").timers().size());
+    scheduler.dispose();
+  }
+
+  @Test
+  public void executors_report_queue_depth_and_rejections() throws InterruptedException {
+    // one thread and one queued task at most.
+    Scheduler scheduler = Schedulers.newBoundedElastic(1, 1, "capped");
+    CountDownLatch running = new CountDownLatch(1);
+    CountDownLatch release = new CountDownLatch(1);
+    scheduler.schedule(() -> {
+      running.countDown();
+      try {
+        release.await();
+      } catch (InterruptedException e) {
+        Thread.currentThread().interrupt();
+      }
+    });
+    running.await();
+    scheduler.schedule(() -> { });
+    assertEquals(1, registry.get("reactor.scheduler.executor.queued").tag("name", "capped")
+        .gauge().value());
+    assertEquals(1, registry.get("reactor.scheduler.executor.active").tag("name", "capped")
+        .gauge().value());
+
+    assertThrows(RejectedExecutionException.class, () -> scheduler.schedule(() -> { }));
+    assertEquals(1, registry.get("reactor.scheduler.executor.rejected").tag("name", "capped")
+        .counter().count());
+    release.countDown();
+    scheduler.dispose();
+  }
+
+  @Test
+  public void virtual_executors_report_running_and_delayed_tasks() throws InterruptedException {
+    Scheduler scheduler = VirtualThreadSchedulers.newVirtual("virtual");
+    CountDownLatch running = new CountDownLatch(1);
+    CountDownLatch release = new CountDownLatch(1);
+    scheduler.schedule(() -> {
+      running.countDown();
+      try {
+        release.await();
+      } catch (InterruptedException e) {
+        Thread.currentThread().interrupt();
+      }
+    });
+    running.await();
+    scheduler.schedule(() -> { }, 1, TimeUnit.HOURS);
+    assertEquals(1, registry.get("reactor.scheduler.executor.active").tag("name", "virtual")
+        .gauge().value());
+    assertEquals(1, registry.get("reactor.scheduler.executor.pool.size").tag("name", "virtual")
+        .gauge().value());
+    assertEquals(1, registry.get("reactor.scheduler.executor.queued").tag("name", "virtual")
+        .gauge().value());
+    release.countDown();
+    scheduler.dispose();
+  }
+}
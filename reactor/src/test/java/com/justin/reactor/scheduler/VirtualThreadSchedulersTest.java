@@ -0,0 +1,100 @@
+package com.justin.reactor.scheduler;
+
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.time.Duration;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Scheduler;
+import reactor.core.scheduler.Schedulers;
+import reactor.test.StepVerifier;
+
+/**
+ * Description: test case for the virtual thread schedulers.
+ *
+ * @author Justin_Zhang
+ * @date 10/18/2026 17:25
+ */
+public class VirtualThreadSchedulersTest {
+  @AfterEach
+  public void resetFactory() {
+    Schedulers.resetFactory();
+  }
+
+  @Test
+  public void factory_replaces_bounded_elastic() {
+    Schedulers.setFactory(new VirtualThreadSchedulers.Factory());
+    StepVerifier.create(Mono.fromCallable(Thread::currentThread)
+            .subscribeOn(Schedulers.boundedElastic()))
+        .assertNext(thread -> {
+          assertTrue(thread.isVirtual());
+          assertTrue(thread.getName().startsWith("boundedElastic-"), thread.getName());
+        })
+        .verifyComplete();
+  }
+
+  @Test
+  public void blocking_calls_are_not_capped() {
+    Schedulers.setFactory(new VirtualThreadSchedulers.Factory());
+    // 10 000 calls blocked for 1s at the same time: far above the 10 threads per core.
+    StepVerifier.create(Flux.range(0, 10_000)
+            .flatMap(i -> Mono.fromCallable(() -> {
+              Thread.sleep(1_000);
+              return i;
+            }).subscribeOn(Schedulers.boundedElastic()), 10_000)
+            .count())
+        .expectNext(10_000L)
+        .expectComplete()
+        .verify(Duration.ofSeconds(10));
+  }
+
+  @Test
+  public void delayed_and_periodic_tasks_run_on_virtual_threads() {
+    Schedulers.setFactory(new VirtualThreadSchedulers.Factory());
+    StepVerifier.create(Mono.delay(Duration.ofMillis(50), Schedulers.boundedElastic())
+            .map(v -> Thread.currentThread()))
+        .assertNext(thread -> {
+          assertTrue(thread.isVirtual());
+          assertTrue(thread.getName().startsWith("boundedElastic-"), thread.getName());
+        })
+        .verifyComplete();
+    StepVerifier.create(Flux.interval(Duration.ofMillis(10), Schedulers.boundedElastic())
+            .take(3)
+            .map(tick -> Thread.currentThread().isVirtual()))
+        .expectNext(true, true, true)
+        .expectComplete()
+        .verify(Duration.ofSeconds(5));
+  }
+
+  @Test
+  public void tasks_beyond_the_caps_are_rejected() throws InterruptedException {
+    Schedulers.setFactory(new VirtualThreadSchedulers.Factory());
+    // 1 thread and 1 queued task: 2 tasks at once.
+    Scheduler scheduler = Schedulers.newBoundedElastic(1, 1, "capped");
+    CountDownLatch started = new CountDownLatch(2);
+    CountDownLatch release = new CountDownLatch(1);
+    try {
+      for (int i = 0; i < 2; i++) {
+        scheduler.schedule(() -> {
+          started.countDown();
+          try {
+            release.await();
+          } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+          }
+        });
+      }
+      assertTrue(started.await(5, TimeUnit.SECONDS));
+      assertThrows(RejectedExecutionException.class, () -> scheduler.schedule(() -> { }));
+    } finally {
+      release.countDown();
+      scheduler.dispose();
+    }
+  }
+}
@@ -0,0 +1,169 @@
+package com.justin.reactor.sink;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Stream;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Sinks;
+import reactor.test.StepVerifier;
+
+/**
+ * Description: test case for the durable sink.
+ *
+ * @author Justin_Zhang
+ * @date 10/19/2026 04:35
+ */
+public class DurableSinkTest {
+  @TempDir
+  Path dir;
+
+  @Test
+  public void entries_not_acknowledged_are_replayed_after_a_restart() throws IOException {
+    DurableSink<Integer> crashed = DurableSink.open(dir, RecordSerializer.ofInteger());
+    StepVerifier.create(crashed.asFlux(), 4)
+        .then(() -> {
+          for (int i = 0; i < 10; i++) {
+            assertEquals(Sinks.EmitResult.OK, crashed.tryEmitNext(i));
+          }
+        })
+        .expectNext(0, 1, 2, 3)
+        .thenCancel()
+        .verify();
+    assertEquals(4L, crashed.acknowledged());
+
+    // the first process is never closed, like a crash.
+    DurableSink<Integer> restarted = DurableSink.open(dir, RecordSerializer.ofInteger());
+    StepVerifier.create(restarted.asFlux())
+        .expectNext(4, 5, 6, 7, 8, 9)
+        .then(() -> restarted.tryEmitNext(10))
+        .expectNext(10)
+        .then(() -> restarted.tryEmitComplete())
+        .verifyComplete();
+
+    DurableSink<Integer> again = DurableSink.open(dir, RecordSerializer.ofInteger());
+    again.tryEmitComplete();
+    StepVerifier.create(again.asFlux()).verifyComplete();
+  }
+
+  @Test
+  public void acknowledged_segments_are_deleted_when_rolling() throws IOException {
+    // 12 bytes per entry: a segment rolls after 6 entries.
+    DurableSink<Integer> sink = DurableSink.open(dir, RecordSerializer.ofInteger(), 64);
+    List<Integer> received = new ArrayList<>();
+    sink.asFlux().subscribe(received::add);
+    for (int i = 0; i < 100; i++) {
+      sink.emitNext(i, Sinks.EmitFailureHandler.FAIL_FAST);
+    }
+
+    assertEquals(100, received.size());
+    try (Stream<Path> files = Files.list(dir)) {
+      long segments = files.filter(file -> file.toString().endsWith(DurableSink.SEGMENT_SUFFIX))
+          .count();
+      assertTrue(segments <= 2, "acknowledged segments are kept: " + segments);
+    }
+  }
+
+  @Test
+  public void concurrent_emissions_share_the_syncs() throws Exception {
+    DurableSink<Long> sink = DurableSink.open(dir, RecordSerializer.ofLong());
+    List<Long> received = new ArrayList<>();
+    sink.asFlux().subscribe(received::add);
+    int producers = 8;
+    int perProducer = 200;
+    Thread[] threads = new Thread[producers];
+    for (int p = 0; p < producers; p++) {
+      long base = (long) p << 32;
+      threads[p] = new Thread(() -> {
+        for (int i = 0; i < perProducer; i++) {
+          sink.emitNext(base + i, Sinks.EmitFailureHandler.FAIL_FAST);
+        }
+      });
+      threads[p].start();
+    }
+    for (Thread thread : threads) {
+      thread.join();
+    }
+    sink.tryEmitComplete();
+
+    assertEquals(producers * perProducer, received.size());
+    assertTrue(sink.syncCount() < producers * perProducer,
+        "no emission shared a sync: " + sink.syncCount());
+    long[] next = new long[producers];
+    for (long value : received) {
+      int producer = (int) (value >>> 32);
+      assertEquals(next[producer]++, value & 0xFFFFFFFFL);
+    }
+  }
+
+  @Test
+  public void one_sync_per_emission_without_group_commit() throws IOException {
+    DurableSink<Integer> sink = new DurableSink<>(dir, RecordSerializer.ofInteger(),
+        DurableSink.DEFAULT_SEGMENT_BYTES, false);
+    for (int i = 0; i < 10; i++) {
+      sink.tryEmitNext(i);
+    }
+
+    assertEquals(10L, sink.syncCount());
+    sink.tryEmitComplete();
+    StepVerifier.create(sink.asFlux())
+        .expectNextCount(10)
+        .verifyComplete();
+  }
+
+  @Test
+  public void next_subscriber_gets_what_the_cancelled_one_did_not() throws IOException {
+    DurableSink<String> sink = DurableSink.open(dir, RecordSerializer.ofString());
+    sink.tryEmitNext("created");
+    sink.tryEmitNext("paid");
+    sink.tryEmitNext("shipped");
+
+    StepVerifier.create(sink.asFlux().take(1))
+        .expectNext("created")
+        .verifyComplete();
+    StepVerifier.create(sink.asFlux())
+        .expectNext("paid", "shipped")
+        .then(() -> assertEquals(Sinks.EmitResult.OK, sink.tryEmitComplete()))
+        .expectComplete()
+        .verify(Duration.ofSeconds(5));
+    assertEquals(Sinks.EmitResult.FAIL_TERMINATED, sink.tryEmitNext("refunded"));
+  }
+
+  @Test
+  public void failed_sync_terminates_the_sink_without_delivering_the_entry()
+      throws IOException {
+    // every write to /dev/full fails with ENOSPC.
+    Path full = Path.of("/dev/full");
+    assumeTrue(Files.isWritable(full));
+    Files.createSymbolicLink(dir.resolve(String.format("%020d%s", 0L,
+        DurableSink.SEGMENT_SUFFIX)), full);
+    DurableSink<Integer> sink = DurableSink.open(dir, RecordSerializer.ofInteger());
+
+    StepVerifier.create(sink.asFlux())
+        .then(() -> assertEquals(Sinks.EmitResult.FAIL_TERMINATED, sink.tryEmitNext(1)))
+        .expectError(IOException.class)
+        .verify(Duration.ofSeconds(5));
+    assertEquals(Sinks.EmitResult.FAIL_TERMINATED, sink.tryEmitNext(2));
+    assertEquals(0, sink.acknowledged());
+  }
+
+  @Test
+  public void single_subscriber_at_a_time() throws IOException {
+    DurableSink<Integer> sink = DurableSink.open(dir, RecordSerializer.ofInteger());
+    sink.asFlux().subscribe();
+
+    StepVerifier.create(Flux.from(sink.asFlux()))
+        .expectError(IllegalStateException.class)
+        .verify();
+    sink.tryEmitComplete();
+  }
+}
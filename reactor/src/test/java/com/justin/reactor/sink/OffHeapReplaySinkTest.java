@@ -0,0 +1,135 @@
+package com.justin.reactor.sink;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import reactor.core.Scannable;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Sinks;
+import reactor.core.scheduler.Schedulers;
+import reactor.test.StepVerifier;
+
+/**
+ * Description: test case for the off-heap replay sink.
+ *
+ * @author Justin_Zhang
+ * @date 10/18/2026 21:48
+ */
+public class OffHeapReplaySinkTest {
+  @Test
+  public void late_subscriber_replays_the_history_then_live_elements() {
+    OffHeapReplaySink<String> sink = OffHeapReplaySink.direct(1024, 64, RecordSerializer.ofString());
+    sink.emitNext("a", Sinks.EmitFailureHandler.FAIL_FAST);
+    sink.emitNext("bb", Sinks.EmitFailureHandler.FAIL_FAST);
+
+    StepVerifier.create(sink.asFlux())
+        .expectNext("a", "bb")
+        .then(() -> sink.emitNext("ccc", Sinks.EmitFailureHandler.FAIL_FAST))
+        .expectNext("ccc")
+        .then(() -> sink.emitComplete(Sinks.EmitFailureHandler.FAIL_FAST))
+        .verifyComplete();
+    // after termination, the history is still replayed.
+    StepVerifier.create(sink.asFlux())
+        .expectNext("a", "bb", "ccc")
+        .verifyComplete();
+  }
+
+  @Test
+  public void ring_keeps_the_newest_records_across_wraps() {
+    // 12 bytes per record (4 header + 8 long): 48 bytes hold 4 of them.
+    OffHeapReplaySink<Long> byBytes = OffHeapReplaySink.direct(48, 1024, RecordSerializer.ofLong());
+    // 4 records at most by the index, whatever the bytes.
+    OffHeapReplaySink<Integer> byRecords =
+        OffHeapReplaySink.direct(1024, 4, RecordSerializer.ofInteger());
+    for (int i = 0; i < 1000; i++) {
+      byBytes.emitNext((long) i, Sinks.EmitFailureHandler.FAIL_FAST);
+      byRecords.emitNext(i, Sinks.EmitFailureHandler.FAIL_FAST);
+    }
+    byBytes.emitComplete(Sinks.EmitFailureHandler.FAIL_FAST);
+    byRecords.emitComplete(Sinks.EmitFailureHandler.FAIL_FAST);
+
+    StepVerifier.create(byBytes.asFlux())
+        .expectNext(996L, 997L, 998L, 999L)
+        .verifyComplete();
+    StepVerifier.create(byRecords.asFlux())
+        .expectNext(996, 997, 998, 999)
+        .verifyComplete();
+    assertEquals(4, Scannable.from(byRecords).scan(Scannable.Attr.BUFFERED));
+  }
+
+  @Test
+  public void variable_length_records_are_padded_at_the_end_of_the_ring() {
+    OffHeapReplaySink<String> sink = OffHeapReplaySink.direct(100, 64, RecordSerializer.ofString());
+    List<String> values = IntStream.range(0, 200)
+        .mapToObj(i -> "x".repeat(i % 13))
+        .collect(Collectors.toList());
+    values.forEach(value -> sink.emitNext(value, Sinks.EmitFailureHandler.FAIL_FAST));
+    sink.emitComplete(Sinks.EmitFailureHandler.FAIL_FAST);
+
+    List<String> replayed = sink.asFlux().collectList().block();
+    // whatever was evicted, what is left is the exact tail of the history.
+    assertEquals(values.subList(values.size() - replayed.size(), values.size()), replayed);
+  }
+
+  @Test
+  public void slow_subscriber_fails_once_its_records_are_evicted() {
+    OffHeapReplaySink<Integer> sink = OffHeapReplaySink.direct(1024, 8, RecordSerializer.ofInteger());
+    StepVerifier.create(sink.asFlux(), 1)
+        .then(() -> sink.emitNext(0, Sinks.EmitFailureHandler.FAIL_FAST))
+        .expectNext(0)
+        // no more demand, record 1 is evicted once 8 newer records are kept.
+        .then(() -> IntStream.range(1, 100)
+            .forEach(i -> sink.emitNext(i, Sinks.EmitFailureHandler.FAIL_FAST)))
+        .expectError(IllegalStateException.class)
+        .verify();
+  }
+
+  @Test
+  public void oversized_record_is_rejected() {
+    OffHeapReplaySink<String> sink = OffHeapReplaySink.direct(64, 8, RecordSerializer.ofString());
+    assertEquals(Sinks.EmitResult.FAIL_OVERFLOW, sink.tryEmitNext("x".repeat(64)));
+  }
+
+  @Test
+  public void serializer_always_overflowing_is_rejected_without_growing_the_heap() {
+    RecordSerializer<String> endless = new RecordSerializer<>() {
+      @Override
+      public void write(String value, ByteBuffer out) {
+        for (;;) {
+          out.put((byte) 'x');
+        }
+      }
+
+      @Override
+      public String read(ByteBuffer in) {
+        throw new UnsupportedOperationException();
+      }
+    };
+    OffHeapReplaySink<String> sink = OffHeapReplaySink.direct(1 << 16, 8, endless);
+    assertEquals(Sinks.EmitResult.FAIL_OVERFLOW, sink.tryEmitNext("x"));
+  }
+
+  @Test
+  public void mapped_ring_under_concurrent_emission(@TempDir Path dir) throws IOException {
+    OffHeapReplaySink<Integer> sink = OffHeapReplaySink.mapped(dir.resolve("ring"), 1 << 20,
+        1 << 16, RecordSerializer.ofInteger());
+    StepVerifier.create(sink.asFlux().publishOn(Schedulers.parallel()).count())
+        .then(() -> Flux.range(0, 4)
+            .parallel(4)
+            .runOn(Schedulers.parallel())
+            .doOnNext(producer -> IntStream.range(0, 10_000)
+                .forEach(i -> sink.emitNext(i, Sinks.EmitFailureHandler.FAIL_FAST)))
+            .sequential()
+            .blockLast())
+        .then(() -> sink.emitComplete(Sinks.EmitFailureHandler.FAIL_FAST))
+        .expectNext(40_000L)
+        .verifyComplete();
+  }
+}
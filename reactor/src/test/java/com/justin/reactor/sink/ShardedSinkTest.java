@@ -0,0 +1,190 @@
+package com.justin.reactor.sink;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.stream.Collectors;
+import org.junit.jupiter.api.Test;
+import reactor.core.Scannable;
+import reactor.core.publisher.SignalType;
+import reactor.core.publisher.Sinks;
+import reactor.test.StepVerifier;
+
+/**
+ * Description: test case for the sharded sink and the parking failure handler.
+ *
+ * @author Justin_Zhang
+ * @date 10/19/2026 02:15
+ */
+public class ShardedSinkTest {
+  private static final int PRODUCERS = 8;
+
+  private static final int PER_PRODUCER = 10_000;
+
+  @Test
+  public void every_producer_keeps_its_order() throws InterruptedException {
+    ShardedSink<long[]> sink = new ShardedSink<>(64);
+    CountDownLatch emitted = new CountDownLatch(PRODUCERS);
+    for (int p = 0; p < PRODUCERS; p++) {
+      long producer = p;
+      new Thread(() -> {
+        for (long i = 0; i < PER_PRODUCER; i++) {
+          sink.emitNext(new long[] {producer, i}, ParkingEmitFailureHandler.parking(
+              Duration.ofSeconds(5)));
+        }
+        emitted.countDown();
+      }).start();
+    }
+    Map<Long, List<Long>> byProducer = sink.asFlux()
+        .doOnSubscribe(s -> new Thread(() -> {
+          try {
+            emitted.await();
+          } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+          }
+          sink.emitComplete(Sinks.EmitFailureHandler.FAIL_FAST);
+        }).start())
+        .collect(Collectors.groupingBy(pair -> pair[0],
+            Collectors.mapping(pair -> pair[1], Collectors.toList())))
+        .block(Duration.ofSeconds(30));
+
+    assertEquals(PRODUCERS, byProducer.size());
+    byProducer.values().forEach(values -> {
+      assertEquals(PER_PRODUCER, values.size());
+      for (int i = 0; i < PER_PRODUCER; i++) {
+        assertEquals(i, values.get(i));
+      }
+    });
+  }
+
+  @Test
+  public void lanes_are_merged_fairly() throws InterruptedException {
+    ShardedSink<String> sink = new ShardedSink<>(256);
+    Thread busy = new Thread(() -> {
+      for (int i = 0; i < 100; i++) {
+        sink.tryEmitNext("busy");
+      }
+    });
+    Thread quiet = new Thread(() -> sink.tryEmitNext("quiet"));
+    busy.start();
+    busy.join();
+    quiet.start();
+    quiet.join();
+
+    List<String> first = new ArrayList<>();
+    StepVerifier.create(sink.asFlux(), 0)
+        .thenRequest(2 * ShardedSink.FAIR_QUOTA)
+        .recordWith(() -> first)
+        .expectNextCount(ShardedSink.FAIR_QUOTA + 1)
+        .thenCancel()
+        .verify();
+    // the quiet producer isn't queued behind the 100 elements of the busy one.
+    assertTrue(first.contains("quiet"), first::toString);
+  }
+
+  @Test
+  public void full_lane_overflows_then_parks_until_drained() {
+    ShardedSink<Integer> sink = new ShardedSink<>(8);
+    for (int i = 0; i < 8; i++) {
+      assertEquals(Sinks.EmitResult.OK, sink.tryEmitNext(i));
+    }
+    assertEquals(Sinks.EmitResult.FAIL_OVERFLOW, sink.tryEmitNext(8));
+    assertEquals(8, Scannable.from(sink).scan(Scannable.Attr.BUFFERED));
+
+    StepVerifier.create(sink.asFlux(), 0)
+        .then(() -> new Thread(() -> {
+          for (int i = 8; i < 100; i++) {
+            sink.tryEmitNext(-1);
+          }
+        }).start())
+        .thenRequest(Long.MAX_VALUE)
+        .then(() -> {
+          // the lane of this thread is full until the subscriber drains it.
+          sink.emitNext(8, ParkingEmitFailureHandler.parking(Duration.ofSeconds(5)));
+          sink.emitComplete(Sinks.EmitFailureHandler.FAIL_FAST);
+        })
+        .expectNextCount(9)
+        .thenConsumeWhile(i -> true)
+        .verifyComplete();
+  }
+
+  @Test
+  public void an_element_accepted_while_completing_is_delivered() throws InterruptedException {
+    for (int round = 0; round < 500; round++) {
+      ShardedSink<Integer> sink = new ShardedSink<>(1024);
+      List<Integer> received = new ArrayList<>();
+      sink.asFlux().subscribe(received::add);
+      int[] accepted = new int[1];
+      Thread producer = new Thread(() -> {
+        for (int i = 0; i < 100; i++) {
+          if (sink.tryEmitNext(i) == Sinks.EmitResult.OK) {
+            accepted[0]++;
+          }
+        }
+      });
+      producer.start();
+      sink.tryEmitComplete();
+      producer.join();
+      // OK means delivered: none is lost behind the completion.
+      assertEquals(accepted[0], received.size(), "round " + round);
+    }
+  }
+
+  @Test
+  public void lanes_of_dead_producers_are_dropped_without_skipping_the_others()
+      throws InterruptedException {
+    ShardedSink<Integer> sink = new ShardedSink<>(8);
+    for (int i = 0; i < 20; i++) {
+      int value = i;
+      Thread producer = new Thread(() -> sink.tryEmitNext(value));
+      producer.start();
+      producer.join();
+    }
+    sink.tryEmitNext(20);
+    StepVerifier.create(sink.asFlux(), 0)
+        .thenRequest(1)
+        .expectNextCount(1)
+        .thenRequest(Long.MAX_VALUE)
+        .expectNextCount(20)
+        .then(() -> {
+          sink.tryEmitNext(21);
+          sink.tryEmitComplete();
+        })
+        .expectNext(21)
+        .verifyComplete();
+  }
+
+  @Test
+  public void only_one_subscriber() {
+    ShardedSink<Integer> sink = new ShardedSink<>();
+    sink.asFlux().subscribe();
+    StepVerifier.create(sink.asFlux())
+        .verifyError(IllegalStateException.class);
+    assertEquals(1, sink.currentSubscriberCount());
+  }
+
+  @Test
+  public void parking_handler_retries_contention_and_overflow_until_the_deadline() {
+    long start = System.nanoTime();
+    ParkingEmitFailureHandler handler = ParkingEmitFailureHandler.parking(Duration.ofMillis(50),
+        Duration.ofMillis(1), Duration.ofMillis(8));
+    assertFalse(handler.onEmitFailure(SignalType.ON_NEXT, Sinks.EmitResult.FAIL_TERMINATED));
+    assertFalse(handler.onEmitFailure(SignalType.ON_NEXT, Sinks.EmitResult.FAIL_ZERO_SUBSCRIBER));
+
+    int retries = 0;
+    while (handler.onEmitFailure(SignalType.ON_NEXT, retries % 2 == 0
+        ? Sinks.EmitResult.FAIL_NON_SERIALIZED : Sinks.EmitResult.FAIL_OVERFLOW)) {
+      retries++;
+    }
+    long elapsedMillis = (System.nanoTime() - start) / 1_000_000;
+    // parks 1, 2, 4, 8, 8... instead of spinning.
+    assertTrue(retries < 20, "retries: " + retries);
+    assertTrue(elapsedMillis >= 50, "elapsed: " + elapsedMillis);
+  }
+}
@@ -0,0 +1,69 @@
+package com.justin.reactor.streaming;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import com.justin.reactor.streaming.StreamingProperties.OverflowPolicy;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.stream.LongStream;
+import org.junit.jupiter.api.Test;
+import reactor.core.Disposable;
+import reactor.test.StepVerifier;
+import reactor.test.publisher.TestPublisher;
+
+/**
+ * Description: test case for the shared tick source.
+ *
+ * @author Justin_Zhang
+ * @date 10/18/2026 16:20
+ */
+public class SharedTickSourceTest {
+  @Test
+  public void every_subscriber_shares_one_upstream() {
+    TestPublisher<Long> upstream = TestPublisher.create();
+    SharedTickSource source = new SharedTickSource(properties(), upstream.flux());
+
+    List<Long> first = new CopyOnWriteArrayList<>();
+    List<Long> second = new CopyOnWriteArrayList<>();
+    Disposable one = source.ticks().subscribe(first::add);
+    Disposable two = source.ticks().subscribe(second::add);
+    upstream.assertSubscribers(1);
+
+    upstream.next(0L, 1L, 2L);
+    assertEquals(List.of(0L, 1L, 2L), first);
+    assertEquals(List.of(0L, 1L, 2L), second);
+
+    // the upstream stays connected until the last subscriber leaves.
+    one.dispose();
+    upstream.assertNotCancelled();
+    two.dispose();
+    upstream.assertCancelled();
+  }
+
+  @Test
+  public void slow_subscriber_does_not_hold_back_the_others() {
+    TestPublisher<Long> upstream = TestPublisher.create();
+    SharedTickSource source = new SharedTickSource(properties(), upstream.flux());
+
+    List<Long> fast = new CopyOnWriteArrayList<>();
+    Disposable subscription = source.ticks().subscribe(fast::add);
+    StepVerifier.create(source.ticks(), 0)
+        .then(() -> LongStream.range(0, 100).forEach(upstream::next))
+        .then(() -> assertEquals(100, fast.size()))
+        // 2 pending batches of 3 ticks: only the 6 newest ticks are kept for the slow one.
+        .thenRequest(6)
+        .expectNext(94L, 95L, 96L, 97L, 98L, 99L)
+        .thenCancel()
+        .verify(Duration.ofSeconds(5));
+    subscription.dispose();
+  }
+
+  private static StreamingProperties properties() {
+    StreamingProperties properties = new StreamingProperties();
+    properties.setBatchSize(3);
+    properties.setMaxPendingBatches(2);
+    properties.setOverflowPolicy(OverflowPolicy.LATEST);
+    return properties;
+  }
+}
@@ -0,0 +1,86 @@
+package com.justin.reactor.streaming;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import com.justin.reactor.streaming.StreamingProperties.OverflowPolicy;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.core.io.buffer.DefaultDataBufferFactory;
+import reactor.test.StepVerifier;
+
+/**
+ * Description: test case for the tick stream.
+ *
+ * @author Justin_Zhang
+ * @date 10/18/2026 15:21
+ */
+public class TickStreamServiceTest {
+  @Test
+  public void encode_batch_as_server_sent_events() {
+    DataBuffer buffer = new SseBatchEncoder()
+        .encode(List.of(0L, 9L, 10L, 1234567890123L), DefaultDataBufferFactory.sharedInstance);
+    assertEquals("data:0-flux\n\ndata:9-flux\n\ndata:10-flux\n\ndata:1234567890123-flux\n\n",
+        buffer.toString(StandardCharsets.US_ASCII));
+    assertEquals(buffer.capacity(), buffer.readableByteCount());
+  }
+
+  @Test
+  public void batch_by_size_or_time() {
+    // size: a batch of 3 ticks is full at 300ms, long before the timeout.
+    StepVerifier.withVirtualTime(() -> service(properties(OverflowPolicy.LATEST)).batches())
+        .thenAwait(Duration.ofMillis(300))
+        .expectNext(List.of(0L, 1L, 2L))
+        .thenAwait(Duration.ofMillis(300))
+        .expectNext(List.of(3L, 4L, 5L))
+        .thenCancel()
+        .verify();
+
+    // time: the first tick (100ms) leaves 150ms later with the one that arrived in between.
+    StreamingProperties properties = properties(OverflowPolicy.LATEST);
+    properties.setBatchTimeout(Duration.ofMillis(150));
+    StepVerifier.withVirtualTime(() -> service(properties).batches())
+        .thenAwait(Duration.ofMillis(250))
+        .expectNext(List.of(0L, 1L))
+        .thenCancel()
+        .verify();
+  }
+
+  @Test
+  public void slow_subscriber_keeps_the_latest_batches() {
+    StepVerifier.withVirtualTime(() -> service(properties(OverflowPolicy.LATEST)).batches(), 0)
+        .thenAwait(Duration.ofMillis(1500))
+        .thenRequest(2)
+        // 5 batches were produced, only the 2 newest are buffered.
+        .expectNext(List.of(9L, 10L, 11L), List.of(12L, 13L, 14L))
+        .thenCancel()
+        .verify();
+  }
+
+  @Test
+  public void slow_subscriber_drops_the_incoming_batches() {
+    StepVerifier.withVirtualTime(() -> service(properties(OverflowPolicy.DROP)).batches(), 0)
+        .thenAwait(Duration.ofMillis(1500))
+        .thenRequest(2)
+        .expectNext(List.of(0L, 1L, 2L), List.of(3L, 4L, 5L))
+        .thenCancel()
+        .verify();
+  }
+
+  // built inside withVirtualTime, so that the interval runs on the virtual clock.
+  private static TickStreamService service(StreamingProperties properties) {
+    return new TickStreamService(new SharedTickSource(properties));
+  }
+
+  private static StreamingProperties properties(OverflowPolicy policy) {
+    StreamingProperties properties = new StreamingProperties();
+    properties.setEmitInterval(Duration.ofMillis(100));
+    properties.setBatchSize(3);
+    properties.setBatchTimeout(Duration.ofSeconds(10));
+    properties.setMaxPendingBatches(2);
+    properties.setOverflowPolicy(policy);
+    return properties;
+  }
+}
@@ -0,0 +1,95 @@
+package com.justin.reactor.subscriber;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.SignalType;
+
+/**
+ * Description: test case for the batched request subscriber.
+ *
+ * @author Justin_Zhang
+ * @date 10/19/2026 01:05
+ */
+public class BatchedRequestSubscriberTest {
+  @Test
+  public void demand_is_replenished_by_75_percent_of_the_batch() {
+    List<Long> requests = new ArrayList<>();
+    RecordingSubscriber subscriber = new RecordingSubscriber(8);
+    Flux.range(0, 20).doOnRequest(requests::add).subscribe(subscriber);
+
+    assertEquals(List.of(8L, 6L, 6L, 6L), requests);
+    assertEquals(20, subscriber.values.size());
+    // the last two elements are flushed before completion.
+    assertEquals(List.of(6, 6, 6, 2), subscriber.batches);
+    assertEquals(List.of(SignalType.ON_COMPLETE), subscriber.terminations);
+  }
+
+  @Test
+  public void batch_is_flushed_before_the_error() {
+    RecordingSubscriber subscriber = new RecordingSubscriber(4);
+    Flux.range(0, 5).concatWith(Flux.error(new IllegalStateException("boom")))
+        .subscribe(subscriber);
+
+    assertEquals(List.of(3, 2), subscriber.batches);
+    assertEquals("boom", subscriber.error.getMessage());
+    assertEquals(List.of(SignalType.ON_ERROR), subscriber.terminations);
+  }
+
+  @Test
+  public void cancel_from_a_hook_stops_the_requests() {
+    List<Long> requests = new ArrayList<>();
+    RecordingSubscriber subscriber = new RecordingSubscriber(4) {
+      @Override
+      protected void hookOnBatch(int size) {
+        super.hookOnBatch(size);
+        cancel();
+      }
+    };
+    Flux.range(0, 100).doOnRequest(requests::add).subscribe(subscriber);
+
+    assertEquals(List.of(4L), requests);
+    // the first batch is 75% of 4.
+    assertEquals(List.of(0, 1, 2), subscriber.values);
+    assertTrue(subscriber.isDisposed());
+    assertEquals(List.of(SignalType.CANCEL), subscriber.terminations);
+  }
+
+  private static class RecordingSubscriber extends BatchedRequestSubscriber<Integer> {
+    private final List<Integer> values = new ArrayList<>();
+
+    private final List<Integer> batches = new ArrayList<>();
+
+    private final List<SignalType> terminations = new ArrayList<>();
+
+    private Throwable error;
+
+    RecordingSubscriber(int batchSize) {
+      super(batchSize);
+    }
+
+    @Override
+    protected void hookOnNext(Integer value) {
+      values.add(value);
+    }
+
+    @Override
+    protected void hookOnBatch(int size) {
+      batches.add(size);
+    }
+
+    @Override
+    protected void hookOnError(Throwable throwable) {
+      error = throwable;
+    }
+
+    @Override
+    protected void hookFinally(SignalType type) {
+      terminations.add(type);
+    }
+  }
+}
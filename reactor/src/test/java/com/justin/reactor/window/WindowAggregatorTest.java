@@ -0,0 +1,165 @@
+package com.justin.reactor.window;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.concurrent.atomic.AtomicReference;
+import org.junit.jupiter.api.Test;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Sinks;
+import reactor.test.StepVerifier;
+
+/**
+ * Description: test case for the window aggregator.
+ *
+ * @author Justin_Zhang
+ * @date 10/19/2026 08:00
+ */
+public class WindowAggregatorTest {
+  private record Measure(long at, double value) {
+  }
+
+  private final Sinks.Many<Measure> measures = Sinks.many().unicast().onBackpressureBuffer();
+
+  private final AtomicReference<WindowAggregator<Measure>> aggregator = new AtomicReference<>();
+
+  private WindowAggregator.Builder<Measure> builder() {
+    return WindowAggregator.builder(Measure::at, Measure::value);
+  }
+
+  private void emit(long at, double value) {
+    measures.tryEmitNext(new Measure(at, value)).orThrow();
+  }
+
+  @Test
+  public void tumbling_windows_are_emitted_at_their_end() {
+    StepVerifier.withVirtualTime(() -> builder().tumbling(Duration.ofSeconds(1)).build()
+            .aggregate(measures.asFlux()))
+        .expectSubscription()
+        .then(() -> {
+          emit(100, 1);
+          emit(200, 3);
+          emit(900, 2);
+        })
+        .expectNoEvent(Duration.ofMillis(999))
+        .thenAwait(Duration.ofMillis(1))
+        .assertNext(window -> {
+          assertEquals(Instant.ofEpochMilli(0), window.start());
+          assertEquals(Instant.ofEpochMilli(1000), window.end());
+          assertEquals(3, window.count());
+          assertEquals(6, window.sum());
+          assertEquals(1, window.min());
+          assertEquals(3, window.max());
+          assertEquals(2, window.mean());
+          assertEquals(2, window.quantile(0.5), 2 * 0.016);
+        })
+        .then(() -> {
+          emit(1500, 10);
+          measures.tryEmitComplete();
+        })
+        .assertNext(window -> {
+          assertEquals(Instant.ofEpochMilli(1000), window.start());
+          assertEquals(1, window.count());
+          assertEquals(10, window.quantile(0.99));
+        })
+        .verifyComplete();
+  }
+
+  @Test
+  public void sliding_windows_span_several_panes() {
+    StepVerifier.withVirtualTime(() -> builder()
+            .sliding(Duration.ofSeconds(3), Duration.ofSeconds(1))
+            .build()
+            .aggregate(measures.asFlux()))
+        .then(() -> {
+          emit(500, 1);
+          emit(1500, 2);
+          emit(2500, 3);
+        })
+        .thenAwait(Duration.ofSeconds(3))
+        .assertNext(window -> assertEquals(6, window.sum()))
+        .thenAwait(Duration.ofSeconds(1))
+        .assertNext(window -> {
+          assertEquals(Instant.ofEpochMilli(1000), window.start());
+          assertEquals(5, window.sum());
+        })
+        .thenAwait(Duration.ofSeconds(1))
+        .assertNext(window -> assertEquals(3, window.sum()))
+        // empty windows are emitted too.
+        .thenAwait(Duration.ofSeconds(1))
+        .assertNext(window -> {
+          assertEquals(0, window.count());
+          assertTrue(Double.isNaN(window.min()));
+        })
+        .thenCancel()
+        .verify();
+  }
+
+  @Test
+  public void late_events_are_counted_within_the_allowed_lateness_then_dropped() {
+    StepVerifier.withVirtualTime(() -> {
+          aggregator.set(builder()
+              .tumbling(Duration.ofSeconds(1))
+              .allowedLateness(Duration.ofMillis(500))
+              .build());
+          return aggregator.get().aggregate(measures.asFlux());
+        })
+        .expectSubscription()
+        .thenAwait(Duration.ofMillis(1200))
+        .then(() -> emit(900, 5))
+        .expectNoEvent(Duration.ofMillis(299))
+        .thenAwait(Duration.ofMillis(1))
+        .assertNext(window -> assertEquals(1, window.count()))
+        .then(() -> emit(800, 5))
+        .then(() -> assertEquals(1, aggregator.get().late()))
+        .thenCancel()
+        .verify();
+  }
+
+  @Test
+  public void events_too_far_ahead_of_the_clock_are_counted_then_dropped() {
+    StepVerifier.withVirtualTime(() -> {
+          aggregator.set(builder().tumbling(Duration.ofSeconds(1)).build());
+          return aggregator.get().aggregate(measures.asFlux());
+        })
+        .expectSubscription()
+        .then(() -> {
+          // a day ahead, e.g. a timestamp in the wrong unit: no window is closed early.
+          emit(Duration.ofDays(1).toMillis(), 5);
+          emit(100, 1);
+        })
+        .expectNoEvent(Duration.ofMillis(999))
+        .thenAwait(Duration.ofMillis(1))
+        .assertNext(window -> {
+          assertEquals(Instant.ofEpochMilli(0), window.start());
+          assertEquals(1, window.sum());
+        })
+        .then(() -> emit(1500, 2))
+        .thenAwait(Duration.ofSeconds(1))
+        .assertNext(window -> assertEquals(2, window.sum()))
+        .then(() -> {
+          assertEquals(1, aggregator.get().early());
+          assertEquals(0, aggregator.get().late());
+        })
+        .thenCancel()
+        .verify();
+  }
+
+  @Test
+  public void quantiles_are_within_the_accuracy_of_the_sketch() {
+    StepVerifier.withVirtualTime(() -> builder()
+            .quantiles(0.5, 0.99)
+            .build()
+            .aggregate(Flux.range(1, 10_000).map(i -> new Measure(10, i))))
+        .assertNext(window -> {
+          assertEquals(10_000, window.count());
+          assertEquals(5_000, window.quantile(0.5), 5_000 * 0.016);
+          assertEquals(9_900, window.quantile(0.99), 9_900 * 0.016);
+          assertEquals(1, window.min());
+          assertEquals(10_000, window.max());
+        })
+        .verifyComplete();
+  }
+}